@@ -1,5 +1,6 @@
 package com.solvd.university;
 
+import java.time.Duration;
 import java.util.Scanner;
 
 import org.apache.logging.log4j.LogManager;
@@ -8,16 +9,24 @@ import org.apache.logging.log4j.Logger;
 import com.solvd.university.service.factory.ServiceFactory;
 import com.solvd.university.service.interfaces.*;
 import com.solvd.university.util.DatabaseInitializer;
+import com.solvd.university.util.LedgerCompactionJob;
+import com.solvd.university.util.SchemaMigrator;
 import com.solvd.university.view.UserInterface;
 
 public class Main {
 
     private static final Logger LOGGER = LogManager.getLogger(Main.class);
+    private static final Duration LEDGER_COMPACTION_INTERVAL = Duration.ofMinutes(5);
 
     public static void main(String[] args) {
 
         LOGGER.info("Starting University System Application");
 
+        SchemaMigrator.getInstance().migrate();
+        LedgerCompactionJob ledgerCompaction = new LedgerCompactionJob(
+            ServiceFactory.create(PaymentLedgerService.class)
+        ).start(LEDGER_COMPACTION_INTERVAL);
+
         // demonstrateMyBatis();
         // demonstrateJacksonSerialization();
         // demonstrateJAXBParsing();
@@ -97,6 +106,7 @@ public class Main {
         );
 
         userInterface.start();
+        ledgerCompaction.close();
 
     }
 
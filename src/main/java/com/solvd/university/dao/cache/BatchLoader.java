@@ -0,0 +1,177 @@
+package com.solvd.university.dao.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+// At most one batch per loader is in flight; keys requested meanwhile go in the next one
+public final class BatchLoader<K, V> {
+
+    private static final Logger LOGGER = LogManager.getLogger(BatchLoader.class);
+
+    private final String name;
+    private final Function<V, K> keyOf;
+    private final int maxBatchSize;
+    private final Map<K, CompletableFuture<Optional<V>>> inFlight = new HashMap<>();
+    private final List<K> queued = new ArrayList<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchedKeys = new LongAdder();
+    private Thread dispatcher;
+
+    public BatchLoader(String name, Function<V, K> keyOf, int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.name = name;
+        this.keyOf = keyOf;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public Optional<V> load(K key, Function<List<K>, List<V>> batchFunction) {
+        requests.increment();
+        CompletableFuture<Optional<V>> result;
+        synchronized (this) {
+            if (dispatcher == Thread.currentThread()) {
+                return batchFunction.apply(List.of(key)).stream().findFirst();
+            }
+            result = inFlight.get(key);
+            if (result != null) {
+                coalesced.increment();
+            } else {
+                result = new CompletableFuture<>();
+                inFlight.put(key, result);
+                queued.add(key);
+            }
+        }
+
+        while (!result.isDone()) {
+            List<K> batch = nextBatch(result);
+            if (batch != null) {
+                dispatch(batch, batchFunction);
+            }
+        }
+        return await(result);
+    }
+
+    private synchronized List<K> nextBatch(CompletableFuture<Optional<V>> result) {
+        while (dispatcher != null && !result.isDone()) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for " + name + " batch", e);
+            }
+        }
+        if (result.isDone() || queued.isEmpty()) {
+            return null;
+        }
+        dispatcher = Thread.currentThread();
+        List<K> batch = new ArrayList<>(queued.subList(0, Math.min(maxBatchSize, queued.size())));
+        queued.subList(0, batch.size()).clear();
+        return batch;
+    }
+
+    private void dispatch(List<K> keys, Function<List<K>, List<V>> batchFunction) {
+        batches.increment();
+        batchedKeys.add(keys.size());
+        Map<K, V> found = new HashMap<>();
+        Throwable failure = null;
+        try {
+            for (V value : batchFunction.apply(keys)) {
+                found.putIfAbsent(keyOf.apply(value), value);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.error("Batch load of {} {} keys failed", keys.size(), name, e);
+            failure = e;
+        } catch (Error e) {
+            LOGGER.error("Batch load of {} {} keys failed", keys.size(), name, e);
+            failure = e;
+            throw e;
+        } finally {
+            complete(keys, found, failure);
+        }
+    }
+
+    // Runs even when the batch throws an Error, otherwise its waiters and every later load would hang
+    private void complete(List<K> keys, Map<K, V> found, Throwable failure) {
+        List<CompletableFuture<Optional<V>>> completed = new ArrayList<>(keys.size());
+        synchronized (this) {
+            keys.forEach(key -> completed.add(inFlight.remove(key)));
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            if (failure != null) {
+                completed.get(i).completeExceptionally(failure);
+            } else {
+                completed.get(i).complete(Optional.ofNullable(found.get(keys.get(i))));
+            }
+        }
+
+        synchronized (this) {
+            dispatcher = null;
+            notifyAll();
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    public double getAverageBatchSize() {
+        long batchCount = batches.sum();
+        return batchCount == 0 ? 0.0 : (double) batchedKeys.sum() / batchCount;
+    }
+
+    public void resetStats() {
+        requests.reset();
+        coalesced.reset();
+        batches.reset();
+        batchedKeys.reset();
+    }
+
+    public String getStats() {
+        return String.format(
+            "Batch Stats [%s] - Requests: %d, Coalesced: %d, Batches: %d, Avg batch size: %.2f",
+            name,
+            getRequestCount(),
+            getCoalescedCount(),
+            getBatchCount(),
+            getAverageBatchSize()
+        );
+    }
+}
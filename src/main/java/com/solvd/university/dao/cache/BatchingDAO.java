@@ -0,0 +1,84 @@
+package com.solvd.university.dao.cache;
+
+import com.solvd.university.util.TransactionManager;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+public final class BatchingDAO<T, V> implements InvocationHandler {
+
+    private final T target;
+    private final BatchLoader<Integer, V> loader;
+    private final BiFunction<T, List<Integer>, List<V>> findAllById;
+
+    private BatchingDAO(T target, BatchLoader<Integer, V> loader, BiFunction<T, List<Integer>, List<V>> findAllById) {
+        this.target = target;
+        this.loader = loader;
+        this.findAllById = findAllById;
+    }
+
+    // A batch runs on the dispatcher's connection, so lookups inside a transaction skip it
+    @SuppressWarnings("unchecked")
+    public static <T, V> T wrap(
+        Class<T> daoType,
+        T target,
+        BatchLoader<Integer, V> loader,
+        BiFunction<T, List<Integer>, List<V>> findAllById
+    ) {
+        if (!daoType.isInterface()) {
+            throw new IllegalArgumentException(daoType.getName() + " is not a DAO interface");
+        }
+        return (T) Proxy.newProxyInstance(
+            daoType.getClassLoader(),
+            new Class<?>[] { daoType },
+            new BatchingDAO<>(target, loader, findAllById)
+        );
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> "Batching(" + target + ")";
+            };
+        }
+
+        if (
+            method.getName().equals("findById") &&
+            args.length == 1 &&
+            args[0] instanceof Integer id &&
+            !TransactionManager.isActive()
+        ) {
+            return loader.load(
+                id,
+                ids -> ids.size() == 1 ? findOne(method, ids.get(0)) : findAllById.apply(target, ids)
+            );
+        }
+        return invokeTarget(method, args);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<V> findOne(Method findById, Integer id) {
+        try {
+            return ((Optional<V>) invokeTarget(findById, new Object[] { id })).stream().toList();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to load " + id, e);
+        }
+    }
+
+    private Object invokeTarget(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
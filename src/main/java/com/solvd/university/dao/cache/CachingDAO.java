@@ -0,0 +1,100 @@
+package com.solvd.university.dao.cache;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public final class CachingDAO implements InvocationHandler {
+
+    private static final Logger LOGGER = LogManager.getLogger(CachingDAO.class);
+
+    private final Object target;
+    private final EntityCache cache;
+    private final List<EntityCache> dependents;
+
+    private CachingDAO(Object target, EntityCache cache, List<EntityCache> dependents) {
+        this.target = target;
+        this.cache = cache;
+        this.dependents = dependents;
+    }
+
+    public static <T> T wrap(Class<T> daoType, T target, EntityCache cache, EntityCache... dependents) {
+        return proxy(daoType, new CachingDAO(target, cache, List.of(dependents)));
+    }
+
+    public static <T> T invalidating(Class<T> daoType, T target, EntityCache... dependents) {
+        return proxy(daoType, new CachingDAO(target, null, List.of(dependents)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> daoType, CachingDAO handler) {
+        if (!daoType.isInterface()) {
+            throw new IllegalArgumentException(daoType.getName() + " is not a DAO interface");
+        }
+        return (T) Proxy.newProxyInstance(daoType.getClassLoader(), new Class<?>[] { daoType }, handler);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> (cache != null ? "Caching(" : "Invalidating(") + target + ")";
+            };
+        }
+
+        String name = method.getName();
+        if (cache != null && name.startsWith("find")) {
+            List<Object> arguments = args == null ? List.of() : Arrays.asList(args.clone());
+            Object value = cache.get(name, arguments, () -> invokeTarget(method, args));
+            return value instanceof List<?> list ? new ArrayList<>(list) : value;
+        }
+
+        try {
+            return invokeTarget(method, args);
+        } finally {
+            if (isMutation(name)) {
+                invalidate(name);
+            }
+        }
+    }
+
+    private void invalidate(String methodName) {
+        if (cache != null) {
+            LOGGER.debug("Invalidating {} after {}", cache.getName(), methodName);
+            cache.invalidateAll();
+        }
+        for (EntityCache dependent : dependents) {
+            LOGGER.debug("Invalidating dependent {} after {}", dependent.getName(), methodName);
+            dependent.invalidateAll();
+        }
+    }
+
+    private Object invokeTarget(Method method, Object[] args) {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException("DAO call failed: " + method.getName(), cause);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("DAO method is not accessible: " + method.getName(), e);
+        }
+    }
+
+    private static boolean isMutation(String methodName) {
+        return methodName.startsWith("save") || methodName.startsWith("update") || methodName.startsWith("delete");
+    }
+}
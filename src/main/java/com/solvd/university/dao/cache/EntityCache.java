@@ -0,0 +1,122 @@
+package com.solvd.university.dao.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public class EntityCache {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<CacheKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private long generation;
+
+    public EntityCache(String name, int maxSize, Duration ttl) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public Object get(String method, List<Object> arguments, Supplier<Object> loader) {
+        CacheKey key = new CacheKey(method, arguments);
+        long loadGeneration;
+
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && System.nanoTime() - entry.loadedAtNanos() < ttlNanos) {
+                hits.increment();
+                return entry.value();
+            }
+            if (entry != null) {
+                entries.remove(key);
+                evictions.increment();
+            }
+            misses.increment();
+            loadGeneration = generation;
+        }
+
+        Object value = loader.get();
+
+        synchronized (this) {
+            if (loadGeneration == generation) {
+                entries.put(key, new Entry(value, System.nanoTime()));
+                evictOverflow();
+            }
+        }
+        return value;
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<CacheKey, Entry>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxSize && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long requests = hitCount + misses.sum();
+        return requests == 0 ? 0.0 : (double) hitCount / requests;
+    }
+
+    public void resetStats() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    public String getStats() {
+        return String.format(
+            "Cache Stats [%s] - Size: %d/%d, Hits: %d, Misses: %d, Evictions: %d, Hit rate: %.2f",
+            name,
+            size(),
+            maxSize,
+            getHitCount(),
+            getMissCount(),
+            getEvictionCount(),
+            getHitRate()
+        );
+    }
+
+    private record CacheKey(String method, List<Object> arguments) {}
+
+    private record Entry(Object value, long loadedAtNanos) {}
+}
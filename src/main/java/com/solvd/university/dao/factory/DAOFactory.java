@@ -1,56 +1,240 @@
 package com.solvd.university.dao.factory;
 
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+import com.solvd.university.dao.cache.BatchLoader;
+import com.solvd.university.dao.cache.BatchingDAO;
+import com.solvd.university.dao.cache.CachingDAO;
+import com.solvd.university.dao.cache.EntityCache;
 import com.solvd.university.dao.impl.*;
 import com.solvd.university.dao.interfaces.*;
+import com.solvd.university.dao.memory.*;
+import com.solvd.university.model.Department;
+import com.solvd.university.model.Professor;
+import com.solvd.university.model.Program;
+import com.solvd.university.util.MyBatisSessionHolder;
+import com.solvd.university.util.TransactionManager;
 
 public final class DAOFactory {
 
+    public static final String BACKEND_PROPERTY = "dao.backend";
+
+    private static final int REFERENCE_CACHE_SIZE = 512;
+    private static final Duration REFERENCE_CACHE_TTL = Duration.ofMinutes(10);
+    private static final int MAX_LOAD_BATCH_SIZE = 500;
+
     private static final Map<Class<?>, Supplier<?>> REGISTRY = new HashMap<>();
+    private static final Map<Class<?>, EntityCache> CACHES = new HashMap<>();
+    private static final Map<Class<?>, BatchLoader<Integer, ?>> LOADERS = new HashMap<>();
+    private static final EntityCache STATISTICS_CACHE = new EntityCache("Statistics", 1, REFERENCE_CACHE_TTL);
+    private static final TransactionManager IN_MEMORY_TRANSACTIONS = new TransactionManager(null);
+    private static final List<Runnable> INVALIDATION_LISTENERS = new CopyOnWriteArrayList<>();
+
+    private static volatile Backend backend = Backend.fromProperty(System.getProperty(BACKEND_PROPERTY));
 
     static {
-                REGISTRY.put(UniversityDAO.class, UniversityDAOImpl::new);
-        REGISTRY.put(PersonDAO.class, PersonDAOImpl::new);
-        REGISTRY.put(EnrollmentStatusDAO.class, EnrollmentStatusDAOImpl::new);
-        REGISTRY.put(GradeLevelDAO.class, GradeLevelDAOImpl::new);
-        REGISTRY.put(CourseDifficultyDAO.class, CourseDifficultyDAOImpl::new);
-        REGISTRY.put(StudentGradeDAO.class, StudentGradeDAOImpl::new);
-        REGISTRY.put(CourseGradeDAO.class, CourseGradeDAOImpl::new);
+                REGISTRY.put(
+            UniversityDAO.class,
+            backed(UniversityDAOImpl::new, () -> new InMemoryUniversityDAO(memory()))
+        );
+        REGISTRY.put(PersonDAO.class, backed(PersonDAOImpl::new, () -> new InMemoryPersonDAO(memory())));
+        REGISTRY.put(
+            EnrollmentStatusDAO.class,
+            cached(
+                EnrollmentStatusDAO.class,
+                backed(EnrollmentStatusDAOImpl::new, () -> new InMemoryEnrollmentStatusDAO(memory()))
+            )
+        );
+        REGISTRY.put(
+            GradeLevelDAO.class,
+            cached(GradeLevelDAO.class, backed(GradeLevelDAOImpl::new, () -> new InMemoryGradeLevelDAO(memory())))
+        );
+        REGISTRY.put(
+            CourseDifficultyDAO.class,
+            cached(
+                CourseDifficultyDAO.class,
+                backed(CourseDifficultyDAOImpl::new, () -> new InMemoryCourseDifficultyDAO(memory()))
+            )
+        );
+        REGISTRY.put(
+            StudentGradeDAO.class,
+            backed(StudentGradeDAOImpl::new, () -> new InMemoryStudentGradeDAO(memory()))
+        );
+        REGISTRY.put(CourseGradeDAO.class, backed(CourseGradeDAOImpl::new, () -> new InMemoryCourseGradeDAO(memory())));
+        REGISTRY.put(
+            GradeSummaryDAO.class,
+            backed(GradeSummaryDAOImpl::new, () -> new InMemoryGradeSummaryDAO(memory()))
+        );
 
-                REGISTRY.put(BuildingDAO.class, BuildingDAOImpl::new);
-        REGISTRY.put(StaffDAO.class, StaffDAOImpl::new);
+                REGISTRY.put(
+            BuildingDAO.class,
+            cached(BuildingDAO.class, backed(BuildingDAOImpl::new, () -> new InMemoryBuildingDAO(memory())))
+        );
+        REGISTRY.put(StaffDAO.class, backed(StaffDAOImpl::new, () -> new InMemoryStaffDAO(memory())));
 
-                REGISTRY.put(DepartmentDAO.class, DepartmentDAOImpl::new);
-        REGISTRY.put(ProfessorDAO.class, () -> new ProfessorDAOImpl(create(DepartmentDAO.class)));
-        REGISTRY.put(ClassroomDAO.class, () -> new ClassroomDAOImpl(create(BuildingDAO.class)));
+                REGISTRY.put(
+            DepartmentDAO.class,
+            cached(
+                DepartmentDAO.class,
+                DAOFactory.<DepartmentDAO, Department<?>>batched(
+                    DepartmentDAO.class,
+                    backed(DepartmentDAOImpl::new, () -> new InMemoryDepartmentDAO(memory())),
+                    Department::getDepartmentId,
+                    DepartmentDAO::findAllById
+                ),
+                STATISTICS_CACHE
+            )
+        );
+        Supplier<ProfessorDAO> professors = batched(
+            ProfessorDAO.class,
+            backed(
+                () -> new ProfessorDAOImpl(create(DepartmentDAO.class)),
+                () -> new InMemoryProfessorDAO(memory(), create(DepartmentDAO.class))
+            ),
+            Professor::getProfessorId,
+            ProfessorDAO::findAllById
+        );
+        REGISTRY.put(
+            ProfessorDAO.class,
+            () -> CachingDAO.invalidating(ProfessorDAO.class, professors.get(), STATISTICS_CACHE)
+        );
+        REGISTRY.put(
+            ClassroomDAO.class,
+            backed(
+                () -> new ClassroomDAOImpl(create(BuildingDAO.class)),
+                () -> new InMemoryClassroomDAO(memory(), create(BuildingDAO.class))
+            )
+        );
 
-                REGISTRY.put(ProgramDAO.class, () -> new ProgramDAOImpl(create(DepartmentDAO.class)));
+                REGISTRY.put(
+            ProgramDAO.class,
+            batched(
+                ProgramDAO.class,
+                backed(
+                    () -> new ProgramDAOImpl(create(DepartmentDAO.class)),
+                    () -> new InMemoryProgramDAO(memory(), create(DepartmentDAO.class))
+                ),
+                Program::getProgramId,
+                ProgramDAO::findAllById
+            )
+        );
 
-                REGISTRY.put(EnrollmentDAO.class, () -> new EnrollmentDAOImpl(create(ProgramDAO.class)));
+                REGISTRY.put(
+            EnrollmentDAO.class,
+            backed(
+                () -> new EnrollmentDAOImpl(create(ProgramDAO.class)),
+                () -> new InMemoryEnrollmentDAO(memory(), create(ProgramDAO.class))
+            )
+        );
 
                 REGISTRY.put(
             StudentDAO.class,
-            () -> new StudentDAOImpl(create(ProgramDAO.class), create(EnrollmentDAO.class))
+            backed(
+                () -> new StudentDAOImpl(create(EnrollmentDAO.class), create(PaymentLedgerDAO.class)),
+                () -> new InMemoryStudentDAO(memory(), create(EnrollmentDAO.class), create(PaymentLedgerDAO.class))
+            )
         );
 
+        REGISTRY.put(
+            PaymentLedgerDAO.class,
+            backed(PaymentLedgerDAOImpl::new, () -> new InMemoryPaymentLedgerDAO(memory()))
+        );
+        REGISTRY.put(CourseSeatDAO.class, backed(CourseSeatDAOImpl::new, () -> new InMemoryCourseSeatDAO(memory())));
+
                 REGISTRY.put(
             CourseDAO.class,
-            () -> new CourseDAOImpl(
-                create(DepartmentDAO.class),
-                create(ProfessorDAO.class),
-                create(ClassroomDAO.class)
+            () -> CachingDAO.invalidating(
+                CourseDAO.class,
+                backend == Backend.MEMORY ? new InMemoryCourseDAO(memory()) : new CourseDAOImpl(),
+                STATISTICS_CACHE
             )
         );
 
-                REGISTRY.put(MyBatisProgramDAO.class, MyBatisProgramDAOImpl::new);
-        REGISTRY.put(MyBatisEnrollmentStatusDAO.class, MyBatisEnrollmentStatusDAOImpl::new);
+                REGISTRY.put(
+            MyBatisProgramDAO.class,
+            backed(MyBatisProgramDAOImpl::new, () -> new InMemoryProgramDAO(memory(), create(DepartmentDAO.class)))
+        );
+        REGISTRY.put(
+            MyBatisEnrollmentStatusDAO.class,
+            backed(MyBatisEnrollmentStatusDAOImpl::new, () -> new InMemoryEnrollmentStatusDAO(memory()))
+        );
     }
 
     private DAOFactory() {}
 
+    private static <T> Supplier<T> backed(Supplier<T> jdbc, Supplier<T> inMemory) {
+        return () -> backend == Backend.MEMORY ? inMemory.get() : jdbc.get();
+    }
+
+    private static InMemoryDatabase memory() {
+        return InMemoryDatabase.getInstance();
+    }
+
+    private static <T> Supplier<T> cached(Class<T> daoType, Supplier<T> factory, EntityCache... dependents) {
+        EntityCache cache = new EntityCache(daoType.getSimpleName(), REFERENCE_CACHE_SIZE, REFERENCE_CACHE_TTL);
+        CACHES.put(daoType, cache);
+        return () -> CachingDAO.wrap(daoType, factory.get(), cache, dependents);
+    }
+
+    private static <T, V> Supplier<T> batched(
+        Class<T> daoType,
+        Supplier<T> factory,
+        Function<V, Integer> keyOf,
+        BiFunction<T, List<Integer>, List<V>> findAllById
+    ) {
+        BatchLoader<Integer, V> loader = new BatchLoader<>(daoType.getSimpleName(), keyOf, MAX_LOAD_BATCH_SIZE);
+        LOADERS.put(daoType, loader);
+        return () -> BatchingDAO.wrap(daoType, factory.get(), loader, findAllById);
+    }
+
+    public static Backend getBackend() {
+        return backend;
+    }
+
+    // DAOs created before the switch keep their backend
+    public static synchronized void useBackend(Backend next) {
+        if (backend != next) {
+            backend = next;
+            invalidateCaches();
+        }
+    }
+
+    public static TransactionManager getTransactionManager() {
+        return backend == Backend.MEMORY ? IN_MEMORY_TRANSACTIONS : TransactionManager.getInstance();
+    }
+
+    public static EntityCache getCache(Class<?> daoType) {
+        return CACHES.get(daoType);
+    }
+
+    public static BatchLoader<Integer, ?> getLoader(Class<?> daoType) {
+        return LOADERS.get(daoType);
+    }
+
+    public static EntityCache getStatisticsCache() {
+        return STATISTICS_CACHE;
+    }
+
+    // For state kept outside the DAO layer that must not outlive a backend switch
+    public static void onInvalidate(Runnable listener) {
+        INVALIDATION_LISTENERS.add(listener);
+    }
+
+    public static void invalidateCaches() {
+        CACHES.values().forEach(EntityCache::invalidateAll);
+        STATISTICS_CACHE.invalidateAll();
+        MyBatisSessionHolder.clearCaches();
+        INVALIDATION_LISTENERS.forEach(Runnable::run);
+    }
+
     @SuppressWarnings("unchecked")
     public static <T> T create(Class<T> daoType) {
         Supplier<?> supplier = REGISTRY.get(daoType);
@@ -59,4 +243,13 @@ public final class DAOFactory {
         }
         return (T) supplier.get();
     }
+
+    public enum Backend {
+        JDBC,
+        MEMORY;
+
+        static Backend fromProperty(String value) {
+            return value == null || value.isBlank() ? JDBC : valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
 }
@@ -312,7 +312,7 @@ public class BuildingDAOImpl implements BuildingDAO {
         }
     }
 
-    private Building mapResultSetToBuilding(ResultSet rs) throws SQLException {
+    static Building mapResultSetToBuilding(ResultSet rs) throws SQLException {
         String name = rs.getString("name");
         Building building = new Building(name);
         building.setBuildingId(rs.getInt("building_id"));
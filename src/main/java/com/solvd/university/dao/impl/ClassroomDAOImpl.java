@@ -2,6 +2,8 @@ package com.solvd.university.dao.impl;
 
 import com.solvd.university.dao.interfaces.BuildingDAO;
 import com.solvd.university.dao.interfaces.ClassroomDAO;
+import com.solvd.university.dao.mapping.RowMapper;
+import com.solvd.university.dao.mapping.RowMapping;
 import com.solvd.university.model.Building;
 import com.solvd.university.model.Classroom;
 import com.solvd.university.util.ConnectionPool;
@@ -15,6 +17,7 @@ import org.apache.logging.log4j.Logger;
 public class ClassroomDAOImpl implements ClassroomDAO {
 
     private static final Logger LOGGER = LogManager.getLogger(ClassroomDAOImpl.class);
+    private static final RowMapping<Classroom> CLASSROOM_MAPPING = RowMapping.of(Classroom.class);
     private final ConnectionPool connectionPool;
     private final BuildingDAO buildingDAO;
 
@@ -105,7 +108,7 @@ public class ClassroomDAOImpl implements ClassroomDAO {
             rs = stmt.executeQuery();
 
             if (rs.next()) {
-                Classroom classroom = mapResultSetToClassroom(rs);
+                Classroom classroom = mapResultSetToClassroom(classroomColumns(), rs);
                 return Optional.of(classroom);
             }
         } catch (SQLException e) {
@@ -148,7 +151,7 @@ public class ClassroomDAOImpl implements ClassroomDAO {
             rs = stmt.executeQuery();
 
             if (rs.next()) {
-                Classroom classroom = mapResultSetToClassroom(rs);
+                Classroom classroom = mapResultSetToClassroom(classroomColumns(), rs);
                 return Optional.of(classroom);
             }
         } catch (SQLException e) {
@@ -189,8 +192,9 @@ public class ClassroomDAOImpl implements ClassroomDAO {
             stmt = conn.prepareStatement(sql);
             rs = stmt.executeQuery();
 
+            RowMapper<Classroom> columns = classroomColumns();
             while (rs.next()) {
-                Classroom classroom = mapResultSetToClassroom(rs);
+                Classroom classroom = mapResultSetToClassroom(columns, rs);
                 classrooms.add(classroom);
             }
         } catch (SQLException e) {
@@ -317,30 +321,10 @@ public class ClassroomDAOImpl implements ClassroomDAO {
         }
     }
 
-    private Classroom mapResultSetToClassroom(ResultSet rs) throws SQLException {
-        Classroom classroom = new Classroom();
-
-        classroom.setClassroomId(rs.getInt("classroom_id"));
-        classroom.setRoomNumber(rs.getString("room_number"));
-
-        Integer buildingId = rs.getObject("building_id", Integer.class);
-        classroom.setBuildingId(buildingId);
-
-        Integer universityId = rs.getObject("university_id", Integer.class);
-        classroom.setUniversityId(universityId);
-
-        classroom.setCapacity(rs.getInt("capacity"));
-        classroom.setRoomType(rs.getString("room_type"));
-
-        Timestamp startTimestamp = rs.getTimestamp("scheduled_start");
-        if (startTimestamp != null) {
-            classroom.schedule(
-                startTimestamp.toLocalDateTime(),
-                rs.getTimestamp("scheduled_end").toLocalDateTime(),
-                null
-            );
-        }
+    private Classroom mapResultSetToClassroom(RowMapper<Classroom> columns, ResultSet rs) throws SQLException {
+        Classroom classroom = columns.map(rs);
 
+        Integer buildingId = classroom.getBuildingId();
         if (buildingId != null) {
             Optional<Building> building = buildingDAO.findById(buildingId);
             building.ifPresent(classroom::setBuilding);
@@ -355,4 +339,22 @@ public class ClassroomDAOImpl implements ClassroomDAO {
 
         return classroom;
     }
+
+    static RowMapper<Classroom> classroomColumns() {
+        RowMapper<Classroom> columns = CLASSROOM_MAPPING.mapper();
+        return rs -> {
+            Classroom classroom = columns.map(rs);
+
+            Timestamp startTimestamp = rs.getTimestamp("scheduled_start");
+            if (startTimestamp != null) {
+                classroom.schedule(
+                    startTimestamp.toLocalDateTime(),
+                    rs.getTimestamp("scheduled_end").toLocalDateTime(),
+                    null
+                );
+            }
+
+            return classroom;
+        };
+    }
 }
@@ -1,6 +1,7 @@
 package com.solvd.university.dao.impl;
 
 import com.solvd.university.dao.interfaces.CourseGradeDAO;
+import com.solvd.university.dao.mapping.RowMapping;
 import com.solvd.university.model.CourseGrade;
 import com.solvd.university.util.ConnectionPool;
 import java.sql.Connection;
@@ -17,6 +18,7 @@ import org.apache.logging.log4j.Logger;
 public class CourseGradeDAOImpl implements CourseGradeDAO {
 
     private static final Logger LOGGER = LogManager.getLogger();
+    private static final RowMapping<CourseGrade> COURSE_GRADE_MAPPING = RowMapping.of(CourseGrade.class);
     private final ConnectionPool connectionPool;
 
     public CourseGradeDAOImpl() {
@@ -58,6 +60,47 @@ public class CourseGradeDAOImpl implements CourseGradeDAO {
         }
     }
 
+    @Override
+    public void saveAll(List<CourseGrade> grades) {
+        if (grades.isEmpty()) {
+            return;
+        }
+
+        String sql =
+            "INSERT INTO course_grade (course_id, subject, value, semester, recorded_at) VALUES (?, ?, ?, ?, ?)";
+        Connection conn = null;
+
+        try {
+            conn = connectionPool.getConnection();
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (CourseGrade grade : grades) {
+                    stmt.setInt(1, grade.getCourseId());
+                    stmt.setString(2, grade.getSubject());
+                    stmt.setDouble(3, grade.getValue());
+                    stmt.setInt(4, grade.getSemester());
+                    stmt.setTimestamp(5, Timestamp.valueOf(grade.getRecordedAt()));
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+
+                try (ResultSet rs = stmt.getGeneratedKeys()) {
+                    for (int i = 0; i < grades.size() && rs.next(); i++) {
+                        grades.get(i).setCourseGradeId(rs.getInt(1));
+                    }
+                }
+            }
+            LOGGER.info("Saved {} course grades in one batch", grades.size());
+        } catch (SQLException e) {
+            LOGGER.error("Error saving course grades batch: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to save course grades", e);
+        } finally {
+            if (conn != null) {
+                connectionPool.releaseConnection(conn);
+            }
+        }
+    }
+
     @Override
     public CourseGrade findById(Integer id) {
         String sql = "SELECT * FROM course_grade WHERE course_grade_id = ?";
@@ -71,7 +114,7 @@ public class CourseGradeDAOImpl implements CourseGradeDAO {
             ResultSet rs = stmt.executeQuery();
 
             if (rs.next()) {
-                return mapResultSetToCourseGrade(rs);
+                return COURSE_GRADE_MAPPING.mapper().map(rs);
             }
 
             return null;
@@ -96,9 +139,7 @@ public class CourseGradeDAOImpl implements CourseGradeDAO {
             Statement stmt = conn.createStatement();
             ResultSet rs = stmt.executeQuery(sql);
 
-            while (rs.next()) {
-                grades.add(mapResultSetToCourseGrade(rs));
-            }
+            grades.addAll(COURSE_GRADE_MAPPING.mapAll(rs));
 
             return grades;
         } catch (SQLException e) {
@@ -124,9 +165,7 @@ public class CourseGradeDAOImpl implements CourseGradeDAO {
 
             ResultSet rs = stmt.executeQuery();
 
-            while (rs.next()) {
-                grades.add(mapResultSetToCourseGrade(rs));
-            }
+            grades.addAll(COURSE_GRADE_MAPPING.mapAll(rs));
 
             LOGGER.info("Found {} grades for course ID {}", grades.size(), courseId);
             return grades;
@@ -154,9 +193,7 @@ public class CourseGradeDAOImpl implements CourseGradeDAO {
 
             ResultSet rs = stmt.executeQuery();
 
-            while (rs.next()) {
-                grades.add(mapResultSetToCourseGrade(rs));
-            }
+            grades.addAll(COURSE_GRADE_MAPPING.mapAll(rs));
 
             LOGGER.info("Found {} grades for course ID {} in semester {}", grades.size(), courseId, semester);
             return grades;
@@ -231,20 +268,4 @@ public class CourseGradeDAOImpl implements CourseGradeDAO {
             }
         }
     }
-
-    private CourseGrade mapResultSetToCourseGrade(ResultSet rs) throws SQLException {
-        CourseGrade grade = new CourseGrade();
-        grade.setCourseGradeId(rs.getInt("course_grade_id"));
-        grade.setCourseId(rs.getInt("course_id"));
-        grade.setSubject(rs.getString("subject"));
-        grade.setValue(rs.getDouble("value"));
-        grade.setSemester(rs.getInt("semester"));
-
-        Timestamp timestamp = rs.getTimestamp("recorded_at");
-        if (timestamp != null) {
-            grade.setRecordedAt(timestamp.toLocalDateTime());
-        }
-
-        return grade;
-    }
 }
@@ -0,0 +1,267 @@
+package com.solvd.university.dao.impl;
+
+import com.solvd.university.dao.mapping.RowMapper;
+import com.solvd.university.dao.mapping.RowMapping;
+import com.solvd.university.model.Building;
+import com.solvd.university.model.Classroom;
+import com.solvd.university.model.Course;
+import com.solvd.university.model.CourseDifficulty;
+import com.solvd.university.model.Department;
+import com.solvd.university.model.Professor;
+import com.solvd.university.util.ConnectionPool;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class CourseGraphLoader {
+
+    private static final Logger LOGGER = LogManager.getLogger(CourseGraphLoader.class);
+    private static final int IN_LIST_CHUNK_SIZE = 1000;
+
+    // Course is generic, so the class literal only yields the raw mapping
+    @SuppressWarnings("unchecked")
+    private static final RowMapping<Course<Object, Department<Object>>> COURSE_MAPPING =
+        (RowMapping<Course<Object, Department<Object>>>) (RowMapping<?>) RowMapping.builder(Course.class)
+            .column("start_at", "scheduledStart")
+            .column("end_at", "scheduledEnd")
+            .build();
+
+    private static final String COURSE_SQL =
+        "SELECT c.*, cd.display_name AS difficulty_name, cd.lvl AS difficulty_level " +
+        "FROM course c " +
+        "LEFT JOIN course_difficulty cd ON c.course_difficulty_id = cd.course_difficulty_id";
+
+    private static final String PROFESSOR_SQL =
+        "SELECT prof.professor_id, prof.department_id, p.person_id, p.first_name, p.last_name, p.email, " +
+        "s.staff_id, s.title " +
+        "FROM professor prof " +
+        "JOIN person p ON prof.person_id = p.person_id " +
+        "JOIN staff s ON prof.person_id = s.person_id " +
+        "WHERE prof.professor_id IN ";
+
+    private static final String CLASSROOM_SQL = "SELECT * FROM classroom WHERE classroom_id IN ";
+    private static final String DEPARTMENT_SQL = "SELECT * FROM department WHERE department_id IN ";
+    private static final String BUILDING_SQL = "SELECT * FROM building WHERE building_id IN ";
+
+    private final ConnectionPool connectionPool;
+
+    public CourseGraphLoader(ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+    }
+
+    public List<Course<?, ?>> loadAll() {
+        return load(null, List.of());
+    }
+
+    public List<Course<?, ?>> load(String condition, List<?> params) {
+        return load(condition, params, 0);
+    }
+
+    public List<Course<?, ?>> load(String condition, List<?> params, int limit) {
+        String sql =
+            COURSE_SQL +
+            (condition != null ? " WHERE " + condition : "") +
+            " ORDER BY c.course_id" +
+            (limit > 0 ? " LIMIT " + limit : "");
+
+        Connection conn = null;
+        try {
+            conn = connectionPool.getConnection();
+
+            List<Course<Object, Department<Object>>> courses = new ArrayList<>();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                for (int i = 0; i < params.size(); i++) {
+                    stmt.setObject(i + 1, params.get(i));
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    RowMapper<Course<Object, Department<Object>>> columns = courseColumns();
+                    while (rs.next()) {
+                        courses.add(columns.map(rs));
+                    }
+                }
+            }
+
+            attachGraph(conn, courses);
+            courses.forEach(course -> course.getChanges().markClean());
+            return new ArrayList<>(courses);
+        } catch (SQLException e) {
+            LOGGER.error("Failed to load course graph", e);
+            return new ArrayList<>();
+        } finally {
+            if (conn != null) {
+                connectionPool.releaseConnection(conn);
+            }
+        }
+    }
+
+    private void attachGraph(Connection conn, List<Course<Object, Department<Object>>> courses)
+        throws SQLException {
+        Map<Integer, Professor> professors = new HashMap<>();
+        Set<Integer> professorIds = ids(courses, Course::getProfessorId);
+        for (Professor professor : fetch(conn, PROFESSOR_SQL, professorIds, ProfessorDAOImpl::mapProfessorColumns)) {
+            professors.put(professor.getProfessorId(), professor);
+        }
+
+        Map<Integer, Classroom> classrooms = new HashMap<>();
+        Set<Integer> classroomIds = ids(courses, Course::getClassroomId);
+        for (Classroom classroom : fetch(conn, CLASSROOM_SQL, classroomIds, ClassroomDAOImpl.classroomColumns())) {
+            classrooms.put(classroom.getClassroomId(), classroom);
+        }
+
+        Map<Integer, Department<?>> departments = new HashMap<>();
+        Set<Integer> departmentIds = ids(courses, Course::getDepartmentId);
+        departmentIds.addAll(ids(professors.values(), Professor::getDepartmentId));
+        for (Department<?> department : fetch(
+            conn,
+            DEPARTMENT_SQL,
+            departmentIds,
+            DepartmentDAOImpl::mapResultSetToDepartment
+        )) {
+            departments.put(department.getDepartmentId(), department);
+        }
+
+        Map<Integer, Building> buildings = new HashMap<>();
+        Set<Integer> buildingIds = ids(classrooms.values(), Classroom::getBuildingId);
+        for (Building building : fetch(conn, BUILDING_SQL, buildingIds, BuildingDAOImpl::mapResultSetToBuilding)) {
+            buildings.put(building.getBuildingId(), building);
+        }
+
+        for (Professor professor : professors.values()) {
+            Integer departmentId = professor.getDepartmentId();
+            if (departmentId == null) {
+                continue;
+            }
+            Department<?> department = departments.get(departmentId);
+            if (department != null) {
+                professor.setDepartment(department);
+            } else {
+                LOGGER.warn(
+                    "Professor {} references non-existent department_id {}",
+                    professor.getFullName(),
+                    departmentId
+                );
+            }
+        }
+
+        for (Classroom classroom : classrooms.values()) {
+            Integer buildingId = classroom.getBuildingId();
+            if (buildingId == null) {
+                continue;
+            }
+            Building building = buildings.get(buildingId);
+            if (building != null) {
+                classroom.setBuilding(building);
+            } else {
+                LOGGER.warn(
+                    "Classroom {} references non-existent building_id {}",
+                    classroom.getRoomNumber(),
+                    buildingId
+                );
+            }
+        }
+
+        for (Course<Object, Department<Object>> course : courses) {
+            attachCourseReferences(course, departments, professors, classrooms);
+        }
+    }
+
+    private void attachCourseReferences(
+        Course<Object, Department<Object>> course,
+        Map<Integer, Department<?>> departments,
+        Map<Integer, Professor> professors,
+        Map<Integer, Classroom> classrooms
+    ) {
+        Integer departmentId = course.getDepartmentId();
+        if (departmentId != null) {
+            @SuppressWarnings("unchecked")
+            Department<Object> department = (Department<Object>) departments.get(departmentId);
+            if (department != null) {
+                course.setDepartment(department);
+            } else {
+                LOGGER.warn("Course {} references non-existent department_id {}", course.getCourseCode(), departmentId);
+            }
+        }
+
+        Integer professorId = course.getProfessorId();
+        if (professorId != null) {
+            Professor professor = professors.get(professorId);
+            if (professor != null) {
+                course.setProfessor(professor);
+            } else {
+                LOGGER.warn("Course {} references non-existent professor_id {}", course.getCourseCode(), professorId);
+            }
+        }
+
+        Integer classroomId = course.getClassroomId();
+        if (classroomId != null) {
+            Classroom classroom = classrooms.get(classroomId);
+            if (classroom != null) {
+                course.setClassroom(classroom);
+            } else {
+                LOGGER.warn("Course {} references non-existent classroom_id {}", course.getCourseCode(), classroomId);
+            }
+        }
+    }
+
+    private <T> List<T> fetch(Connection conn, String sqlPrefix, Collection<Integer> ids, RowMapper<T> mapper)
+        throws SQLException {
+        List<T> rows = new ArrayList<>();
+        List<Integer> pending = new ArrayList<>(ids);
+
+        for (int from = 0; from < pending.size(); from += IN_LIST_CHUNK_SIZE) {
+            List<Integer> chunk = pending.subList(from, Math.min(from + IN_LIST_CHUNK_SIZE, pending.size()));
+            String sql = sqlPrefix + "(" + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    stmt.setInt(i + 1, chunk.get(i));
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        rows.add(mapper.map(rs));
+                    }
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static <E> Set<Integer> ids(Collection<E> entities, Function<E, Integer> idGetter) {
+        Set<Integer> ids = new LinkedHashSet<>();
+        for (E entity : entities) {
+            Integer id = idGetter.apply(entity);
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    static RowMapper<Course<Object, Department<Object>>> courseColumns() {
+        RowMapper<Course<Object, Department<Object>>> columns = COURSE_MAPPING.mapper();
+        return rs -> {
+            Course<Object, Department<Object>> course = columns.map(rs);
+
+            String difficultyName = rs.getString("difficulty_name");
+            Integer courseDifficultyId = course.getCourseDifficultyId();
+            if (difficultyName != null && courseDifficultyId != null) {
+                int difficultyLevel = rs.getInt("difficulty_level");
+                course.setDifficulty(new CourseDifficulty(courseDifficultyId, difficultyName, difficultyLevel));
+            }
+
+            return course;
+        };
+    }
+}
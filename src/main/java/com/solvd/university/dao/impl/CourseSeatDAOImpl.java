@@ -0,0 +1,212 @@
+package com.solvd.university.dao.impl;
+
+import com.solvd.university.dao.interfaces.CourseSeatDAO;
+import com.solvd.university.util.ConnectionPool;
+import com.solvd.university.util.TransactionManager;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+// taken only moves through conditional updates, so a course cannot be oversubscribed
+public class CourseSeatDAOImpl implements CourseSeatDAO {
+
+    private static final Logger LOGGER = LogManager.getLogger(CourseSeatDAOImpl.class);
+    private static final String RESERVED = "RESERVED";
+    private static final String CONFIRMED = "CONFIRMED";
+    private static final int MAX_ATTEMPTS = 3;
+    private static final String RETURN_SEAT_SQL =
+        "UPDATE course_seat SET taken = taken - 1 WHERE course_id = ? AND taken > 0";
+
+    private final ConnectionPool connectionPool;
+    private final TransactionManager transactionManager;
+
+    public CourseSeatDAOImpl() {
+        this.connectionPool = ConnectionPool.getInstance();
+        this.transactionManager = TransactionManager.getInstance();
+    }
+
+    @Override
+    public int openSeats(Integer courseId) {
+        String openSql =
+            "INSERT INTO course_seat (course_id, capacity, taken) " +
+            "SELECT c.course_id, COALESCE(r.capacity, 0), 0 FROM course c " +
+            "LEFT JOIN classroom r ON r.classroom_id = c.classroom_id WHERE c.course_id = ? " +
+            "ON DUPLICATE KEY UPDATE course_id = course_id";
+        String remainingSql = "SELECT capacity - taken AS remaining FROM course_seat WHERE course_id = ?";
+
+        Connection conn = null;
+        try {
+            conn = connectionPool.getConnection();
+
+            try (PreparedStatement stmt = conn.prepareStatement(openSql)) {
+                stmt.setInt(1, courseId);
+                stmt.executeUpdate();
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(remainingSql)) {
+                stmt.setInt(1, courseId);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return rs.next() ? Math.max(rs.getInt("remaining"), 0) : 0;
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error opening seats for course: {}", courseId, e);
+            throw new RuntimeException("Failed to open course seats", e);
+        } finally {
+            if (conn != null) {
+                connectionPool.releaseConnection(conn);
+            }
+        }
+    }
+
+    @Override
+    public boolean reserve(Integer courseId, Integer studentId) {
+        String takeSql = "UPDATE course_seat SET taken = taken + 1 WHERE course_id = ? AND taken < capacity";
+        String registerSql =
+            "INSERT INTO course_registration (course_id, student_id, status, reserved_at) VALUES (?, ?, ?, ?)";
+
+        return inTransaction("reserve a seat", conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(takeSql)) {
+                stmt.setInt(1, courseId);
+                if (stmt.executeUpdate() == 0) {
+                    LOGGER.debug("Course {} has no free seat for student {}", courseId, studentId);
+                    return false;
+                }
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(registerSql)) {
+                stmt.setInt(1, courseId);
+                stmt.setInt(2, studentId);
+                stmt.setString(3, RESERVED);
+                stmt.setTimestamp(4, Timestamp.valueOf(LocalDateTime.now()));
+                stmt.executeUpdate();
+            } catch (SQLIntegrityConstraintViolationException e) {
+                // Hand the seat back rather than rolling back, which would doom a surrounding transaction
+                try (PreparedStatement stmt = conn.prepareStatement(RETURN_SEAT_SQL)) {
+                    stmt.setInt(1, courseId);
+                    stmt.executeUpdate();
+                }
+                LOGGER.warn("Student {} already holds a seat in course {}", studentId, courseId);
+                return false;
+            }
+            return true;
+        });
+    }
+
+    @Override
+    public boolean confirm(Integer courseId, Integer studentId) {
+        String sql =
+            "UPDATE course_registration SET status = ?, confirmed_at = ? " +
+            "WHERE course_id = ? AND student_id = ? AND status = ?";
+
+        Connection conn = null;
+        try {
+            conn = connectionPool.getConnection();
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, CONFIRMED);
+                stmt.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
+                stmt.setInt(3, courseId);
+                stmt.setInt(4, studentId);
+                stmt.setString(5, RESERVED);
+                return stmt.executeUpdate() > 0;
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error confirming seat in course {} for student {}", courseId, studentId, e);
+            throw new RuntimeException("Failed to confirm course seat", e);
+        } finally {
+            if (conn != null) {
+                connectionPool.releaseConnection(conn);
+            }
+        }
+    }
+
+    @Override
+    public boolean release(Integer courseId, Integer studentId) {
+        String deleteSql = "DELETE FROM course_registration WHERE course_id = ? AND student_id = ?";
+
+        return inTransaction("release a seat", conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(deleteSql)) {
+                stmt.setInt(1, courseId);
+                stmt.setInt(2, studentId);
+                if (stmt.executeUpdate() == 0) {
+                    return false;
+                }
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(RETURN_SEAT_SQL)) {
+                stmt.setInt(1, courseId);
+                stmt.executeUpdate();
+            }
+            return true;
+        });
+    }
+
+    // Locks the expired rows first, so a racing confirmation either lands first or finds them gone
+    @Override
+    public Map<Integer, Integer> releaseExpired(LocalDateTime reservedBefore) {
+        String expiredSql =
+            "SELECT course_id FROM course_registration WHERE status = ? AND reserved_at < ? FOR UPDATE";
+        String deleteSql = "DELETE FROM course_registration WHERE status = ? AND reserved_at < ?";
+        String returnSql = "UPDATE course_seat SET taken = GREATEST(taken - ?, 0) WHERE course_id = ?";
+
+        Map<Integer, Integer> released = inTransaction("release expired reservations", conn -> {
+            Map<Integer, Integer> expired = new TreeMap<>();
+            try (PreparedStatement stmt = conn.prepareStatement(expiredSql)) {
+                stmt.setString(1, RESERVED);
+                stmt.setTimestamp(2, Timestamp.valueOf(reservedBefore));
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        expired.merge(rs.getInt("course_id"), 1, Integer::sum);
+                    }
+                }
+            }
+            if (expired.isEmpty()) {
+                return expired;
+            }
+
+            try (PreparedStatement stmt = conn.prepareStatement(deleteSql)) {
+                stmt.setString(1, RESERVED);
+                stmt.setTimestamp(2, Timestamp.valueOf(reservedBefore));
+                stmt.executeUpdate();
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(returnSql)) {
+                for (Map.Entry<Integer, Integer> course : expired.entrySet()) {
+                    stmt.setInt(1, course.getValue());
+                    stmt.setInt(2, course.getKey());
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+            return expired;
+        });
+        if (!released.isEmpty()) {
+            LOGGER.info("Released expired seat reservations: {}", released);
+        }
+        return released;
+    }
+
+    private <T> T inTransaction(String action, SeatWork<T> work) {
+        return transactionManager.executeWithRetry(MAX_ATTEMPTS, () -> {
+            Connection conn = null;
+            try {
+                conn = connectionPool.getConnection();
+                return work.run(conn);
+            } catch (SQLException e) {
+                if (!TransactionManager.isRetryable(e)) {
+                    LOGGER.error("Error trying to {}", action, e);
+                }
+                throw new RuntimeException("Failed to " + action, e);
+            } finally {
+                if (conn != null) {
+                    connectionPool.releaseConnection(conn);
+                }
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface SeatWork<T> {
+        T run(Connection conn) throws SQLException;
+    }
+}
@@ -10,6 +10,8 @@ import com.solvd.university.model.MathematicsDepartment;
 import com.solvd.university.util.ConnectionPool;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
@@ -111,6 +113,44 @@ public class DepartmentDAOImpl implements DepartmentDAO {
         return Optional.empty();
     }
 
+    @Override
+    public List<Department<?>> findAllById(Collection<Integer> departmentIds) {
+        List<Department<?>> departments = new ArrayList<>();
+        if (departmentIds.isEmpty()) {
+            return departments;
+        }
+
+        String sql =
+            "SELECT * FROM department WHERE department_id IN (" +
+            String.join(", ", Collections.nCopies(departmentIds.size(), "?")) +
+            ") ORDER BY department_id";
+
+        Connection conn = null;
+        try {
+            conn = connectionPool.getConnection();
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int index = 1;
+                for (Integer departmentId : departmentIds) {
+                    stmt.setInt(index++, departmentId);
+                }
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        departments.add(mapResultSetToDepartment(rs));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Failed to find departments by IDs: {}", departmentIds, e);
+        } finally {
+            if (conn != null) {
+                connectionPool.releaseConnection(conn);
+            }
+        }
+        return departments;
+    }
+
     @Override
     public Optional<Department<?>> findByCode(String code) {
         String sql = "SELECT * FROM department WHERE code = ?";
@@ -319,41 +359,38 @@ public class DepartmentDAOImpl implements DepartmentDAO {
         }
     }
 
-    private Department<?> mapResultSetToDepartment(ResultSet rs) throws SQLException {
+    static Department<?> mapResultSetToDepartment(ResultSet rs) throws SQLException {
         Integer departmentId = rs.getInt("department_id");
         String name = rs.getString("name");
         String code = rs.getString("code");
         Integer universityId = rs.getObject("university_id", Integer.class);
 
-        Department<String> department;
+        Department<String> department = newDepartment(code);
+        department.setDepartmentId(departmentId);
+        department.setName(name);
+        department.setUniversityId(universityId);
+
+        return department;
+    }
+
+    public static Department<String> newDepartment(String code) {
         switch (code.toUpperCase()) {
             case "CS":
-                department = new ComputerScienceDepartment();
-                break;
+                return new ComputerScienceDepartment();
             case "MATH":
-                department = new MathematicsDepartment();
-                break;
+                return new MathematicsDepartment();
             case "ENGR":
             case "ENG":
-                department = new EngineeringDepartment();
-                break;
+                return new EngineeringDepartment();
             case "BUS":
             case "BUSINESS":
-                department = new BusinessDepartment();
-                break;
+                return new BusinessDepartment();
             case "ARTS":
             case "ART":
-                department = new ArtsDepartment();
-                break;
+                return new ArtsDepartment();
             default:
                 LOGGER.warn("Unknown department code: {}. Using ComputerScienceDepartment as fallback.", code);
-                department = new ComputerScienceDepartment();
+                return new ComputerScienceDepartment();
         }
-
-        department.setDepartmentId(departmentId);
-        department.setName(name);
-        department.setUniversityId(universityId);
-
-        return department;
     }
 }
@@ -10,8 +10,13 @@ import com.solvd.university.util.ConnectionPool;
 import java.sql.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -113,6 +118,75 @@ public class EnrollmentDAOImpl implements EnrollmentDAO {
         return Optional.empty();
     }
 
+    @Override
+    public List<Enrollment> findActiveByStudentIds(Collection<Integer> studentIds) {
+        if (studentIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        String sql =
+            "SELECT * FROM enrollment WHERE enrollment_status_id = ? AND student_id IN (" +
+            String.join(", ", Collections.nCopies(studentIds.size(), "?")) +
+            ") ORDER BY enrollment_id";
+
+        List<Enrollment> enrollments = new ArrayList<>();
+        List<Enrollment> rows = new ArrayList<>();
+        Connection conn = null;
+        try {
+            conn = connectionPool.getConnection();
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setInt(1, EnrollmentStatus.ENROLLED.getEnrollmentStatusId());
+                int index = 2;
+                for (Integer studentId : studentIds) {
+                    stmt.setInt(index++, studentId);
+                }
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        rows.add(mapResultSetToEnrollment(rs, null));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error finding active enrollments for {} students", studentIds.size(), e);
+            return enrollments;
+        } finally {
+            if (conn != null) {
+                connectionPool.releaseConnection(conn);
+            }
+        }
+
+        Map<Integer, Program> programs = programDAO
+            .findAllById(rows.stream().map(Enrollment::programId).distinct().toList())
+            .stream()
+            .collect(Collectors.toMap(Program::getProgramId, Function.identity()));
+
+        for (Enrollment enrollment : rows) {
+            Program program = programs.get(enrollment.programId());
+            if (program == null) {
+                LOGGER.warn(
+                    "Enrollment {} references non-existent program_id {}",
+                    enrollment.enrollmentId(),
+                    enrollment.programId()
+                );
+            }
+            enrollments.add(
+                new Enrollment(
+                    enrollment.enrollmentId(),
+                    enrollment.studentId(),
+                    enrollment.programId(),
+                    enrollment.enrollmentStatusId(),
+                    null,
+                    program,
+                    enrollment.enrollmentDate(),
+                    enrollment.status()
+                )
+            );
+        }
+        return enrollments;
+    }
+
     @Override
     public List<Enrollment> findAll() {
         List<Enrollment> enrollments = new ArrayList<>();
@@ -190,6 +264,23 @@ public class EnrollmentDAOImpl implements EnrollmentDAO {
     }
 
     private Enrollment mapResultSetToEnrollment(ResultSet rs) throws SQLException {
+        Integer enrollmentId = rs.getInt("enrollment_id");
+        Integer programId = rs.getInt("program_id");
+
+        Program program = null;
+        if (programId != null) {
+            Optional<Program> programOpt = programDAO.findById(programId);
+            if (programOpt.isPresent()) {
+                program = programOpt.get();
+            } else {
+                LOGGER.warn("Enrollment {} references non-existent program_id {}", enrollmentId, programId);
+            }
+        }
+
+        return mapResultSetToEnrollment(rs, program);
+    }
+
+    private Enrollment mapResultSetToEnrollment(ResultSet rs, Program program) throws SQLException {
         Integer enrollmentId = rs.getInt("enrollment_id");
         Integer studentId = rs.getInt("student_id");
         Integer programId = rs.getInt("program_id");
@@ -208,16 +299,6 @@ public class EnrollmentDAOImpl implements EnrollmentDAO {
             status.setEnrollmentStatusId(enrollmentStatusId);
         }
 
-        Program program = null;
-        if (programId != null) {
-            Optional<Program> programOpt = programDAO.findById(programId);
-            if (programOpt.isPresent()) {
-                program = programOpt.get();
-            } else {
-                LOGGER.warn("Enrollment {} references non-existent program_id {}", enrollmentId, programId);
-            }
-        }
-
         return new Enrollment(
             enrollmentId,
             studentId,
@@ -0,0 +1,270 @@
+package com.solvd.university.dao.impl;
+
+import com.solvd.university.dao.interfaces.GradeSummaryDAO;
+import com.solvd.university.model.GradeScope;
+import com.solvd.university.model.GradeSummary;
+import com.solvd.university.util.ConnectionPool;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class GradeSummaryDAOImpl implements GradeSummaryDAO {
+
+    private static final Logger LOGGER = LogManager.getLogger(GradeSummaryDAOImpl.class);
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+    private static final String SELECT_SUMMARY =
+        "SELECT scope, scope_id, semester, grade_count, grade_sum, grade_sum_squares, min_value, max_value " +
+        "FROM grade_summary ";
+
+    private final ConnectionPool connectionPool;
+
+    public GradeSummaryDAOImpl() {
+        this.connectionPool = ConnectionPool.getInstance();
+    }
+
+    @Override
+    public void save(GradeSummary summary) {
+        upsert(
+            summary,
+            "grade_count = VALUES(grade_count), grade_sum = VALUES(grade_sum), " +
+            "grade_sum_squares = VALUES(grade_sum_squares), min_value = VALUES(min_value), " +
+            "max_value = VALUES(max_value)"
+        );
+    }
+
+    @Override
+    public void saveIfAbsent(GradeSummary summary) {
+        upsert(summary, "scope = scope");
+    }
+
+    private void upsert(GradeSummary summary, String onDuplicate) {
+        String sql =
+            "INSERT INTO grade_summary (scope, scope_id, semester, grade_count, grade_sum, grade_sum_squares, " +
+            "min_value, max_value) VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            onDuplicate;
+
+        Connection conn = null;
+        try {
+            conn = connectionPool.getConnection();
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, summary.scope().name());
+                stmt.setInt(2, summary.scopeId());
+                stmt.setInt(3, summary.semester());
+                stmt.setLong(4, summary.count());
+                stmt.setDouble(5, summary.sum());
+                stmt.setDouble(6, summary.sumOfSquares());
+                setNullableDouble(stmt, 7, summary.min());
+                setNullableDouble(stmt, 8, summary.max());
+                stmt.executeUpdate();
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error saving grade summary for {} {}", summary.scope(), summary.scopeId(), e);
+            throw new RuntimeException("Failed to save grade summary", e);
+        } finally {
+            if (conn != null) {
+                connectionPool.releaseConnection(conn);
+            }
+        }
+    }
+
+    @Override
+    public Optional<GradeSummary> findByKey(GradeScope scope, Integer scopeId, int semester) {
+        return findByKey(scope, scopeId, semester, "");
+    }
+
+    @Override
+    public Optional<GradeSummary> findByKeyForUpdate(GradeScope scope, Integer scopeId, int semester) {
+        return findByKey(scope, scopeId, semester, " FOR UPDATE");
+    }
+
+    private Optional<GradeSummary> findByKey(GradeScope scope, Integer scopeId, int semester, String lock) {
+        String sql = SELECT_SUMMARY + "WHERE scope = ? AND scope_id = ? AND semester = ?" + lock;
+
+        Connection conn = null;
+        try {
+            conn = connectionPool.getConnection();
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, scope.name());
+                stmt.setInt(2, scopeId);
+                stmt.setInt(3, semester);
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return rs.next() ? Optional.of(mapResultSetToSummary(rs)) : Optional.empty();
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error finding grade summary for {} {}", scope, scopeId, e);
+            throw new RuntimeException("Failed to find grade summary", e);
+        } finally {
+            if (conn != null) {
+                connectionPool.releaseConnection(conn);
+            }
+        }
+    }
+
+    @Override
+    public List<GradeSummary> findByScopeIds(GradeScope scope, List<Integer> scopeIds, int semester) {
+        if (scopeIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<GradeSummary> summaries = new ArrayList<>();
+        Connection conn = null;
+        try {
+            conn = connectionPool.getConnection();
+
+            for (int from = 0; from < scopeIds.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+                List<Integer> chunk = scopeIds.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, scopeIds.size()));
+                String sql =
+                    SELECT_SUMMARY +
+                    "WHERE scope = ? AND semester = ? AND scope_id IN (" +
+                    String.join(", ", Collections.nCopies(chunk.size(), "?")) +
+                    ")";
+
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    stmt.setString(1, scope.name());
+                    stmt.setInt(2, semester);
+                    for (int i = 0; i < chunk.size(); i++) {
+                        stmt.setInt(i + 3, chunk.get(i));
+                    }
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            summaries.add(mapResultSetToSummary(rs));
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error finding grade summaries for {} ids", scopeIds.size(), e);
+            throw new RuntimeException("Failed to find grade summaries", e);
+        } finally {
+            if (conn != null) {
+                connectionPool.releaseConnection(conn);
+            }
+        }
+        return summaries;
+    }
+
+    @Override
+    public List<Integer> findScopeIdsWithAverageAtLeast(GradeScope scope, double minAverage, int semester) {
+        String sql =
+            "SELECT scope_id FROM grade_summary " +
+            "WHERE scope = ? AND semester = ? AND grade_count > 0 AND grade_sum >= ? * grade_count " +
+            "ORDER BY scope_id";
+
+        List<Integer> scopeIds = new ArrayList<>();
+        Connection conn = null;
+        try {
+            conn = connectionPool.getConnection();
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, scope.name());
+                stmt.setInt(2, semester);
+                stmt.setDouble(3, minAverage);
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        scopeIds.add(rs.getInt("scope_id"));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error finding {} ids with average >= {}", scope, minAverage, e);
+            throw new RuntimeException("Failed to find grade summaries", e);
+        } finally {
+            if (conn != null) {
+                connectionPool.releaseConnection(conn);
+            }
+        }
+        return scopeIds;
+    }
+
+    @Override
+    public void rebuild() {
+        String aggregates =
+            "COUNT(value), COALESCE(SUM(value), 0), COALESCE(SUM(value * value), 0), MIN(value), MAX(value) ";
+        String insert =
+            "INSERT INTO grade_summary (scope, scope_id, semester, grade_count, grade_sum, grade_sum_squares, " +
+            "min_value, max_value) ";
+        List<String> statements = List.of(
+            "DELETE FROM grade_summary",
+            insert + "SELECT 'STUDENT', student_id, 0, " + aggregates +
+                "FROM student_grade WHERE student_id IS NOT NULL AND value IS NOT NULL GROUP BY student_id",
+            insert + "SELECT 'STUDENT', student_id, semester, " + aggregates +
+                "FROM student_grade WHERE student_id IS NOT NULL AND value IS NOT NULL AND semester IS NOT NULL " +
+                "GROUP BY student_id, semester",
+            insert + "SELECT 'COURSE', course_id, 0, " + aggregates +
+                "FROM course_grade WHERE course_id IS NOT NULL AND value IS NOT NULL GROUP BY course_id",
+            insert + "SELECT 'COURSE', course_id, semester, " + aggregates +
+                "FROM course_grade WHERE course_id IS NOT NULL AND value IS NOT NULL AND semester IS NOT NULL " +
+                "GROUP BY course_id, semester"
+        );
+
+        Connection conn = null;
+        try {
+            conn = connectionPool.getConnection();
+            conn.setAutoCommit(false);
+
+            try (Statement stmt = conn.createStatement()) {
+                for (String sql : statements) {
+                    stmt.executeUpdate(sql);
+                }
+            }
+
+            conn.commit();
+            LOGGER.info("Rebuilt grade summaries from student and course grades");
+        } catch (SQLException e) {
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException rollbackEx) {
+                    LOGGER.error("Error rolling back transaction", rollbackEx);
+                }
+            }
+            LOGGER.error("Error rebuilding grade summaries", e);
+            throw new RuntimeException("Failed to rebuild grade summaries", e);
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                } catch (SQLException e) {
+                    LOGGER.error("Error resetting auto-commit", e);
+                }
+                connectionPool.releaseConnection(conn);
+            }
+        }
+    }
+
+    private static void setNullableDouble(PreparedStatement stmt, int index, Double value) throws SQLException {
+        if (value != null) {
+            stmt.setDouble(index, value);
+        } else {
+            stmt.setNull(index, Types.DOUBLE);
+        }
+    }
+
+    private static GradeSummary mapResultSetToSummary(ResultSet rs) throws SQLException {
+        return new GradeSummary(
+            GradeScope.valueOf(rs.getString("scope")),
+            rs.getInt("scope_id"),
+            rs.getInt("semester"),
+            rs.getLong("grade_count"),
+            rs.getDouble("grade_sum"),
+            rs.getDouble("grade_sum_squares"),
+            rs.getObject("min_value", Double.class),
+            rs.getObject("max_value", Double.class)
+        );
+    }
+}
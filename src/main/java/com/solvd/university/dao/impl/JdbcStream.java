@@ -0,0 +1,131 @@
+package com.solvd.university.dao.impl;
+
+import com.solvd.university.dao.mapping.RowMapper;
+import com.solvd.university.util.ConnectionPool;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+final class JdbcStream {
+
+    private static final Logger LOGGER = LogManager.getLogger(JdbcStream.class);
+    static final int DEFAULT_FETCH_SIZE = 500;
+
+    private JdbcStream() {}
+
+    static <T> Stream<T> query(ConnectionPool connectionPool, String sql, RowMapper<T> mapper) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        try {
+            conn = connectionPool.getConnection();
+            stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            stmt.setFetchSize(DEFAULT_FETCH_SIZE);
+            ResultSet rs = stmt.executeQuery();
+
+            Cursor<T> cursor = new Cursor<>(connectionPool, conn, stmt, rs, mapper);
+            return StreamSupport.stream(cursor, false).onClose(cursor::close);
+        } catch (SQLException e) {
+            closeQuietly(stmt);
+            if (conn != null) {
+                connectionPool.releaseConnection(conn);
+            }
+            LOGGER.error("Failed to open streaming query", e);
+            throw new RuntimeException("Failed to open streaming query", e);
+        }
+    }
+
+    static <T> Stream<T> inBatches(Stream<T> source, int batchSize, Consumer<List<T>> batchAction) {
+        Iterator<T> iterator = source.iterator();
+        Spliterator<T> batches = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED) {
+            private Iterator<T> current = List.<T>of().iterator();
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (!current.hasNext()) {
+                    List<T> batch = new ArrayList<>(batchSize);
+                    while (batch.size() < batchSize && iterator.hasNext()) {
+                        batch.add(iterator.next());
+                    }
+                    if (batch.isEmpty()) {
+                        return false;
+                    }
+                    batchAction.accept(batch);
+                    current = batch.iterator();
+                }
+                action.accept(current.next());
+                return true;
+            }
+        };
+        return StreamSupport.stream(batches, false).onClose(source::close);
+    }
+
+    private static void closeQuietly(AutoCloseable resource) {
+        if (resource == null) {
+            return;
+        }
+        try {
+            resource.close();
+        } catch (Exception e) {
+            LOGGER.error("Failed to close JDBC resource", e);
+        }
+    }
+
+    private static final class Cursor<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final ConnectionPool connectionPool;
+        private final Connection conn;
+        private final PreparedStatement stmt;
+        private final ResultSet rs;
+        private final RowMapper<T> mapper;
+        private boolean closed;
+
+        Cursor(ConnectionPool connectionPool, Connection conn, PreparedStatement stmt, ResultSet rs, RowMapper<T> mapper) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.connectionPool = connectionPool;
+            this.conn = conn;
+            this.stmt = stmt;
+            this.rs = rs;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (closed) {
+                return false;
+            }
+            try {
+                if (!rs.next()) {
+                    close();
+                    return false;
+                }
+                action.accept(mapper.map(rs));
+                return true;
+            } catch (SQLException e) {
+                close();
+                LOGGER.error("Failed to read next row from stream", e);
+                throw new RuntimeException("Failed to read next row from stream", e);
+            }
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            closeQuietly(rs);
+            closeQuietly(stmt);
+            connectionPool.releaseConnection(conn);
+        }
+    }
+}
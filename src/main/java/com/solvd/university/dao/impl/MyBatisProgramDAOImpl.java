@@ -1,7 +1,10 @@
 package com.solvd.university.dao.impl;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.apache.ibatis.session.SqlSession;
 import org.apache.logging.log4j.LogManager;
@@ -15,6 +18,8 @@ import com.solvd.university.util.MyBatisSessionHolder;
 public class MyBatisProgramDAOImpl implements MyBatisProgramDAO {
 
     private static final Logger LOGGER = LogManager.getLogger(MyBatisProgramDAOImpl.class);
+    private static final int IMPORT_BATCH_SIZE = 1000;
+    private static final int IMPORT_COMMIT_SIZE = 10_000;
 
     @Override
     public void save(Program program) {
@@ -29,6 +34,42 @@ public class MyBatisProgramDAOImpl implements MyBatisProgramDAO {
         }
     }
 
+    @Override
+    public List<Integer> saveAll(Stream<Program> programs) {
+        List<Integer> programIds = new ArrayList<>();
+        List<Program> pending = new ArrayList<>(IMPORT_BATCH_SIZE);
+        int committed = 0;
+        try (SqlSession session = MyBatisSessionHolder.getBatchSession()) {
+            MyBatisProgramDAO mapper = session.getMapper(MyBatisProgramDAO.class);
+            Iterator<Program> iterator = programs.iterator();
+            while (iterator.hasNext()) {
+                Program program = iterator.next();
+                mapper.save(program);
+                pending.add(program);
+                if (pending.size() == IMPORT_BATCH_SIZE) {
+                    flush(session, pending, programIds);
+                }
+                if (programIds.size() - committed >= IMPORT_COMMIT_SIZE) {
+                    session.commit();
+                    committed = programIds.size();
+                }
+            }
+            flush(session, pending, programIds);
+            session.commit();
+            LOGGER.info("Imported {} programs", programIds.size());
+            return programIds;
+        } catch (Exception e) {
+            LOGGER.error("Error importing programs, {} were committed before the failure", committed, e);
+            throw new RuntimeException("Failed to import programs", e);
+        }
+    }
+
+    private static void flush(SqlSession session, List<Program> pending, List<Integer> programIds) {
+        session.flushStatements();
+        pending.forEach(program -> programIds.add(program.getProgramId()));
+        pending.clear();
+    }
+
     @Override
     public Optional<Program> findById(Integer programId) {
         try (SqlSession session = MyBatisSessionHolder.getSqlSession()) {
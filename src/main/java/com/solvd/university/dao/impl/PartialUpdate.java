@@ -0,0 +1,65 @@
+package com.solvd.university.dao.impl;
+
+import com.solvd.university.model.ChangeTracked;
+import com.solvd.university.model.ChangeTracker;
+import com.solvd.university.util.TransactionManager;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class PartialUpdate {
+
+    private final String table;
+    private final ChangeTracker changes;
+    private final List<String> columns = new ArrayList<>();
+    private final List<Object> values = new ArrayList<>();
+    private final List<Integer> types = new ArrayList<>();
+
+    public PartialUpdate(String table, ChangeTracker changes) {
+        this.table = table;
+        this.changes = changes;
+    }
+
+    public PartialUpdate set(String property, String column, Object value, int sqlType) {
+        if (changes.isChanged(property)) {
+            columns.add(column);
+            values.add(value);
+            types.add(sqlType);
+        }
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return columns.isEmpty();
+    }
+
+    public List<String> getColumns() {
+        return List.copyOf(columns);
+    }
+
+    public String toSql(String keyColumn) {
+        return "UPDATE " + table + " SET " + String.join(" = ?, ", columns) + " = ? WHERE " + keyColumn + " = ?";
+    }
+
+    public int execute(Connection conn, String keyColumn, Object key, int keyType) throws SQLException {
+        if (columns.isEmpty()) {
+            return 0;
+        }
+        try (PreparedStatement stmt = conn.prepareStatement(toSql(keyColumn))) {
+            for (int i = 0; i < columns.size(); i++) {
+                stmt.setObject(i + 1, values.get(i), types.get(i));
+            }
+            stmt.setObject(columns.size() + 1, key, keyType);
+            return stmt.executeUpdate();
+        }
+    }
+
+    // A rollback turns the written changes back into pending ones
+    public static void markWritten(ChangeTracked entity) {
+        ChangeTracker changes = entity.getChanges();
+        ChangeTracker previous = changes.markClean();
+        TransactionManager.registerRollbackAction(() -> changes.restore(previous));
+    }
+}
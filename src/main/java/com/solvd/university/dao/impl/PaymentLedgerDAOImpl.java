@@ -0,0 +1,321 @@
+package com.solvd.university.dao.impl;
+
+import com.solvd.university.dao.interfaces.PaymentLedgerDAO;
+import com.solvd.university.model.LedgerEntry;
+import com.solvd.university.model.Money;
+import com.solvd.university.util.ConnectionPool;
+import com.solvd.university.util.TransactionManager;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+// A balance is the latest snapshot plus the entries after it, so payments are plain inserts
+public class PaymentLedgerDAOImpl implements PaymentLedgerDAO {
+
+    private static final Logger LOGGER = LogManager.getLogger(PaymentLedgerDAOImpl.class);
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private final ConnectionPool connectionPool;
+
+    public PaymentLedgerDAOImpl() {
+        this.connectionPool = ConnectionPool.getInstance();
+    }
+
+    @Override
+    public void appendAll(List<LedgerEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        Connection conn = null;
+        try {
+            conn = connectionPool.getConnection();
+            conn.setAutoCommit(false);
+
+            for (int from = 0; from < entries.size(); from += INSERT_BATCH_SIZE) {
+                insertEntries(conn, entries.subList(from, Math.min(from + INSERT_BATCH_SIZE, entries.size())));
+            }
+
+            conn.commit();
+            LOGGER.debug("Appended {} ledger entries", entries.size());
+        } catch (SQLException e) {
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException rollbackEx) {
+                    LOGGER.error("Error rolling back transaction", rollbackEx);
+                }
+            }
+            entries.forEach(entry -> entry.setLedgerId(null));
+            LOGGER.error("Error appending {} ledger entries", entries.size(), e);
+            throw new RuntimeException("Failed to append ledger entries", e);
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                } catch (SQLException e) {
+                    LOGGER.error("Error resetting auto-commit", e);
+                }
+                connectionPool.releaseConnection(conn);
+            }
+        }
+    }
+
+    @Override
+    public Map<Integer, Long> findBalances(Collection<Integer> studentIds) {
+        Set<Integer> ids = new LinkedHashSet<>(studentIds);
+        Map<Integer, Long> balances = new HashMap<>();
+        if (ids.isEmpty()) {
+            return balances;
+        }
+
+        Connection conn = null;
+        try {
+            conn = connectionPool.getConnection();
+            balances.putAll(readBalances(conn, ids));
+        } catch (SQLException e) {
+            LOGGER.error("Error reading ledger balances for students: {}", ids, e);
+            throw new RuntimeException("Failed to read ledger balances", e);
+        } finally {
+            if (conn != null) {
+                connectionPool.releaseConnection(conn);
+            }
+        }
+        ids.forEach(studentId -> balances.putIfAbsent(studentId, 0L));
+        return balances;
+    }
+
+    // Appends hold the student's snapshot row until they commit, so a student's ledger ids commit in order
+    @Override
+    public Map<Integer, Long> lockBalances(Collection<Integer> studentIds) {
+        if (!TransactionManager.isActive()) {
+            throw new IllegalStateException("Ledger balances can only be locked inside a transaction");
+        }
+        Set<Integer> ids = new TreeSet<>(studentIds);
+        if (ids.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        String openSql =
+            "INSERT INTO balance_snapshot (student_id, balance, last_ledger_id, taken_at) " +
+            "SELECT student_id, 0, 0, CURRENT_TIMESTAMP FROM student WHERE student_id IN (" +
+            placeholders +
+            ") ON DUPLICATE KEY UPDATE student_id = student_id";
+        String lockSql =
+            "SELECT student_id FROM balance_snapshot WHERE student_id IN (" +
+            placeholders +
+            ") ORDER BY student_id FOR UPDATE";
+
+        Connection conn = null;
+        try {
+            conn = connectionPool.getConnection();
+
+            try (PreparedStatement stmt = conn.prepareStatement(openSql)) {
+                setIds(stmt, ids, 1);
+                stmt.executeUpdate();
+            }
+            Set<Integer> locked = new TreeSet<>();
+            try (PreparedStatement stmt = conn.prepareStatement(lockSql)) {
+                setIds(stmt, ids, 1);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        locked.add(rs.getInt("student_id"));
+                    }
+                }
+            }
+            if (locked.isEmpty()) {
+                return new HashMap<>();
+            }
+
+            Map<Integer, Long> balances = readBalances(conn, locked);
+            locked.forEach(studentId -> balances.putIfAbsent(studentId, 0L));
+            return balances;
+        } catch (SQLException e) {
+            LOGGER.error("Error locking ledger balances for students: {}", ids, e);
+            throw new RuntimeException("Failed to lock ledger balances", e);
+        } finally {
+            if (conn != null) {
+                connectionPool.releaseConnection(conn);
+            }
+        }
+    }
+
+    @Override
+    public List<LedgerEntry> findByStudentId(Integer studentId) {
+        String sql =
+            "SELECT ledger_id, student_id, amount, recorded_at FROM payment_ledger " +
+            "WHERE student_id = ? ORDER BY ledger_id";
+
+        List<LedgerEntry> entries = new ArrayList<>();
+        Connection conn = null;
+        try {
+            conn = connectionPool.getConnection();
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setInt(1, studentId);
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        LedgerEntry entry = new LedgerEntry(
+                            rs.getInt("student_id"),
+                            Money.toCents(rs.getBigDecimal("amount")),
+                            rs.getTimestamp("recorded_at").toLocalDateTime()
+                        );
+                        entry.setLedgerId(rs.getLong("ledger_id"));
+                        entries.add(entry);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error finding ledger entries for student: {}", studentId, e);
+        } finally {
+            if (conn != null) {
+                connectionPool.releaseConnection(conn);
+            }
+        }
+        return entries;
+    }
+
+    // Locking every snapshot waits out in-flight appends, so the fold covers each student's whole committed tail
+    @Override
+    public int compactSnapshots() {
+        String lockSql = "SELECT COUNT(*) AS locked FROM balance_snapshot FOR UPDATE";
+        String pendingSql =
+            "SELECT COUNT(*) AS pending FROM payment_ledger l " +
+            "LEFT JOIN balance_snapshot b ON b.student_id = l.student_id " +
+            "WHERE l.ledger_id > COALESCE(b.last_ledger_id, 0)";
+        String snapshotSql =
+            "INSERT INTO balance_snapshot (student_id, balance, last_ledger_id, taken_at) " +
+            "SELECT l.student_id, COALESCE(MAX(b.balance), 0) + SUM(l.amount), MAX(l.ledger_id), CURRENT_TIMESTAMP " +
+            "FROM payment_ledger l LEFT JOIN balance_snapshot b ON b.student_id = l.student_id " +
+            "WHERE l.ledger_id > COALESCE(b.last_ledger_id, 0) " +
+            "GROUP BY l.student_id " +
+            "ON DUPLICATE KEY UPDATE balance = VALUES(balance), last_ledger_id = VALUES(last_ledger_id), " +
+            "taken_at = VALUES(taken_at)";
+        String refreshSql =
+            "UPDATE student s JOIN balance_snapshot b ON b.student_id = s.student_id " +
+            "SET s.balance = b.balance WHERE s.balance <> b.balance";
+
+        Connection conn = null;
+        try {
+            conn = connectionPool.getConnection();
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement stmt = conn.prepareStatement(lockSql)) {
+                stmt.executeQuery().close();
+            }
+            int pending;
+            try (PreparedStatement stmt = conn.prepareStatement(pendingSql)) {
+                try (ResultSet rs = stmt.executeQuery()) {
+                    rs.next();
+                    pending = rs.getInt("pending");
+                }
+            }
+            if (pending == 0) {
+                conn.commit();
+                return 0;
+            }
+
+            try (PreparedStatement stmt = conn.prepareStatement(snapshotSql)) {
+                stmt.executeUpdate();
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(refreshSql)) {
+                stmt.executeUpdate();
+            }
+
+            conn.commit();
+            LOGGER.info("Folded {} ledger entries into balance snapshots", pending);
+            return pending;
+        } catch (SQLException e) {
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException rollbackEx) {
+                    LOGGER.error("Error rolling back transaction", rollbackEx);
+                }
+            }
+            LOGGER.error("Error compacting balance snapshots", e);
+            throw new RuntimeException("Failed to compact balance snapshots", e);
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                } catch (SQLException e) {
+                    LOGGER.error("Error resetting auto-commit", e);
+                }
+                connectionPool.releaseConnection(conn);
+            }
+        }
+    }
+
+    private static Map<Integer, Long> readBalances(Connection conn, Set<Integer> ids) throws SQLException {
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        String sql =
+            "SELECT student_id, SUM(amount) AS balance FROM (" +
+            "SELECT student_id, balance AS amount FROM balance_snapshot WHERE student_id IN (" +
+            placeholders +
+            ") UNION ALL " +
+            "SELECT l.student_id, l.amount FROM payment_ledger l " +
+            "LEFT JOIN balance_snapshot b ON b.student_id = l.student_id " +
+            "WHERE l.student_id IN (" +
+            placeholders +
+            ") AND l.ledger_id > COALESCE(b.last_ledger_id, 0)" +
+            ") AS account GROUP BY student_id";
+
+        Map<Integer, Long> balances = new HashMap<>();
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            setIds(stmt, ids, setIds(stmt, ids, 1));
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    balances.put(rs.getInt("student_id"), Money.toCents(rs.getBigDecimal("balance")));
+                }
+            }
+        }
+        return balances;
+    }
+
+    private static int setIds(PreparedStatement stmt, Set<Integer> ids, int index) throws SQLException {
+        for (Integer studentId : ids) {
+            stmt.setInt(index++, studentId);
+        }
+        return index;
+    }
+
+    private static void insertEntries(Connection conn, List<LedgerEntry> batch) throws SQLException {
+        String row = "(?, ?, ?)";
+        String sql =
+            "INSERT INTO payment_ledger (student_id, amount, recorded_at) VALUES " +
+            String.join(", ", Collections.nCopies(batch.size(), row));
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            int index = 1;
+            for (LedgerEntry entry : batch) {
+                stmt.setInt(index++, entry.getStudentId());
+                stmt.setBigDecimal(index++, Money.toDecimal(entry.getAmountCents()));
+                stmt.setTimestamp(index++, Timestamp.valueOf(entry.getRecordedAt()));
+            }
+            stmt.executeUpdate();
+
+            int assigned = 0;
+            try (ResultSet rs = stmt.getGeneratedKeys()) {
+                while (rs.next() && assigned < batch.size()) {
+                    batch.get(assigned++).setLedgerId(rs.getLong(1));
+                }
+            }
+            if (assigned != batch.size()) {
+                throw new SQLException("Expected " + batch.size() + " generated keys but received " + assigned);
+            }
+        }
+    }
+}
@@ -11,8 +11,14 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -167,6 +173,75 @@ public class ProfessorDAOImpl implements ProfessorDAO {
         }
     }
 
+    @Override
+    public List<Professor> findAllById(Collection<Integer> professorIds) {
+        List<Professor> professors = new ArrayList<>();
+        if (professorIds.isEmpty()) {
+            return professors;
+        }
+
+        String sql =
+            """
+                SELECT prof.professor_id, prof.department_id, p.person_id, p.first_name, p.last_name, p.email,
+                       s.staff_id, s.title
+                FROM professor prof
+                JOIN person p ON prof.person_id = p.person_id
+                JOIN staff s ON prof.person_id = s.person_id
+                WHERE prof.professor_id IN (""" +
+            String.join(", ", Collections.nCopies(professorIds.size(), "?")) +
+            ") ORDER BY prof.professor_id";
+
+        Connection conn = null;
+
+        try {
+            conn = connectionPool.getConnection();
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int index = 1;
+                for (Integer professorId : professorIds) {
+                    stmt.setInt(index++, professorId);
+                }
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        professors.add(mapProfessorColumns(rs));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error finding professors by ids {}: {}", professorIds, e.getMessage(), e);
+            throw new RuntimeException("Failed to find professors", e);
+        } finally {
+            if (conn != null) {
+                connectionPool.releaseConnection(conn);
+            }
+        }
+
+        List<Integer> departmentIds = professors
+            .stream()
+            .map(Professor::getDepartmentId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+        Map<Integer, Department<?>> departments = departmentDAO
+            .findAllById(departmentIds)
+            .stream()
+            .collect(Collectors.toMap(Department::getDepartmentId, Function.identity()));
+        for (Professor professor : professors) {
+            Integer deptId = professor.getDepartmentId();
+            if (deptId == null) {
+                continue;
+            }
+            Department<?> department = departments.get(deptId);
+            if (department != null) {
+                professor.setDepartment(department);
+            } else {
+                LOGGER.warn("Professor {} references non-existent department_id {}", professor.getFullName(), deptId);
+            }
+        }
+        return professors;
+    }
+
     @Override
     public Optional<Professor> findByFullName(String firstName, String lastName) {
         String sql = """
@@ -359,16 +434,9 @@ public class ProfessorDAOImpl implements ProfessorDAO {
     }
 
     private Professor mapResultSetToProfessor(ResultSet rs) throws SQLException {
-        Professor professor = new Professor();
-        professor.setProfessorId(rs.getInt("professor_id"));
-        professor.setPersonId(rs.getInt("person_id"));
-        professor.setFirstName(rs.getString("first_name"));
-        professor.setLastName(rs.getString("last_name"));
-        professor.setEmail(rs.getString("email"));
-        professor.setStaffId(rs.getInt("staff_id"));
-        professor.setTitle(rs.getString("title"));
+        Professor professor = mapProfessorColumns(rs);
 
-        Integer deptId = rs.getObject("department_id", Integer.class);
+        Integer deptId = professor.getDepartmentId();
         if (deptId != null) {
             Optional<Department<?>> department = departmentDAO.findById(deptId);
             department.ifPresent(professor::setDepartment);
@@ -379,4 +447,17 @@ public class ProfessorDAOImpl implements ProfessorDAO {
 
         return professor;
     }
+
+    static Professor mapProfessorColumns(ResultSet rs) throws SQLException {
+        Professor professor = new Professor();
+        professor.setProfessorId(rs.getInt("professor_id"));
+        professor.setPersonId(rs.getInt("person_id"));
+        professor.setFirstName(rs.getString("first_name"));
+        professor.setLastName(rs.getString("last_name"));
+        professor.setEmail(rs.getString("email"));
+        professor.setStaffId(rs.getInt("staff_id"));
+        professor.setTitle(rs.getString("title"));
+        professor.setDepartmentId(rs.getObject("department_id", Integer.class));
+        return professor;
+    }
 }
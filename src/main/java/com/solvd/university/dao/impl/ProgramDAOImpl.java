@@ -2,6 +2,7 @@ package com.solvd.university.dao.impl;
 
 import com.solvd.university.dao.interfaces.DepartmentDAO;
 import com.solvd.university.dao.interfaces.ProgramDAO;
+import com.solvd.university.dao.mapping.RowMapping;
 import com.solvd.university.model.Department;
 import com.solvd.university.model.Program;
 import com.solvd.university.util.ConnectionPool;
@@ -12,14 +13,23 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 public class ProgramDAOImpl implements ProgramDAO {
 
     private static final Logger LOGGER = LogManager.getLogger(ProgramDAOImpl.class);
+    private static final RowMapping<Program> PROGRAM_MAPPING = RowMapping
+        .builder(Program.class)
+        .column("duration_years", "duration")
+        .build();
     private final ConnectionPool connectionPool;
     private final DepartmentDAO departmentDAO;
 
@@ -51,6 +61,7 @@ public class ProgramDAOImpl implements ProgramDAO {
                     }
                 }
             }
+            PartialUpdate.markWritten(program);
 
             LOGGER.info("Saved program: {} (ID: {})", program.getName(), program.getProgramId());
         } catch (SQLException e) {
@@ -90,6 +101,45 @@ public class ProgramDAOImpl implements ProgramDAO {
         return Optional.empty();
     }
 
+    @Override
+    public List<Program> findAllById(Collection<Integer> programIds) {
+        List<Program> programs = new ArrayList<>();
+        if (programIds.isEmpty()) {
+            return programs;
+        }
+
+        String sql =
+            "SELECT * FROM program WHERE program_id IN (" +
+            String.join(", ", Collections.nCopies(programIds.size(), "?")) +
+            ") ORDER BY program_id";
+
+        Map<Integer, Optional<Department<?>>> departments = new HashMap<>();
+        Connection conn = null;
+        try {
+            conn = connectionPool.getConnection();
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int index = 1;
+                for (Integer programId : programIds) {
+                    stmt.setInt(index++, programId);
+                }
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    programs.addAll(
+                        mapPrograms(rs, id -> departments.computeIfAbsent(id, departmentDAO::findById))
+                    );
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error finding programs by ids: {}", programIds, e);
+        } finally {
+            if (conn != null) {
+                connectionPool.releaseConnection(conn);
+            }
+        }
+        return programs;
+    }
+
     @Override
     public Optional<Program> findByName(String name) {
         String sql = "SELECT * FROM program WHERE name = ?";
@@ -130,9 +180,7 @@ public class ProgramDAOImpl implements ProgramDAO {
                 stmt.setInt(1, department.getDepartmentId());
 
                 try (ResultSet rs = stmt.executeQuery()) {
-                    while (rs.next()) {
-                        programs.add(mapResultSetToProgram(rs));
-                    }
+                    programs.addAll(mapPrograms(rs, departmentDAO::findById));
                 }
             }
         } catch (SQLException e) {
@@ -155,9 +203,7 @@ public class ProgramDAOImpl implements ProgramDAO {
             conn = connectionPool.getConnection();
 
             try (PreparedStatement stmt = conn.prepareStatement(sql); ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    programs.add(mapResultSetToProgram(rs));
-                }
+                programs.addAll(mapPrograms(rs, departmentDAO::findById));
             }
         } catch (SQLException e) {
             LOGGER.error("Error finding all programs", e);
@@ -171,22 +217,22 @@ public class ProgramDAOImpl implements ProgramDAO {
 
     @Override
     public void update(Program program) {
-        String sql =
-            "UPDATE program SET name = ?, duration_years = ?, price = ?, department_id = ?, university_id = ? WHERE program_id = ?";
+        PartialUpdate update = new PartialUpdate("program", program.getChanges())
+            .set("name", "name", program.getName(), Types.VARCHAR)
+            .set("duration", "duration_years", program.getDuration(), Types.INTEGER)
+            .set("price", "price", program.getRawPrice(), Types.DOUBLE)
+            .set("departmentId", "department_id", program.getDepartmentId(), Types.INTEGER)
+            .set("universityId", "university_id", program.getUniversityId(), Types.INTEGER);
+        if (update.isEmpty()) {
+            LOGGER.debug("Program {} has no changes, skipping update", program.getProgramId());
+            return;
+        }
 
         Connection conn = null;
         try {
             conn = connectionPool.getConnection();
-
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setString(1, program.getName());
-                stmt.setInt(2, program.getDuration());
-                stmt.setDouble(3, program.getRawPrice());
-                stmt.setObject(4, program.getDepartmentId(), Types.INTEGER);
-                stmt.setObject(5, program.getUniversityId(), Types.INTEGER);
-                stmt.setInt(6, program.getProgramId());
-                stmt.executeUpdate();
-            }
+            update.execute(conn, "program_id", program.getProgramId(), Types.INTEGER);
+            PartialUpdate.markWritten(program);
 
             LOGGER.info("Updated program: {} (ID: {})", program.getName(), program.getProgramId());
         } catch (SQLException e) {
@@ -227,21 +273,30 @@ public class ProgramDAOImpl implements ProgramDAO {
     }
 
     private Program mapResultSetToProgram(ResultSet rs) throws SQLException {
-        Program program = new Program();
-        program.setProgramId(rs.getInt("program_id"));
-        program.setName(rs.getString("name"));
-        program.setDuration(rs.getInt("duration_years"));
-        program.setPrice(rs.getDouble("price"));
+        Program program = withDepartment(PROGRAM_MAPPING.mapper().map(rs), departmentDAO::findById);
+        program.getChanges().markClean();
+        return program;
+    }
 
-        Integer departmentId = rs.getInt("department_id");
-        program.setDepartmentId(departmentId);
+    private List<Program> mapPrograms(
+        ResultSet rs,
+        Function<Integer, Optional<Department<?>>> departmentResolver
+    ) throws SQLException {
+        List<Program> programs = PROGRAM_MAPPING.mapAll(rs);
+        for (Program program : programs) {
+            withDepartment(program, departmentResolver).getChanges().markClean();
+        }
+        return programs;
+    }
 
+    private static Program withDepartment(
+        Program program,
+        Function<Integer, Optional<Department<?>>> departmentResolver
+    ) {
+        Integer departmentId = program.getDepartmentId();
         if (departmentId != null) {
-            departmentDAO.findById(departmentId).ifPresent(program::setDepartment);
+            departmentResolver.apply(departmentId).ifPresent(program::setDepartment);
         }
-
-        program.setUniversityId(rs.getInt("university_id"));
-
         return program;
     }
 }
@@ -1,30 +1,49 @@
 package com.solvd.university.dao.impl;
 
 import com.solvd.university.dao.interfaces.EnrollmentDAO;
-import com.solvd.university.dao.interfaces.ProgramDAO;
+import com.solvd.university.dao.interfaces.PaymentLedgerDAO;
 import com.solvd.university.dao.interfaces.StudentDAO;
 import com.solvd.university.model.Enrollment;
 import com.solvd.university.model.EnrollmentStatus;
 import com.solvd.university.model.GradeLevel;
+import com.solvd.university.model.PaymentRules;
 import com.solvd.university.model.Program;
 import com.solvd.university.model.Student;
+import com.solvd.university.model.StudentCriteria;
 import com.solvd.university.util.ConnectionPool;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 public class StudentDAOImpl implements StudentDAO {
 
     private static final Logger LOGGER = LogManager.getLogger(StudentDAOImpl.class);
+    private static final int HYDRATION_BATCH_SIZE = 500;
+    private static final int INSERT_BATCH_SIZE = 1000;
+    private static final int DEFAULT_UNIVERSITY_ID = 1;
+    private static final String LEDGER_BALANCE_SQL =
+        "COALESCE((SELECT b.balance FROM balance_snapshot b WHERE b.student_id = s.student_id), 0) + " +
+        "COALESCE((SELECT SUM(l.amount) FROM payment_ledger l " +
+        "LEFT JOIN balance_snapshot b ON b.student_id = l.student_id " +
+        "WHERE l.student_id = s.student_id AND l.ledger_id > COALESCE(b.last_ledger_id, 0)), 0)";
     private final ConnectionPool connectionPool;
     private final EnrollmentDAO enrollmentDAO;
+    private final PaymentLedgerDAO paymentLedgerDAO;
 
-    public StudentDAOImpl(ProgramDAO programDAO, EnrollmentDAO enrollmentDAO) {
+    public StudentDAOImpl(EnrollmentDAO enrollmentDAO, PaymentLedgerDAO paymentLedgerDAO) {
         this.connectionPool = ConnectionPool.getInstance();
         this.enrollmentDAO = enrollmentDAO;
+        this.paymentLedgerDAO = paymentLedgerDAO;
     }
 
     @Override
@@ -32,8 +51,9 @@ public class StudentDAOImpl implements StudentDAO {
         String insertPersonSql = "INSERT INTO person (first_name, last_name, email) VALUES (?, ?, ?)";
         String insertStudentSql =
             "INSERT INTO student (person_id, age, student_number, " +
-            "enrollment_status_id, grade_level_id, is_registered, balance) VALUES (?, ?, ?, ?, ?, ?, ?)";
+            "enrollment_status_id, grade_level_id, is_registered) VALUES (?, ?, ?, ?, ?, ?)";
         String updatePersonSql = "UPDATE person SET student_id = ?, university_id = ? WHERE person_id = ?";
+        PaymentRules.requireNoOpeningBalance(student);
 
         Connection conn = null;
         try {
@@ -66,7 +86,6 @@ public class StudentDAOImpl implements StudentDAO {
                             studentStmt.setInt(4, student.getEnrollmentStatus().getEnrollmentStatusId());
                             studentStmt.setInt(5, student.getGradeLevel().getGradeLevelId());
                             studentStmt.setBoolean(6, student.isRegistered());
-                            studentStmt.setDouble(7, student.getOutstandingBalance());
                             studentStmt.executeUpdate();
 
                             try (ResultSet studentRs = studentStmt.getGeneratedKeys()) {
@@ -116,6 +135,7 @@ public class StudentDAOImpl implements StudentDAO {
             }
 
             conn.commit();
+            PartialUpdate.markWritten(student);
             LOGGER.info(
                 "Saved student: {} {} (ID: {})",
                 student.getFirstName(),
@@ -144,6 +164,93 @@ public class StudentDAOImpl implements StudentDAO {
         }
     }
 
+    @Override
+    public void saveAll(List<Student> students) {
+        if (students.isEmpty()) {
+            return;
+        }
+        students.forEach(PaymentRules::requireNoOpeningBalance);
+
+        Connection conn = null;
+        try {
+            conn = connectionPool.getConnection();
+            conn.setAutoCommit(false);
+
+            for (int from = 0; from < students.size(); from += INSERT_BATCH_SIZE) {
+                List<Student> batch = students.subList(from, Math.min(from + INSERT_BATCH_SIZE, students.size()));
+                insertPersons(conn, batch);
+                insertStudents(conn, batch);
+                linkPersonsToStudents(conn, batch);
+            }
+
+            conn.commit();
+            students.forEach(PartialUpdate::markWritten);
+            LOGGER.info("Saved {} students in batches of up to {}", students.size(), INSERT_BATCH_SIZE);
+        } catch (SQLException e) {
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException rollbackEx) {
+                    LOGGER.error("Error rolling back transaction", rollbackEx);
+                }
+            }
+            LOGGER.error("Error saving students batch", e);
+            throw new RuntimeException("Failed to save students", e);
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                } catch (SQLException e) {
+                    LOGGER.error("Error resetting auto-commit", e);
+                }
+                connectionPool.releaseConnection(conn);
+            }
+        }
+    }
+
+    @Override
+    public Set<String> findRegisteredEmails(Collection<String> emails) {
+        Set<String> registered = new HashSet<>();
+        if (emails.isEmpty()) {
+            return registered;
+        }
+
+        List<String> pending = new ArrayList<>(emails);
+        Connection conn = null;
+        try {
+            conn = connectionPool.getConnection();
+
+            for (int from = 0; from < pending.size(); from += INSERT_BATCH_SIZE) {
+                List<String> batch = pending.subList(from, Math.min(from + INSERT_BATCH_SIZE, pending.size()));
+                String sql =
+                    "SELECT p.email FROM person p JOIN student s ON s.person_id = p.person_id WHERE p.email IN (" +
+                    String.join(", ", Collections.nCopies(batch.size(), "?")) +
+                    ")";
+
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    int index = 1;
+                    for (String email : batch) {
+                        stmt.setString(index++, email);
+                    }
+
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            registered.add(rs.getString("email"));
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error checking registered emails", e);
+            throw new RuntimeException("Failed to check registered emails", e);
+        } finally {
+            if (conn != null) {
+                connectionPool.releaseConnection(conn);
+            }
+        }
+        return registered;
+    }
+
     @Override
     public Optional<Student> findById(String id) {
         String sql =
@@ -156,6 +263,7 @@ public class StudentDAOImpl implements StudentDAO {
             "JOIN grade_level gl ON s.grade_level_id = gl.grade_level_id " +
             "WHERE s.student_number = ?";
 
+        Student student = null;
         Connection conn = null;
         try {
             int studentNumber = Integer.parseInt(id.replace("STU-", ""));
@@ -166,7 +274,7 @@ public class StudentDAOImpl implements StudentDAO {
 
                 try (ResultSet rs = stmt.executeQuery()) {
                     if (rs.next()) {
-                        return Optional.of(mapResultSetToStudent(rs));
+                        student = mapResultSetToStudent(rs);
                     }
                 }
             }
@@ -179,7 +287,7 @@ public class StudentDAOImpl implements StudentDAO {
                 connectionPool.releaseConnection(conn);
             }
         }
-        return Optional.empty();
+        return withActiveEnrollment(student);
     }
 
     @Override
@@ -194,6 +302,7 @@ public class StudentDAOImpl implements StudentDAO {
             "JOIN grade_level gl ON s.grade_level_id = gl.grade_level_id " +
             "WHERE p.email = ?";
 
+        Student student = null;
         Connection conn = null;
         try {
             conn = connectionPool.getConnection();
@@ -203,7 +312,7 @@ public class StudentDAOImpl implements StudentDAO {
 
                 try (ResultSet rs = stmt.executeQuery()) {
                     if (rs.next()) {
-                        return Optional.of(mapResultSetToStudent(rs));
+                        student = mapResultSetToStudent(rs);
                     }
                 }
             }
@@ -214,7 +323,7 @@ public class StudentDAOImpl implements StudentDAO {
                 connectionPool.releaseConnection(conn);
             }
         }
-        return Optional.empty();
+        return withActiveEnrollment(student);
     }
 
     @Override
@@ -229,6 +338,7 @@ public class StudentDAOImpl implements StudentDAO {
             "JOIN grade_level gl ON s.grade_level_id = gl.grade_level_id " +
             "WHERE p.email = ? AND s.student_number = ?";
 
+        Student student = null;
         Connection conn = null;
         try {
             conn = connectionPool.getConnection();
@@ -239,7 +349,7 @@ public class StudentDAOImpl implements StudentDAO {
 
                 try (ResultSet rs = stmt.executeQuery()) {
                     if (rs.next()) {
-                        return Optional.of(mapResultSetToStudent(rs));
+                        student = mapResultSetToStudent(rs);
                     }
                 }
             }
@@ -250,7 +360,7 @@ public class StudentDAOImpl implements StudentDAO {
                 connectionPool.releaseConnection(conn);
             }
         }
-        return Optional.empty();
+        return withActiveEnrollment(student);
     }
 
     @Override
@@ -282,71 +392,139 @@ public class StudentDAOImpl implements StudentDAO {
                 connectionPool.releaseConnection(conn);
             }
         }
+        hydrate(students);
         return students;
     }
 
     @Override
-    public void update(Student student) {
-        String updatePersonSql =
-            "UPDATE person SET first_name = ?, last_name = ?, email = ?, student_id = ?, university_id = ? WHERE person_id = ?";
-        String updateStudentSql =
-            "UPDATE student SET age = ?, enrollment_status_id = ?, " +
-            "grade_level_id = ?, is_registered = ?, balance = ? WHERE student_id = ?";
+    public Stream<Student> streamAll() {
+        String sql =
+            "SELECT s.*, p.first_name, p.last_name, p.email, " +
+            "es.display_name as enrollment_status_name, " +
+            "gl.display_name as grade_level_name, gl.year as grade_year " +
+            "FROM student s " +
+            "JOIN person p ON s.person_id = p.person_id " +
+            "JOIN enrollment_status es ON s.enrollment_status_id = es.enrollment_status_id " +
+            "JOIN grade_level gl ON s.grade_level_id = gl.grade_level_id " +
+            "ORDER BY s.student_id";
+
+        return JdbcStream.inBatches(
+            JdbcStream.query(connectionPool, sql, this::mapResultSetToStudent),
+            HYDRATION_BATCH_SIZE,
+            this::hydrate
+        );
+    }
+
+    @Override
+    public List<Student> findByCriteria(StudentCriteria criteria) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+
+        if (criteria.getEnrollmentStatus() != null) {
+            conditions.add("s.enrollment_status_id = ?");
+            params.add(criteria.getEnrollmentStatus().getEnrollmentStatusId());
+        }
+        if (criteria.isActiveOnly()) {
+            conditions.add(
+                "EXISTS (SELECT 1 FROM enrollment e WHERE e.student_id = s.student_id " +
+                "AND e.enrollment_status_id = ?)"
+            );
+            params.add(EnrollmentStatus.ENROLLED.getEnrollmentStatusId());
+        }
+        if (criteria.isWithOutstandingBalance()) {
+            conditions.add(LEDGER_BALANCE_SQL + " > 0");
+        }
+        if (criteria.getGradeLevel() != null) {
+            conditions.add("gl.year = ?");
+            params.add(criteria.getGradeLevel().getYear());
+        }
+        if (criteria.getDepartmentId() != null) {
+            conditions.add(
+                "EXISTS (SELECT 1 FROM enrollment e JOIN program pr ON e.program_id = pr.program_id " +
+                "WHERE e.student_id = s.student_id AND e.enrollment_status_id = ? AND pr.department_id = ?)"
+            );
+            params.add(EnrollmentStatus.ENROLLED.getEnrollmentStatusId());
+            params.add(criteria.getDepartmentId());
+        }
+        if (criteria.getAfterStudentId() != null) {
+            conditions.add("s.student_id > ?");
+            params.add(criteria.getAfterStudentId());
+        }
 
+        String sql =
+            "SELECT s.*, p.first_name, p.last_name, p.email, " +
+            "es.display_name as enrollment_status_name, " +
+            "gl.display_name as grade_level_name, gl.year as grade_year " +
+            "FROM student s " +
+            "JOIN person p ON s.person_id = p.person_id " +
+            "JOIN enrollment_status es ON s.enrollment_status_id = es.enrollment_status_id " +
+            "JOIN grade_level gl ON s.grade_level_id = gl.grade_level_id " +
+            (conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions) + " ") +
+            "ORDER BY s.student_id" +
+            (criteria.hasLimit() ? " LIMIT " + criteria.getLimit() : "");
+
+        List<Student> students = new ArrayList<>();
         Connection conn = null;
         try {
             conn = connectionPool.getConnection();
-            conn.setAutoCommit(false);
 
-            try (PreparedStatement personStmt = conn.prepareStatement(updatePersonSql)) {
-                personStmt.setString(1, student.getFirstName());
-                personStmt.setString(2, student.getLastName());
-                personStmt.setString(3, student.getEmail());
-                personStmt.setInt(4, student.getStudentId());
-
-                Integer universityId = null;
-                if (student.getEnrolledProgram() != null && student.getEnrolledProgram().getUniversityId() != null) {
-                    universityId = student.getEnrolledProgram().getUniversityId();
-
-                    try (
-                        PreparedStatement checkStmt = conn.prepareStatement(
-                            "SELECT 1 FROM university WHERE university_id = ?"
-                        )
-                    ) {
-                        checkStmt.setInt(1, universityId);
-                        try (ResultSet rs = checkStmt.executeQuery()) {
-                            if (!rs.next()) {
-                                universityId = null;
-                                LOGGER.warn(
-                                    "University ID {} not found in database, setting person.university_id to NULL",
-                                    universityId
-                                );
-                            }
-                        }
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                for (int i = 0; i < params.size(); i++) {
+                    stmt.setObject(i + 1, params.get(i));
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        students.add(mapResultSetToStudent(rs));
                     }
                 }
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error finding students by criteria: {}", criteria, e);
+        } finally {
+            if (conn != null) {
+                connectionPool.releaseConnection(conn);
+            }
+        }
+        hydrate(students);
+        return students;
+    }
 
-                if (universityId != null) {
-                    personStmt.setInt(5, universityId);
-                } else {
-                    personStmt.setNull(5, java.sql.Types.INTEGER);
-                }
+    @Override
+    public void update(Student student) {
+        if (!student.getChanges().hasChanges()) {
+            LOGGER.debug("Student {} has no changes, skipping update", student.getStudentId());
+            return;
+        }
 
-                personStmt.setInt(6, student.getPersonId());
-                personStmt.executeUpdate();
-            }
+        Connection conn = null;
+        try {
+            conn = connectionPool.getConnection();
+            conn.setAutoCommit(false);
 
-            try (PreparedStatement studentStmt = conn.prepareStatement(updateStudentSql)) {
-                studentStmt.setInt(1, student.getAge());
-                studentStmt.setInt(2, student.getEnrollmentStatus().getEnrollmentStatusId());
-                studentStmt.setInt(3, student.getGradeLevel().getGradeLevelId());
-                studentStmt.setBoolean(4, student.isRegistered());
-                studentStmt.setDouble(5, student.getOutstandingBalance());
-                studentStmt.setInt(6, student.getStudentId());
-                studentStmt.executeUpdate();
+            PartialUpdate personUpdate = new PartialUpdate("person", student.getChanges())
+                .set("firstName", "first_name", student.getFirstName(), Types.VARCHAR)
+                .set("lastName", "last_name", student.getLastName(), Types.VARCHAR)
+                .set("email", "email", student.getEmail(), Types.VARCHAR)
+                .set("studentId", "student_id", student.getStudentId(), Types.INTEGER);
+            if (student.getChanges().isChanged("enrolledProgram")) {
+                personUpdate.set("enrolledProgram", "university_id", universityOf(conn, student), Types.INTEGER);
             }
+            personUpdate.execute(conn, "person_id", student.getPersonId(), Types.INTEGER);
+
+            new PartialUpdate("student", student.getChanges())
+                .set("age", "age", student.getAge(), Types.INTEGER)
+                .set(
+                    "enrollmentStatus",
+                    "enrollment_status_id",
+                    student.getEnrollmentStatus().getEnrollmentStatusId(),
+                    Types.INTEGER
+                )
+                .set("gradeLevel", "grade_level_id", student.getGradeLevel().getGradeLevelId(), Types.INTEGER)
+                .set("registered", "is_registered", student.isRegistered(), Types.BOOLEAN)
+                .execute(conn, "student_id", student.getStudentId(), Types.INTEGER);
 
             conn.commit();
+            PartialUpdate.markWritten(student);
             LOGGER.info(
                 "Updated student: {} {} (ID: {})",
                 student.getFirstName(),
@@ -375,6 +553,27 @@ public class StudentDAOImpl implements StudentDAO {
         }
     }
 
+    private Integer universityOf(Connection conn, Student student) throws SQLException {
+        Program program = student.getEnrolledProgram();
+        if (program == null || program.getUniversityId() == null) {
+            return null;
+        }
+
+        try (PreparedStatement checkStmt = conn.prepareStatement("SELECT 1 FROM university WHERE university_id = ?")) {
+            checkStmt.setInt(1, program.getUniversityId());
+            try (ResultSet rs = checkStmt.executeQuery()) {
+                if (rs.next()) {
+                    return program.getUniversityId();
+                }
+            }
+        }
+        LOGGER.warn(
+            "University ID {} not found in database, setting person.university_id to NULL",
+            program.getUniversityId()
+        );
+        return null;
+    }
+
     @Override
     public void delete(String id) {
         String deleteStudentSql = "DELETE FROM student WHERE student_number = ?";
@@ -445,62 +644,50 @@ public class StudentDAOImpl implements StudentDAO {
         student.setStudentId(rs.getInt("student_id"));
         student.setPersonId(rs.getInt("person_id"));
 
-        Integer enrollmentStatusId = rs.getInt("enrollment_status_id");
-        String enrollmentStatusName = rs.getString("enrollment_status_name");
-
-        if (enrollmentStatusId == 4 || "Enrolled".equals(enrollmentStatusName)) {
-            student.setEnrollmentStatus(EnrollmentStatus.ENROLLED);
-        } else if (enrollmentStatusId == 1 || "Applied".equals(enrollmentStatusName)) {
-            student.setEnrollmentStatus(EnrollmentStatus.APPLIED);
-        } else if (enrollmentStatusId == 8 || "Withdrawn".equals(enrollmentStatusName)) {
-            student.setEnrollmentStatus(EnrollmentStatus.WITHDRAWN);
-        } else {
-            EnrollmentStatus status = new EnrollmentStatus();
-            status.setEnrollmentStatusId(enrollmentStatusId);
-            status.setDisplayName(enrollmentStatusName);
-            student.setEnrollmentStatus(status);
-        }
+        student.setEnrollmentStatus(
+            EnrollmentStatus.of(rs.getInt("enrollment_status_id"), rs.getString("enrollment_status_name"))
+        );
+        student.setGradeLevel(GradeLevel.ofYear(rs.getInt("grade_year")));
+
+        student.setRegistered(rs.getBoolean("is_registered"));
+        student.getChanges().markClean();
 
-        int gradeYear = rs.getInt("grade_year");
-        switch (gradeYear) {
-            case 1:
-                student.setGradeLevel(GradeLevel.FRESHMAN);
-                break;
-            case 2:
-                student.setGradeLevel(GradeLevel.SOPHOMORE);
-                break;
-            case 3:
-                student.setGradeLevel(GradeLevel.JUNIOR);
-                break;
-            case 4:
-                student.setGradeLevel(GradeLevel.SENIOR);
-                break;
-            case 5:
-                student.setGradeLevel(GradeLevel.GRADUATE);
-                break;
-            default:
-                student.setGradeLevel(GradeLevel.FRESHMAN);
+        return student;
+    }
+
+    private Optional<Student> withActiveEnrollment(Student student) {
+        if (student == null) {
+            return Optional.empty();
         }
+        hydrate(List.of(student));
+        return Optional.of(student);
+    }
 
-        student.setRegistered(rs.getBoolean("is_registered"));
+    private void hydrate(List<Student> students) {
+        for (int from = 0; from < students.size(); from += HYDRATION_BATCH_SIZE) {
+            List<Student> page = students.subList(from, Math.min(from + HYDRATION_BATCH_SIZE, students.size()));
+            List<Integer> studentIds = page.stream().map(Student::getStudentId).toList();
+
+            Map<Integer, Enrollment> activeEnrollments = new HashMap<>();
+            enrollmentDAO
+                .findActiveByStudentIds(studentIds)
+                .forEach(enrollment -> activeEnrollments.putIfAbsent(enrollment.studentId(), enrollment));
+            Map<Integer, Long> balances = paymentLedgerDAO.findBalances(studentIds);
 
-        double balance = rs.getDouble("balance");
-        student.setOutstandingBalance(balance);
+            for (Student student : page) {
+                student.setOutstandingBalanceCents(balances.getOrDefault(student.getStudentId(), 0L));
+                student.getChanges().markClean("balance");
 
-        List<Enrollment> enrollments = enrollmentDAO.findAll();
-        Optional<Enrollment> activeEnrollment = enrollments
-            .stream()
-            .filter(e -> e.studentId() != null && e.studentId().equals(student.getStudentId()))
-            .filter(e -> e.status() != null && e.status().equals(EnrollmentStatus.ENROLLED))
-            .findFirst();
+                Enrollment activeEnrollment = activeEnrollments.get(student.getStudentId());
+                if (activeEnrollment == null || activeEnrollment.programId() == null) {
+                    continue;
+                }
 
-        if (activeEnrollment.isPresent()) {
-            Integer programId = activeEnrollment.get().programId();
-            if (programId != null) {
-                Program enrolledProgram = activeEnrollment.get().program();
+                Program enrolledProgram = activeEnrollment.program();
                 if (enrolledProgram != null) {
                     student.setEnrolledProgram(enrolledProgram);
-                    student.setEnrollmentStatus(activeEnrollment.get().status());
+                    student.setEnrollmentStatus(activeEnrollment.status());
+                    student.getChanges().markClean();
                 } else {
                     LOGGER.warn(
                         "Student {} has enrollment but program not loaded in enrollment record",
@@ -509,7 +696,86 @@ public class StudentDAOImpl implements StudentDAO {
                 }
             }
         }
+    }
 
-        return student;
+    private void insertPersons(Connection conn, List<Student> batch) throws SQLException {
+        String sql = "INSERT INTO person (first_name, last_name, email) VALUES " + valueRows(batch.size(), 3);
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            int index = 1;
+            for (Student student : batch) {
+                stmt.setString(index++, student.getFirstName());
+                stmt.setString(index++, student.getLastName());
+                stmt.setString(index++, student.getEmail());
+            }
+            stmt.executeUpdate();
+
+            List<Integer> keys = generatedKeys(stmt, batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).setPersonId(keys.get(i));
+            }
+        }
+    }
+
+    private void insertStudents(Connection conn, List<Student> batch) throws SQLException {
+        String sql =
+            "INSERT INTO student (person_id, age, student_number, " +
+            "enrollment_status_id, grade_level_id, is_registered) VALUES " +
+            valueRows(batch.size(), 6);
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            int index = 1;
+            for (Student student : batch) {
+                stmt.setInt(index++, student.getPersonId());
+                stmt.setInt(index++, student.getAge());
+                stmt.setInt(index++, student.getStudentNumber());
+                stmt.setInt(index++, student.getEnrollmentStatus().getEnrollmentStatusId());
+                stmt.setInt(index++, student.getGradeLevel().getGradeLevelId());
+                stmt.setBoolean(index++, student.isRegistered());
+            }
+            stmt.executeUpdate();
+
+            List<Integer> keys = generatedKeys(stmt, batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).setStudentId(keys.get(i));
+            }
+        }
+    }
+
+    private void linkPersonsToStudents(Connection conn, List<Student> batch) throws SQLException {
+        String sql =
+            "UPDATE person p JOIN student s ON s.person_id = p.person_id " +
+            "LEFT JOIN university u ON u.university_id = ? " +
+            "SET p.student_id = s.student_id, p.university_id = u.university_id " +
+            "WHERE p.person_id IN (" +
+            String.join(", ", Collections.nCopies(batch.size(), "?")) +
+            ")";
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, DEFAULT_UNIVERSITY_ID);
+            int index = 2;
+            for (Student student : batch) {
+                stmt.setInt(index++, student.getPersonId());
+            }
+            stmt.executeUpdate();
+        }
+    }
+
+    private static List<Integer> generatedKeys(PreparedStatement stmt, int expected) throws SQLException {
+        List<Integer> keys = new ArrayList<>(expected);
+        try (ResultSet rs = stmt.getGeneratedKeys()) {
+            while (rs.next()) {
+                keys.add(rs.getInt(1));
+            }
+        }
+        if (keys.size() != expected) {
+            throw new SQLException("Expected " + expected + " generated keys but received " + keys.size());
+        }
+        return keys;
+    }
+
+    private static String valueRows(int rows, int columns) {
+        String row = "(" + String.join(", ", Collections.nCopies(columns, "?")) + ")";
+        return String.join(", ", Collections.nCopies(rows, row));
     }
 }
@@ -1,6 +1,7 @@
 package com.solvd.university.dao.impl;
 
 import com.solvd.university.dao.interfaces.StudentGradeDAO;
+import com.solvd.university.dao.mapping.RowMapping;
 import com.solvd.university.model.StudentGrade;
 import com.solvd.university.util.ConnectionPool;
 import java.sql.Connection;
@@ -10,12 +11,14 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 public class StudentGradeDAOImpl implements StudentGradeDAO {
 
     private static final Logger LOGGER = LogManager.getLogger();
+    private static final RowMapping<StudentGrade> STUDENT_GRADE_MAPPING = RowMapping.of(StudentGrade.class);
     private final ConnectionPool connectionPool;
 
     public StudentGradeDAOImpl() {
@@ -55,6 +58,45 @@ public class StudentGradeDAOImpl implements StudentGradeDAO {
         }
     }
 
+    @Override
+    public void saveAll(List<StudentGrade> grades) {
+        if (grades.isEmpty()) {
+            return;
+        }
+
+        String sql = "INSERT INTO student_grade (student_id, subject, value, semester) VALUES (?, ?, ?, ?)";
+        Connection conn = null;
+
+        try {
+            conn = connectionPool.getConnection();
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (StudentGrade grade : grades) {
+                    stmt.setInt(1, grade.getStudentId());
+                    stmt.setString(2, grade.getSubject());
+                    stmt.setDouble(3, grade.getValue());
+                    stmt.setInt(4, grade.getSemester());
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+
+                try (ResultSet rs = stmt.getGeneratedKeys()) {
+                    for (int i = 0; i < grades.size() && rs.next(); i++) {
+                        grades.get(i).setStudentGradeId(rs.getInt(1));
+                    }
+                }
+            }
+            LOGGER.info("Saved {} student grades in one batch", grades.size());
+        } catch (SQLException e) {
+            LOGGER.error("Error saving student grades batch: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to save student grades", e);
+        } finally {
+            if (conn != null) {
+                connectionPool.releaseConnection(conn);
+            }
+        }
+    }
+
     @Override
     public StudentGrade findById(Integer id) {
         String sql = "SELECT * FROM student_grade WHERE student_grade_id = ?";
@@ -68,7 +110,7 @@ public class StudentGradeDAOImpl implements StudentGradeDAO {
             ResultSet rs = stmt.executeQuery();
 
             if (rs.next()) {
-                return mapResultSetToStudentGrade(rs);
+                return STUDENT_GRADE_MAPPING.mapper().map(rs);
             }
 
             return null;
@@ -93,9 +135,7 @@ public class StudentGradeDAOImpl implements StudentGradeDAO {
             Statement stmt = conn.createStatement();
             ResultSet rs = stmt.executeQuery(sql);
 
-            while (rs.next()) {
-                grades.add(mapResultSetToStudentGrade(rs));
-            }
+            grades.addAll(STUDENT_GRADE_MAPPING.mapAll(rs));
 
             return grades;
         } catch (SQLException e) {
@@ -108,6 +148,12 @@ public class StudentGradeDAOImpl implements StudentGradeDAO {
         }
     }
 
+    @Override
+    public Stream<StudentGrade> streamAll() {
+        String sql = "SELECT * FROM student_grade ORDER BY student_id, semester, subject";
+        return JdbcStream.query(connectionPool, sql, STUDENT_GRADE_MAPPING.mapper());
+    }
+
     @Override
     public List<StudentGrade> findByStudentId(Integer studentId) {
         String sql = "SELECT * FROM student_grade WHERE student_id = ? ORDER BY semester, subject";
@@ -121,9 +167,7 @@ public class StudentGradeDAOImpl implements StudentGradeDAO {
 
             ResultSet rs = stmt.executeQuery();
 
-            while (rs.next()) {
-                grades.add(mapResultSetToStudentGrade(rs));
-            }
+            grades.addAll(STUDENT_GRADE_MAPPING.mapAll(rs));
 
             LOGGER.info("Found {} grades for student ID {}", grades.size(), studentId);
             return grades;
@@ -151,9 +195,7 @@ public class StudentGradeDAOImpl implements StudentGradeDAO {
 
             ResultSet rs = stmt.executeQuery();
 
-            while (rs.next()) {
-                grades.add(mapResultSetToStudentGrade(rs));
-            }
+            grades.addAll(STUDENT_GRADE_MAPPING.mapAll(rs));
 
             LOGGER.info("Found {} grades for student ID {} in semester {}", grades.size(), studentId, semester);
             return grades;
@@ -227,14 +269,4 @@ public class StudentGradeDAOImpl implements StudentGradeDAO {
             }
         }
     }
-
-    private StudentGrade mapResultSetToStudentGrade(ResultSet rs) throws SQLException {
-        StudentGrade grade = new StudentGrade();
-        grade.setStudentGradeId(rs.getInt("student_grade_id"));
-        grade.setStudentId(rs.getInt("student_id"));
-        grade.setSubject(rs.getString("subject"));
-        grade.setValue(rs.getDouble("value"));
-        grade.setSemester(rs.getInt("semester"));
-        return grade;
-    }
 }
@@ -1,6 +1,7 @@
 package com.solvd.university.dao.interfaces;
 
 import com.solvd.university.model.Course;
+import com.solvd.university.model.CourseCriteria;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,6 +12,8 @@ public interface CourseDAO {
 
     List<Course<?, ?>> findAll();
 
+    List<Course<?, ?>> findByCriteria(CourseCriteria criteria);
+
     void update(Course<?, ?> course);
 
     void delete(String courseCode);
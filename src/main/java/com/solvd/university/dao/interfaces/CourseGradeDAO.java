@@ -6,6 +6,8 @@ import java.util.List;
 public interface CourseGradeDAO {
     void save(CourseGrade grade);
 
+    void saveAll(List<CourseGrade> grades);
+
     CourseGrade findById(Integer id);
 
     List<CourseGrade> findAll();
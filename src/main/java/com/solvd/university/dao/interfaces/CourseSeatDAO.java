@@ -0,0 +1,16 @@
+package com.solvd.university.dao.interfaces;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public interface CourseSeatDAO {
+    int openSeats(Integer courseId);
+
+    boolean reserve(Integer courseId, Integer studentId);
+
+    boolean confirm(Integer courseId, Integer studentId);
+
+    boolean release(Integer courseId, Integer studentId);
+
+    Map<Integer, Integer> releaseExpired(LocalDateTime reservedBefore);
+}
@@ -1,6 +1,7 @@
 package com.solvd.university.dao.interfaces;
 
 import com.solvd.university.model.Department;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,6 +10,8 @@ public interface DepartmentDAO {
 
     Optional<Department<?>> findById(Integer departmentId);
 
+    List<Department<?>> findAllById(Collection<Integer> departmentIds);
+
     Optional<Department<?>> findByCode(String code);
 
     List<Department<?>> findAll();
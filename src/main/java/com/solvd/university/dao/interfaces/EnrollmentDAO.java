@@ -2,6 +2,7 @@ package com.solvd.university.dao.interfaces;
 
 import com.solvd.university.model.Enrollment;
 import com.solvd.university.model.Student;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +13,8 @@ public interface EnrollmentDAO {
 
     Optional<Enrollment> findByStudent(Student student);
 
+    List<Enrollment> findActiveByStudentIds(Collection<Integer> studentIds);
+
     List<Enrollment> findAll();
 
     void update(Enrollment enrollment);
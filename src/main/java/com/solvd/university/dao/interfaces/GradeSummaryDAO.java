@@ -0,0 +1,22 @@
+package com.solvd.university.dao.interfaces;
+
+import com.solvd.university.model.GradeScope;
+import com.solvd.university.model.GradeSummary;
+import java.util.List;
+import java.util.Optional;
+
+public interface GradeSummaryDAO {
+    void save(GradeSummary summary);
+
+    void saveIfAbsent(GradeSummary summary);
+
+    Optional<GradeSummary> findByKey(GradeScope scope, Integer scopeId, int semester);
+
+    Optional<GradeSummary> findByKeyForUpdate(GradeScope scope, Integer scopeId, int semester);
+
+    List<GradeSummary> findByScopeIds(GradeScope scope, List<Integer> scopeIds, int semester);
+
+    List<Integer> findScopeIdsWithAverageAtLeast(GradeScope scope, double minAverage, int semester);
+
+    void rebuild();
+}
@@ -2,6 +2,7 @@ package com.solvd.university.dao.interfaces;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import com.solvd.university.model.Department;
 import com.solvd.university.model.Program;
@@ -9,6 +10,8 @@ import com.solvd.university.model.Program;
 public interface MyBatisProgramDAO {
     void save(Program program);
 
+    List<Integer> saveAll(Stream<Program> programs);
+
     Optional<Program> findById(Integer programId);
 
     Optional<Program> findByName(String name);
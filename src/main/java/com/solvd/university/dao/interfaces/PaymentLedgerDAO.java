@@ -0,0 +1,18 @@
+package com.solvd.university.dao.interfaces;
+
+import com.solvd.university.model.LedgerEntry;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface PaymentLedgerDAO {
+    void appendAll(List<LedgerEntry> entries);
+
+    Map<Integer, Long> findBalances(Collection<Integer> studentIds);
+
+    Map<Integer, Long> lockBalances(Collection<Integer> studentIds);
+
+    List<LedgerEntry> findByStudentId(Integer studentId);
+
+    int compactSnapshots();
+}
@@ -1,6 +1,7 @@
 package com.solvd.university.dao.interfaces;
 
 import com.solvd.university.model.Professor;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,6 +10,8 @@ public interface ProfessorDAO {
 
     Optional<Professor> findById(Integer professorId);
 
+    List<Professor> findAllById(Collection<Integer> professorIds);
+
     Optional<Professor> findByFullName(String firstName, String lastName);
 
     List<Professor> findAll();
@@ -2,6 +2,7 @@ package com.solvd.university.dao.interfaces;
 
 import com.solvd.university.model.Department;
 import com.solvd.university.model.Program;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,6 +11,8 @@ public interface ProgramDAO {
 
     Optional<Program> findById(Integer programId);
 
+    List<Program> findAllById(Collection<Integer> programIds);
+
     Optional<Program> findByName(String name);
 
     List<Program> findByDepartment(Department<?> department);
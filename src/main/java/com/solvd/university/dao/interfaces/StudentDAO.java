@@ -1,20 +1,32 @@
 package com.solvd.university.dao.interfaces;
 
 import com.solvd.university.model.Student;
+import com.solvd.university.model.StudentCriteria;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface StudentDAO {
     void save(Student student);
 
+    void saveAll(List<Student> students);
+
     Optional<Student> findById(String id);
 
     Optional<Student> findByEmail(String email);
 
+    Set<String> findRegisteredEmails(Collection<String> emails);
+
     Optional<Student> findByEmailAndStudentNumber(String email, int studentNumber);
 
     List<Student> findAll();
 
+    Stream<Student> streamAll();
+
+    List<Student> findByCriteria(StudentCriteria criteria);
+
     void update(Student student);
 
     void delete(String id);
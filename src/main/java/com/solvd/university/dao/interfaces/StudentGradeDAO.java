@@ -2,14 +2,19 @@ package com.solvd.university.dao.interfaces;
 
 import com.solvd.university.model.StudentGrade;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface StudentGradeDAO {
     void save(StudentGrade grade);
 
+    void saveAll(List<StudentGrade> grades);
+
     StudentGrade findById(Integer id);
 
     List<StudentGrade> findAll();
 
+    Stream<StudentGrade> streamAll();
+
     List<StudentGrade> findByStudentId(Integer studentId);
 
     List<StudentGrade> findByStudentIdAndSemester(Integer studentId, Integer semester);
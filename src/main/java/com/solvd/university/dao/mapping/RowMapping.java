@@ -0,0 +1,331 @@
+package com.solvd.university.dao.mapping;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public final class RowMapping<T> {
+
+    private static final Logger LOGGER = LogManager.getLogger(RowMapping.class);
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final Map<Class<?>, Kind> KINDS = Map.ofEntries(
+        Map.entry(int.class, Kind.INT),
+        Map.entry(long.class, Kind.LONG),
+        Map.entry(double.class, Kind.DOUBLE),
+        Map.entry(boolean.class, Kind.BOOLEAN),
+        Map.entry(Boolean.class, Kind.BOXED_BOOLEAN),
+        Map.entry(Integer.class, Kind.BOXED_INT),
+        Map.entry(Long.class, Kind.BOXED_LONG),
+        Map.entry(Double.class, Kind.BOXED_DOUBLE),
+        Map.entry(String.class, Kind.STRING),
+        Map.entry(BigDecimal.class, Kind.DECIMAL),
+        Map.entry(LocalDateTime.class, Kind.DATE_TIME),
+        Map.entry(LocalDate.class, Kind.DATE)
+    );
+
+    private final Class<T> type;
+    private final Supplier<T> factory;
+    private final Map<String, Property<T>> properties;
+
+    private RowMapping(Class<T> type, Map<String, String> aliases) {
+        this.type = type;
+        this.factory = compileFactory(type);
+        this.properties = compileProperties(type, aliases);
+    }
+
+    public static <T> RowMapping<T> of(Class<T> type) {
+        return new RowMapping<>(type, Map.of());
+    }
+
+    public static <T> Builder<T> builder(Class<T> type) {
+        return new Builder<>(type);
+    }
+
+    public RowMapper<T> mapper() {
+        return new BindingMapper();
+    }
+
+    public RowMapper<T> bind(ResultSetMetaData metaData) throws SQLException {
+        List<BoundColumn<T>> bound = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+
+        for (int index = 1; index <= metaData.getColumnCount(); index++) {
+            String column = metaData.getColumnLabel(index).toLowerCase(Locale.ROOT);
+            Property<T> property = properties.get(column);
+            if (property != null && seen.add(column)) {
+                bound.add(new BoundColumn<>(index, property));
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        BoundColumn<T>[] columns = (BoundColumn<T>[]) bound.toArray(BoundColumn<?>[]::new);
+        return rs -> read(rs, columns);
+    }
+
+    private T read(ResultSet rs, BoundColumn<T>[] columns) throws SQLException {
+        T target = factory.get();
+        for (BoundColumn<T> column : columns) {
+            int index = column.index();
+            Property<T> property = column.property();
+            switch (property.kind()) {
+                case INT -> property.intSetter().accept(target, rs.getInt(index));
+                case LONG -> property.longSetter().accept(target, rs.getLong(index));
+                case DOUBLE -> property.doubleSetter().accept(target, rs.getDouble(index));
+                case BOOLEAN -> property.setter().accept(target, rs.getBoolean(index));
+                case BOXED_BOOLEAN -> {
+                    boolean value = rs.getBoolean(index);
+                    property.setter().accept(target, !value && rs.wasNull() ? null : value);
+                }
+                case BOXED_INT -> {
+                    int value = rs.getInt(index);
+                    property.setter().accept(target, value == 0 && rs.wasNull() ? null : value);
+                }
+                case BOXED_LONG -> {
+                    long value = rs.getLong(index);
+                    property.setter().accept(target, value == 0 && rs.wasNull() ? null : value);
+                }
+                case BOXED_DOUBLE -> {
+                    double value = rs.getDouble(index);
+                    property.setter().accept(target, value == 0.0 && rs.wasNull() ? null : value);
+                }
+                case STRING -> property.setter().accept(target, rs.getString(index));
+                case DECIMAL -> property.setter().accept(target, rs.getBigDecimal(index));
+                case DATE_TIME -> {
+                    Timestamp value = rs.getTimestamp(index);
+                    property.setter().accept(target, value != null ? value.toLocalDateTime() : null);
+                }
+                case DATE -> {
+                    Date value = rs.getDate(index);
+                    property.setter().accept(target, value != null ? value.toLocalDate() : null);
+                }
+            }
+        }
+        return target;
+    }
+
+    public List<T> mapAll(ResultSet rs) throws SQLException {
+        RowMapper<T> mapper = bind(rs.getMetaData());
+        List<T> rows = new ArrayList<>();
+        while (rs.next()) {
+            rows.add(mapper.map(rs));
+        }
+        return rows;
+    }
+
+    @Override
+    public String toString() {
+        return "RowMapping(" + type.getSimpleName() + ", columns=" + properties.keySet() + ")";
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Supplier<T> compileFactory(Class<T> type) {
+        try {
+            MethodHandle constructor = LOOKUP.findConstructor(type, MethodType.methodType(void.class));
+            CallSite site = LambdaMetafactory.metafactory(
+                LOOKUP,
+                "get",
+                MethodType.methodType(Supplier.class),
+                MethodType.methodType(Object.class),
+                constructor,
+                MethodType.methodType(type)
+            );
+            return (Supplier<T>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            LOGGER.error("Failed to compile constructor for {}", type.getName(), e);
+            throw new RuntimeException("Failed to compile row mapping for " + type.getName(), e);
+        }
+    }
+
+    private static <T> Map<String, Property<T>> compileProperties(Class<T> type, Map<String, String> aliases) {
+        Map<String, String> columnsByProperty = new HashMap<>();
+        aliases.forEach((column, property) -> columnsByProperty.put(property, column));
+
+        Map<String, Property<T>> properties = new HashMap<>();
+        for (Method method : type.getMethods()) {
+            if (!isSetter(method)) {
+                continue;
+            }
+            String property = Character.toLowerCase(method.getName().charAt(3)) + method.getName().substring(4);
+            String column = columnsByProperty.getOrDefault(property, toColumnName(property));
+            if (properties.containsKey(column)) {
+                continue;
+            }
+
+            try {
+                Property<T> compiled = compileProperty(type, method);
+                if (compiled != null) {
+                    properties.put(column, compiled);
+                }
+            } catch (Throwable e) {
+                LOGGER.error("Failed to compile setter {}.{}", type.getName(), method.getName(), e);
+                throw new RuntimeException("Failed to compile row mapping for " + type.getName(), e);
+            }
+        }
+        return Map.copyOf(properties);
+    }
+
+    private static boolean isSetter(Method method) {
+        return (
+            method.getName().length() > 3 &&
+            method.getName().startsWith("set") &&
+            method.getParameterCount() == 1 &&
+            method.getReturnType() == void.class &&
+            !Modifier.isStatic(method.getModifiers())
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Property<T> compileProperty(Class<T> type, Method setter) throws Throwable {
+        Class<?> parameter = setter.getParameterTypes()[0];
+        Kind kind = KINDS.get(parameter);
+        if (kind == null) {
+            return null;
+        }
+
+        MethodHandle handle = LOOKUP.unreflect(setter);
+        return switch (kind) {
+            case INT -> new Property<>(
+                kind,
+                (ObjIntConsumer<T>) lambda(ObjIntConsumer.class, int.class, type, handle),
+                null,
+                null,
+                null
+            );
+            case LONG -> new Property<>(
+                kind,
+                null,
+                (ObjLongConsumer<T>) lambda(ObjLongConsumer.class, long.class, type, handle),
+                null,
+                null
+            );
+            case DOUBLE -> new Property<>(
+                kind,
+                null,
+                null,
+                (ObjDoubleConsumer<T>) lambda(ObjDoubleConsumer.class, double.class, type, handle),
+                null
+            );
+            default -> {
+                Class<?> valueType = parameter == boolean.class ? Boolean.class : parameter;
+                yield new Property<>(
+                    kind,
+                    null,
+                    null,
+                    null,
+                    (BiConsumer<T, Object>) lambda(BiConsumer.class, valueType, type, handle)
+                );
+            }
+        };
+    }
+
+    private static Object lambda(Class<?> functionalType, Class<?> valueType, Class<?> targetType, MethodHandle setter)
+        throws Throwable {
+        Class<?> erasedValue = valueType.isPrimitive() ? valueType : Object.class;
+        CallSite site = LambdaMetafactory.metafactory(
+            LOOKUP,
+            "accept",
+            MethodType.methodType(functionalType),
+            MethodType.methodType(void.class, Object.class, erasedValue),
+            setter,
+            MethodType.methodType(void.class, targetType, valueType)
+        );
+        return site.getTarget().invoke();
+    }
+
+    private static String toColumnName(String property) {
+        StringBuilder column = new StringBuilder(property.length() + 4);
+        for (char c : property.toCharArray()) {
+            if (Character.isUpperCase(c)) {
+                column.append('_').append(Character.toLowerCase(c));
+            } else {
+                column.append(c);
+            }
+        }
+        return column.toString();
+    }
+
+    private enum Kind {
+        INT,
+        LONG,
+        DOUBLE,
+        BOOLEAN,
+        BOXED_BOOLEAN,
+        BOXED_INT,
+        BOXED_LONG,
+        BOXED_DOUBLE,
+        STRING,
+        DECIMAL,
+        DATE_TIME,
+        DATE
+    }
+
+    private record Property<T>(
+        Kind kind,
+        ObjIntConsumer<T> intSetter,
+        ObjLongConsumer<T> longSetter,
+        ObjDoubleConsumer<T> doubleSetter,
+        BiConsumer<T, Object> setter
+    ) {}
+
+    private record BoundColumn<T>(int index, Property<T> property) {}
+
+    private final class BindingMapper implements RowMapper<T> {
+
+        private ResultSet boundTo;
+        private RowMapper<T> delegate;
+
+        @Override
+        public T map(ResultSet rs) throws SQLException {
+            if (rs != boundTo) {
+                delegate = bind(rs.getMetaData());
+                boundTo = rs;
+            }
+            return delegate.map(rs);
+        }
+    }
+
+    public static final class Builder<T> {
+
+        private final Class<T> type;
+        private final Map<String, String> aliases = new HashMap<>();
+
+        private Builder(Class<T> type) {
+            this.type = type;
+        }
+
+        public Builder<T> column(String column, String property) {
+            aliases.put(column.toLowerCase(Locale.ROOT), property);
+            return this;
+        }
+
+        public RowMapping<T> build() {
+            return new RowMapping<>(type, Map.copyOf(aliases));
+        }
+    }
+}
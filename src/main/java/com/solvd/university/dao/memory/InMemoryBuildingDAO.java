@@ -0,0 +1,99 @@
+package com.solvd.university.dao.memory;
+
+import com.solvd.university.dao.interfaces.BuildingDAO;
+import com.solvd.university.dao.memory.InMemoryDatabase.BuildingRow;
+import com.solvd.university.model.Building;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class InMemoryBuildingDAO implements BuildingDAO {
+
+    private static final Logger LOGGER = LogManager.getLogger(InMemoryBuildingDAO.class);
+    private final InMemoryDatabase database;
+
+    public InMemoryBuildingDAO(InMemoryDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public void save(Building building) {
+        try {
+            int buildingId = database.buildings.insert(id ->
+                new BuildingRow(id, building.getName(), building.getUniversityId())
+            );
+            building.setBuildingId(buildingId);
+            LOGGER.info("Building saved successfully with ID: {}", buildingId);
+        } catch (SQLException e) {
+            LOGGER.error("Failed to save building: {}", building.getName(), e);
+            throw new RuntimeException("Failed to save building", e);
+        }
+    }
+
+    @Override
+    public Optional<Building> findById(Integer buildingId) {
+        return database.buildings.get(buildingId).map(InMemoryBuildingDAO::toBuilding);
+    }
+
+    @Override
+    public Optional<Building> findByName(String name) {
+        return database.buildingsByName.findFirst(name).map(InMemoryBuildingDAO::toBuilding);
+    }
+
+    @Override
+    public List<Building> findAll() {
+        return database.buildings.rows().map(InMemoryBuildingDAO::toBuilding).toList();
+    }
+
+    @Override
+    public List<Building> findByUniversity(Integer universityId) {
+        List<Building> buildings = database.buildingsByUniversity
+            .find(universityId)
+            .stream()
+            .map(InMemoryBuildingDAO::toBuilding)
+            .toList();
+        LOGGER.info("Found {} buildings for university ID: {}", buildings.size(), universityId);
+        return buildings;
+    }
+
+    @Override
+    public void update(Building building) {
+        try {
+            boolean updated = database.buildings.update(
+                building.getBuildingId(),
+                row -> new BuildingRow(row.buildingId(), building.getName(), building.getUniversityId())
+            );
+            if (updated) {
+                LOGGER.info("Building updated successfully: {}", building.getName());
+            } else {
+                LOGGER.warn("No building found with ID: {}", building.getBuildingId());
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Failed to update building: {}", building.getName(), e);
+            throw new RuntimeException("Failed to update building", e);
+        }
+    }
+
+    @Override
+    public void delete(Integer buildingId) {
+        try {
+            if (database.buildings.delete(buildingId)) {
+                LOGGER.info("Building deleted successfully with ID: {}", buildingId);
+            } else {
+                LOGGER.warn("No building found with ID: {}", buildingId);
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Failed to delete building with ID: {}", buildingId, e);
+            throw new RuntimeException("Failed to delete building", e);
+        }
+    }
+
+    static Building toBuilding(BuildingRow row) {
+        Building building = new Building(row.name());
+        building.setBuildingId(row.buildingId());
+        building.setUniversityId(row.universityId());
+        return building;
+    }
+}
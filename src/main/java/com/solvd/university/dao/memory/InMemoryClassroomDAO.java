@@ -0,0 +1,138 @@
+package com.solvd.university.dao.memory;
+
+import com.solvd.university.dao.interfaces.BuildingDAO;
+import com.solvd.university.dao.interfaces.ClassroomDAO;
+import com.solvd.university.dao.memory.InMemoryDatabase.ClassroomRow;
+import com.solvd.university.model.Building;
+import com.solvd.university.model.Classroom;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class InMemoryClassroomDAO implements ClassroomDAO {
+
+    private static final Logger LOGGER = LogManager.getLogger(InMemoryClassroomDAO.class);
+    private final InMemoryDatabase database;
+    private final BuildingDAO buildingDAO;
+
+    public InMemoryClassroomDAO(InMemoryDatabase database, BuildingDAO buildingDAO) {
+        this.database = database;
+        this.buildingDAO = buildingDAO;
+    }
+
+    @Override
+    public void save(Classroom classroom) {
+        try {
+            int classroomId = database.classrooms.insert(id -> toRow(id, classroom));
+            classroom.setClassroomId(classroomId);
+            LOGGER.info("Classroom saved successfully with ID: {}", classroomId);
+        } catch (SQLException e) {
+            LOGGER.error("Failed to save classroom: {}", classroom.getRoomNumber(), e);
+            throw new RuntimeException("Failed to save classroom", e);
+        }
+    }
+
+    @Override
+    public Optional<Classroom> findById(Integer classroomId) {
+        return database.classrooms.get(classroomId).map(this::withBuilding);
+    }
+
+    @Override
+    public Optional<Classroom> findByRoomNumber(String roomNumber) {
+        return database.classroomsByRoomNumber.findFirst(roomNumber).map(this::withBuilding);
+    }
+
+    @Override
+    public List<Classroom> findAll() {
+        return database.classrooms.rows().map(this::withBuilding).toList();
+    }
+
+    @Override
+    public void update(Classroom classroom) {
+        try {
+            int rowsAffected = database.write(() -> {
+                int updated = 0;
+                for (ClassroomRow row : database.classroomsByRoomNumber.find(classroom.getRoomNumber())) {
+                    boolean changed = database.classrooms.update(
+                        row.classroomId(),
+                        current -> toRow(current.classroomId(), classroom)
+                    );
+                    if (changed) {
+                        updated++;
+                    }
+                }
+                return updated;
+            });
+            if (rowsAffected > 0) {
+                LOGGER.info("Classroom updated successfully: {}", classroom.getRoomNumber());
+            } else {
+                LOGGER.warn("No classroom found with room number: {}", classroom.getRoomNumber());
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Failed to update classroom: {}", classroom.getRoomNumber(), e);
+            throw new RuntimeException("Failed to update classroom", e);
+        }
+    }
+
+    @Override
+    public void delete(Integer classroomId) {
+        try {
+            if (database.classrooms.delete(classroomId)) {
+                LOGGER.info("Classroom deleted successfully with ID: {}", classroomId);
+            } else {
+                LOGGER.warn("No classroom found with ID: {}", classroomId);
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Failed to delete classroom: {}", classroomId, e);
+            throw new RuntimeException("Failed to delete classroom", e);
+        }
+    }
+
+    private Classroom withBuilding(ClassroomRow row) {
+        Classroom classroom = toClassroom(row);
+
+        Integer buildingId = classroom.getBuildingId();
+        if (buildingId != null) {
+            Optional<Building> building = buildingDAO.findById(buildingId);
+            building.ifPresent(classroom::setBuilding);
+            if (building.isEmpty()) {
+                LOGGER.warn(
+                    "Classroom {} references non-existent building_id {}",
+                    classroom.getRoomNumber(),
+                    buildingId
+                );
+            }
+        }
+
+        return classroom;
+    }
+
+    private static ClassroomRow toRow(int classroomId, Classroom classroom) {
+        return new ClassroomRow(
+            classroomId,
+            classroom.getRoomNumber(),
+            classroom.getBuildingId(),
+            classroom.getCapacity(),
+            classroom.getRoomType(),
+            classroom.getScheduledStart(),
+            classroom.getScheduledEnd(),
+            classroom.getUniversityId()
+        );
+    }
+
+    static Classroom toClassroom(ClassroomRow row) {
+        Classroom classroom = new Classroom();
+        classroom.setClassroomId(row.classroomId());
+        classroom.setRoomNumber(row.roomNumber());
+        classroom.setBuildingId(row.buildingId());
+        classroom.setCapacity(row.capacity() != null ? row.capacity() : 0);
+        classroom.setRoomType(row.roomType());
+        classroom.setUniversityId(row.universityId());
+        if (row.scheduledStart() != null) {
+            classroom.schedule(row.scheduledStart(), row.scheduledEnd(), null);
+        }
+        return classroom;
+    }
+}
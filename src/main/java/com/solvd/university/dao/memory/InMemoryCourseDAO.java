@@ -0,0 +1,286 @@
+package com.solvd.university.dao.memory;
+
+import com.solvd.university.dao.impl.PartialUpdate;
+import com.solvd.university.dao.interfaces.CourseDAO;
+import com.solvd.university.dao.memory.InMemoryDatabase.CourseRow;
+import com.solvd.university.dao.memory.InMemoryDatabase.PersonRow;
+import com.solvd.university.dao.memory.InMemoryDatabase.ProfessorRow;
+import com.solvd.university.dao.memory.InMemoryDatabase.StaffRow;
+import com.solvd.university.model.Building;
+import com.solvd.university.model.Classroom;
+import com.solvd.university.model.Course;
+import com.solvd.university.model.CourseCriteria;
+import com.solvd.university.model.CourseDifficulty;
+import com.solvd.university.model.Department;
+import com.solvd.university.model.Professor;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class InMemoryCourseDAO implements CourseDAO {
+
+    private static final Logger LOGGER = LogManager.getLogger(InMemoryCourseDAO.class);
+    private final InMemoryDatabase database;
+
+    public InMemoryCourseDAO(InMemoryDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public void save(Course<?, ?> course) {
+        try {
+            course.setCourseId(database.courses.insert(id -> toRow(id, course)));
+            PartialUpdate.markWritten(course);
+            LOGGER.info("Course saved successfully with ID: {}", course.getCourseId());
+        } catch (SQLException e) {
+            LOGGER.error("Failed to save course: {}", course.getCourseCode(), e);
+            throw new RuntimeException("Failed to save course", e);
+        }
+    }
+
+    @Override
+    public Optional<Course<?, ?>> findById(String courseCode) {
+        return new Graph().load(database.coursesByCode.find(courseCode).stream()).stream().findFirst();
+    }
+
+    @Override
+    public List<Course<?, ?>> findAll() {
+        return new Graph().load(database.courses.rows());
+    }
+
+    @Override
+    public List<Course<?, ?>> findByCriteria(CourseCriteria criteria) {
+        Predicate<CourseRow> predicate = row -> true;
+        if (criteria.getDepartmentId() != null) {
+            predicate = predicate.and(row -> criteria.getDepartmentId().equals(row.departmentId()));
+        }
+        if (criteria.getProfessorId() != null) {
+            predicate = predicate.and(row -> criteria.getProfessorId().equals(row.professorId()));
+        }
+        if (criteria.getCourseDifficultyId() != null) {
+            predicate = predicate.and(row -> criteria.getCourseDifficultyId().equals(row.courseDifficultyId()));
+        }
+        if (criteria.getAfterCourseId() != null) {
+            predicate = predicate.and(row -> row.courseId() > criteria.getAfterCourseId());
+        }
+
+        Stream<CourseRow> rows = database.courses.rows().filter(predicate);
+        if (criteria.hasLimit()) {
+            rows = rows.limit(criteria.getLimit());
+        }
+        return new Graph().load(rows);
+    }
+
+    @Override
+    public void update(Course<?, ?> course) {
+        if (!course.getChanges().hasChanges()) {
+            LOGGER.debug("Course {} has no changes, skipping update", course.getCourseCode());
+            return;
+        }
+
+        try {
+            int updated = database.write(() -> {
+                List<CourseRow> matches = database.coursesByCode.find(course.getCourseCode());
+                for (CourseRow match : matches) {
+                    database.courses.update(match.courseId(), row -> toRow(row.courseId(), course));
+                }
+                return matches.size();
+            });
+            if (updated > 0) {
+                PartialUpdate.markWritten(course);
+                LOGGER.info("Course updated successfully: {}", course.getCourseCode());
+            } else {
+                LOGGER.warn("No course found with code: {}", course.getCourseCode());
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Failed to update course: {}", course.getCourseCode(), e);
+            throw new RuntimeException("Failed to update course", e);
+        }
+    }
+
+    @Override
+    public void delete(String courseCode) {
+        try {
+            int deleted = database.write(() -> {
+                List<CourseRow> matches = database.coursesByCode.find(courseCode);
+                for (CourseRow match : matches) {
+                    database.courses.delete(match.courseId());
+                }
+                return matches.size();
+            });
+            if (deleted > 0) {
+                LOGGER.info("Course deleted successfully: {}", courseCode);
+            } else {
+                LOGGER.warn("No course found with code: {}", courseCode);
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Failed to delete course: {}", courseCode, e);
+            throw new RuntimeException("Failed to delete course", e);
+        }
+    }
+
+    private static CourseRow toRow(int courseId, Course<?, ?> course) {
+        return new CourseRow(
+            courseId,
+            course.getCourseCode(),
+            course.getCourseName(),
+            course.getCreditHours(),
+            course.getProfessorId(),
+            course.getDepartmentId(),
+            course.getScheduledStart(),
+            course.getScheduledEnd(),
+            course.getClassroomId(),
+            course.getCourseDifficultyId(),
+            course.getUniversityId()
+        );
+    }
+
+    // Shares each referenced row between the courses, like CourseGraphLoader does for JDBC
+    private final class Graph {
+
+        private final Map<Integer, Optional<Professor>> professors = new HashMap<>();
+        private final Map<Integer, Optional<Classroom>> classrooms = new HashMap<>();
+        private final Map<Integer, Optional<Department<?>>> departments = new HashMap<>();
+        private final Map<Integer, Optional<Building>> buildings = new HashMap<>();
+
+        List<Course<?, ?>> load(Stream<CourseRow> rows) {
+            return rows.<Course<?, ?>>map(this::toCourse).toList();
+        }
+
+        @SuppressWarnings("unchecked")
+        private Course<Object, Department<Object>> toCourse(CourseRow row) {
+            Course<Object, Department<Object>> course = new Course<>();
+            course.setCourseId(row.courseId());
+            course.setCourseCode(row.courseCode());
+            course.setCourseName(row.courseName());
+            course.setCreditHours(row.creditHours() != null ? row.creditHours() : 0);
+            course.setProfessorId(row.professorId());
+            course.setDepartmentId(row.departmentId());
+            course.setClassroomId(row.classroomId());
+            course.setUniversityId(row.universityId());
+            course.setCourseDifficultyId(row.courseDifficultyId());
+            if (row.startAt() != null) {
+                course.setScheduledStart(row.startAt());
+            }
+            if (row.endAt() != null) {
+                course.setScheduledEnd(row.endAt());
+            }
+            database.courseDifficulties
+                .get(row.courseDifficultyId())
+                .filter(difficulty -> difficulty.displayName() != null)
+                .ifPresent(difficulty ->
+                    course.setDifficulty(
+                        new CourseDifficulty(
+                            difficulty.courseDifficultyId(),
+                            difficulty.displayName(),
+                            difficulty.level() != null ? difficulty.level() : 0
+                        )
+                    )
+                );
+
+            if (row.departmentId() != null) {
+                Optional<Department<?>> department = department(row.departmentId());
+                department.ifPresent(found -> course.setDepartment((Department<Object>) found));
+                if (department.isEmpty()) {
+                    LOGGER.warn(
+                        "Course {} references non-existent department_id {}",
+                        row.courseCode(),
+                        row.departmentId()
+                    );
+                }
+            }
+            if (row.professorId() != null) {
+                Optional<Professor> professor = professor(row.professorId());
+                professor.ifPresent(course::setProfessor);
+                if (professor.isEmpty()) {
+                    LOGGER.warn(
+                        "Course {} references non-existent professor_id {}",
+                        row.courseCode(),
+                        row.professorId()
+                    );
+                }
+            }
+            if (row.classroomId() != null) {
+                Optional<Classroom> classroom = classroom(row.classroomId());
+                classroom.ifPresent(course::setClassroom);
+                if (classroom.isEmpty()) {
+                    LOGGER.warn(
+                        "Course {} references non-existent classroom_id {}",
+                        row.courseCode(),
+                        row.classroomId()
+                    );
+                }
+            }
+            course.getChanges().markClean();
+            return course;
+        }
+
+        private Optional<Professor> professor(Integer professorId) {
+            return professors.computeIfAbsent(professorId, id -> {
+                Optional<ProfessorRow> row = database.professors.get(id);
+                Optional<PersonRow> person = row.flatMap(found -> database.persons.get(found.personId()));
+                Optional<StaffRow> staff = row.flatMap(found -> database.staffByPerson.findFirst(found.personId()));
+                if (person.isEmpty() || staff.isEmpty()) {
+                    return Optional.empty();
+                }
+                Professor professor = InMemoryProfessorDAO.professorColumns(row.get(), person.get(), staff.get());
+                Integer departmentId = professor.getDepartmentId();
+                if (departmentId != null) {
+                    Optional<Department<?>> department = department(departmentId);
+                    department.ifPresent(professor::setDepartment);
+                    if (department.isEmpty()) {
+                        LOGGER.warn(
+                            "Professor {} references non-existent department_id {}",
+                            professor.getFullName(),
+                            departmentId
+                        );
+                    }
+                }
+                return Optional.of(professor);
+            });
+        }
+
+        private Optional<Classroom> classroom(Integer classroomId) {
+            return classrooms.computeIfAbsent(classroomId, id ->
+                database.classrooms
+                    .get(id)
+                    .map(row -> {
+                        Classroom classroom = InMemoryClassroomDAO.toClassroom(row);
+                        Integer buildingId = classroom.getBuildingId();
+                        if (buildingId != null) {
+                            Optional<Building> building = building(buildingId);
+                            building.ifPresent(classroom::setBuilding);
+                            if (building.isEmpty()) {
+                                LOGGER.warn(
+                                    "Classroom {} references non-existent building_id {}",
+                                    classroom.getRoomNumber(),
+                                    buildingId
+                                );
+                            }
+                        }
+                        return classroom;
+                    })
+            );
+        }
+
+        private Optional<Department<?>> department(Integer departmentId) {
+            return departments.computeIfAbsent(
+                departmentId,
+                id -> database.departments.get(id).map(InMemoryDepartmentDAO::toDepartment)
+            );
+        }
+
+        private Optional<Building> building(Integer buildingId) {
+            return buildings.computeIfAbsent(
+                buildingId,
+                id -> database.buildings.get(id).map(InMemoryBuildingDAO::toBuilding)
+            );
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.solvd.university.dao.memory;
+
+import com.solvd.university.dao.interfaces.CourseDifficultyDAO;
+import com.solvd.university.dao.memory.InMemoryDatabase.CourseDifficultyRow;
+import com.solvd.university.model.CourseDifficulty;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class InMemoryCourseDifficultyDAO implements CourseDifficultyDAO {
+
+    private static final Logger LOGGER = LogManager.getLogger(InMemoryCourseDifficultyDAO.class);
+    private static final Comparator<CourseDifficultyRow> BY_LEVEL = Comparator.comparing(
+        CourseDifficultyRow::level,
+        Comparator.nullsFirst(Comparator.naturalOrder())
+    );
+    private final InMemoryDatabase database;
+
+    public InMemoryCourseDifficultyDAO(InMemoryDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public Optional<CourseDifficulty> findById(Integer courseDifficultyId) {
+        return database.courseDifficulties.get(courseDifficultyId).map(InMemoryCourseDifficultyDAO::toDifficulty);
+    }
+
+    @Override
+    public Optional<CourseDifficulty> findByDisplayName(String displayName) {
+        return database.courseDifficultiesByName.findFirst(displayName).map(InMemoryCourseDifficultyDAO::toDifficulty);
+    }
+
+    @Override
+    public Optional<CourseDifficulty> findByLevel(int level) {
+        return database.courseDifficultiesByLevel.findFirst(level).map(InMemoryCourseDifficultyDAO::toDifficulty);
+    }
+
+    @Override
+    public List<CourseDifficulty> findAll() {
+        return database.courseDifficulties
+            .rows()
+            .sorted(BY_LEVEL)
+            .map(InMemoryCourseDifficultyDAO::toDifficulty)
+            .toList();
+    }
+
+    @Override
+    public void save(CourseDifficulty difficulty) {
+        try {
+            int courseDifficultyId = database.courseDifficulties.insert(id ->
+                new CourseDifficultyRow(id, difficulty.getDisplayName(), difficulty.getLevel())
+            );
+            difficulty.setCourseDifficultyId(courseDifficultyId);
+            LOGGER.info("Course difficulty saved successfully with ID: {}", courseDifficultyId);
+        } catch (SQLException e) {
+            LOGGER.error("Error saving course difficulty: {}", difficulty.getDisplayName(), e);
+            throw new RuntimeException("Failed to save course difficulty", e);
+        }
+    }
+
+    @Override
+    public void update(CourseDifficulty difficulty) {
+        try {
+            boolean updated = database.courseDifficulties.update(
+                difficulty.getCourseDifficultyId(),
+                row ->
+                    new CourseDifficultyRow(
+                        row.courseDifficultyId(),
+                        difficulty.getDisplayName(),
+                        difficulty.getLevel()
+                    )
+            );
+            if (updated) {
+                LOGGER.info("Course difficulty updated successfully with ID: {}", difficulty.getCourseDifficultyId());
+            } else {
+                LOGGER.warn("No course difficulty found with ID: {}", difficulty.getCourseDifficultyId());
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error updating course difficulty: {}", difficulty.getCourseDifficultyId(), e);
+            throw new RuntimeException("Failed to update course difficulty", e);
+        }
+    }
+
+    @Override
+    public void delete(Integer courseDifficultyId) {
+        try {
+            if (database.courseDifficulties.delete(courseDifficultyId)) {
+                LOGGER.info("Course difficulty deleted successfully with ID: {}", courseDifficultyId);
+            } else {
+                LOGGER.warn("No course difficulty found with ID: {}", courseDifficultyId);
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error deleting course difficulty: {}", courseDifficultyId, e);
+            throw new RuntimeException("Failed to delete course difficulty", e);
+        }
+    }
+
+    private static CourseDifficulty toDifficulty(CourseDifficultyRow row) {
+        CourseDifficulty difficulty = new CourseDifficulty();
+        difficulty.setCourseDifficultyId(row.courseDifficultyId());
+        difficulty.setDisplayName(row.displayName());
+        difficulty.setLevel(row.level() != null ? row.level() : 0);
+        return difficulty;
+    }
+}
@@ -0,0 +1,149 @@
+package com.solvd.university.dao.memory;
+
+import com.solvd.university.dao.interfaces.CourseGradeDAO;
+import com.solvd.university.dao.memory.InMemoryDatabase.CourseGradeRow;
+import com.solvd.university.model.CourseGrade;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class InMemoryCourseGradeDAO implements CourseGradeDAO {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final Comparator<CourseGradeRow> BY_RECORDED_AT = Comparator.comparing(
+        CourseGradeRow::recordedAt,
+        Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder())
+    );
+    private static final Comparator<CourseGradeRow> BY_SEMESTER = Comparator
+        .comparing(CourseGradeRow::semester, Comparator.nullsFirst(Comparator.<Integer>naturalOrder()))
+        .thenComparing(BY_RECORDED_AT);
+    private static final Comparator<CourseGradeRow> BY_COURSE = Comparator
+        .comparing(CourseGradeRow::courseId, Comparator.nullsFirst(Comparator.<Integer>naturalOrder()))
+        .thenComparing(BY_SEMESTER);
+    private final InMemoryDatabase database;
+
+    public InMemoryCourseGradeDAO(InMemoryDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public void save(CourseGrade grade) {
+        try {
+            grade.setCourseGradeId(database.courseGrades.insert(id -> toRow(id, grade)));
+            LOGGER.info("Course grade saved successfully with ID: {}", grade.getCourseGradeId());
+        } catch (SQLException e) {
+            LOGGER.error("Error saving course grade: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to save course grade", e);
+        }
+    }
+
+    @Override
+    public void saveAll(List<CourseGrade> grades) {
+        if (grades.isEmpty()) {
+            return;
+        }
+
+        try {
+            database.write(() -> {
+                for (CourseGrade grade : grades) {
+                    grade.setCourseGradeId(database.courseGrades.insert(id -> toRow(id, grade)));
+                }
+                return null;
+            });
+            LOGGER.info("Saved {} course grades in one batch", grades.size());
+        } catch (SQLException e) {
+            LOGGER.error("Error saving course grades batch: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to save course grades", e);
+        }
+    }
+
+    @Override
+    public CourseGrade findById(Integer id) {
+        return database.courseGrades.get(id).map(InMemoryCourseGradeDAO::toGrade).orElse(null);
+    }
+
+    @Override
+    public List<CourseGrade> findAll() {
+        return database.courseGrades.rows().sorted(BY_COURSE).map(InMemoryCourseGradeDAO::toGrade).toList();
+    }
+
+    @Override
+    public List<CourseGrade> findByCourseId(Integer courseId) {
+        List<CourseGrade> grades = database.courseGradesByCourse
+            .find(courseId)
+            .stream()
+            .sorted(BY_SEMESTER)
+            .map(InMemoryCourseGradeDAO::toGrade)
+            .toList();
+        LOGGER.info("Found {} grades for course ID {}", grades.size(), courseId);
+        return grades;
+    }
+
+    @Override
+    public List<CourseGrade> findByCourseIdAndSemester(Integer courseId, Integer semester) {
+        List<CourseGrade> grades = database.courseGradesByCourse
+            .find(courseId)
+            .stream()
+            .filter(row -> semester != null && semester.equals(row.semester()))
+            .sorted(BY_RECORDED_AT)
+            .map(InMemoryCourseGradeDAO::toGrade)
+            .toList();
+        LOGGER.info("Found {} grades for course ID {} in semester {}", grades.size(), courseId, semester);
+        return grades;
+    }
+
+    @Override
+    public void update(CourseGrade grade) {
+        try {
+            if (database.courseGrades.update(grade.getCourseGradeId(), row -> toRow(row.courseGradeId(), grade))) {
+                LOGGER.info("Course grade updated successfully: ID {}", grade.getCourseGradeId());
+            } else {
+                LOGGER.warn("No course grade found with ID {} to update", grade.getCourseGradeId());
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error updating course grade: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to update course grade", e);
+        }
+    }
+
+    @Override
+    public void delete(Integer id) {
+        try {
+            if (database.courseGrades.delete(id)) {
+                LOGGER.info("Course grade deleted successfully: ID {}", id);
+            } else {
+                LOGGER.warn("No course grade found with ID {} to delete", id);
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error deleting course grade: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to delete course grade", e);
+        }
+    }
+
+    private static CourseGradeRow toRow(int courseGradeId, CourseGrade grade) {
+        return new CourseGradeRow(
+            courseGradeId,
+            Objects.requireNonNull(grade.getCourseId()),
+            grade.getSubject(),
+            Objects.requireNonNull(grade.getValue()),
+            Objects.requireNonNull(grade.getSemester()),
+            Objects.requireNonNull(grade.getRecordedAt())
+        );
+    }
+
+    private static CourseGrade toGrade(CourseGradeRow row) {
+        CourseGrade grade = new CourseGrade(
+            row.courseId(),
+            row.subject(),
+            row.value(),
+            row.semester(),
+            row.recordedAt()
+        );
+        grade.setCourseGradeId(row.courseGradeId());
+        return grade;
+    }
+}
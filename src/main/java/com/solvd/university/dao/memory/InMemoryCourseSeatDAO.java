@@ -0,0 +1,145 @@
+package com.solvd.university.dao.memory;
+
+import com.solvd.university.dao.interfaces.CourseSeatDAO;
+import com.solvd.university.dao.memory.InMemoryDatabase.ClassroomRow;
+import com.solvd.university.dao.memory.InMemoryDatabase.CourseRegistrationKey;
+import com.solvd.university.dao.memory.InMemoryDatabase.CourseRegistrationRow;
+import com.solvd.university.dao.memory.InMemoryDatabase.CourseRow;
+import com.solvd.university.dao.memory.InMemoryDatabase.CourseSeatRow;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class InMemoryCourseSeatDAO implements CourseSeatDAO {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final String RESERVED = "RESERVED";
+    private static final String CONFIRMED = "CONFIRMED";
+
+    private final InMemoryDatabase database;
+
+    public InMemoryCourseSeatDAO(InMemoryDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public int openSeats(Integer courseId) {
+        try {
+            return database.write(() -> {
+                Optional<CourseRow> course = database.courses.get(courseId);
+                if (course.isPresent() && !database.courseSeats.contains(courseId)) {
+                    database.courseSeats.insert(new CourseSeatRow(courseId, capacityOf(course.get().classroomId()), 0));
+                }
+                return database.courseSeats
+                    .get(courseId)
+                    .map(seats -> Math.max(seats.capacity() - seats.taken(), 0))
+                    .orElse(0);
+            });
+        } catch (SQLException e) {
+            LOGGER.error("Error opening seats for course {}: {}", courseId, e.getMessage(), e);
+            throw new RuntimeException("Failed to open course seats", e);
+        }
+    }
+
+    @Override
+    public boolean reserve(Integer courseId, Integer studentId) {
+        try {
+            return database.write(() -> {
+                CourseSeatRow seats = database.courseSeats.get(courseId).orElse(null);
+                if (seats == null || seats.taken() >= seats.capacity()) {
+                    LOGGER.debug("Course {} has no free seat for student {}", courseId, studentId);
+                    return false;
+                }
+                if (database.courseRegistrations.contains(new CourseRegistrationKey(courseId, studentId))) {
+                    LOGGER.warn("Student {} already holds a seat in course {}", studentId, courseId);
+                    return false;
+                }
+                database.courseRegistrations.insert(
+                    new CourseRegistrationRow(courseId, studentId, RESERVED, LocalDateTime.now(), null)
+                );
+                database.courseSeats.update(courseId, row -> row.withTaken(row.taken() + 1));
+                return true;
+            });
+        } catch (SQLException e) {
+            LOGGER.error("Error reserving seat in course {}: {}", courseId, e.getMessage(), e);
+            throw new RuntimeException("Failed to reserve a seat", e);
+        }
+    }
+
+    @Override
+    public boolean confirm(Integer courseId, Integer studentId) {
+        CourseRegistrationKey key = new CourseRegistrationKey(courseId, studentId);
+        try {
+            return database.write(() -> {
+                CourseRegistrationRow registration = database.courseRegistrations.get(key).orElse(null);
+                if (registration == null || !RESERVED.equals(registration.status())) {
+                    return false;
+                }
+                return database.courseRegistrations.update(key, row ->
+                    new CourseRegistrationRow(courseId, studentId, CONFIRMED, row.reservedAt(), LocalDateTime.now())
+                );
+            });
+        } catch (SQLException e) {
+            LOGGER.error("Error confirming seat in course {}: {}", courseId, e.getMessage(), e);
+            throw new RuntimeException("Failed to confirm course seat", e);
+        }
+    }
+
+    @Override
+    public boolean release(Integer courseId, Integer studentId) {
+        try {
+            return database.write(() -> {
+                if (!database.courseRegistrations.delete(new CourseRegistrationKey(courseId, studentId))) {
+                    return false;
+                }
+                returnSeats(courseId, 1);
+                return true;
+            });
+        } catch (SQLException e) {
+            LOGGER.error("Error releasing seat in course {}: {}", courseId, e.getMessage(), e);
+            throw new RuntimeException("Failed to release a seat", e);
+        }
+    }
+
+    @Override
+    public Map<Integer, Integer> releaseExpired(LocalDateTime reservedBefore) {
+        try {
+            Map<Integer, Integer> released = database.write(() -> {
+                List<CourseRegistrationRow> expired = database.courseRegistrations
+                    .rows()
+                    .filter(row -> RESERVED.equals(row.status()) && row.reservedAt().isBefore(reservedBefore))
+                    .toList();
+
+                Map<Integer, Integer> perCourse = new TreeMap<>();
+                for (CourseRegistrationRow row : expired) {
+                    database.courseRegistrations.delete(CourseRegistrationKey.of(row));
+                    perCourse.merge(row.courseId(), 1, Integer::sum);
+                }
+                for (Map.Entry<Integer, Integer> course : perCourse.entrySet()) {
+                    returnSeats(course.getKey(), course.getValue());
+                }
+                return perCourse;
+            });
+            if (!released.isEmpty()) {
+                LOGGER.info("Released expired seat reservations: {}", released);
+            }
+            return released;
+        } catch (SQLException e) {
+            LOGGER.error("Error releasing expired seat reservations: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to release expired reservations", e);
+        }
+    }
+
+    private int capacityOf(Integer classroomId) {
+        return database.classrooms.get(classroomId).map(ClassroomRow::capacity).orElse(0);
+    }
+
+    private void returnSeats(Integer courseId, int seats) throws SQLException {
+        database.courseSeats.update(courseId, row -> row.withTaken(Math.max(row.taken() - seats, 0)));
+    }
+}
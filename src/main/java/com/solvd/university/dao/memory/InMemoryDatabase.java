@@ -0,0 +1,495 @@
+package com.solvd.university.dao.memory;
+
+import com.solvd.university.model.CourseDifficulty;
+import com.solvd.university.model.EnrollmentStatus;
+import com.solvd.university.model.GradeLevel;
+import com.solvd.university.model.GradeScope;
+import com.solvd.university.model.GradeSummary;
+import com.solvd.university.util.TransactionManager;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+// Reads are lock-free; writes hold one lock until the surrounding transaction completes
+public final class InMemoryDatabase {
+
+    private static final Logger LOGGER = LogManager.getLogger(InMemoryDatabase.class);
+    private static InMemoryDatabase instance;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ThreadLocal<Deque<Runnable>> journal = new ThreadLocal<>();
+
+    final Table<Integer, UniversityRow> universities = new Table<>(
+        this,
+        "university",
+        "university_id",
+        UniversityRow::universityId
+    );
+    final Table<Integer, BuildingRow> buildings = new Table<>(this, "building", "building_id", BuildingRow::buildingId);
+    final Table<Integer, ClassroomRow> classrooms = new Table<>(
+        this,
+        "classroom",
+        "classroom_id",
+        ClassroomRow::classroomId
+    );
+    final Table<Integer, PersonRow> persons = new Table<>(this, "person", "person_id", PersonRow::personId);
+    final Table<Integer, DepartmentRow> departments = new Table<>(
+        this,
+        "department",
+        "department_id",
+        DepartmentRow::departmentId
+    );
+    final Table<Integer, StaffRow> staff = new Table<>(this, "staff", "staff_id", StaffRow::staffId);
+    final Table<Integer, ProfessorRow> professors = new Table<>(
+        this,
+        "professor",
+        "professor_id",
+        ProfessorRow::professorId
+    );
+    final Table<Integer, CourseDifficultyRow> courseDifficulties = new Table<>(
+        this,
+        "course_difficulty",
+        "course_difficulty_id",
+        CourseDifficultyRow::courseDifficultyId
+    );
+    final Table<Integer, CourseRow> courses = new Table<>(this, "course", "course_id", CourseRow::courseId);
+    final Table<Integer, CourseGradeRow> courseGrades = new Table<>(
+        this,
+        "course_grade",
+        "course_grade_id",
+        CourseGradeRow::courseGradeId
+    );
+    final Table<Integer, ProgramRow> programs = new Table<>(this, "program", "program_id", ProgramRow::programId);
+    final Table<Integer, EnrollmentStatusRow> enrollmentStatuses = new Table<>(
+        this,
+        "enrollment_status",
+        "enrollment_status_id",
+        EnrollmentStatusRow::enrollmentStatusId
+    );
+    final Table<Integer, GradeLevelRow> gradeLevels = new Table<>(
+        this,
+        "grade_level",
+        "grade_level_id",
+        GradeLevelRow::gradeLevelId
+    );
+    final Table<Integer, StudentRow> students = new Table<>(this, "student", "student_id", StudentRow::studentId);
+    final Table<Integer, EnrollmentRow> enrollments = new Table<>(
+        this,
+        "enrollment",
+        "enrollment_id",
+        EnrollmentRow::enrollmentId
+    );
+    final Table<Integer, StudentGradeRow> studentGrades = new Table<>(
+        this,
+        "student_grade",
+        "student_grade_id",
+        StudentGradeRow::studentGradeId
+    );
+    final Table<Integer, LedgerRow> paymentLedger = new Table<>(
+        this,
+        "payment_ledger",
+        "ledger_id",
+        LedgerRow::ledgerId
+    );
+    final Table<Integer, BalanceSnapshotRow> balanceSnapshots = new Table<>(
+        this,
+        "balance_snapshot",
+        "student_id",
+        BalanceSnapshotRow::studentId
+    );
+    final Table<Integer, CourseSeatRow> courseSeats = new Table<>(
+        this,
+        "course_seat",
+        "course_id",
+        CourseSeatRow::courseId
+    );
+    final Table<CourseRegistrationKey, CourseRegistrationRow> courseRegistrations = new Table<>(
+        this,
+        "course_registration",
+        "course_id",
+        CourseRegistrationKey::of
+    );
+    final Table<GradeSummaryKey, GradeSummary> gradeSummaries = new Table<>(
+        this,
+        "grade_summary",
+        "scope",
+        GradeSummaryKey::of
+    );
+
+    final Table<Integer, UniversityRow>.Index<String> universitiesByName = universities.index(UniversityRow::name);
+    final Table<Integer, BuildingRow>.Index<String> buildingsByName = buildings.index(BuildingRow::name);
+    final Table<Integer, ClassroomRow>.Index<String> classroomsByRoomNumber = classrooms.index(
+        ClassroomRow::roomNumber
+    );
+    final Table<Integer, PersonRow>.Index<String> personsByEmail = persons.index(PersonRow::email);
+    final Table<Integer, PersonRow>.Index<String> personsByLastName = persons.index(PersonRow::lastName);
+    final Table<Integer, DepartmentRow>.Index<String> departmentsByCode = departments.index(DepartmentRow::code);
+    final Table<Integer, CourseDifficultyRow>.Index<String> courseDifficultiesByName = courseDifficulties.index(
+        CourseDifficultyRow::displayName
+    );
+    final Table<Integer, CourseDifficultyRow>.Index<Integer> courseDifficultiesByLevel = courseDifficulties.index(
+        CourseDifficultyRow::level
+    );
+    final Table<Integer, CourseRow>.Index<String> coursesByCode = courses.index(CourseRow::courseCode);
+    final Table<Integer, ProgramRow>.Index<String> programsByName = programs.index(ProgramRow::name);
+    final Table<Integer, EnrollmentStatusRow>.Index<String> enrollmentStatusesByName = enrollmentStatuses.index(
+        EnrollmentStatusRow::displayName
+    );
+    final Table<Integer, GradeLevelRow>.Index<String> gradeLevelsByName = gradeLevels.index(
+        GradeLevelRow::displayName
+    );
+    final Table<Integer, GradeLevelRow>.Index<Integer> gradeLevelsByYear = gradeLevels.index(GradeLevelRow::year);
+    final Table<Integer, StudentRow>.Index<Integer> studentsByNumber = students.index(StudentRow::studentNumber);
+    final Table<Integer, StudentRow>.Index<Integer> studentsByPerson = students.index(StudentRow::personId);
+    final Table<Integer, StaffRow>.Index<Integer> staffByPerson = staff.index(StaffRow::personId);
+    final Table<Integer, StaffRow>.Index<Integer> staffByDepartment = staff.index(StaffRow::departmentId);
+    final Table<Integer, BuildingRow>.Index<Integer> buildingsByUniversity = buildings.index(
+        BuildingRow::universityId
+    );
+    final Table<Integer, DepartmentRow>.Index<Integer> departmentsByUniversity = departments.index(
+        DepartmentRow::universityId
+    );
+    final Table<Integer, ProgramRow>.Index<Integer> programsByDepartment = programs.index(ProgramRow::departmentId);
+    final Table<Integer, EnrollmentRow>.Index<Integer> enrollmentsByStudent = enrollments.index(
+        EnrollmentRow::studentId
+    );
+    final Table<Integer, StudentGradeRow>.Index<Integer> studentGradesByStudent = studentGrades.index(
+        StudentGradeRow::studentId
+    );
+    final Table<Integer, CourseGradeRow>.Index<Integer> courseGradesByCourse = courseGrades.index(
+        CourseGradeRow::courseId
+    );
+    final Table<Integer, LedgerRow>.Index<Integer> ledgerByStudent = paymentLedger.index(LedgerRow::studentId);
+
+    private final List<Table<?, ?>> tables = List.of(
+        universities,
+        buildings,
+        classrooms,
+        persons,
+        departments,
+        staff,
+        professors,
+        courseDifficulties,
+        courses,
+        courseGrades,
+        programs,
+        enrollmentStatuses,
+        gradeLevels,
+        students,
+        enrollments,
+        studentGrades,
+        paymentLedger,
+        balanceSnapshots,
+        courseSeats,
+        courseRegistrations,
+        gradeSummaries
+    );
+
+    public InMemoryDatabase() {
+        buildings.foreignKey("university_id", BuildingRow::universityId, universities);
+        classrooms.foreignKey("building_id", ClassroomRow::buildingId, buildings);
+        persons
+            .foreignKey("university_id", PersonRow::universityId, universities)
+            .foreignKey("professor_id", PersonRow::professorId, professors)
+            .foreignKey("student_id", PersonRow::studentId, students)
+            .foreignKey("staff_id", PersonRow::staffId, staff);
+        departments.foreignKey("university_id", DepartmentRow::universityId, universities);
+        staff
+            .foreignKey("person_id", StaffRow::personId, persons)
+            .foreignKey("department_id", StaffRow::departmentId, departments);
+        professors
+            .foreignKey("department_id", ProfessorRow::departmentId, departments)
+            .foreignKey("person_id", ProfessorRow::personId, persons);
+        courses
+            .foreignKey("classroom_id", CourseRow::classroomId, classrooms)
+            .foreignKey("department_id", CourseRow::departmentId, departments)
+            .foreignKey("course_difficulty_id", CourseRow::courseDifficultyId, courseDifficulties);
+        courseGrades.foreignKey("course_id", CourseGradeRow::courseId, courses);
+        programs.foreignKey("department_id", ProgramRow::departmentId, departments);
+        students
+            .foreignKey("enrollment_status_id", StudentRow::enrollmentStatusId, enrollmentStatuses)
+            .foreignKey("grade_level_id", StudentRow::gradeLevelId, gradeLevels)
+            .foreignKey("person_id", StudentRow::personId, persons);
+        enrollments
+            .foreignKey("student_id", EnrollmentRow::studentId, students)
+            .foreignKey("program_id", EnrollmentRow::programId, programs)
+            .foreignKey("enrollment_status_id", EnrollmentRow::enrollmentStatusId, enrollmentStatuses);
+        studentGrades.foreignKey("student_id", StudentGradeRow::studentId, students);
+        paymentLedger.foreignKey("student_id", LedgerRow::studentId, students);
+        balanceSnapshots.foreignKey("student_id", BalanceSnapshotRow::studentId, students);
+        courseSeats.foreignKey("course_id", CourseSeatRow::courseId, courses);
+        courseRegistrations
+            .foreignKey("course_id", CourseRegistrationRow::courseId, courses)
+            .foreignKey("student_id", CourseRegistrationRow::studentId, students);
+    }
+
+    public static synchronized InMemoryDatabase getInstance() {
+        if (instance == null) {
+            instance = new InMemoryDatabase();
+        }
+        return instance;
+    }
+
+    public void clear() {
+        writeLock.lock();
+        try {
+            tables.forEach(Table::truncate);
+            LOGGER.info("In-memory database cleared");
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void seedReferenceData() throws SQLException {
+        write(() -> {
+            for (EnrollmentStatus status : List.of(
+                EnrollmentStatus.APPLIED,
+                EnrollmentStatus.ENROLLED,
+                EnrollmentStatus.WITHDRAWN
+            )) {
+                enrollmentStatuses.upsert(
+                    new EnrollmentStatusRow(
+                        status.getEnrollmentStatusId(),
+                        status.getDisplayName(),
+                        status.getDescription()
+                    )
+                );
+            }
+            for (GradeLevel level : List.of(
+                GradeLevel.FRESHMAN,
+                GradeLevel.SOPHOMORE,
+                GradeLevel.JUNIOR,
+                GradeLevel.SENIOR,
+                GradeLevel.GRADUATE
+            )) {
+                gradeLevels.upsert(new GradeLevelRow(level.getGradeLevelId(), level.getDisplayName(), level.getYear()));
+            }
+            for (CourseDifficulty difficulty : List.of(
+                CourseDifficulty.INTRODUCTORY,
+                CourseDifficulty.INTERMEDIATE,
+                CourseDifficulty.ADVANCED,
+                CourseDifficulty.GRADUATE
+            )) {
+                courseDifficulties.upsert(
+                    new CourseDifficultyRow(
+                        difficulty.getCourseDifficultyId(),
+                        difficulty.getDisplayName(),
+                        difficulty.getLevel()
+                    )
+                );
+            }
+            return null;
+        });
+    }
+
+    <T> T write(Work<T> work) throws SQLException {
+        if (TransactionManager.isReadOnly()) {
+            throw new SQLException("Connection is read-only. Queries leading to data modification are not allowed");
+        }
+
+        writeLock.lock();
+        boolean heldByTransaction =
+            writeLock.getHoldCount() == 1 && TransactionManager.registerCompletionAction(writeLock::unlock);
+        Deque<Runnable> undo = journal.get();
+        boolean outermost = undo == null;
+        if (outermost) {
+            undo = new ArrayDeque<>();
+            journal.set(undo);
+        }
+        try {
+            T result = work.run();
+            if (outermost) {
+                Iterator<Runnable> applied = undo.descendingIterator();
+                while (applied.hasNext()) {
+                    TransactionManager.registerRollbackAction(applied.next());
+                }
+            }
+            return result;
+        } catch (SQLException | RuntimeException | Error e) {
+            if (outermost) {
+                undo.forEach(Runnable::run);
+            }
+            throw e;
+        } finally {
+            if (outermost) {
+                journal.remove();
+            }
+            if (!heldByTransaction) {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    void recordUndo(Runnable action) {
+        journal.get().push(action);
+    }
+
+    @FunctionalInterface
+    interface Work<T> {
+        T run() throws SQLException;
+    }
+
+    record UniversityRow(Integer universityId, String name) {}
+
+    record BuildingRow(Integer buildingId, String name, Integer universityId) {}
+
+    record ClassroomRow(
+        Integer classroomId,
+        String roomNumber,
+        Integer buildingId,
+        Integer capacity,
+        String roomType,
+        LocalDateTime scheduledStart,
+        LocalDateTime scheduledEnd,
+        Integer universityId
+    ) {}
+
+    record PersonRow(
+        Integer personId,
+        String firstName,
+        String lastName,
+        String email,
+        Integer universityId,
+        Integer professorId,
+        Integer studentId,
+        Integer staffId
+    ) {}
+
+    record DepartmentRow(Integer departmentId, String name, String code, Integer universityId) {}
+
+    record StaffRow(Integer staffId, Integer departmentId, String title, Integer personId) {}
+
+    record ProfessorRow(Integer professorId, Integer departmentId, Integer personId) {}
+
+    record CourseDifficultyRow(Integer courseDifficultyId, String displayName, Integer level) {}
+
+    record CourseRow(
+        Integer courseId,
+        String courseCode,
+        String courseName,
+        Integer creditHours,
+        Integer professorId,
+        Integer departmentId,
+        LocalDateTime startAt,
+        LocalDateTime endAt,
+        Integer classroomId,
+        Integer courseDifficultyId,
+        Integer universityId
+    ) {}
+
+    record CourseGradeRow(
+        Integer courseGradeId,
+        Integer courseId,
+        String subject,
+        Double value,
+        Integer semester,
+        LocalDateTime recordedAt
+    ) {}
+
+    record ProgramRow(
+        Integer programId,
+        String name,
+        Integer durationYears,
+        Double price,
+        Integer departmentId,
+        Integer universityId
+    ) {}
+
+    record EnrollmentStatusRow(Integer enrollmentStatusId, String displayName, String description) {}
+
+    record GradeLevelRow(Integer gradeLevelId, String displayName, Integer year) {}
+
+    record StudentRow(
+        Integer studentId,
+        Integer age,
+        Integer studentNumber,
+        Boolean registered,
+        BigDecimal balance,
+        Integer enrollmentStatusId,
+        Integer gradeLevelId,
+        Integer personId
+    ) {
+        StudentRow withBalance(BigDecimal next) {
+            return new StudentRow(
+                studentId,
+                age,
+                studentNumber,
+                registered,
+                next,
+                enrollmentStatusId,
+                gradeLevelId,
+                personId
+            );
+        }
+    }
+
+    record EnrollmentRow(
+        Integer enrollmentId,
+        Integer studentId,
+        Integer programId,
+        LocalDate enrollmentDate,
+        Integer enrollmentStatusId
+    ) {}
+
+    record StudentGradeRow(Integer studentGradeId, Integer studentId, String subject, Double value, Integer semester) {}
+
+    record LedgerRow(Integer ledgerId, Integer studentId, BigDecimal amount, LocalDateTime recordedAt) {}
+
+    record BalanceSnapshotRow(Integer studentId, BigDecimal balance, Integer lastLedgerId, LocalDateTime takenAt) {}
+
+    record CourseSeatRow(Integer courseId, Integer capacity, Integer taken) {
+        CourseSeatRow withTaken(int next) {
+            return new CourseSeatRow(courseId, capacity, next);
+        }
+    }
+
+    record CourseRegistrationRow(
+        Integer courseId,
+        Integer studentId,
+        String status,
+        LocalDateTime reservedAt,
+        LocalDateTime confirmedAt
+    ) {}
+
+    record CourseRegistrationKey(Integer courseId, Integer studentId) implements Comparable<CourseRegistrationKey> {
+
+        private static final Comparator<CourseRegistrationKey> ORDER = Comparator
+            .comparing(CourseRegistrationKey::courseId)
+            .thenComparing(CourseRegistrationKey::studentId);
+
+        static CourseRegistrationKey of(CourseRegistrationRow row) {
+            return new CourseRegistrationKey(row.courseId(), row.studentId());
+        }
+
+        @Override
+        public int compareTo(CourseRegistrationKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    record GradeSummaryKey(GradeScope scope, Integer scopeId, int semester) implements Comparable<GradeSummaryKey> {
+
+        private static final Comparator<GradeSummaryKey> ORDER = Comparator
+            .comparing(GradeSummaryKey::scope)
+            .thenComparing(GradeSummaryKey::scopeId)
+            .thenComparingInt(GradeSummaryKey::semester);
+
+        static GradeSummaryKey of(GradeSummary summary) {
+            return new GradeSummaryKey(summary.scope(), summary.scopeId(), summary.semester());
+        }
+
+        @Override
+        public int compareTo(GradeSummaryKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
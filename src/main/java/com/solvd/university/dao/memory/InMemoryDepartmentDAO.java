@@ -0,0 +1,122 @@
+package com.solvd.university.dao.memory;
+
+import com.solvd.university.dao.impl.DepartmentDAOImpl;
+import com.solvd.university.dao.interfaces.DepartmentDAO;
+import com.solvd.university.dao.memory.InMemoryDatabase.DepartmentRow;
+import com.solvd.university.model.Department;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class InMemoryDepartmentDAO implements DepartmentDAO {
+
+    private static final Logger LOGGER = LogManager.getLogger(InMemoryDepartmentDAO.class);
+    private final InMemoryDatabase database;
+
+    public InMemoryDepartmentDAO(InMemoryDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public void save(Department<?> department) {
+        try {
+            int departmentId = database.departments.insert(id ->
+                new DepartmentRow(
+                    id,
+                    department.getName(),
+                    department.getDepartmentCode().toString(),
+                    department.getUniversityId()
+                )
+            );
+            department.setDepartmentId(departmentId);
+            LOGGER.info("Department saved successfully with ID: {}", departmentId);
+        } catch (SQLException e) {
+            LOGGER.error("Failed to save department: {}", department.getName(), e);
+            throw new RuntimeException("Failed to save department", e);
+        }
+    }
+
+    @Override
+    public Optional<Department<?>> findById(Integer departmentId) {
+        return database.departments.get(departmentId).map(InMemoryDepartmentDAO::toDepartment);
+    }
+
+    @Override
+    public List<Department<?>> findAllById(Collection<Integer> departmentIds) {
+        return database.departments
+            .getAll(departmentIds)
+            .stream()
+            .<Department<?>>map(InMemoryDepartmentDAO::toDepartment)
+            .toList();
+    }
+
+    @Override
+    public Optional<Department<?>> findByCode(String code) {
+        return database.departmentsByCode.findFirst(code).map(InMemoryDepartmentDAO::toDepartment);
+    }
+
+    @Override
+    public List<Department<?>> findAll() {
+        return database.departments.rows().<Department<?>>map(InMemoryDepartmentDAO::toDepartment).toList();
+    }
+
+    @Override
+    public List<Department<?>> findByUniversity(Integer universityId) {
+        List<Department<?>> departments = database.departmentsByUniversity
+            .find(universityId)
+            .stream()
+            .<Department<?>>map(InMemoryDepartmentDAO::toDepartment)
+            .toList();
+        LOGGER.info("Found {} departments for university ID: {}", departments.size(), universityId);
+        return departments;
+    }
+
+    @Override
+    public void update(Department<?> department) {
+        try {
+            boolean updated = database.departments.update(
+                department.getDepartmentId(),
+                row ->
+                    new DepartmentRow(
+                        row.departmentId(),
+                        department.getName(),
+                        department.getDepartmentCode().toString(),
+                        department.getUniversityId()
+                    )
+            );
+            if (updated) {
+                LOGGER.info("Department updated successfully: {}", department.getName());
+            } else {
+                LOGGER.warn("No department found with ID: {}", department.getDepartmentId());
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Failed to update department: {}", department.getName(), e);
+            throw new RuntimeException("Failed to update department", e);
+        }
+    }
+
+    @Override
+    public void delete(Integer departmentId) {
+        try {
+            if (database.departments.delete(departmentId)) {
+                LOGGER.info("Department deleted successfully with ID: {}", departmentId);
+            } else {
+                LOGGER.warn("No department found with ID: {}", departmentId);
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Failed to delete department with ID: {}", departmentId, e);
+            throw new RuntimeException("Failed to delete department", e);
+        }
+    }
+
+    static Department<?> toDepartment(DepartmentRow row) {
+        Department<String> department = DepartmentDAOImpl.newDepartment(row.code());
+        department.setDepartmentId(row.departmentId());
+        department.setName(row.name());
+        department.setUniversityId(row.universityId());
+        return department;
+    }
+}
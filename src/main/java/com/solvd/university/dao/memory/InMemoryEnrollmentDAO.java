@@ -0,0 +1,177 @@
+package com.solvd.university.dao.memory;
+
+import com.solvd.university.dao.interfaces.EnrollmentDAO;
+import com.solvd.university.dao.interfaces.ProgramDAO;
+import com.solvd.university.dao.memory.InMemoryDatabase.EnrollmentRow;
+import com.solvd.university.model.Enrollment;
+import com.solvd.university.model.EnrollmentStatus;
+import com.solvd.university.model.Program;
+import com.solvd.university.model.Student;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class InMemoryEnrollmentDAO implements EnrollmentDAO {
+
+    private static final Logger LOGGER = LogManager.getLogger(InMemoryEnrollmentDAO.class);
+    private static final Comparator<EnrollmentRow> BY_DATE = Comparator
+        .comparing(EnrollmentRow::enrollmentDate)
+        .thenComparing(EnrollmentRow::enrollmentId);
+    private final InMemoryDatabase database;
+    private final ProgramDAO programDAO;
+
+    public InMemoryEnrollmentDAO(InMemoryDatabase database, ProgramDAO programDAO) {
+        this.database = database;
+        this.programDAO = programDAO;
+    }
+
+    @Override
+    public void save(Enrollment enrollment) {
+        try {
+            int enrollmentId = database.enrollments.insert(id ->
+                new EnrollmentRow(
+                    id,
+                    Objects.requireNonNull(enrollment.studentId()),
+                    Objects.requireNonNull(enrollment.programId()),
+                    enrollment.enrollmentDate(),
+                    Objects.requireNonNull(enrollment.enrollmentStatusId())
+                )
+            );
+            LOGGER.info("Saved enrollment with ID: {}", enrollmentId);
+        } catch (SQLException e) {
+            LOGGER.error("Error saving enrollment", e);
+            throw new RuntimeException("Failed to save enrollment", e);
+        }
+    }
+
+    @Override
+    public Optional<Enrollment> findById(Integer enrollmentId) {
+        return database.enrollments.get(enrollmentId).map(this::toEnrollment);
+    }
+
+    @Override
+    public Optional<Enrollment> findByStudent(Student student) {
+        return database.enrollmentsByStudent
+            .find(student.getStudentId())
+            .stream()
+            .max(BY_DATE)
+            .map(this::toEnrollment);
+    }
+
+    @Override
+    public List<Enrollment> findActiveByStudentIds(Collection<Integer> studentIds) {
+        Integer enrolledId = EnrollmentStatus.ENROLLED.getEnrollmentStatusId();
+        List<EnrollmentRow> rows = studentIds
+            .stream()
+            .filter(Objects::nonNull)
+            .distinct()
+            .flatMap(studentId -> database.enrollmentsByStudent.find(studentId).stream())
+            .filter(row -> enrolledId.equals(row.enrollmentStatusId()))
+            .sorted(Comparator.comparing(EnrollmentRow::enrollmentId))
+            .toList();
+
+        Map<Integer, Program> programs = programDAO
+            .findAllById(rows.stream().map(EnrollmentRow::programId).distinct().toList())
+            .stream()
+            .collect(Collectors.toMap(Program::getProgramId, Function.identity()));
+
+        return rows
+            .stream()
+            .map(row -> {
+                Program program = programs.get(row.programId());
+                if (program == null) {
+                    LOGGER.warn(
+                        "Enrollment {} references non-existent program_id {}",
+                        row.enrollmentId(),
+                        row.programId()
+                    );
+                }
+                return toEnrollment(row, program);
+            })
+            .toList();
+    }
+
+    @Override
+    public List<Enrollment> findAll() {
+        return database.enrollments.rows().map(this::toEnrollment).toList();
+    }
+
+    @Override
+    public void update(Enrollment enrollment) {
+        try {
+            database.enrollments.update(
+                enrollment.enrollmentId(),
+                row ->
+                    new EnrollmentRow(
+                        row.enrollmentId(),
+                        row.studentId(),
+                        row.programId(),
+                        row.enrollmentDate(),
+                        Objects.requireNonNull(enrollment.enrollmentStatusId())
+                    )
+            );
+            LOGGER.info("Updated enrollment ID: {}", enrollment.enrollmentId());
+        } catch (SQLException e) {
+            LOGGER.error("Error updating enrollment", e);
+            throw new RuntimeException("Failed to update enrollment", e);
+        }
+    }
+
+    @Override
+    public void delete(Integer enrollmentId) {
+        try {
+            if (database.enrollments.delete(enrollmentId)) {
+                LOGGER.info("Deleted enrollment ID: {}", enrollmentId);
+            } else {
+                LOGGER.warn("No enrollment found with ID: {}", enrollmentId);
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error deleting enrollment: {}", enrollmentId, e);
+            throw new RuntimeException("Failed to delete enrollment", e);
+        }
+    }
+
+    private Enrollment toEnrollment(EnrollmentRow row) {
+        Optional<Program> program = programDAO.findById(row.programId());
+        if (program.isEmpty()) {
+            LOGGER.warn("Enrollment {} references non-existent program_id {}", row.enrollmentId(), row.programId());
+        }
+        return toEnrollment(row, program.orElse(null));
+    }
+
+    private static Enrollment toEnrollment(EnrollmentRow row, Program program) {
+        return new Enrollment(
+            row.enrollmentId(),
+            row.studentId(),
+            row.programId(),
+            row.enrollmentStatusId(),
+            null,
+            program,
+            row.enrollmentDate(),
+            statusOf(row.enrollmentStatusId())
+        );
+    }
+
+    private static EnrollmentStatus statusOf(Integer enrollmentStatusId) {
+        if (EnrollmentStatus.ENROLLED.getEnrollmentStatusId().equals(enrollmentStatusId)) {
+            return EnrollmentStatus.ENROLLED;
+        }
+        if (EnrollmentStatus.APPLIED.getEnrollmentStatusId().equals(enrollmentStatusId)) {
+            return EnrollmentStatus.APPLIED;
+        }
+        if (EnrollmentStatus.WITHDRAWN.getEnrollmentStatusId().equals(enrollmentStatusId)) {
+            return EnrollmentStatus.WITHDRAWN;
+        }
+        EnrollmentStatus status = new EnrollmentStatus();
+        status.setEnrollmentStatusId(enrollmentStatusId);
+        return status;
+    }
+}
@@ -0,0 +1,87 @@
+package com.solvd.university.dao.memory;
+
+import com.solvd.university.dao.interfaces.EnrollmentStatusDAO;
+import com.solvd.university.dao.interfaces.MyBatisEnrollmentStatusDAO;
+import com.solvd.university.dao.memory.InMemoryDatabase.EnrollmentStatusRow;
+import com.solvd.university.model.EnrollmentStatus;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class InMemoryEnrollmentStatusDAO implements EnrollmentStatusDAO, MyBatisEnrollmentStatusDAO {
+
+    private static final Logger LOGGER = LogManager.getLogger(InMemoryEnrollmentStatusDAO.class);
+    private final InMemoryDatabase database;
+
+    public InMemoryEnrollmentStatusDAO(InMemoryDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public Optional<EnrollmentStatus> findById(Integer enrollmentStatusId) {
+        return database.enrollmentStatuses.get(enrollmentStatusId).map(InMemoryEnrollmentStatusDAO::toStatus);
+    }
+
+    @Override
+    public Optional<EnrollmentStatus> findByDisplayName(String displayName) {
+        return database.enrollmentStatusesByName.findFirst(displayName).map(InMemoryEnrollmentStatusDAO::toStatus);
+    }
+
+    @Override
+    public List<EnrollmentStatus> findAll() {
+        return database.enrollmentStatuses.rows().map(InMemoryEnrollmentStatusDAO::toStatus).toList();
+    }
+
+    @Override
+    public void save(EnrollmentStatus status) {
+        try {
+            int statusId = database.enrollmentStatuses.insert(id ->
+                new EnrollmentStatusRow(id, status.getDisplayName(), status.getDescription())
+            );
+            status.setEnrollmentStatusId(statusId);
+            LOGGER.info("Enrollment status saved successfully with ID: {}", statusId);
+        } catch (SQLException e) {
+            LOGGER.error("Error saving enrollment status: {}", status.getDisplayName(), e);
+            throw new RuntimeException("Failed to save enrollment status", e);
+        }
+    }
+
+    @Override
+    public void update(EnrollmentStatus status) {
+        try {
+            boolean updated = database.enrollmentStatuses.update(
+                status.getEnrollmentStatusId(),
+                row ->
+                    new EnrollmentStatusRow(row.enrollmentStatusId(), status.getDisplayName(), status.getDescription())
+            );
+            if (updated) {
+                LOGGER.info("Enrollment status updated successfully with ID: {}", status.getEnrollmentStatusId());
+            } else {
+                LOGGER.warn("No enrollment status found with ID: {}", status.getEnrollmentStatusId());
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error updating enrollment status: {}", status.getEnrollmentStatusId(), e);
+            throw new RuntimeException("Failed to update enrollment status", e);
+        }
+    }
+
+    @Override
+    public void delete(Integer enrollmentStatusId) {
+        try {
+            if (database.enrollmentStatuses.delete(enrollmentStatusId)) {
+                LOGGER.info("Enrollment status deleted successfully with ID: {}", enrollmentStatusId);
+            } else {
+                LOGGER.warn("No enrollment status found with ID: {}", enrollmentStatusId);
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error deleting enrollment status: {}", enrollmentStatusId, e);
+            throw new RuntimeException("Failed to delete enrollment status", e);
+        }
+    }
+
+    private static EnrollmentStatus toStatus(EnrollmentStatusRow row) {
+        return new EnrollmentStatus(row.enrollmentStatusId(), row.displayName(), row.description());
+    }
+}
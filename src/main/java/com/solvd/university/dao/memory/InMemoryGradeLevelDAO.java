@@ -0,0 +1,99 @@
+package com.solvd.university.dao.memory;
+
+import com.solvd.university.dao.interfaces.GradeLevelDAO;
+import com.solvd.university.dao.memory.InMemoryDatabase.GradeLevelRow;
+import com.solvd.university.model.GradeLevel;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class InMemoryGradeLevelDAO implements GradeLevelDAO {
+
+    private static final Logger LOGGER = LogManager.getLogger(InMemoryGradeLevelDAO.class);
+    private static final Comparator<GradeLevelRow> BY_YEAR = Comparator.comparing(
+        GradeLevelRow::year,
+        Comparator.nullsFirst(Comparator.naturalOrder())
+    );
+    private final InMemoryDatabase database;
+
+    public InMemoryGradeLevelDAO(InMemoryDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public Optional<GradeLevel> findById(Integer gradeLevelId) {
+        return database.gradeLevels.get(gradeLevelId).map(InMemoryGradeLevelDAO::toGradeLevel);
+    }
+
+    @Override
+    public Optional<GradeLevel> findByDisplayName(String displayName) {
+        return database.gradeLevelsByName.findFirst(displayName).map(InMemoryGradeLevelDAO::toGradeLevel);
+    }
+
+    @Override
+    public Optional<GradeLevel> findByYear(int year) {
+        return database.gradeLevelsByYear.findFirst(year).map(InMemoryGradeLevelDAO::toGradeLevel);
+    }
+
+    @Override
+    public List<GradeLevel> findAll() {
+        return database.gradeLevels.rows().sorted(BY_YEAR).map(InMemoryGradeLevelDAO::toGradeLevel).toList();
+    }
+
+    @Override
+    public void save(GradeLevel gradeLevel) {
+        try {
+            int gradeLevelId = database.gradeLevels.insert(id ->
+                new GradeLevelRow(id, gradeLevel.getDisplayName(), gradeLevel.getYear())
+            );
+            gradeLevel.setGradeLevelId(gradeLevelId);
+            LOGGER.info("Grade level saved successfully with ID: {}", gradeLevelId);
+        } catch (SQLException e) {
+            LOGGER.error("Error saving grade level: {}", gradeLevel.getDisplayName(), e);
+            throw new RuntimeException("Failed to save grade level", e);
+        }
+    }
+
+    @Override
+    public void update(GradeLevel gradeLevel) {
+        try {
+            boolean updated = database.gradeLevels.update(
+                gradeLevel.getGradeLevelId(),
+                row -> new GradeLevelRow(row.gradeLevelId(), gradeLevel.getDisplayName(), gradeLevel.getYear())
+            );
+            if (updated) {
+                LOGGER.info("Grade level updated successfully with ID: {}", gradeLevel.getGradeLevelId());
+            } else {
+                LOGGER.warn("No grade level found with ID: {}", gradeLevel.getGradeLevelId());
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error updating grade level: {}", gradeLevel.getGradeLevelId(), e);
+            throw new RuntimeException("Failed to update grade level", e);
+        }
+    }
+
+    @Override
+    public void delete(Integer gradeLevelId) {
+        try {
+            if (database.gradeLevels.delete(gradeLevelId)) {
+                LOGGER.info("Grade level deleted successfully with ID: {}", gradeLevelId);
+            } else {
+                LOGGER.warn("No grade level found with ID: {}", gradeLevelId);
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error deleting grade level: {}", gradeLevelId, e);
+            throw new RuntimeException("Failed to delete grade level", e);
+        }
+    }
+
+    private static GradeLevel toGradeLevel(GradeLevelRow row) {
+        GradeLevel gradeLevel = new GradeLevel();
+        gradeLevel.setGradeLevelId(row.gradeLevelId());
+        gradeLevel.setDisplayName(row.displayName());
+        gradeLevel.setYear(row.year() != null ? row.year() : 0);
+        return gradeLevel;
+    }
+}
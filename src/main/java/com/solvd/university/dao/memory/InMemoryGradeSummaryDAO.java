@@ -0,0 +1,136 @@
+package com.solvd.university.dao.memory;
+
+import com.solvd.university.dao.interfaces.GradeSummaryDAO;
+import com.solvd.university.dao.memory.InMemoryDatabase.GradeSummaryKey;
+import com.solvd.university.model.GradeScope;
+import com.solvd.university.model.GradeSummary;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class InMemoryGradeSummaryDAO implements GradeSummaryDAO {
+
+    private static final Logger LOGGER = LogManager.getLogger(InMemoryGradeSummaryDAO.class);
+    private final InMemoryDatabase database;
+
+    public InMemoryGradeSummaryDAO(InMemoryDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public void save(GradeSummary summary) {
+        try {
+            database.gradeSummaries.upsert(summary);
+        } catch (SQLException e) {
+            LOGGER.error("Error saving grade summary for {} {}", summary.scope(), summary.scopeId(), e);
+            throw new RuntimeException("Failed to save grade summary", e);
+        }
+    }
+
+    @Override
+    public void saveIfAbsent(GradeSummary summary) {
+        try {
+            database.write(() -> {
+                if (!database.gradeSummaries.contains(GradeSummaryKey.of(summary))) {
+                    database.gradeSummaries.insert(summary);
+                }
+                return null;
+            });
+        } catch (SQLException e) {
+            LOGGER.error("Error saving grade summary for {} {}", summary.scope(), summary.scopeId(), e);
+            throw new RuntimeException("Failed to save grade summary", e);
+        }
+    }
+
+    @Override
+    public Optional<GradeSummary> findByKey(GradeScope scope, Integer scopeId, int semester) {
+        return database.gradeSummaries.get(new GradeSummaryKey(scope, scopeId, semester));
+    }
+
+    // Taking the write lock keeps other writers out until the surrounding transaction completes
+    @Override
+    public Optional<GradeSummary> findByKeyForUpdate(GradeScope scope, Integer scopeId, int semester) {
+        try {
+            return database.write(() -> findByKey(scope, scopeId, semester));
+        } catch (SQLException e) {
+            LOGGER.error("Error locking grade summary for {} {}", scope, scopeId, e);
+            throw new RuntimeException("Failed to find grade summary", e);
+        }
+    }
+
+    @Override
+    public List<GradeSummary> findByScopeIds(GradeScope scope, List<Integer> scopeIds, int semester) {
+        if (scopeIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return database.gradeSummaries.getAll(
+            scopeIds.stream().map(scopeId -> new GradeSummaryKey(scope, scopeId, semester)).toList()
+        );
+    }
+
+    @Override
+    public List<Integer> findScopeIdsWithAverageAtLeast(GradeScope scope, double minAverage, int semester) {
+        return database.gradeSummaries
+            .rows()
+            .filter(summary -> summary.scope() == scope && summary.semester() == semester)
+            .filter(summary -> summary.count() > 0 && summary.sum() >= minAverage * summary.count())
+            .map(GradeSummary::scopeId)
+            .toList();
+    }
+
+    @Override
+    public void rebuild() {
+        Map<GradeSummaryKey, GradeSummary> summaries = new TreeMap<>();
+        database.studentGrades
+            .rows()
+            .filter(row -> row.studentId() != null && row.value() != null)
+            .forEach(row -> {
+                add(summaries, GradeScope.STUDENT, row.studentId(), GradeSummary.ALL_SEMESTERS, row.value());
+                if (row.semester() != null) {
+                    add(summaries, GradeScope.STUDENT, row.studentId(), row.semester(), row.value());
+                }
+            });
+        database.courseGrades
+            .rows()
+            .filter(row -> row.courseId() != null && row.value() != null)
+            .forEach(row -> {
+                add(summaries, GradeScope.COURSE, row.courseId(), GradeSummary.ALL_SEMESTERS, row.value());
+                if (row.semester() != null) {
+                    add(summaries, GradeScope.COURSE, row.courseId(), row.semester(), row.value());
+                }
+            });
+
+        try {
+            database.write(() -> {
+                database.gradeSummaries.deleteAll();
+                for (GradeSummary summary : summaries.values()) {
+                    database.gradeSummaries.insert(summary);
+                }
+                return null;
+            });
+            LOGGER.info("Rebuilt grade summaries from student and course grades");
+        } catch (SQLException e) {
+            LOGGER.error("Error rebuilding grade summaries", e);
+            throw new RuntimeException("Failed to rebuild grade summaries", e);
+        }
+    }
+
+    private static void add(
+        Map<GradeSummaryKey, GradeSummary> summaries,
+        GradeScope scope,
+        Integer scopeId,
+        int semester,
+        double value
+    ) {
+        summaries.merge(
+            new GradeSummaryKey(scope, scopeId, semester),
+            GradeSummary.empty(scope, scopeId, semester).plus(value),
+            (summary, single) -> summary.plus(value)
+        );
+    }
+}
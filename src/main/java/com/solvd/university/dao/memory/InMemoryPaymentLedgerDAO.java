@@ -0,0 +1,155 @@
+package com.solvd.university.dao.memory;
+
+import com.solvd.university.dao.interfaces.PaymentLedgerDAO;
+import com.solvd.university.dao.memory.InMemoryDatabase.BalanceSnapshotRow;
+import com.solvd.university.dao.memory.InMemoryDatabase.LedgerRow;
+import com.solvd.university.model.LedgerEntry;
+import com.solvd.university.model.Money;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class InMemoryPaymentLedgerDAO implements PaymentLedgerDAO {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private final InMemoryDatabase database;
+
+    public InMemoryPaymentLedgerDAO(InMemoryDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public void appendAll(List<LedgerEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        try {
+            database.write(() -> {
+                for (LedgerEntry entry : entries) {
+                    int ledgerId = database.paymentLedger.insert(id -> toRow(id, entry));
+                    entry.setLedgerId((long) ledgerId);
+                }
+                return null;
+            });
+            LOGGER.debug("Appended {} ledger entries", entries.size());
+        } catch (SQLException e) {
+            entries.forEach(entry -> entry.setLedgerId(null));
+            LOGGER.error("Error appending {} ledger entries: {}", entries.size(), e.getMessage(), e);
+            throw new RuntimeException("Failed to append ledger entries", e);
+        }
+    }
+
+    @Override
+    public Map<Integer, Long> findBalances(Collection<Integer> studentIds) {
+        Map<Integer, Long> balances = new HashMap<>();
+        for (Integer studentId : studentIds) {
+            balances.computeIfAbsent(studentId, this::balanceOf);
+        }
+        return balances;
+    }
+
+    @Override
+    public Map<Integer, Long> lockBalances(Collection<Integer> studentIds) {
+        try {
+            return database.write(() -> {
+                Map<Integer, Long> balances = new HashMap<>();
+                for (Integer studentId : studentIds) {
+                    if (database.students.contains(studentId)) {
+                        balances.computeIfAbsent(studentId, this::balanceOf);
+                    }
+                }
+                return balances;
+            });
+        } catch (SQLException e) {
+            LOGGER.error("Error locking ledger balances: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to lock ledger balances", e);
+        }
+    }
+
+    @Override
+    public List<LedgerEntry> findByStudentId(Integer studentId) {
+        return database.ledgerByStudent.find(studentId).stream().map(InMemoryPaymentLedgerDAO::toEntry).toList();
+    }
+
+    @Override
+    public int compactSnapshots() {
+        try {
+            int pending = database.write(() -> {
+                Map<Integer, List<LedgerRow>> tails = new TreeMap<>();
+                database.paymentLedger
+                    .rows()
+                    .filter(row -> row.ledgerId() > lastLedgerIdOf(row.studentId()))
+                    .forEach(row -> tails.computeIfAbsent(row.studentId(), id -> new ArrayList<>()).add(row));
+
+                int folded = 0;
+                for (Map.Entry<Integer, List<LedgerRow>> tail : tails.entrySet()) {
+                    Integer studentId = tail.getKey();
+                    BigDecimal balance = Money.toDecimal(balanceOf(studentId, tail.getValue()));
+                    int lastLedgerId = tail.getValue().get(tail.getValue().size() - 1).ledgerId();
+                    database.balanceSnapshots.upsert(
+                        new BalanceSnapshotRow(studentId, balance, lastLedgerId, LocalDateTime.now())
+                    );
+                    database.students.update(studentId, row -> row.withBalance(balance));
+                    folded += tail.getValue().size();
+                }
+                return folded;
+            });
+            if (pending > 0) {
+                LOGGER.info("Folded {} ledger entries into balance snapshots", pending);
+            }
+            return pending;
+        } catch (SQLException e) {
+            LOGGER.error("Error compacting balance snapshots: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to compact balance snapshots", e);
+        }
+    }
+
+    private long balanceOf(Integer studentId) {
+        int lastLedgerId = lastLedgerIdOf(studentId);
+        List<LedgerRow> tail = database.ledgerByStudent
+            .find(studentId)
+            .stream()
+            .filter(row -> row.ledgerId() > lastLedgerId)
+            .toList();
+        return balanceOf(studentId, tail);
+    }
+
+    private long balanceOf(Integer studentId, List<LedgerRow> tail) {
+        long balance = database.balanceSnapshots
+            .get(studentId)
+            .map(snapshot -> Money.toCents(snapshot.balance()))
+            .orElse(0L);
+        for (LedgerRow row : tail) {
+            balance += Money.toCents(row.amount());
+        }
+        return balance;
+    }
+
+    private int lastLedgerIdOf(Integer studentId) {
+        return database.balanceSnapshots.get(studentId).map(BalanceSnapshotRow::lastLedgerId).orElse(0);
+    }
+
+    private static LedgerRow toRow(int ledgerId, LedgerEntry entry) {
+        return new LedgerRow(
+            ledgerId,
+            entry.getStudentId(),
+            Money.toDecimal(entry.getAmountCents()),
+            entry.getRecordedAt()
+        );
+    }
+
+    private static LedgerEntry toEntry(LedgerRow row) {
+        LedgerEntry entry = new LedgerEntry(row.studentId(), Money.toCents(row.amount()), row.recordedAt());
+        entry.setLedgerId((long) row.ledgerId());
+        return entry;
+    }
+}
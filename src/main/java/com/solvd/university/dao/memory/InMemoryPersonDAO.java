@@ -0,0 +1,101 @@
+package com.solvd.university.dao.memory;
+
+import com.solvd.university.dao.interfaces.PersonDAO;
+import com.solvd.university.dao.memory.InMemoryDatabase.PersonRow;
+import com.solvd.university.model.ConcretePerson;
+import com.solvd.university.model.Person;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class InMemoryPersonDAO implements PersonDAO {
+
+    private static final Logger LOGGER = LogManager.getLogger(InMemoryPersonDAO.class);
+    private final InMemoryDatabase database;
+
+    public InMemoryPersonDAO(InMemoryDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public void save(Person person) {
+        try {
+            person.setPersonId(insertPerson(database, person));
+            LOGGER.debug("Person saved with ID: {}", person.getPersonId());
+        } catch (SQLException e) {
+            LOGGER.error("Error saving person: {}", person.getFullName(), e);
+            throw new RuntimeException("Failed to save person", e);
+        }
+    }
+
+    @Override
+    public Optional<Person> findById(Integer personId) {
+        return database.persons.get(personId).map(InMemoryPersonDAO::toPerson);
+    }
+
+    @Override
+    public Optional<Person> findByEmail(String email) {
+        return database.personsByEmail.findFirst(email).map(InMemoryPersonDAO::toPerson);
+    }
+
+    @Override
+    public List<Person> findAll() {
+        return database.persons.rows().map(InMemoryPersonDAO::toPerson).toList();
+    }
+
+    @Override
+    public void update(Person person) {
+        try {
+            updatePerson(database, person);
+            LOGGER.debug("Person updated: {}", person.getFullName());
+        } catch (SQLException e) {
+            LOGGER.error("Error updating person: {}", person.getFullName(), e);
+            throw new RuntimeException("Failed to update person", e);
+        }
+    }
+
+    @Override
+    public void delete(Integer personId) {
+        try {
+            database.persons.delete(personId);
+            LOGGER.debug("Person deleted with ID: {}", personId);
+        } catch (SQLException e) {
+            LOGGER.error("Error deleting person with ID: {}", personId, e);
+            throw new RuntimeException("Failed to delete person", e);
+        }
+    }
+
+    static int insertPerson(InMemoryDatabase database, Person person) throws SQLException {
+        return database.persons.insert(id ->
+            new PersonRow(id, person.getFirstName(), person.getLastName(), person.getEmail(), null, null, null, null)
+        );
+    }
+
+    static void updatePerson(InMemoryDatabase database, Person person) throws SQLException {
+        database.persons.update(
+            person.getPersonId(),
+            row ->
+                new PersonRow(
+                    row.personId(),
+                    person.getFirstName(),
+                    person.getLastName(),
+                    person.getEmail(),
+                    row.universityId(),
+                    row.professorId(),
+                    row.studentId(),
+                    row.staffId()
+                )
+        );
+    }
+
+    private static Person toPerson(PersonRow row) {
+        ConcretePerson person = new ConcretePerson();
+        person.setPersonId(row.personId());
+        person.setFirstName(row.firstName());
+        person.setLastName(row.lastName());
+        person.setEmail(row.email());
+        return person;
+    }
+}
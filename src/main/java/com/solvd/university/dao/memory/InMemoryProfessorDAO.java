@@ -0,0 +1,187 @@
+package com.solvd.university.dao.memory;
+
+import com.solvd.university.dao.interfaces.DepartmentDAO;
+import com.solvd.university.dao.interfaces.ProfessorDAO;
+import com.solvd.university.dao.memory.InMemoryDatabase.PersonRow;
+import com.solvd.university.dao.memory.InMemoryDatabase.ProfessorRow;
+import com.solvd.university.dao.memory.InMemoryDatabase.StaffRow;
+import com.solvd.university.model.Department;
+import com.solvd.university.model.Professor;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class InMemoryProfessorDAO implements ProfessorDAO {
+
+    private static final Logger LOGGER = LogManager.getLogger(InMemoryProfessorDAO.class);
+    private static final Comparator<Professor> BY_NAME = Comparator
+        .comparing(Professor::getLastName, String.CASE_INSENSITIVE_ORDER)
+        .thenComparing(Professor::getFirstName, String.CASE_INSENSITIVE_ORDER);
+    private final InMemoryDatabase database;
+    private final DepartmentDAO departmentDAO;
+
+    public InMemoryProfessorDAO(InMemoryDatabase database, DepartmentDAO departmentDAO) {
+        this.database = database;
+        this.departmentDAO = departmentDAO;
+    }
+
+    @Override
+    public void save(Professor professor) {
+        Integer departmentId = professor.getDepartment() != null ? professor.getDepartment().getDepartmentId() : null;
+        Integer universityId = professor.getDepartment() != null ? professor.getDepartment().getUniversityId() : null;
+
+        try {
+            database.write(() -> {
+                int personId = InMemoryPersonDAO.insertPerson(database, professor);
+                professor.setPersonId(personId);
+                professor.setStaffId(
+                    database.staff.insert(id -> new StaffRow(id, departmentId, professor.getTitle(), personId))
+                );
+                professor.setProfessorId(
+                    database.professors.insert(id -> new ProfessorRow(id, departmentId, personId))
+                );
+                database.persons.update(
+                    personId,
+                    row ->
+                        new PersonRow(
+                            row.personId(),
+                            row.firstName(),
+                            row.lastName(),
+                            row.email(),
+                            universityId,
+                            professor.getProfessorId(),
+                            row.studentId(),
+                            professor.getStaffId()
+                        )
+                );
+                return null;
+            });
+            LOGGER.info(
+                "Professor saved successfully: ID {}, Name: {}",
+                professor.getProfessorId(),
+                professor.getFullName()
+            );
+        } catch (SQLException e) {
+            LOGGER.error("Error saving professor: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to save professor", e);
+        }
+    }
+
+    @Override
+    public Optional<Professor> findById(Integer professorId) {
+        return database.professors.get(professorId).stream().flatMap(this::toProfessors).findFirst();
+    }
+
+    @Override
+    public List<Professor> findAllById(Collection<Integer> professorIds) {
+        return database.professors.getAll(professorIds).stream().flatMap(this::toProfessors).toList();
+    }
+
+    @Override
+    public Optional<Professor> findByFullName(String firstName, String lastName) {
+        return database.personsByLastName
+            .find(lastName)
+            .stream()
+            .filter(person -> person.firstName() != null && person.firstName().equalsIgnoreCase(firstName))
+            .flatMap(person -> database.professors.rows().filter(row -> person.personId().equals(row.personId())))
+            .flatMap(this::toProfessors)
+            .findFirst();
+    }
+
+    @Override
+    public List<Professor> findAll() {
+        return database.professors.rows().flatMap(this::toProfessors).sorted(BY_NAME).toList();
+    }
+
+    @Override
+    public void update(Professor professor) {
+        Integer departmentId = professor.getDepartment() != null ? professor.getDepartment().getDepartmentId() : null;
+
+        try {
+            database.write(() -> {
+                InMemoryPersonDAO.updatePerson(database, professor);
+                database.staff.update(
+                    professor.getStaffId(),
+                    row -> new StaffRow(row.staffId(), departmentId, professor.getTitle(), row.personId())
+                );
+                database.professors.update(
+                    professor.getProfessorId(),
+                    row -> new ProfessorRow(row.professorId(), departmentId, row.personId())
+                );
+                return null;
+            });
+            LOGGER.info("Professor updated successfully: ID {}", professor.getProfessorId());
+        } catch (SQLException e) {
+            LOGGER.error("Error updating professor: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to update professor", e);
+        }
+    }
+
+    @Override
+    public void delete(Integer professorId) {
+        try {
+            boolean deleted = database.write(() -> {
+                Optional<ProfessorRow> professor = database.professors.get(professorId);
+                Optional<StaffRow> staff = professor
+                    .map(row -> database.staffByPerson.findFirst(row.personId()))
+                    .flatMap(row -> row);
+                if (staff.isEmpty()) {
+                    return false;
+                }
+                database.professors.delete(professorId);
+                database.staff.delete(staff.get().staffId());
+                database.persons.delete(staff.get().personId());
+                return true;
+            });
+            if (deleted) {
+                LOGGER.info("Professor deleted successfully: ID {}", professorId);
+            } else {
+                LOGGER.warn("No professor found with ID: {}", professorId);
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error deleting professor: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to delete professor", e);
+        }
+    }
+
+    private Stream<Professor> toProfessors(ProfessorRow row) {
+        Optional<PersonRow> person = database.persons.get(row.personId());
+        if (person.isEmpty()) {
+            return Stream.empty();
+        }
+        return database.staffByPerson
+            .find(row.personId())
+            .stream()
+            .map(staff -> withDepartment(professorColumns(row, person.get(), staff)));
+    }
+
+    private Professor withDepartment(Professor professor) {
+        Integer deptId = professor.getDepartmentId();
+        if (deptId != null) {
+            Optional<Department<?>> department = departmentDAO.findById(deptId);
+            department.ifPresent(professor::setDepartment);
+            if (department.isEmpty()) {
+                LOGGER.warn("Professor {} references non-existent department_id {}", professor.getFullName(), deptId);
+            }
+        }
+        return professor;
+    }
+
+    static Professor professorColumns(ProfessorRow row, PersonRow person, StaffRow staff) {
+        Professor professor = new Professor();
+        professor.setProfessorId(row.professorId());
+        professor.setPersonId(person.personId());
+        professor.setFirstName(person.firstName());
+        professor.setLastName(person.lastName());
+        professor.setEmail(person.email());
+        professor.setStaffId(staff.staffId());
+        professor.setTitle(staff.title());
+        professor.setDepartmentId(row.departmentId());
+        return professor;
+    }
+}
@@ -0,0 +1,154 @@
+package com.solvd.university.dao.memory;
+
+import com.solvd.university.dao.impl.PartialUpdate;
+import com.solvd.university.dao.interfaces.DepartmentDAO;
+import com.solvd.university.dao.interfaces.MyBatisProgramDAO;
+import com.solvd.university.dao.interfaces.ProgramDAO;
+import com.solvd.university.dao.memory.InMemoryDatabase.ProgramRow;
+import com.solvd.university.model.Department;
+import com.solvd.university.model.Program;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class InMemoryProgramDAO implements ProgramDAO, MyBatisProgramDAO {
+
+    private static final Logger LOGGER = LogManager.getLogger(InMemoryProgramDAO.class);
+    private final InMemoryDatabase database;
+    private final DepartmentDAO departmentDAO;
+
+    public InMemoryProgramDAO(InMemoryDatabase database, DepartmentDAO departmentDAO) {
+        this.database = database;
+        this.departmentDAO = departmentDAO;
+    }
+
+    @Override
+    public void save(Program program) {
+        try {
+            program.setProgramId(database.programs.insert(id -> toRow(id, program)));
+            PartialUpdate.markWritten(program);
+            LOGGER.info("Saved program: {} (ID: {})", program.getName(), program.getProgramId());
+        } catch (SQLException e) {
+            LOGGER.error("Error saving program", e);
+            throw new RuntimeException("Failed to save program", e);
+        }
+    }
+
+    @Override
+    public List<Integer> saveAll(Stream<Program> programs) {
+        List<Integer> programIds = new ArrayList<>();
+        try {
+            database.write(() -> {
+                for (Program program : (Iterable<Program>) programs::iterator) {
+                    program.setProgramId(database.programs.insert(id -> toRow(id, program)));
+                    programIds.add(program.getProgramId());
+                }
+                return null;
+            });
+            LOGGER.info("Imported {} programs", programIds.size());
+            return programIds;
+        } catch (SQLException e) {
+            LOGGER.error("Error importing programs", e);
+            throw new RuntimeException("Failed to import programs", e);
+        }
+    }
+
+    @Override
+    public Optional<Program> findById(Integer programId) {
+        return database.programs.get(programId).map(row -> toProgram(row, departmentDAO::findById));
+    }
+
+    @Override
+    public List<Program> findAllById(Collection<Integer> programIds) {
+        Map<Integer, Optional<Department<?>>> departments = new HashMap<>();
+        return database.programs
+            .getAll(programIds)
+            .stream()
+            .map(row -> toProgram(row, id -> departments.computeIfAbsent(id, departmentDAO::findById)))
+            .toList();
+    }
+
+    @Override
+    public Optional<Program> findByName(String name) {
+        return database.programsByName.findFirst(name).map(row -> toProgram(row, departmentDAO::findById));
+    }
+
+    @Override
+    public List<Program> findByDepartment(Department<?> department) {
+        return database.programsByDepartment
+            .find(department.getDepartmentId())
+            .stream()
+            .map(row -> toProgram(row, departmentDAO::findById))
+            .toList();
+    }
+
+    @Override
+    public List<Program> findAll() {
+        return database.programs.rows().map(row -> toProgram(row, departmentDAO::findById)).toList();
+    }
+
+    @Override
+    public void update(Program program) {
+        if (!program.getChanges().hasChanges()) {
+            LOGGER.debug("Program {} has no changes, skipping update", program.getProgramId());
+            return;
+        }
+
+        try {
+            database.programs.update(program.getProgramId(), row -> toRow(row.programId(), program));
+            PartialUpdate.markWritten(program);
+            LOGGER.info("Updated program: {} (ID: {})", program.getName(), program.getProgramId());
+        } catch (SQLException e) {
+            LOGGER.error("Error updating program", e);
+            throw new RuntimeException("Failed to update program", e);
+        }
+    }
+
+    @Override
+    public void delete(Integer programId) {
+        try {
+            if (database.programs.delete(programId)) {
+                LOGGER.info("Deleted program with ID: {}", programId);
+            } else {
+                LOGGER.warn("No program found with ID: {}", programId);
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error deleting program: {}", programId, e);
+            throw new RuntimeException("Failed to delete program", e);
+        }
+    }
+
+    private static ProgramRow toRow(int programId, Program program) {
+        return new ProgramRow(
+            programId,
+            program.getName(),
+            program.getDuration(),
+            program.getRawPrice(),
+            program.getDepartmentId(),
+            program.getUniversityId()
+        );
+    }
+
+    static Program toProgram(ProgramRow row, Function<Integer, Optional<Department<?>>> departmentResolver) {
+        Program program = new Program();
+        program.setProgramId(row.programId());
+        program.setName(row.name());
+        program.setDuration(row.durationYears());
+        program.setPrice(row.price());
+        program.setDepartmentId(row.departmentId());
+        program.setUniversityId(row.universityId());
+        if (row.departmentId() != null) {
+            departmentResolver.apply(row.departmentId()).ifPresent(program::setDepartment);
+        }
+        program.getChanges().markClean();
+        return program;
+    }
+}
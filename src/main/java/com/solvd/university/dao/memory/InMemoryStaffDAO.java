@@ -0,0 +1,137 @@
+package com.solvd.university.dao.memory;
+
+import com.solvd.university.dao.interfaces.StaffDAO;
+import com.solvd.university.dao.memory.InMemoryDatabase.PersonRow;
+import com.solvd.university.dao.memory.InMemoryDatabase.StaffRow;
+import com.solvd.university.model.ConcreteStaff;
+import com.solvd.university.model.Staff;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class InMemoryStaffDAO implements StaffDAO {
+
+    private static final Logger LOGGER = LogManager.getLogger(InMemoryStaffDAO.class);
+    private final InMemoryDatabase database;
+
+    public InMemoryStaffDAO(InMemoryDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public void save(Staff staff) {
+        try {
+            database.write(() -> {
+                int personId = InMemoryPersonDAO.insertPerson(database, staff);
+                staff.setPersonId(personId);
+
+                int staffId = database.staff.insert(id ->
+                    new StaffRow(id, staff.getDepartmentId(), staff.getTitle(), personId)
+                );
+                staff.setStaffId(staffId);
+
+                database.persons.update(
+                    personId,
+                    row ->
+                        new PersonRow(
+                            row.personId(),
+                            row.firstName(),
+                            row.lastName(),
+                            row.email(),
+                            row.universityId(),
+                            row.professorId(),
+                            row.studentId(),
+                            staffId
+                        )
+                );
+                return null;
+            });
+            LOGGER.debug(
+                "Staff member saved: {} (staff_id={}, person_id={})",
+                staff.getFullName(),
+                staff.getStaffId(),
+                staff.getPersonId()
+            );
+        } catch (SQLException e) {
+            LOGGER.error("Error saving staff member: {}", staff.getFullName(), e);
+            throw new RuntimeException("Failed to save staff member", e);
+        }
+    }
+
+    @Override
+    public Optional<Staff> findById(Integer staffId) {
+        return database.staff.get(staffId).flatMap(this::toStaff);
+    }
+
+    @Override
+    public Optional<Staff> findByPersonId(Integer personId) {
+        return database.staffByPerson.find(personId).stream().map(this::toStaff).flatMap(Optional::stream).findFirst();
+    }
+
+    @Override
+    public List<Staff> findAll() {
+        return database.staff.rows().map(this::toStaff).flatMap(Optional::stream).toList();
+    }
+
+    @Override
+    public List<Staff> findByDepartment(Integer departmentId) {
+        return database.staffByDepartment
+            .find(departmentId)
+            .stream()
+            .map(this::toStaff)
+            .flatMap(Optional::stream)
+            .toList();
+    }
+
+    @Override
+    public void update(Staff staff) {
+        try {
+            database.write(() -> {
+                InMemoryPersonDAO.updatePerson(database, staff);
+                database.staff.update(
+                    staff.getStaffId(),
+                    row -> new StaffRow(row.staffId(), staff.getDepartmentId(), staff.getTitle(), row.personId())
+                );
+                return null;
+            });
+            LOGGER.debug("Staff member updated: {}", staff.getFullName());
+        } catch (SQLException e) {
+            LOGGER.error("Error updating staff member: {}", staff.getFullName(), e);
+            throw new RuntimeException("Failed to update staff member", e);
+        }
+    }
+
+    @Override
+    public void delete(Integer staffId) {
+        try {
+            database.write(() -> {
+                Optional<StaffRow> row = database.staff.get(staffId);
+                database.staff.delete(staffId);
+                if (row.isPresent() && row.get().personId() != null) {
+                    database.persons.delete(row.get().personId());
+                }
+                return null;
+            });
+            LOGGER.debug("Staff member deleted with ID: {}", staffId);
+        } catch (SQLException e) {
+            LOGGER.error("Error deleting staff member with ID: {}", staffId, e);
+            throw new RuntimeException("Failed to delete staff member", e);
+        }
+    }
+
+    private Optional<Staff> toStaff(StaffRow row) {
+        return database.persons.get(row.personId()).map(person -> {
+            ConcreteStaff staff = new ConcreteStaff();
+            staff.setStaffId(row.staffId());
+            staff.setDepartmentId(row.departmentId());
+            staff.setTitle(row.title());
+            staff.setPersonId(person.personId());
+            staff.setFirstName(person.firstName());
+            staff.setLastName(person.lastName());
+            staff.setEmail(person.email());
+            return staff;
+        });
+    }
+}
@@ -0,0 +1,379 @@
+package com.solvd.university.dao.memory;
+
+import com.solvd.university.dao.impl.PartialUpdate;
+import com.solvd.university.dao.interfaces.EnrollmentDAO;
+import com.solvd.university.dao.interfaces.PaymentLedgerDAO;
+import com.solvd.university.dao.interfaces.StudentDAO;
+import com.solvd.university.dao.memory.InMemoryDatabase.EnrollmentStatusRow;
+import com.solvd.university.dao.memory.InMemoryDatabase.GradeLevelRow;
+import com.solvd.university.dao.memory.InMemoryDatabase.PersonRow;
+import com.solvd.university.dao.memory.InMemoryDatabase.ProgramRow;
+import com.solvd.university.dao.memory.InMemoryDatabase.StudentRow;
+import com.solvd.university.model.Enrollment;
+import com.solvd.university.model.EnrollmentStatus;
+import com.solvd.university.model.GradeLevel;
+import com.solvd.university.model.PaymentRules;
+import com.solvd.university.model.Program;
+import com.solvd.university.model.Student;
+import com.solvd.university.model.StudentCriteria;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class InMemoryStudentDAO implements StudentDAO {
+
+    private static final Logger LOGGER = LogManager.getLogger(InMemoryStudentDAO.class);
+    private static final int HYDRATION_BATCH_SIZE = 500;
+    private static final int DEFAULT_UNIVERSITY_ID = 1;
+    private final InMemoryDatabase database;
+    private final EnrollmentDAO enrollmentDAO;
+    private final PaymentLedgerDAO paymentLedgerDAO;
+
+    public InMemoryStudentDAO(
+        InMemoryDatabase database,
+        EnrollmentDAO enrollmentDAO,
+        PaymentLedgerDAO paymentLedgerDAO
+    ) {
+        this.database = database;
+        this.enrollmentDAO = enrollmentDAO;
+        this.paymentLedgerDAO = paymentLedgerDAO;
+    }
+
+    @Override
+    public void save(Student student) {
+        PaymentRules.requireNoOpeningBalance(student);
+        try {
+            database.write(() -> {
+                insertStudent(student);
+                return null;
+            });
+            PartialUpdate.markWritten(student);
+            LOGGER.info(
+                "Saved student: {} {} (ID: {})",
+                student.getFirstName(),
+                student.getLastName(),
+                student.getStudentId()
+            );
+        } catch (SQLException e) {
+            LOGGER.error("Error saving student", e);
+            throw new RuntimeException("Failed to save student", e);
+        }
+    }
+
+    @Override
+    public void saveAll(List<Student> students) {
+        if (students.isEmpty()) {
+            return;
+        }
+        students.forEach(PaymentRules::requireNoOpeningBalance);
+
+        try {
+            database.write(() -> {
+                for (Student student : students) {
+                    insertStudent(student);
+                }
+                return null;
+            });
+            students.forEach(PartialUpdate::markWritten);
+            LOGGER.info("Saved {} students", students.size());
+        } catch (SQLException e) {
+            LOGGER.error("Error saving students batch", e);
+            throw new RuntimeException("Failed to save students", e);
+        }
+    }
+
+    @Override
+    public Set<String> findRegisteredEmails(Collection<String> emails) {
+        return emails
+            .stream()
+            .filter(Objects::nonNull)
+            .distinct()
+            .flatMap(email -> database.personsByEmail.find(email).stream())
+            .filter(person -> database.studentsByPerson.contains(person.personId()))
+            .map(PersonRow::email)
+            .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Optional<Student> findById(String id) {
+        int studentNumber;
+        try {
+            studentNumber = Integer.parseInt(id.replace("STU-", ""));
+        } catch (NumberFormatException e) {
+            LOGGER.error("Invalid student ID format: {}", id, e);
+            return Optional.empty();
+        }
+        return withActiveEnrollment(database.studentsByNumber.find(studentNumber).stream());
+    }
+
+    @Override
+    public Optional<Student> findByEmail(String email) {
+        return withActiveEnrollment(studentsWithEmail(email));
+    }
+
+    @Override
+    public Optional<Student> findByEmailAndStudentNumber(String email, int studentNumber) {
+        return withActiveEnrollment(studentsWithEmail(email).filter(row -> row.studentNumber() == studentNumber));
+    }
+
+    @Override
+    public List<Student> findAll() {
+        List<Student> students = database.students.rows().flatMap(this::toStudent).toList();
+        hydrate(students);
+        return students;
+    }
+
+    @Override
+    public Stream<Student> streamAll() {
+        return findAll().stream();
+    }
+
+    @Override
+    public List<Student> findByCriteria(StudentCriteria criteria) {
+        Stream<StudentRow> rows = database.students.rows().filter(matching(criteria));
+        if (criteria.hasLimit()) {
+            rows = rows.limit(criteria.getLimit());
+        }
+        List<Student> students = rows.flatMap(this::toStudent).toList();
+        hydrate(students);
+        return students;
+    }
+
+    @Override
+    public void update(Student student) {
+        if (!student.getChanges().hasChanges()) {
+            LOGGER.debug("Student {} has no changes, skipping update", student.getStudentId());
+            return;
+        }
+
+        Integer universityId = student.getEnrolledProgram() != null
+            ? student.getEnrolledProgram().getUniversityId()
+            : null;
+        if (universityId != null && !database.universities.contains(universityId)) {
+            LOGGER.warn("University ID {} not found in database, setting person.university_id to NULL", universityId);
+            universityId = null;
+        }
+        Integer personUniversityId = universityId;
+
+        try {
+            database.write(() -> {
+                database.persons.update(
+                    student.getPersonId(),
+                    row ->
+                        new PersonRow(
+                            row.personId(),
+                            student.getFirstName(),
+                            student.getLastName(),
+                            student.getEmail(),
+                            personUniversityId,
+                            row.professorId(),
+                            student.getStudentId(),
+                            row.staffId()
+                        )
+                );
+                database.students.update(
+                    student.getStudentId(),
+                    row ->
+                        new StudentRow(
+                            row.studentId(),
+                            student.getAge(),
+                            row.studentNumber(),
+                            student.isRegistered(),
+                            row.balance(),
+                            student.getEnrollmentStatus().getEnrollmentStatusId(),
+                            student.getGradeLevel().getGradeLevelId(),
+                            row.personId()
+                        )
+                );
+                return null;
+            });
+            PartialUpdate.markWritten(student);
+            LOGGER.info(
+                "Updated student: {} {} (ID: {})",
+                student.getFirstName(),
+                student.getLastName(),
+                student.getStudentId()
+            );
+        } catch (SQLException e) {
+            LOGGER.error("Error updating student", e);
+            throw new RuntimeException("Failed to update student", e);
+        }
+    }
+
+    @Override
+    public void delete(String id) {
+        try {
+            int studentNumber = Integer.parseInt(id.replace("STU-", ""));
+            database.write(() -> {
+                for (StudentRow row : database.studentsByNumber.find(studentNumber)) {
+                    database.students.delete(row.studentId());
+                    database.persons.delete(row.personId());
+                }
+                return null;
+            });
+            LOGGER.info("Deleted student with ID: {}", id);
+        } catch (SQLException e) {
+            LOGGER.error("Error deleting student", e);
+            throw new RuntimeException("Failed to delete student", e);
+        }
+    }
+
+    private void insertStudent(Student student) throws SQLException {
+        int personId = InMemoryPersonDAO.insertPerson(database, student);
+        student.setPersonId(personId);
+        student.setStudentId(
+            database.students.insert(id ->
+                new StudentRow(
+                    id,
+                    student.getAge(),
+                    student.getStudentNumber(),
+                    student.isRegistered(),
+                    BigDecimal.ZERO,
+                    student.getEnrollmentStatus().getEnrollmentStatusId(),
+                    student.getGradeLevel().getGradeLevelId(),
+                    personId
+                )
+            )
+        );
+
+        Integer universityId = database.universities.contains(DEFAULT_UNIVERSITY_ID) ? DEFAULT_UNIVERSITY_ID : null;
+        if (universityId == null) {
+            LOGGER.warn("Default university (ID=1) not found, setting to NULL");
+        }
+        database.persons.update(
+            personId,
+            row ->
+                new PersonRow(
+                    row.personId(),
+                    row.firstName(),
+                    row.lastName(),
+                    row.email(),
+                    universityId,
+                    row.professorId(),
+                    student.getStudentId(),
+                    row.staffId()
+                )
+        );
+    }
+
+    private Stream<StudentRow> studentsWithEmail(String email) {
+        return database.personsByEmail
+            .find(email)
+            .stream()
+            .flatMap(person -> database.studentsByPerson.find(person.personId()).stream());
+    }
+
+    private Predicate<StudentRow> matching(StudentCriteria criteria) {
+        Integer enrolledId = EnrollmentStatus.ENROLLED.getEnrollmentStatusId();
+        Predicate<StudentRow> predicate = row -> true;
+
+        if (criteria.getEnrollmentStatus() != null) {
+            Integer statusId = criteria.getEnrollmentStatus().getEnrollmentStatusId();
+            predicate = predicate.and(row -> Objects.equals(row.enrollmentStatusId(), statusId));
+        }
+        if (criteria.isActiveOnly()) {
+            predicate = predicate.and(row -> hasEnrollment(row, enrolledId, program -> true));
+        }
+        if (criteria.isWithOutstandingBalance()) {
+            predicate = predicate.and(row ->
+                paymentLedgerDAO.findBalances(List.of(row.studentId())).getOrDefault(row.studentId(), 0L) > 0
+            );
+        }
+        if (criteria.getGradeLevel() != null) {
+            int year = criteria.getGradeLevel().getYear();
+            predicate = predicate.and(row ->
+                database.gradeLevels.get(row.gradeLevelId()).map(level -> level.year() == year).orElse(false)
+            );
+        }
+        if (criteria.getDepartmentId() != null) {
+            Integer departmentId = criteria.getDepartmentId();
+            predicate = predicate.and(row ->
+                hasEnrollment(row, enrolledId, program -> departmentId.equals(program.departmentId()))
+            );
+        }
+        if (criteria.getAfterStudentId() != null) {
+            int afterStudentId = criteria.getAfterStudentId();
+            predicate = predicate.and(row -> row.studentId() > afterStudentId);
+        }
+        return predicate;
+    }
+
+    private boolean hasEnrollment(StudentRow row, Integer statusId, Predicate<ProgramRow> program) {
+        return database.enrollmentsByStudent
+            .find(row.studentId())
+            .stream()
+            .filter(enrollment -> statusId.equals(enrollment.enrollmentStatusId()))
+            .anyMatch(enrollment -> database.programs.get(enrollment.programId()).filter(program).isPresent());
+    }
+
+    private Stream<Student> toStudent(StudentRow row) {
+        Optional<PersonRow> person = database.persons.get(row.personId());
+        Optional<EnrollmentStatusRow> status = database.enrollmentStatuses.get(row.enrollmentStatusId());
+        Optional<GradeLevelRow> level = database.gradeLevels.get(row.gradeLevelId());
+        if (person.isEmpty() || status.isEmpty() || level.isEmpty()) {
+            return Stream.empty();
+        }
+
+        PersonRow columns = person.get();
+        Student student = new Student(columns.firstName(), columns.lastName(), row.age(), columns.email());
+        student.setStudentId(row.studentId());
+        student.setPersonId(row.personId());
+        student.setEnrollmentStatus(EnrollmentStatus.of(row.enrollmentStatusId(), status.get().displayName()));
+        student.setGradeLevel(GradeLevel.ofYear(level.get().year()));
+        student.setRegistered(Boolean.TRUE.equals(row.registered()));
+        student.getChanges().markClean();
+        return Stream.of(student);
+    }
+
+    private Optional<Student> withActiveEnrollment(Stream<StudentRow> rows) {
+        Optional<Student> student = rows.flatMap(this::toStudent).findFirst();
+        student.ifPresent(found -> hydrate(List.of(found)));
+        return student;
+    }
+
+    private void hydrate(List<Student> students) {
+        for (int from = 0; from < students.size(); from += HYDRATION_BATCH_SIZE) {
+            List<Student> page = students.subList(from, Math.min(from + HYDRATION_BATCH_SIZE, students.size()));
+            List<Integer> studentIds = page.stream().map(Student::getStudentId).toList();
+
+            Map<Integer, Enrollment> activeEnrollments = new HashMap<>();
+            enrollmentDAO
+                .findActiveByStudentIds(studentIds)
+                .forEach(enrollment -> activeEnrollments.putIfAbsent(enrollment.studentId(), enrollment));
+            Map<Integer, Long> balances = paymentLedgerDAO.findBalances(studentIds);
+
+            for (Student student : page) {
+                student.setOutstandingBalanceCents(balances.getOrDefault(student.getStudentId(), 0L));
+                student.getChanges().markClean("balance");
+
+                Enrollment activeEnrollment = activeEnrollments.get(student.getStudentId());
+                if (activeEnrollment == null || activeEnrollment.programId() == null) {
+                    continue;
+                }
+
+                Program enrolledProgram = activeEnrollment.program();
+                if (enrolledProgram != null) {
+                    student.setEnrolledProgram(enrolledProgram);
+                    student.setEnrollmentStatus(activeEnrollment.status());
+                    student.getChanges().markClean();
+                } else {
+                    LOGGER.warn(
+                        "Student {} has enrollment but program not loaded in enrollment record",
+                        student.getStudentNumber()
+                    );
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.solvd.university.dao.memory;
+
+import com.solvd.university.dao.interfaces.StudentGradeDAO;
+import com.solvd.university.dao.memory.InMemoryDatabase.StudentGradeRow;
+import com.solvd.university.model.StudentGrade;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class InMemoryStudentGradeDAO implements StudentGradeDAO {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final Comparator<StudentGradeRow> BY_SUBJECT = Comparator.comparing(
+        StudentGradeRow::subject,
+        Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER)
+    );
+    private static final Comparator<StudentGradeRow> BY_SEMESTER = Comparator
+        .comparing(StudentGradeRow::semester, Comparator.nullsFirst(Comparator.<Integer>naturalOrder()))
+        .thenComparing(BY_SUBJECT);
+    private static final Comparator<StudentGradeRow> BY_STUDENT = Comparator
+        .comparing(StudentGradeRow::studentId, Comparator.nullsFirst(Comparator.<Integer>naturalOrder()))
+        .thenComparing(BY_SEMESTER);
+    private final InMemoryDatabase database;
+
+    public InMemoryStudentGradeDAO(InMemoryDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public void save(StudentGrade grade) {
+        try {
+            grade.setStudentGradeId(database.studentGrades.insert(id -> toRow(id, grade)));
+            LOGGER.info("Student grade saved successfully with ID: {}", grade.getStudentGradeId());
+        } catch (SQLException e) {
+            LOGGER.error("Error saving student grade: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to save student grade", e);
+        }
+    }
+
+    @Override
+    public void saveAll(List<StudentGrade> grades) {
+        if (grades.isEmpty()) {
+            return;
+        }
+
+        try {
+            database.write(() -> {
+                for (StudentGrade grade : grades) {
+                    grade.setStudentGradeId(database.studentGrades.insert(id -> toRow(id, grade)));
+                }
+                return null;
+            });
+            LOGGER.info("Saved {} student grades in one batch", grades.size());
+        } catch (SQLException e) {
+            LOGGER.error("Error saving student grades batch: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to save student grades", e);
+        }
+    }
+
+    @Override
+    public StudentGrade findById(Integer id) {
+        return database.studentGrades.get(id).map(InMemoryStudentGradeDAO::toGrade).orElse(null);
+    }
+
+    @Override
+    public List<StudentGrade> findAll() {
+        return database.studentGrades.rows().sorted(BY_STUDENT).map(InMemoryStudentGradeDAO::toGrade).toList();
+    }
+
+    @Override
+    public Stream<StudentGrade> streamAll() {
+        return findAll().stream();
+    }
+
+    @Override
+    public List<StudentGrade> findByStudentId(Integer studentId) {
+        List<StudentGrade> grades = database.studentGradesByStudent
+            .find(studentId)
+            .stream()
+            .sorted(BY_SEMESTER)
+            .map(InMemoryStudentGradeDAO::toGrade)
+            .toList();
+        LOGGER.info("Found {} grades for student ID {}", grades.size(), studentId);
+        return grades;
+    }
+
+    @Override
+    public List<StudentGrade> findByStudentIdAndSemester(Integer studentId, Integer semester) {
+        List<StudentGrade> grades = database.studentGradesByStudent
+            .find(studentId)
+            .stream()
+            .filter(row -> semester != null && semester.equals(row.semester()))
+            .sorted(BY_SUBJECT)
+            .map(InMemoryStudentGradeDAO::toGrade)
+            .toList();
+        LOGGER.info("Found {} grades for student ID {} in semester {}", grades.size(), studentId, semester);
+        return grades;
+    }
+
+    @Override
+    public void update(StudentGrade grade) {
+        try {
+            if (database.studentGrades.update(grade.getStudentGradeId(), row -> toRow(row.studentGradeId(), grade))) {
+                LOGGER.info("Student grade updated successfully: ID {}", grade.getStudentGradeId());
+            } else {
+                LOGGER.warn("No student grade found with ID {} to update", grade.getStudentGradeId());
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error updating student grade: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to update student grade", e);
+        }
+    }
+
+    @Override
+    public void delete(Integer id) {
+        try {
+            if (database.studentGrades.delete(id)) {
+                LOGGER.info("Student grade deleted successfully: ID {}", id);
+            } else {
+                LOGGER.warn("No student grade found with ID {} to delete", id);
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error deleting student grade: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to delete student grade", e);
+        }
+    }
+
+    private static StudentGradeRow toRow(int studentGradeId, StudentGrade grade) {
+        return new StudentGradeRow(
+            studentGradeId,
+            Objects.requireNonNull(grade.getStudentId()),
+            grade.getSubject(),
+            Objects.requireNonNull(grade.getValue()),
+            Objects.requireNonNull(grade.getSemester())
+        );
+    }
+
+    private static StudentGrade toGrade(StudentGradeRow row) {
+        StudentGrade grade = new StudentGrade(row.studentId(), row.subject(), row.value(), row.semester());
+        grade.setStudentGradeId(row.studentGradeId());
+        return grade;
+    }
+}
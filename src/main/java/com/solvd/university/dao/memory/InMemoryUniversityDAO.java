@@ -0,0 +1,85 @@
+package com.solvd.university.dao.memory;
+
+import com.solvd.university.dao.interfaces.UniversityDAO;
+import com.solvd.university.dao.memory.InMemoryDatabase.UniversityRow;
+import com.solvd.university.model.University;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class InMemoryUniversityDAO implements UniversityDAO {
+
+    private static final Logger LOGGER = LogManager.getLogger(InMemoryUniversityDAO.class);
+    private final InMemoryDatabase database;
+
+    public InMemoryUniversityDAO(InMemoryDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public void save(University university) {
+        try {
+            int universityId = database.universities.insert(id -> new UniversityRow(id, university.getName()));
+            university.setUniversityId(universityId);
+            LOGGER.info("University saved successfully with ID: {}", universityId);
+        } catch (SQLException e) {
+            LOGGER.error("Failed to save university: {}", university.getName(), e);
+            throw new RuntimeException("Failed to save university", e);
+        }
+    }
+
+    @Override
+    public Optional<University> findById(Integer universityId) {
+        return database.universities.get(universityId).map(InMemoryUniversityDAO::toUniversity);
+    }
+
+    @Override
+    public Optional<University> findByName(String name) {
+        return database.universitiesByName.findFirst(name).map(InMemoryUniversityDAO::toUniversity);
+    }
+
+    @Override
+    public List<University> findAll() {
+        return database.universities.rows().map(InMemoryUniversityDAO::toUniversity).toList();
+    }
+
+    @Override
+    public void update(University university) {
+        try {
+            boolean updated = database.universities.update(
+                university.getUniversityId(),
+                row -> new UniversityRow(row.universityId(), university.getName())
+            );
+            if (updated) {
+                LOGGER.info("University updated successfully: {}", university.getName());
+            } else {
+                LOGGER.warn("No university found with ID: {}", university.getUniversityId());
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Failed to update university: {}", university.getName(), e);
+            throw new RuntimeException("Failed to update university", e);
+        }
+    }
+
+    @Override
+    public void delete(Integer universityId) {
+        try {
+            if (database.universities.delete(universityId)) {
+                LOGGER.info("University deleted successfully with ID: {}", universityId);
+            } else {
+                LOGGER.warn("No university found with ID: {}", universityId);
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Failed to delete university with ID: {}", universityId, e);
+            throw new RuntimeException("Failed to delete university", e);
+        }
+    }
+
+    static University toUniversity(UniversityRow row) {
+        University university = new University(row.name());
+        university.setUniversityId(row.universityId());
+        return university;
+    }
+}
@@ -0,0 +1,305 @@
+package com.solvd.university.dao.memory;
+
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+final class Table<K extends Comparable<K>, R> {
+
+    private final InMemoryDatabase database;
+    private final String name;
+    private final String keyColumn;
+    private final Function<R, K> primaryKey;
+    private final ConcurrentSkipListMap<K, R> rows = new ConcurrentSkipListMap<>();
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final List<Index<?>> indexes = new CopyOnWriteArrayList<>();
+    private final List<ForeignKey<R>> foreignKeys = new CopyOnWriteArrayList<>();
+    private final List<ForeignKey<?>> referencedBy = new CopyOnWriteArrayList<>();
+
+    Table(InMemoryDatabase database, String name, String keyColumn, Function<R, K> primaryKey) {
+        this.database = database;
+        this.name = name;
+        this.keyColumn = keyColumn;
+        this.primaryKey = primaryKey;
+    }
+
+    String name() {
+        return name;
+    }
+
+    <V> Index<V> index(Function<R, V> column) {
+        Index<V> index = new Index<>(column);
+        indexes.add(index);
+        return index;
+    }
+
+    Table<K, R> foreignKey(String column, Function<R, Integer> value, Table<Integer, ?> parent) {
+        ForeignKey<R> foreignKey = new ForeignKey<>(this, column, value, parent, index(value));
+        foreignKeys.add(foreignKey);
+        parent.referencedBy.add(foreignKey);
+        return this;
+    }
+
+    Optional<R> get(K key) {
+        return key == null ? Optional.empty() : Optional.ofNullable(rows.get(key));
+    }
+
+    boolean contains(K key) {
+        return key != null && rows.containsKey(key);
+    }
+
+    Stream<R> rows() {
+        return rows.values().stream();
+    }
+
+    List<R> getAll(Collection<K> keys) {
+        List<R> found = new ArrayList<>();
+        for (K key : keys.stream().filter(Objects::nonNull).distinct().sorted().toList()) {
+            R row = rows.get(key);
+            if (row != null) {
+                found.add(row);
+            }
+        }
+        return found;
+    }
+
+    int insert(IntFunction<R> factory) throws SQLException {
+        return database.write(() -> {
+            int id = sequence.incrementAndGet();
+            R row = factory.apply(id);
+            if (!Integer.valueOf(id).equals(primaryKey.apply(row))) {
+                throw new IllegalStateException("Generated key was not applied to " + name + " row");
+            }
+            store(row);
+            return id;
+        });
+    }
+
+    void insert(R row) throws SQLException {
+        database.write(() -> {
+            K key = primaryKey.apply(row);
+            if (rows.containsKey(key)) {
+                throw new SQLIntegrityConstraintViolationException(
+                    "Duplicate entry '" + key + "' for key '" + name + ".PRIMARY'",
+                    "23000",
+                    1062
+                );
+            }
+            store(row);
+            return null;
+        });
+    }
+
+    void upsert(R row) throws SQLException {
+        database.write(() -> {
+            store(row);
+            return null;
+        });
+    }
+
+    boolean update(K key, UnaryOperator<R> change) throws SQLException {
+        return database.write(() -> {
+            R previous = rows.get(key);
+            if (previous == null) {
+                return false;
+            }
+            R next = change.apply(previous);
+            if (!Objects.equals(key, primaryKey.apply(next))) {
+                throw new IllegalStateException("Primary key of " + name + " rows cannot be changed");
+            }
+            checkForeignKeys(next);
+            replace(key, previous, next);
+            return true;
+        });
+    }
+
+    boolean delete(K key) throws SQLException {
+        return database.write(() -> {
+            R previous = rows.get(key);
+            if (previous == null) {
+                return false;
+            }
+            checkNotReferenced(key);
+            replace(key, previous, null);
+            return true;
+        });
+    }
+
+    int deleteAll() throws SQLException {
+        return database.write(() -> {
+            List<K> keys = new ArrayList<>(rows.keySet());
+            for (K key : keys) {
+                checkNotReferenced(key);
+            }
+            for (K key : keys) {
+                replace(key, rows.get(key), null);
+            }
+            return keys.size();
+        });
+    }
+
+    void truncate() {
+        rows.clear();
+        indexes.forEach(index -> index.entries.clear());
+        sequence.set(0);
+    }
+
+    private void store(R row) throws SQLException {
+        checkForeignKeys(row);
+        K key = primaryKey.apply(row);
+        if (key instanceof Integer explicit) {
+            sequence.accumulateAndGet(explicit, Math::max);
+        }
+        replace(key, rows.get(key), row);
+    }
+
+    private void replace(K key, R previous, R next) {
+        apply(key, previous, next);
+        database.recordUndo(() -> apply(key, next, previous));
+    }
+
+    private void apply(K key, R previous, R next) {
+        if (next == null) {
+            rows.remove(key);
+        } else {
+            rows.put(key, next);
+        }
+        for (Index<?> index : indexes) {
+            index.move(key, previous, next);
+        }
+    }
+
+    private void checkForeignKeys(R row) throws SQLException {
+        for (ForeignKey<R> foreignKey : foreignKeys) {
+            foreignKey.checkParentExists(row);
+        }
+    }
+
+    private void checkNotReferenced(K key) throws SQLException {
+        for (ForeignKey<?> foreignKey : referencedBy) {
+            foreignKey.checkNoChildren(key);
+        }
+    }
+
+    private static Object normalize(Object value) {
+        return value instanceof String text ? text.toLowerCase(Locale.ROOT) : value;
+    }
+
+    final class Index<V> {
+
+        private final Function<R, V> column;
+        private final ConcurrentHashMap<Object, ConcurrentSkipListSet<K>> entries = new ConcurrentHashMap<>();
+
+        private Index(Function<R, V> column) {
+            this.column = column;
+        }
+
+        List<R> find(V value) {
+            if (value == null) {
+                return List.of();
+            }
+            ConcurrentSkipListSet<K> keys = entries.get(normalize(value));
+            if (keys == null) {
+                return List.of();
+            }
+            List<R> found = new ArrayList<>();
+            for (K key : keys) {
+                R row = rows.get(key);
+                if (row != null) {
+                    found.add(row);
+                }
+            }
+            return found;
+        }
+
+        Optional<R> findFirst(V value) {
+            List<R> found = find(value);
+            return found.isEmpty() ? Optional.empty() : Optional.of(found.get(0));
+        }
+
+        boolean contains(Object value) {
+            ConcurrentSkipListSet<K> keys = value == null ? null : entries.get(normalize(value));
+            return keys != null && !keys.isEmpty();
+        }
+
+        private void move(K key, R previous, R next) {
+            Object before = previous == null ? null : normalize(column.apply(previous));
+            Object after = next == null ? null : normalize(column.apply(next));
+            if (Objects.equals(before, after)) {
+                return;
+            }
+            if (before != null) {
+                entries.computeIfPresent(before, (value, keys) -> {
+                    keys.remove(key);
+                    return keys.isEmpty() ? null : keys;
+                });
+            }
+            if (after != null) {
+                entries.computeIfAbsent(after, value -> new ConcurrentSkipListSet<>()).add(key);
+            }
+        }
+    }
+
+    private static final class ForeignKey<C> {
+
+        private final Table<?, C> child;
+        private final String column;
+        private final Function<C, Integer> value;
+        private final Table<Integer, ?> parent;
+        private final Table<?, C>.Index<Integer> index;
+
+        ForeignKey(
+            Table<?, C> child,
+            String column,
+            Function<C, Integer> value,
+            Table<Integer, ?> parent,
+            Table<?, C>.Index<Integer> index
+        ) {
+            this.child = child;
+            this.column = column;
+            this.value = value;
+            this.parent = parent;
+            this.index = index;
+        }
+
+        void checkParentExists(C row) throws SQLException {
+            Integer parentKey = value.apply(row);
+            if (parentKey != null && !parent.contains(parentKey)) {
+                throw new SQLIntegrityConstraintViolationException(
+                    "Cannot add or update a child row: a foreign key constraint fails (" + describe() + ")",
+                    "23000",
+                    1452
+                );
+            }
+        }
+
+        void checkNoChildren(Object parentKey) throws SQLException {
+            if (index.contains(parentKey)) {
+                throw new SQLIntegrityConstraintViolationException(
+                    "Cannot delete or update a parent row: a foreign key constraint fails (" + describe() + ")",
+                    "23000",
+                    1451
+                );
+            }
+        }
+
+        private String describe() {
+            return "`" + child.name + "`, FOREIGN KEY (`" + column + "`) REFERENCES `" + parent.name + "` (`" +
+                parent.keyColumn + "`)";
+        }
+    }
+}
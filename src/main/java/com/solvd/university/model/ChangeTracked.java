@@ -0,0 +1,5 @@
+package com.solvd.university.model;
+
+public interface ChangeTracked {
+    ChangeTracker getChanges();
+}
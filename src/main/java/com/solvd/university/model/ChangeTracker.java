@@ -0,0 +1,63 @@
+package com.solvd.university.model;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+// An entity never marked clean is untracked, so every property counts as changed
+public final class ChangeTracker {
+
+    private Set<String> changed;
+
+    public <V> V track(String property, V current, V next) {
+        if (changed != null && !Objects.equals(current, next)) {
+            changed.add(property);
+        }
+        return next;
+    }
+
+    public void markChanged(String property) {
+        if (changed != null) {
+            changed.add(property);
+        }
+    }
+
+    public boolean isTracked() {
+        return changed != null;
+    }
+
+    public boolean isChanged(String property) {
+        return changed == null || changed.contains(property);
+    }
+
+    public boolean hasChanges() {
+        return changed == null || !changed.isEmpty();
+    }
+
+    public Set<String> getChangedProperties() {
+        return changed == null ? Set.of() : Collections.unmodifiableSet(changed);
+    }
+
+    // Returns the previous state so a rolled back write can restore it
+    public ChangeTracker markClean() {
+        ChangeTracker previous = new ChangeTracker();
+        previous.changed = changed == null ? null : new HashSet<>(changed);
+        changed = new HashSet<>();
+        return previous;
+    }
+
+    public void markClean(String property) {
+        if (changed != null) {
+            changed.remove(property);
+        }
+    }
+
+    public void restore(ChangeTracker previous) {
+        if (previous.changed == null) {
+            changed = null;
+        } else if (changed != null) {
+            changed.addAll(previous.changed);
+        }
+    }
+}
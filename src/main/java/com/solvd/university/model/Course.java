@@ -2,6 +2,7 @@ package com.solvd.university.model;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.DoubleSummaryStatistics;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
@@ -11,7 +12,7 @@ import java.util.TreeMap;
 import com.solvd.university.model.annotation.RequiredExperience;
 
 @RequiredExperience(level = 2)
-public class Course<T, D extends Department<T>> implements Identifiable, Schedulable {
+public class Course<T, D extends Department<T>> implements Identifiable, Schedulable, ChangeTracked {
 
     private Integer courseId;
     private Integer professorId;
@@ -29,8 +30,10 @@ public class Course<T, D extends Department<T>> implements Identifiable, Schedul
     private LocalDateTime endAt;
     private Classroom classroom;
     private List<Grade<Double>> courseGrades;
+    private final DoubleSummaryStatistics gradeStats = new DoubleSummaryStatistics();
     private TreeMap<LocalDateTime, Grade<Double>> gradesByDate;
     private CourseDifficulty difficulty;
+    private final ChangeTracker changes = new ChangeTracker();
 
     public Course() {
         this.courseId = null;
@@ -143,7 +146,7 @@ public class Course<T, D extends Department<T>> implements Identifiable, Schedul
     }
 
     public void setProfessorId(Integer professorId) {
-        this.professorId = professorId;
+        this.professorId = changes.track("professorId", this.professorId, professorId);
     }
 
     public Integer getDepartmentId() {
@@ -151,7 +154,7 @@ public class Course<T, D extends Department<T>> implements Identifiable, Schedul
     }
 
     public void setDepartmentId(Integer departmentId) {
-        this.departmentId = departmentId;
+        this.departmentId = changes.track("departmentId", this.departmentId, departmentId);
     }
 
     public Integer getClassroomId() {
@@ -159,7 +162,7 @@ public class Course<T, D extends Department<T>> implements Identifiable, Schedul
     }
 
     public void setClassroomId(Integer classroomId) {
-        this.classroomId = classroomId;
+        this.classroomId = changes.track("classroomId", this.classroomId, classroomId);
     }
 
     public Classroom getClassroom() {
@@ -168,7 +171,7 @@ public class Course<T, D extends Department<T>> implements Identifiable, Schedul
 
     public void setClassroom(Classroom classroom) {
         this.classroom = classroom;
-        this.classroomId = classroom != null ? classroom.getClassroomId() : null;
+        setClassroomId(classroom != null ? classroom.getClassroomId() : null);
     }
 
     public Integer getCourseDifficultyId() {
@@ -176,7 +179,7 @@ public class Course<T, D extends Department<T>> implements Identifiable, Schedul
     }
 
     public void setCourseDifficultyId(Integer courseDifficultyId) {
-        this.courseDifficultyId = courseDifficultyId;
+        this.courseDifficultyId = changes.track("courseDifficultyId", this.courseDifficultyId, courseDifficultyId);
     }
 
     public Integer getUniversityId() {
@@ -184,7 +187,7 @@ public class Course<T, D extends Department<T>> implements Identifiable, Schedul
     }
 
     public void setUniversityId(Integer universityId) {
-        this.universityId = universityId;
+        this.universityId = changes.track("universityId", this.universityId, universityId);
     }
 
     public String getCourseCode() {
@@ -192,7 +195,7 @@ public class Course<T, D extends Department<T>> implements Identifiable, Schedul
     }
 
     public void setCourseCode(String courseCode) {
-        this.courseCode = courseCode;
+        this.courseCode = changes.track("courseCode", this.courseCode, courseCode);
     }
 
     public String getCourseName() {
@@ -200,7 +203,7 @@ public class Course<T, D extends Department<T>> implements Identifiable, Schedul
     }
 
     public void setCourseName(String courseName) {
-        this.courseName = courseName;
+        this.courseName = changes.track("courseName", this.courseName, courseName);
     }
 
     public int getCreditHours() {
@@ -208,7 +211,7 @@ public class Course<T, D extends Department<T>> implements Identifiable, Schedul
     }
 
     public void setCreditHours(int creditHours) {
-        this.creditHours = creditHours;
+        this.creditHours = changes.track("creditHours", this.creditHours, creditHours);
     }
 
     public Professor getProfessor() {
@@ -217,7 +220,7 @@ public class Course<T, D extends Department<T>> implements Identifiable, Schedul
 
     public void setProfessor(Professor professor) {
         this.professor = professor;
-        this.professorId = professor != null ? professor.getProfessorId() : null;
+        setProfessorId(professor != null ? professor.getProfessorId() : null);
     }
 
     public D getDepartment() {
@@ -226,7 +229,7 @@ public class Course<T, D extends Department<T>> implements Identifiable, Schedul
 
     public void setDepartment(D department) {
         this.department = department;
-        this.departmentId = department != null ? department.getDepartmentId() : null;
+        setDepartmentId(department != null ? department.getDepartmentId() : null);
     }
 
     public CourseDifficulty getDifficulty() {
@@ -235,7 +238,7 @@ public class Course<T, D extends Department<T>> implements Identifiable, Schedul
 
     public void setDifficulty(CourseDifficulty difficulty) {
         this.difficulty = difficulty;
-        this.courseDifficultyId = difficulty != null ? difficulty.getCourseDifficultyId() : null;
+        setCourseDifficultyId(difficulty != null ? difficulty.getCourseDifficultyId() : null);
     }
 
     public String getFormattedCourseCode() {
@@ -248,12 +251,16 @@ public class Course<T, D extends Department<T>> implements Identifiable, Schedul
         return id;
     }
 
+    @Override
+    public ChangeTracker getChanges() {
+        return changes;
+    }
+
     @Override
     public void schedule(LocalDateTime start, LocalDateTime end, Classroom room) {
-        this.startAt = start;
-        this.endAt = end;
-        this.classroom = room;
-        this.classroomId = room != null ? room.getClassroomId() : null;
+        setScheduledStart(start);
+        setScheduledEnd(end);
+        setClassroom(room);
     }
 
     public LocalDateTime getScheduledStart() {
@@ -261,7 +268,7 @@ public class Course<T, D extends Department<T>> implements Identifiable, Schedul
     }
 
     public void setScheduledStart(LocalDateTime start) {
-        this.startAt = start;
+        this.startAt = changes.track("scheduledStart", this.startAt, start);
     }
 
     public LocalDateTime getScheduledEnd() {
@@ -269,19 +276,17 @@ public class Course<T, D extends Department<T>> implements Identifiable, Schedul
     }
 
     public void setScheduledEnd(LocalDateTime end) {
-        this.endAt = end;
+        this.endAt = changes.track("scheduledEnd", this.endAt, end);
     }
 
     public void addGrade(Grade<Double> grade) {
-        courseGrades.add(grade);
-        gradesByDate.put(LocalDateTime.now(), grade);
+        addGradeWithDate(grade, LocalDateTime.now());
     }
 
     @RequiredExperience(level = 3)
     public void addGrade(Grade<Double> grade, GradeValidator validator) {
         if (validator.isValid(grade.value())) {
-            courseGrades.add(grade);
-            gradesByDate.put(LocalDateTime.now(), grade);
+            addGradeWithDate(grade, LocalDateTime.now());
         } else {
             throw new IllegalArgumentException("Invalid grade value: " + grade.value());
         }
@@ -290,12 +295,12 @@ public class Course<T, D extends Department<T>> implements Identifiable, Schedul
     public void addGradeWithDate(Grade<Double> grade, LocalDateTime date) {
         courseGrades.add(grade);
         gradesByDate.put(date, grade);
+        gradeStats.accept(grade.value());
     }
 
     public void addGradeWithDate(Grade<Double> grade, LocalDateTime date, GradeValidator validator) {
         if (validator.isValid(grade.value())) {
-            courseGrades.add(grade);
-            gradesByDate.put(date, grade);
+            addGradeWithDate(grade, date);
         } else {
             throw new IllegalArgumentException("Invalid grade value: " + grade.value());
         }
@@ -306,10 +311,7 @@ public class Course<T, D extends Department<T>> implements Identifiable, Schedul
     }
 
     public double calculateCourseAverage() {
-        if (courseGrades.isEmpty()) {
-            return 0.0;
-        }
-        return courseGrades.stream().mapToDouble(Grade::value).average().orElse(0.0);
+        return gradeStats.getAverage();
     }
 
     public List<Grade<Double>> getGradesForSemester(String semester) {
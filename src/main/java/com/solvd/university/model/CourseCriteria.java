@@ -0,0 +1,137 @@
+package com.solvd.university.model;
+
+import java.util.Objects;
+
+public final class CourseCriteria {
+
+    private final Integer departmentId;
+    private final Integer professorId;
+    private final Integer courseDifficultyId;
+    private final Integer afterCourseId;
+    private final int limit;
+
+    private CourseCriteria(Builder builder) {
+        this.departmentId = builder.departmentId;
+        this.professorId = builder.professorId;
+        this.courseDifficultyId = builder.courseDifficultyId;
+        this.afterCourseId = builder.afterCourseId;
+        this.limit = builder.limit;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public CourseCriteria nextPage(Course<?, ?> lastSeen) {
+        return new Builder()
+            .departmentId(departmentId)
+            .professorId(professorId)
+            .courseDifficultyId(courseDifficultyId)
+            .after(lastSeen.getCourseId())
+            .limit(limit)
+            .build();
+    }
+
+    public boolean matches(Course<?, ?> course) {
+        return (
+            (departmentId == null || departmentId.equals(course.getDepartmentId())) &&
+            (professorId == null || professorId.equals(course.getProfessorId())) &&
+            (courseDifficultyId == null || courseDifficultyId.equals(course.getCourseDifficultyId())) &&
+            (afterCourseId == null || (course.getCourseId() != null && course.getCourseId() > afterCourseId))
+        );
+    }
+
+    public Integer getDepartmentId() {
+        return departmentId;
+    }
+
+    public Integer getProfessorId() {
+        return professorId;
+    }
+
+    public Integer getCourseDifficultyId() {
+        return courseDifficultyId;
+    }
+
+    public Integer getAfterCourseId() {
+        return afterCourseId;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public boolean hasLimit() {
+        return limit > 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CourseCriteria that = (CourseCriteria) o;
+        return limit == that.limit &&
+            Objects.equals(departmentId, that.departmentId) &&
+            Objects.equals(professorId, that.professorId) &&
+            Objects.equals(courseDifficultyId, that.courseDifficultyId) &&
+            Objects.equals(afterCourseId, that.afterCourseId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(departmentId, professorId, courseDifficultyId, afterCourseId, limit);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "CourseCriteria{departmentId=%s, professorId=%s, difficultyId=%s, after=%s, limit=%d}",
+            departmentId,
+            professorId,
+            courseDifficultyId,
+            afterCourseId,
+            limit
+        );
+    }
+
+    public static final class Builder {
+
+        private Integer departmentId;
+        private Integer professorId;
+        private Integer courseDifficultyId;
+        private Integer afterCourseId;
+        private int limit;
+
+        public Builder departmentId(Integer deptId) {
+            this.departmentId = deptId;
+            return this;
+        }
+
+        public Builder professorId(Integer profId) {
+            this.professorId = profId;
+            return this;
+        }
+
+        public Builder courseDifficultyId(Integer difficultyId) {
+            this.courseDifficultyId = difficultyId;
+            return this;
+        }
+
+        public Builder after(Integer courseId) {
+            this.afterCourseId = courseId;
+            return this;
+        }
+
+        public Builder limit(int pageSize) {
+            if (pageSize < 0) {
+                throw new IllegalArgumentException("Page size cannot be negative");
+            }
+            this.limit = pageSize;
+            return this;
+        }
+
+        public CourseCriteria build() {
+            return new CourseCriteria(this);
+        }
+    }
+}
@@ -8,6 +8,7 @@ public abstract class Department<T> {
     protected Integer universityId;
     protected String name;
     protected T departmentCode;
+    protected University university;
 
     public Department(String name) {
         this.departmentId = null;
@@ -33,6 +34,15 @@ public abstract class Department<T> {
         this.universityId = universityId;
     }
 
+    public University getUniversity() {
+        return university;
+    }
+
+    public void setUniversity(University university) {
+        this.university = university;
+        this.universityId = university != null ? university.getUniversityId() : null;
+    }
+
     public abstract T getDepartmentCode();
 
     public String getName() {
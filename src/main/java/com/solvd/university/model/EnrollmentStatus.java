@@ -1,8 +1,12 @@
 package com.solvd.university.model;
 
+import java.io.Serializable;
+import java.util.List;
 import java.util.Objects;
 
-public class EnrollmentStatus {
+public class EnrollmentStatus implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private Integer enrollmentStatusId;
     private String displayName;
@@ -12,6 +16,8 @@ public class EnrollmentStatus {
     public static final EnrollmentStatus ENROLLED = new EnrollmentStatus(4, "Enrolled", "Actively enrolled");
     public static final EnrollmentStatus WITHDRAWN = new EnrollmentStatus(8, "Withdrawn", "Student withdrew");
 
+    private static final List<EnrollmentStatus> KNOWN_STATUSES = List.of(ENROLLED, APPLIED, WITHDRAWN);
+
     public EnrollmentStatus() {}
 
     public EnrollmentStatus(Integer enrollmentStatusId, String displayName, String description) {
@@ -25,6 +31,18 @@ public class EnrollmentStatus {
         this.description = description;
     }
 
+    public static EnrollmentStatus of(Integer enrollmentStatusId, String displayName) {
+        for (EnrollmentStatus status : KNOWN_STATUSES) {
+            if (status.enrollmentStatusId.equals(enrollmentStatusId) || status.displayName.equals(displayName)) {
+                return status;
+            }
+        }
+        EnrollmentStatus status = new EnrollmentStatus();
+        status.setEnrollmentStatusId(enrollmentStatusId);
+        status.setDisplayName(displayName);
+        return status;
+    }
+
     public Integer getEnrollmentStatusId() {
         return enrollmentStatusId;
     }
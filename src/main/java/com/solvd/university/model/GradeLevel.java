@@ -27,6 +27,16 @@ public class GradeLevel {
         this.year = year;
     }
 
+    public static GradeLevel ofYear(int year) {
+        return switch (year) {
+            case 2 -> SOPHOMORE;
+            case 3 -> JUNIOR;
+            case 4 -> SENIOR;
+            case 5 -> GRADUATE;
+            default -> FRESHMAN;
+        };
+    }
+
     public Integer getGradeLevelId() {
         return gradeLevelId;
     }
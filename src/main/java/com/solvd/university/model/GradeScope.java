@@ -0,0 +1,6 @@
+package com.solvd.university.model;
+
+public enum GradeScope {
+    STUDENT,
+    COURSE
+}
@@ -0,0 +1,109 @@
+package com.solvd.university.model;
+
+import java.util.Collection;
+
+public record GradeSummary(
+    GradeScope scope,
+    Integer scopeId,
+    int semester,
+    long count,
+    double sum,
+    double sumOfSquares,
+    Double min,
+    Double max
+) {
+    public static final int ALL_SEMESTERS = 0;
+
+    public GradeSummary {
+        if (scope == null || scopeId == null) {
+            throw new IllegalArgumentException("Grade summary scope and scope id are required");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Grade count cannot be negative");
+        }
+        if (count == 0) {
+            sum = 0.0;
+            sumOfSquares = 0.0;
+            min = null;
+            max = null;
+        }
+    }
+
+    public static GradeSummary empty(GradeScope scope, Integer scopeId, int semester) {
+        return new GradeSummary(scope, scopeId, semester, 0, 0.0, 0.0, null, null);
+    }
+
+    public static GradeSummary of(GradeScope scope, Integer scopeId, int semester, Collection<Double> values) {
+        return empty(scope, scopeId, semester).plus(values);
+    }
+
+    public GradeSummary plus(double value) {
+        return new GradeSummary(
+            scope,
+            scopeId,
+            semester,
+            count + 1,
+            sum + value,
+            sumOfSquares + value * value,
+            count == 0 ? value : (min == null ? null : Math.min(min, value)),
+            count == 0 ? value : (max == null ? null : Math.max(max, value))
+        );
+    }
+
+    public GradeSummary plus(Collection<Double> values) {
+        GradeSummary summary = this;
+        for (double value : values) {
+            summary = summary.plus(value);
+        }
+        return summary;
+    }
+
+    public GradeSummary minus(double value) {
+        if (count == 0) {
+            throw new IllegalStateException("Cannot remove a grade from an empty summary");
+        }
+        boolean boundChanged = (min != null && value <= min) || (max != null && value >= max);
+        return new GradeSummary(
+            scope,
+            scopeId,
+            semester,
+            count - 1,
+            sum - value,
+            sumOfSquares - value * value,
+            boundChanged ? null : min,
+            boundChanged ? null : max
+        );
+    }
+
+    public GradeSummary minus(Collection<Double> values) {
+        GradeSummary summary = this;
+        for (double value : values) {
+            summary = summary.minus(value);
+        }
+        return summary;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public boolean hasBounds() {
+        return count == 0 || (min != null && max != null);
+    }
+
+    public double average() {
+        return count == 0 ? 0.0 : sum / count;
+    }
+
+    public double variance() {
+        if (count == 0) {
+            return 0.0;
+        }
+        double mean = average();
+        return Math.max(0.0, sumOfSquares / count - mean * mean);
+    }
+
+    public double standardDeviation() {
+        return Math.sqrt(variance());
+    }
+}
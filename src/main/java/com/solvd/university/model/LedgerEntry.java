@@ -0,0 +1,81 @@
+package com.solvd.university.model;
+
+import java.time.LocalDateTime;
+
+// Compared by identity, so two equal payments submitted together stay two payments
+public class LedgerEntry {
+
+    private Long ledgerId;
+    private Integer studentId;
+    private long amountCents;
+    private LocalDateTime recordedAt;
+    private long balanceAfterCents;
+    private String rejection;
+
+    public LedgerEntry(Integer studentId, long amountCents, LocalDateTime recordedAt) {
+        this.ledgerId = null;
+        this.studentId = studentId;
+        this.amountCents = amountCents;
+        this.recordedAt = recordedAt != null ? recordedAt : LocalDateTime.now();
+    }
+
+    public static LedgerEntry charge(Integer studentId, long amountCents) {
+        return new LedgerEntry(studentId, amountCents, LocalDateTime.now());
+    }
+
+    public static LedgerEntry payment(Integer studentId, long amountCents) {
+        return new LedgerEntry(studentId, -amountCents, LocalDateTime.now());
+    }
+
+    public Long getLedgerId() {
+        return ledgerId;
+    }
+
+    public void setLedgerId(Long ledgerId) {
+        this.ledgerId = ledgerId;
+    }
+
+    public Integer getStudentId() {
+        return studentId;
+    }
+
+    public long getAmountCents() {
+        return amountCents;
+    }
+
+    public boolean isPayment() {
+        return amountCents < 0;
+    }
+
+    public LocalDateTime getRecordedAt() {
+        return recordedAt;
+    }
+
+    // Not stored; only known to the writer that appended the entry
+    public long getBalanceAfterCents() {
+        return balanceAfterCents;
+    }
+
+    public void setBalanceAfterCents(long balanceAfterCents) {
+        this.balanceAfterCents = balanceAfterCents;
+    }
+
+    public String getRejection() {
+        return rejection;
+    }
+
+    public void setRejection(String rejection) {
+        this.rejection = rejection;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "LedgerEntry{id=%d, student=%d, amount=%s, recorded=%s}",
+            ledgerId,
+            studentId,
+            Money.toDecimal(amountCents),
+            recordedAt
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package com.solvd.university.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public final class Money {
+
+    private static final int CENT_SCALE = 2;
+
+    private Money() {}
+
+    public static long toCents(double amount) {
+        return toCents(BigDecimal.valueOf(amount));
+    }
+
+    public static long toCents(BigDecimal amount) {
+        return amount.setScale(CENT_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toDecimal(long cents) {
+        return BigDecimal.valueOf(cents, CENT_SCALE);
+    }
+
+    public static double toDouble(long cents) {
+        return toDecimal(cents).doubleValue();
+    }
+}
@@ -0,0 +1,53 @@
+package com.solvd.university.model;
+
+import com.solvd.university.model.exception.InvalidPaymentException;
+import java.math.BigDecimal;
+
+public final class PaymentRules {
+
+    private static final int CENT_SCALE = 2;
+
+    private PaymentRules() {}
+
+    public static long toPaymentCents(double amount) throws InvalidPaymentException {
+        if (Double.isNaN(amount) || Double.isInfinite(amount)) {
+            throw new InvalidPaymentException();
+        }
+        return toPaymentCents(BigDecimal.valueOf(amount));
+    }
+
+    public static long toPaymentCents(BigDecimal amount) throws InvalidPaymentException {
+        if (amount.signum() <= 0) {
+            throw new InvalidPaymentException("Payment must be greater than zero.");
+        }
+        if (amount.stripTrailingZeros().scale() > CENT_SCALE) {
+            throw new InvalidPaymentException("Payment amount must not include fractions of a cent.");
+        }
+        return Money.toCents(amount);
+    }
+
+    public static void checkBalance(long amountCents, long balanceCents) throws InvalidPaymentException {
+        if (amountCents > balanceCents) {
+            throw new InvalidPaymentException(
+                "Payment amount ($" +
+                    Money.toDecimal(amountCents) +
+                    ") exceeds outstanding balance ($" +
+                    Money.toDecimal(balanceCents) +
+                    "). Please enter a valid payment amount."
+            );
+        }
+    }
+
+    // Balances live in the payment ledger, so a new student's row cannot carry one
+    public static void requireNoOpeningBalance(Student student) {
+        if (student.getOutstandingBalanceCents() != 0) {
+            throw new IllegalArgumentException(
+                "Student " +
+                    student.getEmail() +
+                    " has an opening balance of $" +
+                    Money.toDecimal(student.getOutstandingBalanceCents()) +
+                    "; record it as a ledger charge once the student is saved"
+            );
+        }
+    }
+}
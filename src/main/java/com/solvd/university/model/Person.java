@@ -2,12 +2,13 @@ package com.solvd.university.model;
 
 import java.util.Objects;
 
-public abstract class Person {
+public abstract class Person implements ChangeTracked {
 
     protected Integer personId;
     protected String firstName;
     protected String lastName;
     protected String email;
+    protected final ChangeTracker changes = new ChangeTracker();
 
     protected Person() {
         this.personId = null;
@@ -17,7 +18,7 @@ public abstract class Person {
         this.personId = null;
         this.firstName = firstName;
         this.lastName = lastName;
-        this.email = email;
+        this.email = changes.track("email", this.email, email);
     }
 
     public Integer getPersonId() {
@@ -28,6 +29,11 @@ public abstract class Person {
         this.personId = personId;
     }
 
+    @Override
+    public ChangeTracker getChanges() {
+        return changes;
+    }
+
     public String getFullName() {
         return String.format("%s %s", firstName, lastName);
     }
@@ -37,7 +43,7 @@ public abstract class Person {
     }
 
     public void setFirstName(String firstName) {
-        this.firstName = firstName;
+        this.firstName = changes.track("firstName", this.firstName, firstName);
     }
 
     public String getLastName() {
@@ -45,7 +51,7 @@ public abstract class Person {
     }
 
     public void setLastName(String lastName) {
-        this.lastName = lastName;
+        this.lastName = changes.track("lastName", this.lastName, lastName);
     }
 
     public String getEmail() {
@@ -53,7 +59,7 @@ public abstract class Person {
     }
 
     public void setEmail(String email) {
-        this.email = email;
+        this.email = changes.track("email", this.email, email);
     }
 
     @Override
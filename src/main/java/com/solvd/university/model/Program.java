@@ -7,7 +7,7 @@ import java.util.Objects;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-public class Program implements Identifiable {
+public class Program implements Identifiable, ChangeTracked {
 
     private Integer programId;
     private Integer departmentId;
@@ -18,6 +18,7 @@ public class Program implements Identifiable {
     Department<?> department;
     private static final NumberFormat numberFormat = NumberFormat.getCurrencyInstance(Locale.of("en", "US"));
     private final String id;
+    private final ChangeTracker changes = new ChangeTracker();
 
     public Program(String name, int duration, double price, Department<?> department) {
         this.programId = null;
@@ -45,7 +46,7 @@ public class Program implements Identifiable {
     }
 
     public void setProgramId(Integer programId) {
-        this.programId = programId;
+        this.programId = changes.track("programId", this.programId, programId);
     }
 
     public Integer getDepartmentId() {
@@ -53,7 +54,7 @@ public class Program implements Identifiable {
     }
 
     public void setDepartmentId(Integer departmentId) {
-        this.departmentId = departmentId;
+        this.departmentId = changes.track("departmentId", this.departmentId, departmentId);
     }
 
     public Integer getUniversityId() {
@@ -61,7 +62,7 @@ public class Program implements Identifiable {
     }
 
     public void setUniversityId(Integer universityId) {
-        this.universityId = universityId;
+        this.universityId = changes.track("universityId", this.universityId, universityId);
     }
 
     public String getName() {
@@ -69,7 +70,7 @@ public class Program implements Identifiable {
     }
 
     public void setName(String name) {
-        this.name = name;
+        this.name = changes.track("name", this.name, name);
     }
 
     public int getDuration() {
@@ -77,7 +78,7 @@ public class Program implements Identifiable {
     }
 
     public void setDuration(int duration) {
-        this.duration = duration;
+        this.duration = changes.track("duration", this.duration, duration);
     }
 
     @JsonIgnore
@@ -87,7 +88,7 @@ public class Program implements Identifiable {
 
     @JsonProperty("price")
     public void setPrice(double price) {
-        this.price = price;
+        this.price = changes.track("price", this.price, price);
     }
 
     @JsonIgnore
@@ -97,8 +98,8 @@ public class Program implements Identifiable {
 
     public void setDepartment(Department<?> department) {
         this.department = department;
-        this.departmentId = department != null ? department.getDepartmentId() : null;
-        this.universityId = department != null ? department.getUniversityId() : null;
+        setDepartmentId(department != null ? department.getDepartmentId() : null);
+        setUniversityId(department != null ? department.getUniversityId() : null);
     }
 
     @Override
@@ -125,6 +126,12 @@ public class Program implements Identifiable {
         return String.format("%s | %d years | %s", name, duration, numberFormat.format(price));
     }
 
+    @JsonIgnore
+    @Override
+    public ChangeTracker getChanges() {
+        return changes;
+    }
+
     @JsonIgnore
     public double getRawPrice() {
         return price;
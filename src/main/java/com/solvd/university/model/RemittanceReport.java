@@ -0,0 +1,73 @@
+package com.solvd.university.model;
+
+import java.time.Duration;
+import java.util.List;
+
+public class RemittanceReport {
+
+    private final String source;
+    private final long rowsRead;
+    private final long acceptedCount;
+    private final long acceptedCents;
+    private final List<Rejection> rejections;
+    private final Duration elapsed;
+
+    public RemittanceReport(
+        String source,
+        long rowsRead,
+        long acceptedCount,
+        long acceptedCents,
+        List<Rejection> rejections,
+        Duration elapsed
+    ) {
+        this.source = source;
+        this.rowsRead = rowsRead;
+        this.acceptedCount = acceptedCount;
+        this.acceptedCents = acceptedCents;
+        this.rejections = List.copyOf(rejections);
+        this.elapsed = elapsed;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public long getAcceptedCount() {
+        return acceptedCount;
+    }
+
+    public long getAcceptedCents() {
+        return acceptedCents;
+    }
+
+    public long getRejectedCount() {
+        return rejections.size();
+    }
+
+    public List<Rejection> getRejections() {
+        return rejections;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "Remittance [%s] - Rows: %d, Accepted: %d ($%s), Rejected: %d, Elapsed: %d ms",
+            source,
+            rowsRead,
+            acceptedCount,
+            Money.toDecimal(acceptedCents),
+            getRejectedCount(),
+            elapsed.toMillis()
+        );
+    }
+
+    public record Rejection(long lineNumber, String line, String reason) {}
+}
@@ -4,9 +4,12 @@ import com.solvd.university.model.annotation.RequiredExperience;
 import com.solvd.university.model.exception.InvalidPaymentException;
 import java.text.NumberFormat;
 import java.util.ArrayList;
+import java.util.DoubleSummaryStatistics;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
@@ -21,8 +24,10 @@ public class Student extends Person implements Identifiable, Enrollable, Payable
     private EnrollmentStatus enrollmentStatus;
     private GradeLevel gradeLevel;
     private boolean isRegistered;
-    private double balance;
+    private long balanceCents;
     private List<Grade<Double>> grades;
+    private final DoubleSummaryStatistics gradeStats = new DoubleSummaryStatistics();
+    private final Map<String, DoubleSummaryStatistics> gradeStatsBySemester = new HashMap<>();
     private HashSet<Course<?, ?>> enrolledCourses;
     private static final NumberFormat numberFormat = NumberFormat.getCurrencyInstance(Locale.of("en", "US"));
 
@@ -36,7 +41,7 @@ public class Student extends Person implements Identifiable, Enrollable, Payable
         isRegistered = false;
         studentNumber = generateRandomId();
         id = "STU-" + studentNumber;
-        balance = 0.0;
+        balanceCents = 0;
         this.grades = new ArrayList<>();
         this.enrolledCourses = new HashSet<>();
     }
@@ -50,7 +55,7 @@ public class Student extends Person implements Identifiable, Enrollable, Payable
     }
 
     public void setAge(int age) {
-        this.age = age;
+        this.age = changes.track("age", this.age, age);
     }
 
     public Integer getStudentId() {
@@ -58,7 +63,7 @@ public class Student extends Person implements Identifiable, Enrollable, Payable
     }
 
     public void setStudentId(Integer studentId) {
-        this.studentId = studentId;
+        this.studentId = changes.track("studentId", this.studentId, studentId);
     }
 
     public int getStudentNumber() {
@@ -70,7 +75,7 @@ public class Student extends Person implements Identifiable, Enrollable, Payable
     }
 
     public void setEnrolledProgram(Program enrolledProgram) {
-        this.enrolledProgram = enrolledProgram;
+        this.enrolledProgram = changes.track("enrolledProgram", this.enrolledProgram, enrolledProgram);
     }
 
     public EnrollmentStatus getEnrollmentStatus() {
@@ -78,7 +83,7 @@ public class Student extends Person implements Identifiable, Enrollable, Payable
     }
 
     public void setEnrollmentStatus(EnrollmentStatus enrollmentStatus) {
-        this.enrollmentStatus = enrollmentStatus;
+        this.enrollmentStatus = changes.track("enrollmentStatus", this.enrollmentStatus, enrollmentStatus);
     }
 
     public GradeLevel getGradeLevel() {
@@ -86,19 +91,19 @@ public class Student extends Person implements Identifiable, Enrollable, Payable
     }
 
     public void setGradeLevel(GradeLevel gradeLevel) {
-        this.gradeLevel = gradeLevel;
+        this.gradeLevel = changes.track("gradeLevel", this.gradeLevel, gradeLevel);
     }
 
     @RequiredExperience(level = 2)
     public void advanceGradeLevel() {
         if (gradeLevel.getYear() == 1) {
-            gradeLevel = GradeLevel.SOPHOMORE;
+            setGradeLevel(GradeLevel.SOPHOMORE);
         } else if (gradeLevel.getYear() == 2) {
-            gradeLevel = GradeLevel.JUNIOR;
+            setGradeLevel(GradeLevel.JUNIOR);
         } else if (gradeLevel.getYear() == 3) {
-            gradeLevel = GradeLevel.SENIOR;
+            setGradeLevel(GradeLevel.SENIOR);
         } else if (gradeLevel.getYear() == 4) {
-            gradeLevel = GradeLevel.GRADUATE;
+            setGradeLevel(GradeLevel.GRADUATE);
         }
     }
 
@@ -107,7 +112,7 @@ public class Student extends Person implements Identifiable, Enrollable, Payable
     }
 
     public void setEnrolled(boolean enrolled) {
-        this.enrollmentStatus = enrolled ? EnrollmentStatus.ENROLLED : EnrollmentStatus.APPLIED;
+        setEnrollmentStatus(enrolled ? EnrollmentStatus.ENROLLED : EnrollmentStatus.APPLIED);
     }
 
     public boolean isRegistered() {
@@ -115,16 +120,19 @@ public class Student extends Person implements Identifiable, Enrollable, Payable
     }
 
     public void setRegistered(boolean registered) {
-        isRegistered = registered;
+        isRegistered = changes.track("registered", isRegistered, registered);
     }
 
     public void addGrade(Grade<Double> grade) {
         grades.add(grade);
+        gradeStats.accept(grade.value());
+        gradeStatsBySemester.computeIfAbsent(grade.semester(), semester -> new DoubleSummaryStatistics())
+            .accept(grade.value());
     }
 
     public void addGrade(Grade<Double> grade, GradeValidator validator) {
         if (validator.isValid(grade.value())) {
-            grades.add(grade);
+            addGrade(grade);
         } else {
             throw new IllegalArgumentException("Invalid grade value: " + grade.value());
         }
@@ -142,18 +150,12 @@ public class Student extends Person implements Identifiable, Enrollable, Payable
     }
 
     public double calculateAverageGrade() {
-        if (grades.isEmpty()) {
-            return 0.0;
-        }
-        return grades.stream().mapToDouble(Grade::value).average().orElse(0.0);
+        return gradeStats.getAverage();
     }
 
     public double calculateSemesterAverage(String semester) {
-        List<Grade<Double>> semesterGrades = getGradesForSemester(semester);
-        if (semesterGrades.isEmpty()) {
-            return 0.0;
-        }
-        return semesterGrades.stream().mapToDouble(Grade::value).average().orElse(0.0);
+        DoubleSummaryStatistics semesterStats = gradeStatsBySemester.get(semester);
+        return semesterStats != null ? semesterStats.getAverage() : 0.0;
     }
 
     @Override
@@ -199,7 +201,7 @@ public class Student extends Person implements Identifiable, Enrollable, Payable
             ", isRegistered=" +
             isRegistered +
             ", balance=" +
-            balance +
+            Money.toDecimal(balanceCents) +
             ", averageGrade=" +
             String.format("%.2f", calculateAverageGrade()) +
             ", totalGrades=" +
@@ -215,18 +217,26 @@ public class Student extends Person implements Identifiable, Enrollable, Payable
 
     @Override
     public void enroll(Program program) {
-        this.enrolledProgram = program;
-        this.enrollmentStatus = EnrollmentStatus.ENROLLED;
-        this.balance += program.getRawPrice();
+        setEnrolledProgram(program);
+        setEnrollmentStatus(EnrollmentStatus.ENROLLED);
+        setOutstandingBalanceCents(balanceCents + Money.toCents(program.getRawPrice()));
     }
 
     @Override
     public double getOutstandingBalance() {
-        return balance;
+        return Money.toDouble(balanceCents);
     }
 
     public void setOutstandingBalance(double balance) {
-        this.balance = balance;
+        setOutstandingBalanceCents(Money.toCents(balance));
+    }
+
+    public long getOutstandingBalanceCents() {
+        return balanceCents;
+    }
+
+    public void setOutstandingBalanceCents(long balanceCents) {
+        this.balanceCents = changes.track("balance", this.balanceCents, balanceCents);
     }
 
     @Override
@@ -234,20 +244,21 @@ public class Student extends Person implements Identifiable, Enrollable, Payable
         if (amount <= 0) {
             throw new InvalidPaymentException("Payment must be greater than zero.");
         }
-        if (amount > balance) {
+        long amountCents = Money.toCents(amount);
+        if (amountCents > balanceCents) {
             throw new InvalidPaymentException(
                 "Payment amount ($" +
                     String.format("%.2f", amount) +
                     ") exceeds outstanding balance ($" +
-                    String.format("%.2f", balance) +
+                    Money.toDecimal(balanceCents) +
                     "). Please enter a valid payment amount."
             );
         }
-        balance = balance - amount;
+        setOutstandingBalanceCents(balanceCents - amountCents);
     }
 
     public String getOutstandingBalanceFormatted() {
-        return numberFormat.format(balance);
+        return numberFormat.format(Money.toDecimal(balanceCents));
     }
 
     public boolean enrollInCourse(Course<?, ?> course) {
@@ -0,0 +1,193 @@
+package com.solvd.university.model;
+
+import java.util.Objects;
+
+public final class StudentCriteria implements StudentFilter {
+
+    private final EnrollmentStatus enrollmentStatus;
+    private final boolean activeOnly;
+    private final boolean withOutstandingBalance;
+    private final GradeLevel gradeLevel;
+    private final Integer departmentId;
+    private final Integer afterStudentId;
+    private final int limit;
+
+    private StudentCriteria(Builder builder) {
+        this.enrollmentStatus = builder.enrollmentStatus;
+        this.activeOnly = builder.activeOnly;
+        this.withOutstandingBalance = builder.withOutstandingBalance;
+        this.gradeLevel = builder.gradeLevel;
+        this.departmentId = builder.departmentId;
+        this.afterStudentId = builder.afterStudentId;
+        this.limit = builder.limit;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Builder toBuilder() {
+        Builder builder = new Builder();
+        builder.enrollmentStatus = enrollmentStatus;
+        builder.activeOnly = activeOnly;
+        builder.withOutstandingBalance = withOutstandingBalance;
+        builder.gradeLevel = gradeLevel;
+        builder.departmentId = departmentId;
+        builder.afterStudentId = afterStudentId;
+        builder.limit = limit;
+        return builder;
+    }
+
+    public StudentCriteria nextPage(Student lastSeen) {
+        return toBuilder().after(lastSeen.getStudentId()).build();
+    }
+
+    @Override
+    public boolean matches(Student student) {
+        if (enrollmentStatus != null && !enrollmentStatus.equals(student.getEnrollmentStatus())) {
+            return false;
+        }
+        if (activeOnly && !student.isEnrolled()) {
+            return false;
+        }
+        if (withOutstandingBalance && student.getOutstandingBalance() <= 0) {
+            return false;
+        }
+        if (gradeLevel != null && !gradeLevel.equals(student.getGradeLevel())) {
+            return false;
+        }
+        if (departmentId != null) {
+            Program program = student.getEnrolledProgram();
+            if (program == null || !departmentId.equals(program.getDepartmentId())) {
+                return false;
+            }
+        }
+        return afterStudentId == null || (student.getStudentId() != null && student.getStudentId() > afterStudentId);
+    }
+
+    public EnrollmentStatus getEnrollmentStatus() {
+        return enrollmentStatus;
+    }
+
+    public boolean isActiveOnly() {
+        return activeOnly;
+    }
+
+    public boolean isWithOutstandingBalance() {
+        return withOutstandingBalance;
+    }
+
+    public GradeLevel getGradeLevel() {
+        return gradeLevel;
+    }
+
+    public Integer getDepartmentId() {
+        return departmentId;
+    }
+
+    public Integer getAfterStudentId() {
+        return afterStudentId;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public boolean hasLimit() {
+        return limit > 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        StudentCriteria that = (StudentCriteria) o;
+        return activeOnly == that.activeOnly &&
+            withOutstandingBalance == that.withOutstandingBalance &&
+            limit == that.limit &&
+            Objects.equals(enrollmentStatus, that.enrollmentStatus) &&
+            Objects.equals(gradeLevel, that.gradeLevel) &&
+            Objects.equals(departmentId, that.departmentId) &&
+            Objects.equals(afterStudentId, that.afterStudentId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            enrollmentStatus,
+            activeOnly,
+            withOutstandingBalance,
+            gradeLevel,
+            departmentId,
+            afterStudentId,
+            limit
+        );
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "StudentCriteria{status=%s, activeOnly=%s, withBalance=%s, gradeLevel=%s, departmentId=%s, after=%s, limit=%d}",
+            enrollmentStatus,
+            activeOnly,
+            withOutstandingBalance,
+            gradeLevel != null ? gradeLevel.getDisplayName() : null,
+            departmentId,
+            afterStudentId,
+            limit
+        );
+    }
+
+    public static final class Builder {
+
+        private EnrollmentStatus enrollmentStatus;
+        private boolean activeOnly;
+        private boolean withOutstandingBalance;
+        private GradeLevel gradeLevel;
+        private Integer departmentId;
+        private Integer afterStudentId;
+        private int limit;
+
+        public Builder enrollmentStatus(EnrollmentStatus status) {
+            this.enrollmentStatus = status;
+            return this;
+        }
+
+        public Builder activeOnly() {
+            this.activeOnly = true;
+            return this;
+        }
+
+        public Builder withOutstandingBalance() {
+            this.withOutstandingBalance = true;
+            return this;
+        }
+
+        public Builder gradeLevel(GradeLevel level) {
+            this.gradeLevel = level;
+            return this;
+        }
+
+        public Builder departmentId(Integer deptId) {
+            this.departmentId = deptId;
+            return this;
+        }
+
+        public Builder after(Integer studentId) {
+            this.afterStudentId = studentId;
+            return this;
+        }
+
+        public Builder limit(int pageSize) {
+            if (pageSize < 0) {
+                throw new IllegalArgumentException("Page size cannot be negative");
+            }
+            this.limit = pageSize;
+            return this;
+        }
+
+        public StudentCriteria build() {
+            return new StudentCriteria(this);
+        }
+    }
+}
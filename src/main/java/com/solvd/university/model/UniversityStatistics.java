@@ -0,0 +1,38 @@
+package com.solvd.university.model;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public record UniversityStatistics(
+    List<Department<?>> departments,
+    int professorCount,
+    int courseCount,
+    Map<Integer, List<Course<?, ?>>> coursesByDepartment,
+    Map<Professor, List<Course<?, ?>>> coursesByProfessor
+) {
+    public UniversityStatistics {
+        departments = List.copyOf(departments);
+        coursesByDepartment = frozen(coursesByDepartment);
+        coursesByProfessor = frozen(coursesByProfessor);
+    }
+
+    public int departmentCount() {
+        return departments.size();
+    }
+
+    public List<Course<?, ?>> coursesFor(Department<?> department) {
+        return coursesByDepartment.getOrDefault(department.getDepartmentId(), List.of());
+    }
+
+    public int courseCountFor(Department<?> department) {
+        return coursesFor(department).size();
+    }
+
+    private static <K> Map<K, List<Course<?, ?>>> frozen(Map<K, List<Course<?, ?>>> source) {
+        Map<K, List<Course<?, ?>>> copy = new LinkedHashMap<>();
+        source.forEach((key, courses) -> copy.put(key, List.copyOf(courses)));
+        return Collections.unmodifiableMap(copy);
+    }
+}
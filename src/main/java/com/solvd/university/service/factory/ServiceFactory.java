@@ -23,10 +23,14 @@ public final class ServiceFactory {
                 REGISTRY.put(StudentService.class, StudentServiceImpl::new);
         REGISTRY.put(EnrollmentService.class, EnrollmentServiceImpl::new);
         REGISTRY.put(EnrollmentStatusService.class, EnrollmentStatusServiceImpl::new);
+        REGISTRY.put(PaymentLedgerService.class, PaymentLedgerServiceImpl::new);
+        REGISTRY.put(RemittanceImportService.class, RemittanceImportServiceImpl::new);
+        REGISTRY.put(SeatInventoryService.class, SeatInventoryServiceImpl::new);
 
                 REGISTRY.put(ProgramService.class, ProgramServiceImpl::new);
         REGISTRY.put(CourseService.class, CourseServiceImpl::new);
         REGISTRY.put(CourseDifficultyService.class, CourseDifficultyServiceImpl::new);
+        REGISTRY.put(StatisticsService.class, StatisticsServiceImpl::new);
 
                 REGISTRY.put(StudentGradeService.class, StudentGradeServiceImpl::new);
         REGISTRY.put(CourseGradeService.class, CourseGradeServiceImpl::new);
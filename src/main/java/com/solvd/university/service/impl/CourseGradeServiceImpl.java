@@ -1,7 +1,10 @@
 package com.solvd.university.service.impl;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -9,15 +12,23 @@ import org.apache.logging.log4j.Logger;
 import com.solvd.university.dao.factory.DAOFactory;
 import com.solvd.university.dao.interfaces.CourseGradeDAO;
 import com.solvd.university.model.CourseGrade;
+import com.solvd.university.model.GradeScope;
+import com.solvd.university.model.GradeSummary;
 import com.solvd.university.service.interfaces.CourseGradeService;
+import com.solvd.university.service.interfaces.GradeSummaryService;
+import com.solvd.university.util.TransactionManager;
 
 public class CourseGradeServiceImpl implements CourseGradeService {
 
     private static final Logger LOGGER = LogManager.getLogger();
     private final CourseGradeDAO courseGradeDAO;
+    private final GradeSummaryService gradeSummaryService;
+    private final TransactionManager transactionManager;
 
     public CourseGradeServiceImpl() {
         this.courseGradeDAO = DAOFactory.create(CourseGradeDAO.class);
+        this.gradeSummaryService = new GradeSummaryServiceImpl();
+        this.transactionManager = DAOFactory.getTransactionManager();
     }
 
     @Override
@@ -28,27 +39,57 @@ public class CourseGradeServiceImpl implements CourseGradeService {
         Integer semester,
         LocalDateTime recordedAt
     ) {
-        if (courseId == null) {
+        LocalDateTime recorded = recordedAt != null ? recordedAt : LocalDateTime.now();
+
+        CourseGrade grade = new CourseGrade(courseId, subject, value, semester, recorded);
+        validateGrade(grade);
+        transactionManager.execute(() -> {
+            gradeSummaryService.recordChange(GradeScope.COURSE, courseId, semester, List.of(value), List.of());
+            courseGradeDAO.save(grade);
+        });
+
+        LOGGER.info("Added grade for course {}: {} = {} (semester {})", courseId, subject, value, semester);
+
+        return grade;
+    }
+
+    @Override
+    public void addGrades(List<CourseGrade> grades) {
+        for (CourseGrade grade : grades) {
+            validateGrade(grade);
+            if (grade.getRecordedAt() == null) {
+                grade.setRecordedAt(LocalDateTime.now());
+            }
+        }
+
+        Map<List<Integer>, List<Double>> valuesByKey = new LinkedHashMap<>();
+        for (CourseGrade grade : grades) {
+            valuesByKey
+                .computeIfAbsent(List.of(grade.getCourseId(), grade.getSemester()), key -> new ArrayList<>())
+                .add(grade.getValue());
+        }
+
+        transactionManager.execute(() -> {
+            valuesByKey.forEach((key, values) ->
+                gradeSummaryService.recordChange(GradeScope.COURSE, key.get(0), key.get(1), values, List.of())
+            );
+            courseGradeDAO.saveAll(grades);
+        });
+    }
+
+    private void validateGrade(CourseGrade grade) {
+        if (grade.getCourseId() == null) {
             throw new IllegalArgumentException("Course ID cannot be null");
         }
-        if (subject == null || subject.trim().isEmpty()) {
+        if (grade.getSubject() == null || grade.getSubject().trim().isEmpty()) {
             throw new IllegalArgumentException("Subject cannot be null or empty");
         }
-        if (value == null || value < 0 || value > 100) {
+        if (grade.getValue() == null || grade.getValue() < 0 || grade.getValue() > 100) {
             throw new IllegalArgumentException("Grade value must be between 0 and 100");
         }
-        if (semester == null || semester < 1) {
+        if (grade.getSemester() == null || grade.getSemester() < 1) {
             throw new IllegalArgumentException("Semester must be a positive number");
         }
-
-        LocalDateTime recorded = recordedAt != null ? recordedAt : LocalDateTime.now();
-
-        CourseGrade grade = new CourseGrade(courseId, subject, value, semester, recorded);
-        courseGradeDAO.save(grade);
-
-        LOGGER.info("Added grade for course {}: {} = {} (semester {})", courseId, subject, value, semester);
-
-        return grade;
     }
 
     @Override
@@ -88,16 +129,15 @@ public class CourseGradeServiceImpl implements CourseGradeService {
         if (courseId == null) {
             throw new IllegalArgumentException("Course ID cannot be null");
         }
+        return gradeSummaryService.getSummary(GradeScope.COURSE, courseId).average();
+    }
 
-        List<CourseGrade> grades = courseGradeDAO.findByCourseId(courseId);
-
-        if (grades.isEmpty()) {
-            return 0.0;
+    @Override
+    public GradeSummary getGradeSummary(Integer courseId) {
+        if (courseId == null) {
+            throw new IllegalArgumentException("Course ID cannot be null");
         }
-
-        double sum = grades.stream().mapToDouble(CourseGrade::getValue).sum();
-
-        return sum / grades.size();
+        return gradeSummaryService.getSummary(GradeScope.COURSE, courseId);
     }
 
     @Override
@@ -109,7 +149,26 @@ public class CourseGradeServiceImpl implements CourseGradeService {
             throw new IllegalArgumentException("Grade ID cannot be null for update");
         }
 
-        courseGradeDAO.update(grade);
+        transactionManager.execute(() -> {
+            CourseGrade previous = courseGradeDAO.findById(grade.getCourseGradeId());
+            if (previous != null) {
+                gradeSummaryService.recordChange(
+                    GradeScope.COURSE,
+                    previous.getCourseId(),
+                    previous.getSemester(),
+                    List.of(),
+                    List.of(previous.getValue())
+                );
+                gradeSummaryService.recordChange(
+                    GradeScope.COURSE,
+                    grade.getCourseId(),
+                    grade.getSemester(),
+                    List.of(grade.getValue()),
+                    List.of()
+                );
+            }
+            courseGradeDAO.update(grade);
+        });
         LOGGER.info("Updated course grade: ID {}", grade.getCourseGradeId());
     }
 
@@ -119,7 +178,19 @@ public class CourseGradeServiceImpl implements CourseGradeService {
             throw new IllegalArgumentException("Grade ID cannot be null");
         }
 
-        courseGradeDAO.delete(id);
+        transactionManager.execute(() -> {
+            CourseGrade previous = courseGradeDAO.findById(id);
+            if (previous != null) {
+                gradeSummaryService.recordChange(
+                    GradeScope.COURSE,
+                    previous.getCourseId(),
+                    previous.getSemester(),
+                    List.of(),
+                    List.of(previous.getValue())
+                );
+            }
+            courseGradeDAO.delete(id);
+        });
         LOGGER.info("Deleted course grade: ID {}", id);
     }
 
@@ -6,6 +6,7 @@ import java.util.stream.Collectors;
 import com.solvd.university.dao.factory.DAOFactory;
 import com.solvd.university.dao.interfaces.CourseDAO;
 import com.solvd.university.model.Course;
+import com.solvd.university.model.CourseCriteria;
 import com.solvd.university.model.CourseFormatter;
 import com.solvd.university.service.interfaces.CourseService;
 
@@ -37,11 +38,12 @@ public class CourseServiceImpl implements CourseService {
         if (departmentId == null) {
             return getAllCourses();
         }
-        return courseDAO
-            .findAll()
-            .stream()
-            .filter(course -> departmentId.equals(course.getDepartmentId()))
-            .collect(Collectors.toList());
+        return getCourses(CourseCriteria.builder().departmentId(departmentId).build());
+    }
+
+    @Override
+    public List<Course<?, ?>> getCourses(CourseCriteria criteria) {
+        return courseDAO.findByCriteria(criteria);
     }
 
     @Override
@@ -3,6 +3,7 @@ package com.solvd.university.service.impl;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
@@ -12,26 +13,38 @@ import com.solvd.university.dao.factory.DAOFactory;
 import com.solvd.university.dao.interfaces.EnrollmentDAO;
 import com.solvd.university.dao.interfaces.StudentDAO;
 import com.solvd.university.model.Course;
+import com.solvd.university.model.CourseGrade;
 import com.solvd.university.model.Enrollment;
 import com.solvd.university.model.Grade;
+import com.solvd.university.model.Money;
+import com.solvd.university.model.PaymentRules;
 import com.solvd.university.model.Program;
 import com.solvd.university.model.Student;
+import com.solvd.university.model.StudentGrade;
 import com.solvd.university.model.exception.AlreadyEnrolledException;
 import com.solvd.university.model.exception.InvalidPaymentException;
 import com.solvd.university.model.exception.StudentNotEnrolledException;
 import com.solvd.university.service.interfaces.CourseGradeService;
 import com.solvd.university.service.interfaces.CourseService;
 import com.solvd.university.service.interfaces.EnrollmentService;
+import com.solvd.university.service.interfaces.PaymentLedgerService;
+import com.solvd.university.service.interfaces.SeatInventoryService;
 import com.solvd.university.service.interfaces.StudentGradeService;
 import com.solvd.university.util.RandomProvider;
+import com.solvd.university.util.TransactionManager;
 
 public class EnrollmentServiceImpl implements EnrollmentService {
 
+    private static final int MAX_ENROLL_ATTEMPTS = 3;
+
     private final EnrollmentDAO enrollmentDAO;
     private final StudentDAO studentDAO;
     private final CourseService courseService;
     private final StudentGradeService studentGradeService;
     private final CourseGradeService courseGradeService;
+    private final PaymentLedgerService paymentLedgerService;
+    private final SeatInventoryService seatInventoryService;
+    private final TransactionManager transactionManager;
     private final Random random = RandomProvider.getInstance().getRandom();
 
     public EnrollmentServiceImpl() {
@@ -40,6 +53,9 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         this.courseService = new CourseServiceImpl();
         this.studentGradeService = new StudentGradeServiceImpl();
         this.courseGradeService = new CourseGradeServiceImpl();
+        this.paymentLedgerService = new PaymentLedgerServiceImpl();
+        this.seatInventoryService = new SeatInventoryServiceImpl();
+        this.transactionManager = DAOFactory.getTransactionManager();
     }
 
     @Override
@@ -53,18 +69,24 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         }
 
         Enrollment enrollment = new Enrollment(student, program);
-        enrollmentDAO.save(enrollment);
 
-        student.enroll(program);
+        List<Grade<Double>> grades = transactionManager.executeWithRetry(MAX_ENROLL_ATTEMPTS, () -> {
+            enrollmentDAO.save(enrollment);
+
+            student.enroll(program);
+            paymentLedgerService.recordCharge(student, Money.toCents(program.getRawPrice()));
 
-        assignRandomCoursesAndGrades(student);
+            List<Grade<Double>> assigned = assignRandomCoursesAndGrades(student);
 
-        studentDAO.update(student);
+            studentDAO.update(student);
+            return assigned;
+        });
+        grades.forEach(student::addGrade);
 
         return enrollment;
     }
 
-    private void assignRandomCoursesAndGrades(Student student) {
+    private List<Grade<Double>> assignRandomCoursesAndGrades(Student student) {
         Integer departmentId = student.getEnrolledProgram() != null
             ? student.getEnrolledProgram().getDepartmentId()
             : null;
@@ -74,23 +96,29 @@ public class EnrollmentServiceImpl implements EnrollmentService {
             : courseService.getAllCourses();
 
         if (departmentCourses.isEmpty()) {
-            return;
+            return List.of();
         }
 
         List<Course<?, ?>> shuffledCourses = new ArrayList<>(departmentCourses);
         Collections.shuffle(shuffledCourses, random);
         int numCoursesToAssign = Math.min(4, shuffledCourses.size());
 
-        Set<Course<?, ?>> assignedCourses = new HashSet<>();
+        // Seats are taken in course order so concurrent enrollments lock course_seat rows in the same order
+        List<Course<?, ?>> pickedCourses = new ArrayList<>(shuffledCourses.subList(0, numCoursesToAssign));
+        pickedCourses.sort(Comparator.comparing(Course::getCourseId, Comparator.nullsLast(Comparator.naturalOrder())));
 
-        for (int i = 0; i < numCoursesToAssign; i++) {
-            Course<?, ?> course = shuffledCourses.get(i);
+        Set<Course<?, ?>> assignedCourses = new HashSet<>();
+        List<Grade<Double>> grades = new ArrayList<>();
+        List<StudentGrade> studentGrades = new ArrayList<>();
+        List<CourseGrade> courseGrades = new ArrayList<>();
+        LocalDateTime recordedAt = LocalDateTime.now();
 
+        for (Course<?, ?> course : pickedCourses) {
             if (assignedCourses.contains(course)) {
                 continue;
             }
 
-            boolean enrolled = student.enrollInCourse(course);
+            boolean enrolled = seatInventoryService.enrollInCourse(student, course);
 
             if (!enrolled) {
                 continue;
@@ -102,22 +130,20 @@ public class EnrollmentServiceImpl implements EnrollmentService {
             gradeValue = Math.round(gradeValue * 100.0) / 100.0;
 
             Grade<Double> grade = new Grade<>(course.getCourseName(), gradeValue, "Fall 2024");
-            student.addGrade(grade);
+            grades.add(grade);
 
             if (student.getStudentId() != null) {
-                studentGradeService.addGrade(student.getStudentId(), course.getCourseName(), gradeValue, 1);
+                studentGrades.add(new StudentGrade(student.getStudentId(), course.getCourseName(), gradeValue, 1));
             }
 
             if (course.getCourseId() != null) {
-                courseGradeService.addGrade(
-                    course.getCourseId(),
-                    course.getCourseName(),
-                    gradeValue,
-                    1,
-                    LocalDateTime.now()
-                );
+                courseGrades.add(new CourseGrade(course.getCourseId(), course.getCourseName(), gradeValue, 1, recordedAt));
             }
         }
+
+        studentGradeService.addGrades(studentGrades);
+        courseGradeService.addGrades(courseGrades);
+        return grades;
     }
 
     @Override
@@ -162,13 +188,13 @@ public class EnrollmentServiceImpl implements EnrollmentService {
             );
         }
 
-        if (student.getOutstandingBalance() <= 0.0) {
-            throw new InvalidPaymentException("There is no outstanding balance to pay.");
+        if (!paymentLedgerService.recordPayment(student, PaymentRules.toPaymentCents(amount))) {
+            throw new InvalidPaymentException(
+                "Payment amount ($" +
+                    String.format("%.2f", amount) +
+                    ") exceeds outstanding balance. Please enter a valid payment amount."
+            );
         }
-
-        student.makePayment(amount);
-
-        studentDAO.update(student);
     }
 
     @Override
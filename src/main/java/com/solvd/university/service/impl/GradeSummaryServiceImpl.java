@@ -0,0 +1,132 @@
+package com.solvd.university.service.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.solvd.university.dao.factory.DAOFactory;
+import com.solvd.university.dao.interfaces.CourseGradeDAO;
+import com.solvd.university.dao.interfaces.GradeSummaryDAO;
+import com.solvd.university.dao.interfaces.StudentGradeDAO;
+import com.solvd.university.model.CourseGrade;
+import com.solvd.university.model.GradeScope;
+import com.solvd.university.model.GradeSummary;
+import com.solvd.university.model.StudentGrade;
+import com.solvd.university.service.interfaces.GradeSummaryService;
+import com.solvd.university.util.TransactionManager;
+
+public class GradeSummaryServiceImpl implements GradeSummaryService {
+
+    private static final Logger LOGGER = LogManager.getLogger(GradeSummaryServiceImpl.class);
+
+    private final GradeSummaryDAO gradeSummaryDAO;
+    private final StudentGradeDAO studentGradeDAO;
+    private final CourseGradeDAO courseGradeDAO;
+    private final TransactionManager transactionManager;
+
+    public GradeSummaryServiceImpl() {
+        this.gradeSummaryDAO = DAOFactory.create(GradeSummaryDAO.class);
+        this.studentGradeDAO = DAOFactory.create(StudentGradeDAO.class);
+        this.courseGradeDAO = DAOFactory.create(CourseGradeDAO.class);
+        this.transactionManager = DAOFactory.getTransactionManager();
+    }
+
+    @Override
+    public GradeSummary getSummary(GradeScope scope, Integer scopeId) {
+        return getSummary(scope, scopeId, GradeSummary.ALL_SEMESTERS);
+    }
+
+    @Override
+    public GradeSummary getSummary(GradeScope scope, Integer scopeId, int semester) {
+        if (scopeId == null) {
+            throw new IllegalArgumentException("Scope ID cannot be null");
+        }
+        return gradeSummaryDAO
+            .findByKey(scope, scopeId, semester)
+            .orElseGet(() -> backfill(scope, scopeId, semester));
+    }
+
+    @Override
+    public Map<Integer, GradeSummary> getSummaries(GradeScope scope, List<Integer> scopeIds) {
+        Map<Integer, GradeSummary> summaries = new HashMap<>();
+        gradeSummaryDAO
+            .findByScopeIds(scope, scopeIds, GradeSummary.ALL_SEMESTERS)
+            .forEach(summary -> summaries.put(summary.scopeId(), summary));
+        for (Integer scopeId : scopeIds) {
+            summaries.computeIfAbsent(scopeId, id -> backfill(scope, id, GradeSummary.ALL_SEMESTERS));
+        }
+        return summaries;
+    }
+
+    @Override
+    public List<Integer> findWithAverageAtLeast(GradeScope scope, double minAverage) {
+        return gradeSummaryDAO.findScopeIdsWithAverageAtLeast(scope, minAverage, GradeSummary.ALL_SEMESTERS);
+    }
+
+    @Override
+    public void recordChange(GradeScope scope, Integer scopeId, int semester, List<Double> added, List<Double> removed) {
+        transactionManager.execute(() -> {
+            apply(scope, scopeId, GradeSummary.ALL_SEMESTERS, added, removed);
+            apply(scope, scopeId, semester, added, removed);
+        });
+    }
+
+    @Override
+    public void rebuild() {
+        gradeSummaryDAO.rebuild();
+    }
+
+    // Must run before the grade itself is written, so a missing row is rebuilt from the previous state.
+    // The row is created before it is locked, so concurrent first grades do not deadlock on a gap lock.
+    private void apply(GradeScope scope, Integer scopeId, int semester, List<Double> added, List<Double> removed) {
+        if (gradeSummaryDAO.findByKey(scope, scopeId, semester).isEmpty()) {
+            gradeSummaryDAO.saveIfAbsent(
+                GradeSummary.of(scope, scopeId, semester, sourceValues(scope, scopeId, semester))
+            );
+        }
+
+        GradeSummary current = gradeSummaryDAO
+            .findByKeyForUpdate(scope, scopeId, semester)
+            .orElseGet(() -> GradeSummary.of(scope, scopeId, semester, sourceValues(scope, scopeId, semester)));
+
+        GradeSummary next = current.minus(removed).plus(added);
+        if (!next.hasBounds()) {
+            List<Double> values = new ArrayList<>(sourceValues(scope, scopeId, semester));
+            removed.forEach(values::remove);
+            values.addAll(added);
+            next = GradeSummary.of(scope, scopeId, semester, values);
+        }
+        gradeSummaryDAO.save(next);
+    }
+
+    private GradeSummary backfill(GradeScope scope, Integer scopeId, int semester) {
+        GradeSummary summary = GradeSummary.of(scope, scopeId, semester, sourceValues(scope, scopeId, semester));
+        if (!summary.isEmpty()) {
+            LOGGER.debug("Backfilling grade summary for {} {} semester {}", scope, scopeId, semester);
+            gradeSummaryDAO.save(summary);
+        }
+        return summary;
+    }
+
+    private List<Double> sourceValues(GradeScope scope, Integer scopeId, int semester) {
+        boolean allSemesters = semester == GradeSummary.ALL_SEMESTERS;
+        return switch (scope) {
+            case STUDENT -> (allSemesters
+                    ? studentGradeDAO.findByStudentId(scopeId)
+                    : studentGradeDAO.findByStudentIdAndSemester(scopeId, semester))
+                .stream()
+                .map(StudentGrade::getValue)
+                .toList();
+            case COURSE -> (allSemesters
+                    ? courseGradeDAO.findByCourseId(scopeId)
+                    : courseGradeDAO.findByCourseIdAndSemester(scopeId, semester))
+                .stream()
+                .map(CourseGrade::getValue)
+                .toList();
+        };
+    }
+}
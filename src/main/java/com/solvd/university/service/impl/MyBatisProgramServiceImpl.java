@@ -1,6 +1,7 @@
 package com.solvd.university.service.impl;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -25,6 +26,16 @@ public class MyBatisProgramServiceImpl implements MyBatisProgramService {
         programDAO.save(program);
     }
 
+    @Override
+    public List<Integer> importPrograms(List<Program> programs) {
+        return programDAO.saveAll(programs.stream());
+    }
+
+    @Override
+    public List<Integer> importPrograms(Stream<Program> programs) {
+        return programDAO.saveAll(programs);
+    }
+
     @Override
     public Program getProgramByName(String name) {
         return programDAO.findByName(name).orElse(null);
@@ -0,0 +1,136 @@
+package com.solvd.university.service.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.solvd.university.dao.cache.BatchLoader;
+import com.solvd.university.dao.factory.DAOFactory;
+import com.solvd.university.dao.interfaces.PaymentLedgerDAO;
+import com.solvd.university.model.LedgerEntry;
+import com.solvd.university.model.PaymentRules;
+import com.solvd.university.model.Student;
+import com.solvd.university.model.exception.InvalidPaymentException;
+import com.solvd.university.service.interfaces.PaymentLedgerService;
+import com.solvd.university.util.TransactionManager;
+
+public class PaymentLedgerServiceImpl implements PaymentLedgerService {
+
+    private static final Logger LOGGER = LogManager.getLogger(PaymentLedgerServiceImpl.class);
+    private static final int MAX_APPEND_BATCH_SIZE = 500;
+    private static final int MAX_APPEND_ATTEMPTS = 3;
+
+    // Concurrent payments share one locked balance read and one multi-row insert per batch
+    private static final BatchLoader<LedgerEntry, LedgerEntry> APPENDS = new BatchLoader<>(
+        "PaymentLedger",
+        Function.identity(),
+        MAX_APPEND_BATCH_SIZE
+    );
+
+    private final PaymentLedgerDAO paymentLedgerDAO;
+    private final TransactionManager transactionManager;
+
+    public PaymentLedgerServiceImpl() {
+        this.paymentLedgerDAO = DAOFactory.create(PaymentLedgerDAO.class);
+        this.transactionManager = DAOFactory.getTransactionManager();
+    }
+
+    public static BatchLoader<LedgerEntry, LedgerEntry> getAppendLoader() {
+        return APPENDS;
+    }
+
+    @Override
+    public boolean recordPayment(Student student, long amountCents) {
+        if (amountCents <= 0) {
+            throw new IllegalArgumentException("Payment amount must be positive");
+        }
+        LedgerEntry payment = LedgerEntry.payment(student.getStudentId(), amountCents);
+        Optional<LedgerEntry> appended = TransactionManager.isActive()
+            ? append(List.of(payment)).stream().findFirst()
+            : APPENDS.load(payment, this::append);
+        if (appended.isEmpty()) {
+            return false;
+        }
+        student.setOutstandingBalanceCents(appended.get().getBalanceAfterCents());
+        student.getChanges().markClean("balance");
+        return true;
+    }
+
+    @Override
+    public List<LedgerEntry> recordPayments(List<LedgerEntry> payments) {
+        if (payments.stream().anyMatch(payment -> !payment.isPayment())) {
+            throw new IllegalArgumentException("Payment amounts must be positive");
+        }
+        return append(payments);
+    }
+
+    @Override
+    public void recordCharge(Student student, long amountCents) {
+        if (amountCents == 0) {
+            return;
+        }
+        append(List.of(LedgerEntry.charge(student.getStudentId(), amountCents))).forEach(charge -> {
+            student.setOutstandingBalanceCents(charge.getBalanceAfterCents());
+            student.getChanges().markClean("balance");
+        });
+    }
+
+    @Override
+    public long getBalanceCents(Student student) {
+        return paymentLedgerDAO.findBalances(List.of(student.getStudentId())).get(student.getStudentId());
+    }
+
+    @Override
+    public List<LedgerEntry> getHistory(Student student) {
+        return paymentLedgerDAO.findByStudentId(student.getStudentId());
+    }
+
+    @Override
+    public int compactSnapshots() {
+        return paymentLedgerDAO.compactSnapshots();
+    }
+
+    private List<LedgerEntry> append(List<LedgerEntry> entries) {
+        return transactionManager.executeWithRetry(MAX_APPEND_ATTEMPTS, () -> {
+            Map<Integer, Long> balances = new HashMap<>(
+                paymentLedgerDAO.lockBalances(entries.stream().map(LedgerEntry::getStudentId).toList())
+            );
+
+            List<LedgerEntry> accepted = new ArrayList<>(entries.size());
+            for (LedgerEntry entry : entries) {
+                entry.setRejection(rejectionOf(entry, balances.get(entry.getStudentId())));
+                if (entry.getRejection() != null) {
+                    LOGGER.warn("Rejected {}: {}", entry, entry.getRejection());
+                    continue;
+                }
+                long next = balances.get(entry.getStudentId()) + entry.getAmountCents();
+                balances.put(entry.getStudentId(), next);
+                entry.setBalanceAfterCents(next);
+                accepted.add(entry);
+            }
+
+            paymentLedgerDAO.appendAll(accepted);
+            return accepted;
+        });
+    }
+
+    private static String rejectionOf(LedgerEntry entry, Long balance) {
+        if (balance == null) {
+            return "Unknown student ID: " + entry.getStudentId();
+        }
+        if (entry.isPayment()) {
+            try {
+                PaymentRules.checkBalance(-entry.getAmountCents(), balance);
+            } catch (InvalidPaymentException e) {
+                return e.getMessage();
+            }
+        }
+        return null;
+    }
+}
@@ -7,11 +7,16 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.solvd.university.model.Program;
 import com.solvd.university.service.interfaces.ProgramJsonService;
@@ -46,6 +51,35 @@ public class ProgramJsonServiceImpl implements ProgramJsonService {
         }
     }
 
+    @Override
+    public Stream<Program> stream() {
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream(RESOURCE_PATH);
+        if (inputStream == null) {
+            LOGGER.error("Could not find JSON file: {}", RESOURCE_PATH);
+            return Stream.empty();
+        }
+
+        try {
+            MappingIterator<Program> programs = objectMapper.readerFor(Program.class).readValues(inputStream);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(programs, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try {
+                        programs.close();
+                    } catch (IOException e) {
+                        LOGGER.error("Error closing JSON file: {}", RESOURCE_PATH, e);
+                    }
+                });
+        } catch (IOException e) {
+            LOGGER.error("Error streaming JSON file: {}", e.getMessage(), e);
+            try {
+                inputStream.close();
+            } catch (IOException closeError) {
+                LOGGER.error("Error closing JSON file: {}", RESOURCE_PATH, closeError);
+            }
+            return Stream.empty();
+        }
+    }
+
     @Override
     public void write(List<Program> programs) {
         LOGGER.info("Writing {} programs to JSON file: {}", programs.size(), JSON_FILE_PATH);
@@ -0,0 +1,290 @@
+package com.solvd.university.service.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.solvd.university.model.LedgerEntry;
+import com.solvd.university.model.PaymentRules;
+import com.solvd.university.model.RemittanceReport;
+import com.solvd.university.model.RemittanceReport.Rejection;
+import com.solvd.university.model.exception.InvalidPaymentException;
+import com.solvd.university.service.interfaces.PaymentLedgerService;
+import com.solvd.university.service.interfaces.RemittanceImportService;
+
+// Rows are routed by student ID to one worker, so each student's payments apply in file order
+public class RemittanceImportServiceImpl implements RemittanceImportService {
+
+    private static final Logger LOGGER = LogManager.getLogger(RemittanceImportServiceImpl.class);
+    private static final int DEFAULT_WORKERS = 4;
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
+    private static final int QUEUED_CHUNKS_PER_WORKER = 4;
+    private static final long QUEUE_WAIT_MILLIS = 100;
+    private static final RemittanceLine END = new RemittanceLine(-1, "", 0, 0);
+
+    private final PaymentLedgerService paymentLedgerService;
+    private final int workers;
+    private final int chunkSize;
+
+    public RemittanceImportServiceImpl() {
+        this(DEFAULT_WORKERS, DEFAULT_CHUNK_SIZE);
+    }
+
+    public RemittanceImportServiceImpl(int workers, int chunkSize) {
+        if (workers <= 0 || chunkSize <= 0) {
+            throw new IllegalArgumentException("Workers and chunk size must be positive");
+        }
+        this.paymentLedgerService = new PaymentLedgerServiceImpl();
+        this.workers = workers;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public RemittanceReport importFile(Path file) {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return importRemittance(file.getFileName().toString(), reader);
+        } catch (IOException e) {
+            LOGGER.error("Failed to read remittance file: {}", file, e);
+            throw new RuntimeException("Failed to read remittance file", e);
+        }
+    }
+
+    @Override
+    public RemittanceReport importRemittance(String source, Reader reader) {
+        long started = System.nanoTime();
+        Progress progress = new Progress();
+        List<BlockingQueue<RemittanceLine>> partitions = new ArrayList<>(workers);
+        List<Future<?>> running = new ArrayList<>(workers);
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "remittance-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long rowsRead = 0;
+        RuntimeException failure = null;
+        try {
+            try {
+                for (int i = 0; i < workers; i++) {
+                    BlockingQueue<RemittanceLine> partition = new ArrayBlockingQueue<>(
+                        chunkSize * QUEUED_CHUNKS_PER_WORKER
+                    );
+                    partitions.add(partition);
+                    running.add(executor.submit(() -> drain(partition, progress)));
+                }
+
+                BufferedReader lines = reader instanceof BufferedReader buffered
+                    ? buffered
+                    : new BufferedReader(reader);
+                long lineNumber = 0;
+                String text;
+                while ((text = lines.readLine()) != null) {
+                    lineNumber++;
+                    if (text.isBlank() || (lineNumber == 1 && isHeader(text))) {
+                        continue;
+                    }
+                    rowsRead++;
+                    RemittanceLine line = parse(lineNumber, text, progress);
+                    if (line == null) {
+                        continue;
+                    }
+                    int worker = Math.floorMod(line.studentId(), workers);
+                    if (!put(partitions.get(worker), line, running.get(worker))) {
+                        LOGGER.error("Remittance worker stopped, abandoning {} after {} rows", source, rowsRead);
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                LOGGER.error("Failed to read remittance {} after {} rows", source, rowsRead, e);
+                failure = new RuntimeException("Failed to read remittance " + source, e);
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+
+            try {
+                for (int i = 0; i < partitions.size(); i++) {
+                    put(partitions.get(i), END, running.get(i));
+                }
+                awaitAll(running);
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+
+        RemittanceReport report = progress.report(source, rowsRead, Duration.ofNanos(System.nanoTime() - started));
+        LOGGER.info(report);
+        return report;
+    }
+
+    private void drain(BlockingQueue<RemittanceLine> partition, Progress progress) {
+        List<RemittanceLine> chunk = new ArrayList<>(chunkSize);
+        boolean finished = false;
+        while (!finished) {
+            chunk.add(take(partition));
+            partition.drainTo(chunk, chunkSize - 1);
+            if (chunk.get(chunk.size() - 1) == END) {
+                chunk.remove(chunk.size() - 1);
+                finished = true;
+            }
+            if (!chunk.isEmpty()) {
+                try {
+                    apply(chunk, progress);
+                } catch (RuntimeException e) {
+                    LOGGER.error("Failed to apply {} remittance rows", chunk.size(), e);
+                    chunk.forEach(line -> progress.reject(line, "Import failed: " + e.getMessage()));
+                }
+                chunk.clear();
+            }
+        }
+    }
+
+    private void apply(List<RemittanceLine> chunk, Progress progress) {
+        List<LedgerEntry> payments = chunk
+            .stream()
+            .map(line -> LedgerEntry.payment(line.studentId(), line.amountCents()))
+            .toList();
+        try {
+            paymentLedgerService.recordPayments(payments);
+        } catch (RuntimeException e) {
+            chunk.forEach(line -> progress.reject(line, "Ledger append failed: " + e.getMessage()));
+            return;
+        }
+
+        for (int i = 0; i < chunk.size(); i++) {
+            String rejection = payments.get(i).getRejection();
+            if (rejection != null) {
+                progress.reject(chunk.get(i), rejection);
+            } else {
+                progress.accept(chunk.get(i));
+            }
+        }
+    }
+
+    private static RemittanceLine parse(long lineNumber, String text, Progress progress) {
+        String[] fields = text.split(",", -1);
+        if (fields.length < 2) {
+            progress.reject(lineNumber, text, "Expected student_id,amount");
+            return null;
+        }
+
+        int studentId;
+        try {
+            studentId = Integer.parseInt(fields[0].trim());
+        } catch (NumberFormatException e) {
+            progress.reject(lineNumber, text, "Malformed student ID: " + fields[0].trim());
+            return null;
+        }
+
+        try {
+            long amountCents = PaymentRules.toPaymentCents(new BigDecimal(fields[1].trim()));
+            return new RemittanceLine(lineNumber, text, studentId, amountCents);
+        } catch (NumberFormatException e) {
+            progress.reject(lineNumber, text, "Malformed amount: " + fields[1].trim());
+        } catch (InvalidPaymentException e) {
+            progress.reject(lineNumber, text, e.getMessage());
+        }
+        return null;
+    }
+
+    private static boolean isHeader(String text) {
+        String first = text.trim();
+        return !first.isEmpty() && !Character.isDigit(first.charAt(0)) && first.charAt(0) != '-';
+    }
+
+    // Gives up once the partition's worker has stopped, since nothing would ever make room again
+    private static boolean put(BlockingQueue<RemittanceLine> partition, RemittanceLine line, Future<?> worker) {
+        try {
+            while (!partition.offer(line, QUEUE_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (worker.isDone()) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while queueing remittance rows", e);
+        }
+    }
+
+    private static RemittanceLine take(BlockingQueue<RemittanceLine> partition) {
+        try {
+            return partition.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for remittance rows", e);
+        }
+    }
+
+    private static void awaitAll(List<Future<?>> running) {
+        for (Future<?> worker : running) {
+            try {
+                worker.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for remittance workers", e);
+            } catch (ExecutionException e) {
+                LOGGER.error("Remittance worker failed", e.getCause());
+                throw new RuntimeException("Remittance worker failed", e.getCause());
+            }
+        }
+    }
+
+    private record RemittanceLine(long lineNumber, String text, int studentId, long amountCents) {}
+
+    private static final class Progress {
+
+        private final LongAdder accepted = new LongAdder();
+        private final LongAdder acceptedCents = new LongAdder();
+        private final ConcurrentLinkedQueue<Rejection> rejections = new ConcurrentLinkedQueue<>();
+
+        void accept(RemittanceLine line) {
+            accepted.increment();
+            acceptedCents.add(line.amountCents());
+        }
+
+        void reject(RemittanceLine line, String reason) {
+            reject(line.lineNumber(), line.text(), reason);
+        }
+
+        void reject(long lineNumber, String text, String reason) {
+            rejections.add(new Rejection(lineNumber, text, reason));
+        }
+
+        RemittanceReport report(String source, long rowsRead, Duration elapsed) {
+            List<Rejection> ordered = new ArrayList<>(rejections);
+            ordered.sort(Comparator.comparingLong(Rejection::lineNumber));
+            return new RemittanceReport(source, rowsRead, accepted.sum(), acceptedCents.sum(), ordered, elapsed);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.solvd.university.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.solvd.university.dao.factory.DAOFactory;
+import com.solvd.university.dao.interfaces.CourseSeatDAO;
+import com.solvd.university.model.Course;
+import com.solvd.university.model.Student;
+import com.solvd.university.service.interfaces.SeatInventoryService;
+import com.solvd.university.util.TransactionManager;
+
+public class SeatInventoryServiceImpl implements SeatInventoryService {
+
+    private static final Logger LOGGER = LogManager.getLogger(SeatInventoryServiceImpl.class);
+    private static final long REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    // Seats left per course as seen by this process; course_seat's conditional update still has the final say
+    private static final ConcurrentMap<Integer, SeatCount> REMAINING = new ConcurrentHashMap<>();
+
+    static {
+        DAOFactory.onInvalidate(REMAINING::clear);
+    }
+
+    private final CourseSeatDAO courseSeatDAO;
+
+    public SeatInventoryServiceImpl() {
+        this.courseSeatDAO = DAOFactory.create(CourseSeatDAO.class);
+    }
+
+    @Override
+    public boolean reserveSeat(Student student, Course<?, ?> course) {
+        Integer courseId = requireCourseId(course);
+        SeatCount seats = seatsOf(courseId);
+        if (!seats.tryTake() && !(refreshIfEmpty(courseId, seats) && seats.tryTake())) {
+            LOGGER.debug("Course {} is full, turning away student {}", courseId, student.getStudentId());
+            return false;
+        }
+
+        boolean reserved;
+        try {
+            reserved = courseSeatDAO.reserve(courseId, student.getStudentId());
+        } catch (RuntimeException e) {
+            seats.remaining.incrementAndGet();
+            throw e;
+        }
+        if (!reserved) {
+            // Only ever lower the count here, so seats taken concurrently are not handed out again
+            seats.remaining.incrementAndGet();
+            seats.remaining.accumulateAndGet(courseSeatDAO.openSeats(courseId), Math::min);
+            return false;
+        }
+        TransactionManager.registerRollbackAction(seats.remaining::incrementAndGet);
+        return true;
+    }
+
+    @Override
+    public boolean confirmSeat(Student student, Course<?, ?> course) {
+        if (!courseSeatDAO.confirm(requireCourseId(course), student.getStudentId())) {
+            return false;
+        }
+        if (student.enrollInCourse(course)) {
+            TransactionManager.registerRollbackAction(() -> student.dropCourse(course));
+        }
+        return true;
+    }
+
+    @Override
+    public boolean releaseSeat(Student student, Course<?, ?> course) {
+        Integer courseId = requireCourseId(course);
+        if (!courseSeatDAO.release(courseId, student.getStudentId())) {
+            return false;
+        }
+        SeatCount seats = REMAINING.get(courseId);
+        if (seats != null) {
+            seats.remaining.incrementAndGet();
+            TransactionManager.registerRollbackAction(seats.remaining::decrementAndGet);
+        }
+        if (student.isEnrolledInCourse(course)) {
+            student.dropCourse(course);
+            TransactionManager.registerRollbackAction(() -> student.enrollInCourse(course));
+        }
+        return true;
+    }
+
+    @Override
+    public boolean enrollInCourse(Student student, Course<?, ?> course) {
+        if (!reserveSeat(student, course)) {
+            return false;
+        }
+        if (confirmSeat(student, course)) {
+            return true;
+        }
+        LOGGER.warn(
+            "Seat in course {} for student {} could not be confirmed, releasing it",
+            course.getCourseId(),
+            student.getStudentId()
+        );
+        releaseSeat(student, course);
+        return false;
+    }
+
+    @Override
+    public int getRemainingSeats(Course<?, ?> course) {
+        return seatsOf(requireCourseId(course)).remaining.get();
+    }
+
+    @Override
+    public int releaseExpiredReservations(Duration maximumAge) {
+        Map<Integer, Integer> released = courseSeatDAO.releaseExpired(LocalDateTime.now().minus(maximumAge));
+        int total = 0;
+        for (Map.Entry<Integer, Integer> course : released.entrySet()) {
+            REMAINING.computeIfPresent(course.getKey(), (id, seats) -> {
+                seats.remaining.addAndGet(course.getValue());
+                return seats;
+            });
+            total += course.getValue();
+        }
+        return total;
+    }
+
+    // Loaded outside the map: openSeats writes, and may wait on locks held by the caller's transaction
+    private SeatCount seatsOf(Integer courseId) {
+        SeatCount seats = REMAINING.get(courseId);
+        if (seats != null) {
+            return seats;
+        }
+        SeatCount loaded = new SeatCount(courseSeatDAO.openSeats(courseId));
+        seats = REMAINING.putIfAbsent(courseId, loaded);
+        return seats != null ? seats : loaded;
+    }
+
+    // A full course is re-read at most once a second, so seats freed by other instances come back
+    private boolean refreshIfEmpty(Integer courseId, SeatCount seats) {
+        long refreshAt = seats.refreshAt.get();
+        long now = System.nanoTime();
+        if (now - refreshAt < 0 || !seats.refreshAt.compareAndSet(refreshAt, now + REFRESH_NANOS)) {
+            return false;
+        }
+        int open = courseSeatDAO.openSeats(courseId);
+        if (open > 0 && seats.remaining.compareAndSet(0, open)) {
+            LOGGER.debug("Course {} has {} seats open again", courseId, open);
+        }
+        return true;
+    }
+
+    private static Integer requireCourseId(Course<?, ?> course) {
+        if (course == null || course.getCourseId() == null) {
+            throw new IllegalArgumentException("Course must be saved before seats can be reserved");
+        }
+        return course.getCourseId();
+    }
+
+    private static final class SeatCount {
+        private final AtomicInteger remaining;
+        private final AtomicLong refreshAt;
+
+        private SeatCount(int remaining) {
+            this.remaining = new AtomicInteger(remaining);
+            this.refreshAt = new AtomicLong(System.nanoTime() + REFRESH_NANOS);
+        }
+
+        private boolean tryTake() {
+            int seats;
+            do {
+                seats = remaining.get();
+                if (seats <= 0) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(seats, seats - 1));
+            return true;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.solvd.university.service.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.solvd.university.dao.cache.EntityCache;
+import com.solvd.university.dao.factory.DAOFactory;
+import com.solvd.university.dao.interfaces.CourseDAO;
+import com.solvd.university.dao.interfaces.DepartmentDAO;
+import com.solvd.university.dao.interfaces.ProfessorDAO;
+import com.solvd.university.model.Course;
+import com.solvd.university.model.Department;
+import com.solvd.university.model.Professor;
+import com.solvd.university.model.UniversityStatistics;
+import com.solvd.university.service.interfaces.StatisticsService;
+import com.solvd.university.util.TransactionManager;
+
+public class StatisticsServiceImpl implements StatisticsService {
+
+    private static final Logger LOGGER = LogManager.getLogger(StatisticsServiceImpl.class);
+
+    private final DepartmentDAO departmentDAO;
+    private final ProfessorDAO professorDAO;
+    private final CourseDAO courseDAO;
+    private final EntityCache cache;
+    private final TransactionManager transactionManager;
+
+    public StatisticsServiceImpl() {
+        this.departmentDAO = DAOFactory.create(DepartmentDAO.class);
+        this.professorDAO = DAOFactory.create(ProfessorDAO.class);
+        this.courseDAO = DAOFactory.create(CourseDAO.class);
+        this.cache = DAOFactory.getStatisticsCache();
+        this.transactionManager = DAOFactory.getTransactionManager();
+    }
+
+    @Override
+    public UniversityStatistics getStatistics() {
+        return (UniversityStatistics) cache.get(
+            "getStatistics",
+            List.of(),
+            () -> transactionManager.executeReadOnly(this::computeStatistics)
+        );
+    }
+
+    @Override
+    public void refresh() {
+        cache.invalidateAll();
+    }
+
+    private UniversityStatistics computeStatistics() {
+        long started = System.nanoTime();
+
+        List<Department<?>> departments = departmentDAO.findAll();
+        List<Professor> professors = professorDAO.findAll();
+        List<Course<?, ?>> courses = courseDAO.findAll();
+
+        Map<Integer, List<Course<?, ?>>> coursesByDepartment = new LinkedHashMap<>();
+        Map<Professor, List<Course<?, ?>>> coursesByProfessor = new LinkedHashMap<>();
+        for (Course<?, ?> course : courses) {
+            if (course.getDepartmentId() != null) {
+                coursesByDepartment.computeIfAbsent(course.getDepartmentId(), id -> new ArrayList<>()).add(course);
+            }
+            if (course.getProfessor() != null) {
+                coursesByProfessor.computeIfAbsent(course.getProfessor(), professor -> new ArrayList<>()).add(course);
+            }
+        }
+
+        UniversityStatistics statistics = new UniversityStatistics(
+            departments,
+            professors.size(),
+            courses.size(),
+            coursesByDepartment,
+            coursesByProfessor
+        );
+        LOGGER.debug(
+            "Computed statistics for {} courses in {} ms",
+            courses.size(),
+            (System.nanoTime() - started) / 1_000_000
+        );
+        return statistics;
+    }
+}
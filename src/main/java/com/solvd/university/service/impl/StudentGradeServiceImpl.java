@@ -1,45 +1,82 @@
 package com.solvd.university.service.impl;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import com.solvd.university.dao.factory.DAOFactory;
 import com.solvd.university.dao.interfaces.StudentGradeDAO;
+import com.solvd.university.model.GradeScope;
+import com.solvd.university.model.GradeSummary;
 import com.solvd.university.model.StudentGrade;
+import com.solvd.university.service.interfaces.GradeSummaryService;
 import com.solvd.university.service.interfaces.StudentGradeService;
+import com.solvd.university.util.TransactionManager;
 
 public class StudentGradeServiceImpl implements StudentGradeService {
 
     private static final Logger LOGGER = LogManager.getLogger();
     private final StudentGradeDAO studentGradeDAO;
+    private final GradeSummaryService gradeSummaryService;
+    private final TransactionManager transactionManager;
 
     public StudentGradeServiceImpl() {
         this.studentGradeDAO = DAOFactory.create(StudentGradeDAO.class);
+        this.gradeSummaryService = new GradeSummaryServiceImpl();
+        this.transactionManager = DAOFactory.getTransactionManager();
     }
 
     @Override
     public StudentGrade addGrade(Integer studentId, String subject, Double value, Integer semester) {
-        if (studentId == null) {
+        StudentGrade grade = new StudentGrade(studentId, subject, value, semester);
+        validateGrade(grade);
+        transactionManager.execute(() -> {
+            gradeSummaryService.recordChange(GradeScope.STUDENT, studentId, semester, List.of(value), List.of());
+            studentGradeDAO.save(grade);
+        });
+
+        LOGGER.info("Added grade for student {}: {} = {} (semester {})", studentId, subject, value, semester);
+
+        return grade;
+    }
+
+    @Override
+    public void addGrades(List<StudentGrade> grades) {
+        grades.forEach(this::validateGrade);
+
+        Map<List<Integer>, List<Double>> valuesByKey = new LinkedHashMap<>();
+        for (StudentGrade grade : grades) {
+            valuesByKey
+                .computeIfAbsent(List.of(grade.getStudentId(), grade.getSemester()), key -> new ArrayList<>())
+                .add(grade.getValue());
+        }
+
+        transactionManager.execute(() -> {
+            valuesByKey.forEach((key, values) ->
+                gradeSummaryService.recordChange(GradeScope.STUDENT, key.get(0), key.get(1), values, List.of())
+            );
+            studentGradeDAO.saveAll(grades);
+        });
+    }
+
+    private void validateGrade(StudentGrade grade) {
+        if (grade.getStudentId() == null) {
             throw new IllegalArgumentException("Student ID cannot be null");
         }
-        if (subject == null || subject.trim().isEmpty()) {
+        if (grade.getSubject() == null || grade.getSubject().trim().isEmpty()) {
             throw new IllegalArgumentException("Subject cannot be null or empty");
         }
-        if (value == null || value < 0 || value > 100) {
+        if (grade.getValue() == null || grade.getValue() < 0 || grade.getValue() > 100) {
             throw new IllegalArgumentException("Grade value must be between 0 and 100");
         }
-        if (semester == null || semester < 1) {
+        if (grade.getSemester() == null || grade.getSemester() < 1) {
             throw new IllegalArgumentException("Semester must be a positive number");
         }
-
-        StudentGrade grade = new StudentGrade(studentId, subject, value, semester);
-        studentGradeDAO.save(grade);
-
-        LOGGER.info("Added grade for student {}: {} = {} (semester {})", studentId, subject, value, semester);
-
-        return grade;
     }
 
     @Override
@@ -55,6 +92,11 @@ public class StudentGradeServiceImpl implements StudentGradeService {
         return studentGradeDAO.findAll();
     }
 
+    @Override
+    public Stream<StudentGrade> streamAllGrades() {
+        return studentGradeDAO.streamAll();
+    }
+
     @Override
     public List<StudentGrade> getGradesByStudent(Integer studentId) {
         if (studentId == null) {
@@ -79,16 +121,7 @@ public class StudentGradeServiceImpl implements StudentGradeService {
         if (studentId == null) {
             throw new IllegalArgumentException("Student ID cannot be null");
         }
-
-        List<StudentGrade> grades = studentGradeDAO.findByStudentId(studentId);
-
-        if (grades.isEmpty()) {
-            return 0.0;
-        }
-
-        double sum = grades.stream().mapToDouble(StudentGrade::getValue).sum();
-
-        return sum / grades.size();
+        return gradeSummaryService.getSummary(GradeScope.STUDENT, studentId).average();
     }
 
     @Override
@@ -99,16 +132,20 @@ public class StudentGradeServiceImpl implements StudentGradeService {
         if (semester == null) {
             throw new IllegalArgumentException("Semester cannot be null");
         }
+        return gradeSummaryService.getSummary(GradeScope.STUDENT, studentId, semester).average();
+    }
 
-        List<StudentGrade> grades = studentGradeDAO.findByStudentIdAndSemester(studentId, semester);
-
-        if (grades.isEmpty()) {
-            return 0.0;
+    @Override
+    public GradeSummary getGradeSummary(Integer studentId) {
+        if (studentId == null) {
+            throw new IllegalArgumentException("Student ID cannot be null");
         }
+        return gradeSummaryService.getSummary(GradeScope.STUDENT, studentId);
+    }
 
-        double sum = grades.stream().mapToDouble(StudentGrade::getValue).sum();
-
-        return sum / grades.size();
+    @Override
+    public List<Integer> findStudentIdsWithAverageAtLeast(double minAverage) {
+        return gradeSummaryService.findWithAverageAtLeast(GradeScope.STUDENT, minAverage);
     }
 
     @Override
@@ -120,7 +157,26 @@ public class StudentGradeServiceImpl implements StudentGradeService {
             throw new IllegalArgumentException("Grade ID cannot be null for update");
         }
 
-        studentGradeDAO.update(grade);
+        transactionManager.execute(() -> {
+            StudentGrade previous = studentGradeDAO.findById(grade.getStudentGradeId());
+            if (previous != null) {
+                gradeSummaryService.recordChange(
+                    GradeScope.STUDENT,
+                    previous.getStudentId(),
+                    previous.getSemester(),
+                    List.of(),
+                    List.of(previous.getValue())
+                );
+                gradeSummaryService.recordChange(
+                    GradeScope.STUDENT,
+                    grade.getStudentId(),
+                    grade.getSemester(),
+                    List.of(grade.getValue()),
+                    List.of()
+                );
+            }
+            studentGradeDAO.update(grade);
+        });
         LOGGER.info("Updated student grade: ID {}", grade.getStudentGradeId());
     }
 
@@ -130,7 +186,19 @@ public class StudentGradeServiceImpl implements StudentGradeService {
             throw new IllegalArgumentException("Grade ID cannot be null");
         }
 
-        studentGradeDAO.delete(id);
+        transactionManager.execute(() -> {
+            StudentGrade previous = studentGradeDAO.findById(id);
+            if (previous != null) {
+                gradeSummaryService.recordChange(
+                    GradeScope.STUDENT,
+                    previous.getStudentId(),
+                    previous.getSemester(),
+                    List.of(),
+                    List.of(previous.getValue())
+                );
+            }
+            studentGradeDAO.delete(id);
+        });
         LOGGER.info("Deleted student grade: ID {}", id);
     }
 
@@ -1,49 +1,82 @@
 package com.solvd.university.service.impl;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.solvd.university.dao.factory.DAOFactory;
 import com.solvd.university.dao.interfaces.StudentDAO;
 import com.solvd.university.model.Grade;
 import com.solvd.university.model.Student;
+import com.solvd.university.model.StudentCriteria;
 import com.solvd.university.model.StudentFilter;
 import com.solvd.university.model.StudentGrade;
 import com.solvd.university.model.exception.DuplicateRegistrationException;
 import com.solvd.university.model.exception.StudentNotFoundException;
 import com.solvd.university.service.interfaces.StudentGradeService;
 import com.solvd.university.service.interfaces.StudentService;
+import com.solvd.university.util.TransactionManager;
 
 public class StudentServiceImpl implements StudentService {
 
     private final StudentDAO studentDAO;
     private final StudentGradeService studentGradeService;
+    private final TransactionManager transactionManager;
 
     public StudentServiceImpl() {
         this.studentDAO = DAOFactory.create(StudentDAO.class);
         this.studentGradeService = new StudentGradeServiceImpl();
+        this.transactionManager = DAOFactory.getTransactionManager();
     }
 
     @Override
     public Student registerStudent(String firstName, String lastName, int age, String email)
         throws DuplicateRegistrationException {
-        if (studentDAO.findByEmail(email).isPresent()) {
+        Student student = transactionManager.execute(() -> {
+            if (!studentDAO.findRegisteredEmails(List.of(email)).isEmpty()) {
+                return null;
+            }
+            Student registered = new Student(firstName, lastName, age, email);
+            registered.setRegistered(true);
+            studentDAO.save(registered);
+            return registered;
+        });
+
+        if (student == null) {
             throw new DuplicateRegistrationException(
                 "Student with email '" + email + "' is already registered. Please log in instead."
             );
         }
-
-        Student student = new Student(firstName, lastName, age, email);
-        student.setRegistered(true);
-        studentDAO.save(student);
-
         return student;
     }
 
+    @Override
+    public List<Student> registerStudents(List<Student> students) {
+        Map<String, Student> byEmail = new LinkedHashMap<>();
+        students.forEach(student -> byEmail.putIfAbsent(student.getEmail(), student));
+
+        return transactionManager.execute(() -> {
+            Set<String> registeredEmails = studentDAO.findRegisteredEmails(byEmail.keySet());
+            List<Student> registered = byEmail
+                .values()
+                .stream()
+                .filter(student -> !registeredEmails.contains(student.getEmail()))
+                .toList();
+
+            registered.forEach(student -> student.setRegistered(true));
+            studentDAO.saveAll(registered);
+            return registered;
+        });
+    }
+
     @Override
     public Student authenticateStudent(String email, int studentId) throws StudentNotFoundException {
-        Student student = studentDAO
-            .findByEmailAndStudentNumber(email, studentId)
+        Student student = transactionManager
+            .executeReadOnly(() -> findWithGrades(email, studentId))
             .orElseThrow(() ->
                 new StudentNotFoundException(
                     "No student found with email '" +
@@ -54,19 +87,25 @@ public class StudentServiceImpl implements StudentService {
                 )
             );
 
-        if (student.getStudentId() != null) {
-            List<StudentGrade> dbGrades = studentGradeService.getGradesByStudent(student.getStudentId());
-
-            for (StudentGrade dbGrade : dbGrades) {
-                String semesterName = mapSemesterNumberToName(dbGrade.getSemester());
-                Grade<Double> grade = new Grade<>(dbGrade.getSubject(), dbGrade.getValue(), semesterName);
-                student.addGrade(grade);
-            }
-        }
-
         return student;
     }
 
+    private Optional<Student> findWithGrades(String email, int studentId) {
+        Optional<Student> found = studentDAO.findByEmailAndStudentNumber(email, studentId);
+        found
+            .filter(student -> student.getStudentId() != null)
+            .ifPresent(student -> {
+                List<StudentGrade> dbGrades = studentGradeService.getGradesByStudent(student.getStudentId());
+
+                for (StudentGrade dbGrade : dbGrades) {
+                    String semesterName = mapSemesterNumberToName(dbGrade.getSemester());
+                    Grade<Double> grade = new Grade<>(dbGrade.getSubject(), dbGrade.getValue(), semesterName);
+                    student.addGrade(grade);
+                }
+            });
+        return found;
+    }
+
     private String mapSemesterNumberToName(Integer semesterNumber) {
         if (semesterNumber == null) {
             return "Fall 2024";
@@ -86,12 +125,26 @@ public class StudentServiceImpl implements StudentService {
 
     @Override
     public List<Student> getStudents(StudentFilter filter) {
-        return studentDAO.findAll().stream().filter(filter::matches).collect(Collectors.toList());
+        if (filter instanceof StudentCriteria criteria) {
+            return transactionManager
+                .executeReadOnly(() -> studentDAO.findByCriteria(criteria))
+                .stream()
+                .filter(criteria::matches)
+                .collect(Collectors.toList());
+        }
+        try (Stream<Student> students = studentDAO.streamAll()) {
+            return students.filter(filter::matches).collect(Collectors.toList());
+        }
     }
 
     @Override
     public List<Student> getAllStudents() {
-        return studentDAO.findAll();
+        return transactionManager.executeReadOnly(studentDAO::findAll);
+    }
+
+    @Override
+    public Stream<Student> streamAllStudents() {
+        return studentDAO.streamAll();
     }
 
     @Override
@@ -1,12 +1,15 @@
 package com.solvd.university.service.interfaces;
 
 import com.solvd.university.model.CourseGrade;
+import com.solvd.university.model.GradeSummary;
 import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CourseGradeService {
     CourseGrade addGrade(Integer courseId, String subject, Double value, Integer semester, LocalDateTime recordedAt);
 
+    void addGrades(List<CourseGrade> grades);
+
     CourseGrade getGradeById(Integer id);
 
     List<CourseGrade> getAllGrades();
@@ -17,6 +20,8 @@ public interface CourseGradeService {
 
     double calculateCourseAverage(Integer courseId);
 
+    GradeSummary getGradeSummary(Integer courseId);
+
     void updateGrade(CourseGrade grade);
 
     void deleteGrade(Integer id);
@@ -1,6 +1,7 @@
 package com.solvd.university.service.interfaces;
 
 import com.solvd.university.model.Course;
+import com.solvd.university.model.CourseCriteria;
 import com.solvd.university.model.CourseFormatter;
 import java.util.List;
 
@@ -13,6 +14,8 @@ public interface CourseService {
 
     List<Course<?, ?>> getCoursesByDepartment(Integer departmentId);
 
+    List<Course<?, ?>> getCourses(CourseCriteria criteria);
+
     List<String> formatCourses(CourseFormatter formatter);
 
     void updateCourse(Course<?, ?> course);
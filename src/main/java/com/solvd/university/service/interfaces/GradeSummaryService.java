@@ -0,0 +1,20 @@
+package com.solvd.university.service.interfaces;
+
+import com.solvd.university.model.GradeScope;
+import com.solvd.university.model.GradeSummary;
+import java.util.List;
+import java.util.Map;
+
+public interface GradeSummaryService {
+    GradeSummary getSummary(GradeScope scope, Integer scopeId);
+
+    GradeSummary getSummary(GradeScope scope, Integer scopeId, int semester);
+
+    Map<Integer, GradeSummary> getSummaries(GradeScope scope, List<Integer> scopeIds);
+
+    List<Integer> findWithAverageAtLeast(GradeScope scope, double minAverage);
+
+    void recordChange(GradeScope scope, Integer scopeId, int semester, List<Double> added, List<Double> removed);
+
+    void rebuild();
+}
@@ -1,6 +1,7 @@
 package com.solvd.university.service.interfaces;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import com.solvd.university.model.Department;
 import com.solvd.university.model.Program;
@@ -8,6 +9,10 @@ import com.solvd.university.model.Program;
 public interface MyBatisProgramService {
     void addProgram(Program program);
 
+    List<Integer> importPrograms(List<Program> programs);
+
+    List<Integer> importPrograms(Stream<Program> programs);
+
     Program getProgramByName(String name);
 
     List<Program> getProgramsByDepartment(Department<?> department);
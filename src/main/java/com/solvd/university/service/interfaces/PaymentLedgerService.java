@@ -0,0 +1,19 @@
+package com.solvd.university.service.interfaces;
+
+import com.solvd.university.model.LedgerEntry;
+import com.solvd.university.model.Student;
+import java.util.List;
+
+public interface PaymentLedgerService {
+    boolean recordPayment(Student student, long amountCents);
+
+    List<LedgerEntry> recordPayments(List<LedgerEntry> payments);
+
+    void recordCharge(Student student, long amountCents);
+
+    long getBalanceCents(Student student);
+
+    List<LedgerEntry> getHistory(Student student);
+
+    int compactSnapshots();
+}
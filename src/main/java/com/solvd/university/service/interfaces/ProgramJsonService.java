@@ -1,11 +1,13 @@
 package com.solvd.university.service.interfaces;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import com.solvd.university.model.Program;
 
 public interface ProgramJsonService {
     List<Program> read();
+    Stream<Program> stream();
     void write(List<Program> programs);
     void displayPrograms();
     void demonstrateReadWrite();
@@ -0,0 +1,11 @@
+package com.solvd.university.service.interfaces;
+
+import com.solvd.university.model.RemittanceReport;
+import java.io.Reader;
+import java.nio.file.Path;
+
+public interface RemittanceImportService {
+    RemittanceReport importFile(Path file);
+
+    RemittanceReport importRemittance(String source, Reader reader);
+}
@@ -0,0 +1,19 @@
+package com.solvd.university.service.interfaces;
+
+import com.solvd.university.model.Course;
+import com.solvd.university.model.Student;
+import java.time.Duration;
+
+public interface SeatInventoryService {
+    boolean reserveSeat(Student student, Course<?, ?> course);
+
+    boolean confirmSeat(Student student, Course<?, ?> course);
+
+    boolean releaseSeat(Student student, Course<?, ?> course);
+
+    boolean enrollInCourse(Student student, Course<?, ?> course);
+
+    int getRemainingSeats(Course<?, ?> course);
+
+    int releaseExpiredReservations(Duration maximumAge);
+}
@@ -0,0 +1,9 @@
+package com.solvd.university.service.interfaces;
+
+import com.solvd.university.model.UniversityStatistics;
+
+public interface StatisticsService {
+    UniversityStatistics getStatistics();
+
+    void refresh();
+}
@@ -1,15 +1,21 @@
 package com.solvd.university.service.interfaces;
 
+import com.solvd.university.model.GradeSummary;
 import com.solvd.university.model.StudentGrade;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface StudentGradeService {
     StudentGrade addGrade(Integer studentId, String subject, Double value, Integer semester);
 
+    void addGrades(List<StudentGrade> grades);
+
     StudentGrade getGradeById(Integer id);
 
     List<StudentGrade> getAllGrades();
 
+    Stream<StudentGrade> streamAllGrades();
+
     List<StudentGrade> getGradesByStudent(Integer studentId);
 
     List<StudentGrade> getGradesByStudentAndSemester(Integer studentId, Integer semester);
@@ -18,6 +24,10 @@ public interface StudentGradeService {
 
     double calculateSemesterAverage(Integer studentId, Integer semester);
 
+    GradeSummary getGradeSummary(Integer studentId);
+
+    List<Integer> findStudentIdsWithAverageAtLeast(double minAverage);
+
     void updateGrade(StudentGrade grade);
 
     void deleteGrade(Integer id);
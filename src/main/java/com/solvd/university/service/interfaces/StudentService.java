@@ -5,11 +5,14 @@ import com.solvd.university.model.StudentFilter;
 import com.solvd.university.model.exception.DuplicateRegistrationException;
 import com.solvd.university.model.exception.StudentNotFoundException;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface StudentService {
     Student registerStudent(String firstName, String lastName, int age, String email)
         throws DuplicateRegistrationException;
 
+    List<Student> registerStudents(List<Student> students);
+
     Student authenticateStudent(String email, int studentId) throws StudentNotFoundException;
 
     Student getStudentById(String id) throws StudentNotFoundException;
@@ -18,6 +21,8 @@ public interface StudentService {
 
     List<Student> getAllStudents();
 
+    Stream<Student> streamAllStudents();
+
     void updateStudent(Student student);
 
     void deleteStudent(String id);
@@ -2,45 +2,91 @@ package com.solvd.university.util;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import javax.sql.DataSource;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-public class ConnectionPool {
+public final class ConnectionPool {
 
     private static final Logger LOGGER = LogManager.getLogger();
+    private static final int THREAD_LOCAL_CAPACITY = 16;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
     private static ConnectionPool instance;
 
-    private final BlockingQueue<Connection> availableConnections;
-    private final BlockingQueue<Connection> usedConnections;
+    private final CopyOnWriteArrayList<PooledConnection> sharedConnections = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<List<PooledConnection>> threadConnections = ThreadLocal.withInitial(ArrayList::new);
+    private final SynchronousQueue<PooledConnection> handoffQueue = new SynchronousQueue<>(true);
+    private final Map<Connection, PooledConnection> borrowedConnections = new ConcurrentHashMap<>();
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final LatencyHistogram borrowLatency = new LatencyHistogram();
+    private final LatencyHistogram waitTime = new LatencyHistogram();
+    private final StatementCache.Metrics statementMetrics = new StatementCache.Metrics();
+    private final DataSource dataSource = new PoolDataSource();
+    private final ScheduledExecutorService housekeeper;
     private final String url;
     private final String username;
     private final String password;
     private final int poolSize;
+    private final int minIdle;
     private final int timeout;
+    private final int statementCacheSize;
+    private final long idleTimeoutNanos;
+    private final long validationIntervalNanos;
+    private final long leakDetectionThresholdNanos;
 
     private ConnectionPool() {
-        Properties properties = loadDatabaseProperties();
+        this(loadDatabaseProperties());
+    }
 
-        this.url = properties.getProperty("db.url");
+    public ConnectionPool(Properties properties) {
+        this.url = withDriverDefaults(properties.getProperty("db.url"));
         this.username = properties.getProperty("db.username");
         this.password = properties.getProperty("db.password");
         this.poolSize = Integer.parseInt(properties.getProperty("db.pool.size", "10"));
+        this.minIdle = Math.min(poolSize, Integer.parseInt(properties.getProperty("db.pool.min.idle", "2")));
         this.timeout = Integer.parseInt(properties.getProperty("db.pool.timeout", "30000"));
-
-        this.availableConnections = new ArrayBlockingQueue<>(poolSize);
-        this.usedConnections = new ArrayBlockingQueue<>(poolSize);
+        this.statementCacheSize = Integer.parseInt(properties.getProperty("db.pool.statement.cache.size", "64"));
+        this.idleTimeoutNanos = millisProperty(properties, "db.pool.idle.timeout", "600000");
+        this.validationIntervalNanos = millisProperty(properties, "db.pool.validation.interval", "30000");
+        this.leakDetectionThresholdNanos = millisProperty(properties, "db.pool.leak.threshold", "0");
+        long housekeepingPeriod = Long.parseLong(properties.getProperty("db.pool.housekeeping.period", "30000"));
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "connection-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
 
         initializePool();
-
-        // LOGGER.info("Connection pool initialized with {} connections", poolSize);
-
+        housekeeper.scheduleWithFixedDelay(
+            this::houseKeep,
+            housekeepingPeriod,
+            housekeepingPeriod,
+            TimeUnit.MILLISECONDS
+        );
     }
 
     public static synchronized ConnectionPool getInstance() {
@@ -50,9 +96,9 @@ public class ConnectionPool {
         return instance;
     }
 
-    private Properties loadDatabaseProperties() {
+    private static Properties loadDatabaseProperties() {
         Properties properties = new Properties();
-        try (InputStream input = getClass().getClassLoader().getResourceAsStream("database.properties")) {
+        try (InputStream input = ConnectionPool.class.getClassLoader().getResourceAsStream("database.properties")) {
             if (input == null) {
                 LOGGER.error("Unable to find database.properties");
                 throw new RuntimeException("database.properties not found");
@@ -65,46 +111,189 @@ public class ConnectionPool {
         return properties;
     }
 
+    private static String withDriverDefaults(String url) {
+        if (url == null || !url.startsWith("jdbc:mysql:")) {
+            return url;
+        }
+        String tuned = withParameter(url, "rewriteBatchedStatements=true");
+        return withParameter(tuned, "useCursorFetch=true");
+    }
+
+    private static String withParameter(String url, String parameter) {
+        String name = parameter.substring(0, parameter.indexOf('='));
+        if (url.contains(name)) {
+            return url;
+        }
+        return url + (url.contains("?") ? "&" : "?") + parameter;
+    }
+
+    private static long millisProperty(Properties properties, String key, String defaultValue) {
+        return TimeUnit.MILLISECONDS.toNanos(Long.parseLong(properties.getProperty(key, defaultValue)));
+    }
+
     private void initializePool() {
-        for (int i = 0; i < poolSize; i++) {
-            try {
-                Connection connection = createConnection();
-                availableConnections.add(connection);
-            } catch (SQLException e) {
-                LOGGER.error("Failed to create connection {}", i + 1, e);
-                throw new RuntimeException("Failed to initialize connection pool", e);
-            }
+        try {
+            totalConnections.incrementAndGet();
+            PooledConnection pooled = newPooledConnection();
+            sharedConnections.add(pooled);
+        } catch (SQLException e) {
+            totalConnections.decrementAndGet();
+            LOGGER.error("Failed to create initial connection", e);
+            throw new RuntimeException("Failed to initialize connection pool", e);
         }
+        requestFill();
     }
 
-    private Connection createConnection() throws SQLException {
-        return DriverManager.getConnection(url, username, password);
+    private PooledConnection newPooledConnection() throws SQLException {
+        Connection physical = DriverManager.getConnection(url, username, password);
+        if (statementCacheSize <= 0) {
+            return new PooledConnection(physical, null);
+        }
+        StatementCache statementCache = new StatementCache(physical, statementCacheSize, statementMetrics);
+        return new PooledConnection(statementCache.connection(), statementCache);
     }
 
     public Connection getConnection() throws SQLException {
-        try {
-            Connection connection = availableConnections.poll(timeout, TimeUnit.MILLISECONDS);
+        if (closed.get()) {
+            throw new SQLException("Connection pool has been shut down");
+        }
 
-            if (connection == null) {
-                throw new SQLException("Timeout waiting for available connection");
-            }
+        Connection transactional = TransactionManager.currentConnection(this);
+        if (transactional != null) {
+            return transactional;
+        }
 
-            if (!connection.isValid(2)) {
-                LOGGER.warn("Invalid connection detected, creating new one");
-                connection = createConnection();
-            }
+        long startNanos = System.nanoTime();
+        PooledConnection pooled = borrow(startNanos);
+        borrowedConnections.put(pooled.connection, pooled);
+        borrowLatency.record(System.nanoTime() - startNanos);
 
-            usedConnections.add(connection);
+        if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(
                 "Connection retrieved from pool. Available: {}, Used: {}",
-                availableConnections.size(),
-                usedConnections.size()
+                getAvailableConnectionsCount(),
+                getUsedConnectionsCount()
             );
+        }
+        return pooled.connection;
+    }
+
+    private PooledConnection borrow(long startNanos) throws SQLException {
+        long deadline = startNanos + TimeUnit.MILLISECONDS.toNanos(timeout);
+
+        while (true) {
+            PooledConnection pooled = claimIdle();
+            if (pooled == null) {
+                pooled = createIfBelowLimit();
+            }
+            if (pooled == null) {
+                pooled = awaitHandoff(deadline);
+            }
+            if (pooled == null) {
+                throw new SQLException("Timeout waiting for available connection");
+            }
+            if (prepareForUse(pooled)) {
+                return pooled;
+            }
+        }
+    }
+
+    private PooledConnection claimIdle() {
+        if (!Thread.currentThread().isVirtual()) {
+            List<PooledConnection> local = threadConnections.get();
+            for (int i = local.size() - 1; i >= 0; i--) {
+                PooledConnection pooled = local.remove(i);
+                if (pooled.tryClaim()) {
+                    return pooled;
+                }
+            }
+        }
+
+        for (PooledConnection pooled : sharedConnections) {
+            if (pooled.tryClaim()) {
+                return pooled;
+            }
+        }
+        return null;
+    }
+
+    private PooledConnection createIfBelowLimit() throws SQLException {
+        int current;
+        do {
+            current = totalConnections.get();
+            if (current >= poolSize) {
+                return null;
+            }
+        } while (!totalConnections.compareAndSet(current, current + 1));
 
-            return connection;
+        try {
+            PooledConnection pooled = newPooledConnection();
+            pooled.state.set(PooledConnection.IN_USE);
+            sharedConnections.add(pooled);
+            return pooled;
+        } catch (SQLException e) {
+            totalConnections.decrementAndGet();
+            LOGGER.error("Failed to create connection", e);
+            throw e;
+        }
+    }
+
+    private PooledConnection awaitHandoff(long deadline) throws SQLException {
+        long waitStart = System.nanoTime();
+        waiters.incrementAndGet();
+        try {
+            PooledConnection pooled = claimIdle();
+            if (pooled != null) {
+                return pooled;
+            }
+            requestFill();
+
+            long remaining;
+            while ((remaining = deadline - System.nanoTime()) > 0) {
+                PooledConnection offered = handoffQueue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (offered == null) {
+                    return null;
+                }
+                if (offered.tryClaim()) {
+                    return offered;
+                }
+            }
+            return null;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new SQLException("Interrupted while waiting for connection", e);
+        } finally {
+            waiters.decrementAndGet();
+            waitTime.record(System.nanoTime() - waitStart);
+        }
+    }
+
+    private boolean prepareForUse(PooledConnection pooled) {
+        long now = System.nanoTime();
+        if (now - pooled.lastValidatedNanos > validationIntervalNanos) {
+            if (!isAlive(pooled.connection)) {
+                LOGGER.warn("Invalid connection detected, replacing it");
+                remove(pooled);
+                requestFill();
+                return false;
+            }
+            pooled.lastValidatedNanos = now;
+        }
+
+        pooled.borrowedAtNanos = now;
+        pooled.leakReported = false;
+        if (leakDetectionThresholdNanos > 0) {
+            pooled.borrowSite = new Exception("Connection borrowed by " + Thread.currentThread().getName());
+        }
+        return true;
+    }
+
+    private boolean isAlive(Connection connection) {
+        try {
+            return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            LOGGER.warn("Connection validation failed", e);
+            return false;
         }
     }
 
@@ -113,46 +302,202 @@ public class ConnectionPool {
             return false;
         }
 
-        if (usedConnections.remove(connection)) {
-            try {
-                if (connection.isClosed()) {
-                    LOGGER.warn("Attempting to release closed connection, creating new one");
-                    connection = createConnection();
-                }
+        if (TransactionManager.isTransactional(connection)) {
+            return true;
+        }
 
-                availableConnections.add(connection);
-                LOGGER.debug(
-                    "Connection returned to pool. Available: {}, Used: {}",
-                    availableConnections.size(),
-                    usedConnections.size()
-                );
+        PooledConnection pooled = borrowedConnections.remove(connection);
+        if (pooled == null) {
+            return false;
+        }
+
+        if (pooled.leakReported) {
+            LOGGER.info("Previously reported leaked connection was returned to the pool");
+        }
+        pooled.borrowSite = null;
+
+        try {
+            if (connection.isClosed() || closed.get()) {
+                LOGGER.warn("Attempting to release closed connection, replacing it");
+                remove(pooled);
+                requestFill();
                 return true;
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error checking connection status", e);
+            remove(pooled);
+            requestFill();
+            return false;
+        }
+
+        if (pooled.statementCache != null) {
+            pooled.statementCache.reclaim();
+        }
+        pooled.lastAccessedNanos = System.nanoTime();
+        pooled.state.set(PooledConnection.NOT_IN_USE);
+        handOff(pooled);
+
+        // Virtual threads are not reused, so remembering their connections would only leak list instances.
+        if (!Thread.currentThread().isVirtual()) {
+            List<PooledConnection> local = threadConnections.get();
+            if (local.size() < THREAD_LOCAL_CAPACITY) {
+                local.add(pooled);
+            }
+        }
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(
+                "Connection returned to pool. Available: {}, Used: {}",
+                getAvailableConnectionsCount(),
+                getUsedConnectionsCount()
+            );
+        }
+        return true;
+    }
+
+    private void handOff(PooledConnection pooled) {
+        for (int attempt = 0; waiters.get() > 0; attempt++) {
+            if (pooled.state.get() != PooledConnection.NOT_IN_USE || handoffQueue.offer(pooled)) {
+                return;
+            }
+            if ((attempt & 0xff) == 0xff) {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(10));
+            } else {
+                Thread.yield();
+            }
+        }
+    }
+
+    private void remove(PooledConnection pooled) {
+        pooled.state.set(PooledConnection.REMOVED);
+        if (sharedConnections.remove(pooled)) {
+            totalConnections.decrementAndGet();
+        }
+        closeConnection(pooled.connection);
+    }
+
+    private void requestFill() {
+        if (closed.get()) {
+            return;
+        }
+        try {
+            housekeeper.execute(this::fillPool);
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("Connection pool is shutting down, skipping fill");
+        }
+    }
+
+    private void fillPool() {
+        while (!closed.get() && (getAvailableConnectionsCount() < minIdle || waiters.get() > 0)) {
+            int current = totalConnections.get();
+            if (current >= poolSize) {
+                return;
+            }
+            if (!totalConnections.compareAndSet(current, current + 1)) {
+                continue;
+            }
+
+            try {
+                PooledConnection pooled = newPooledConnection();
+                sharedConnections.add(pooled);
+                handOff(pooled);
             } catch (SQLException e) {
-                LOGGER.error("Error checking connection status", e);
-                return false;
+                totalConnections.decrementAndGet();
+                LOGGER.error("Failed to add connection to pool", e);
+                return;
             }
         }
+    }
+
+    private void houseKeep() {
+        long now = System.nanoTime();
+        int idleToEvict = getAvailableConnectionsCount() - minIdle;
+
+        for (PooledConnection pooled : sharedConnections) {
+            int state = pooled.state.get();
+            if (state == PooledConnection.IN_USE) {
+                reportLeak(pooled, now);
+                continue;
+            }
+            if (state != PooledConnection.NOT_IN_USE || !pooled.state.compareAndSet(state, PooledConnection.RESERVED)) {
+                continue;
+            }
 
-        return false;
+            if (idleToEvict > 0 && now - pooled.lastAccessedNanos > idleTimeoutNanos) {
+                LOGGER.debug("Evicting idle connection");
+                remove(pooled);
+                idleToEvict--;
+            } else if (now - pooled.lastValidatedNanos > validationIntervalNanos && !isAlive(pooled.connection)) {
+                LOGGER.warn("Removing connection that failed validation");
+                remove(pooled);
+            } else {
+                pooled.lastValidatedNanos = now;
+                pooled.state.set(PooledConnection.NOT_IN_USE);
+                handOff(pooled);
+            }
+        }
+
+        fillPool();
+    }
+
+    private void reportLeak(PooledConnection pooled, long now) {
+        Exception borrowSite = pooled.borrowSite;
+        if (leakDetectionThresholdNanos <= 0 || pooled.leakReported || borrowSite == null) {
+            return;
+        }
+        if (now - pooled.borrowedAtNanos > leakDetectionThresholdNanos) {
+            pooled.leakReported = true;
+            LOGGER.warn(
+                "Connection leak detection triggered: held for {} ms",
+                TimeUnit.NANOSECONDS.toMillis(now - pooled.borrowedAtNanos),
+                borrowSite
+            );
+        }
     }
 
     public String getPoolStats() {
         return String.format(
-            "Pool Stats - Available: %d, Used: %d, Total: %d",
-            availableConnections.size(),
-            usedConnections.size(),
-            poolSize
+            "Pool Stats - Available: %d, Used: %d, Total: %d, Max: %d, Waiting: %d, Borrow: [%s], Wait: [%s], " +
+                "Statements: [hits=%d, misses=%d, evictions=%d, hitRate=%.1f%%]",
+            getAvailableConnectionsCount(),
+            getUsedConnectionsCount(),
+            totalConnections.get(),
+            poolSize,
+            waiters.get(),
+            borrowLatency.summary(),
+            waitTime.summary(),
+            statementMetrics.hits.sum(),
+            statementMetrics.misses.sum(),
+            statementMetrics.evictions.sum(),
+            getStatementCacheHitRate() * 100
         );
     }
 
+    public double getStatementCacheHitRate() {
+        return statementMetrics.hitRate();
+    }
+
+    public long getStatementCacheHits() {
+        return statementMetrics.hits.sum();
+    }
+
+    public long getStatementCacheMisses() {
+        return statementMetrics.misses.sum();
+    }
+
     public void shutdown() {
         LOGGER.info("Shutting down connection pool");
 
-        usedConnections.forEach(this::closeConnection);
-        availableConnections.forEach(this::closeConnection);
+        closed.set(true);
+        housekeeper.shutdownNow();
 
-        usedConnections.clear();
-        availableConnections.clear();
+        for (PooledConnection pooled : sharedConnections) {
+            pooled.state.set(PooledConnection.REMOVED);
+            closeConnection(pooled.connection);
+        }
+        sharedConnections.clear();
+        borrowedConnections.clear();
+        totalConnections.set(0);
 
         LOGGER.info("Connection pool shutdown complete");
     }
@@ -167,15 +512,149 @@ public class ConnectionPool {
         }
     }
 
+    public DataSource asDataSource() {
+        return dataSource;
+    }
+
     public int getPoolSize() {
         return poolSize;
     }
 
+    public int getTotalConnectionsCount() {
+        return totalConnections.get();
+    }
+
     public int getAvailableConnectionsCount() {
-        return availableConnections.size();
+        int available = 0;
+        for (PooledConnection pooled : sharedConnections) {
+            if (pooled.state.get() == PooledConnection.NOT_IN_USE) {
+                available++;
+            }
+        }
+        return available;
     }
 
     public int getUsedConnectionsCount() {
-        return usedConnections.size();
+        return borrowedConnections.size();
+    }
+
+    public LatencyHistogram getBorrowLatency() {
+        return borrowLatency;
+    }
+
+    public LatencyHistogram getWaitTime() {
+        return waitTime;
+    }
+
+    private final class PoolDataSource implements DataSource {
+
+        private volatile PrintWriter logWriter;
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = ConnectionPool.this.getConnection();
+            AtomicBoolean released = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close":
+                            if (released.compareAndSet(false, true)) {
+                                releaseConnection(connection);
+                            }
+                            return null;
+                        case "isClosed":
+                            return released.get() || connection.isClosed();
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return "DataSource(" + connection + ")";
+                        default:
+                            if (released.get()) {
+                                throw new SQLException("Connection has been returned to the pool");
+                            }
+                            try {
+                                return method.invoke(connection, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            }
+                    }
+                }
+            );
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new SQLFeatureNotSupportedException("Pooled connections use the configured credentials");
+        }
+
+        @Override
+        public PrintWriter getLogWriter() {
+            return logWriter;
+        }
+
+        @Override
+        public void setLogWriter(PrintWriter out) {
+            this.logWriter = out;
+        }
+
+        @Override
+        public void setLoginTimeout(int seconds) throws SQLException {
+            throw new SQLFeatureNotSupportedException("Login timeout is set with db.pool.timeout");
+        }
+
+        @Override
+        public int getLoginTimeout() {
+            return (int) TimeUnit.MILLISECONDS.toSeconds(timeout);
+        }
+
+        @Override
+        public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
+            throw new SQLFeatureNotSupportedException("Connection pool logs through log4j");
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> type) throws SQLException {
+            if (type.isInstance(ConnectionPool.this)) {
+                return type.cast(ConnectionPool.this);
+            }
+            throw new SQLException("Not a wrapper for " + type.getName());
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> type) {
+            return type.isInstance(ConnectionPool.this);
+        }
+    }
+
+    private static final class PooledConnection {
+
+        static final int NOT_IN_USE = 0;
+        static final int IN_USE = 1;
+        static final int RESERVED = 2;
+        static final int REMOVED = -1;
+
+        final Connection connection;
+        final StatementCache statementCache;
+        final AtomicInteger state = new AtomicInteger(NOT_IN_USE);
+        volatile long lastAccessedNanos;
+        volatile long lastValidatedNanos;
+        volatile long borrowedAtNanos;
+        volatile Exception borrowSite;
+        volatile boolean leakReported;
+
+        PooledConnection(Connection connection, StatementCache statementCache) {
+            this.connection = connection;
+            this.statementCache = statementCache;
+            this.lastAccessedNanos = System.nanoTime();
+            this.lastValidatedNanos = lastAccessedNanos;
+        }
+
+        boolean tryClaim() {
+            return state.compareAndSet(NOT_IN_USE, IN_USE);
+        }
     }
 }
@@ -390,16 +390,20 @@ public class DatabaseInitializer {
         }
 
         try {
-            studentService.registerStudent("Alice", "Johnson", 20, "alice.johnson@university.edu");
-            studentService.registerStudent("Bob", "Smith", 21, "bob.smith@university.edu");
-            studentService.registerStudent("Charlie", "Davis", 22, "charlie.davis@university.edu");
-            studentService.registerStudent("Diana", "Wilson", 23, "diana.wilson@university.edu");
-            studentService.registerStudent("Ethan", "Martinez", 19, "ethan.martinez@university.edu");
-            studentService.registerStudent("Fiona", "Garcia", 20, "fiona.garcia@university.edu");
-            studentService.registerStudent("George", "Rodriguez", 21, "george.rodriguez@university.edu");
-            studentService.registerStudent("Hannah", "Lee", 22, "hannah.lee@university.edu");
-            studentService.registerStudent("Isaac", "Walker", 19, "isaac.walker@university.edu");
-            studentService.registerStudent("Julia", "Hall", 20, "julia.hall@university.edu");
+            studentService.registerStudents(
+                List.of(
+                    new Student("Alice", "Johnson", 20, "alice.johnson@university.edu"),
+                    new Student("Bob", "Smith", 21, "bob.smith@university.edu"),
+                    new Student("Charlie", "Davis", 22, "charlie.davis@university.edu"),
+                    new Student("Diana", "Wilson", 23, "diana.wilson@university.edu"),
+                    new Student("Ethan", "Martinez", 19, "ethan.martinez@university.edu"),
+                    new Student("Fiona", "Garcia", 20, "fiona.garcia@university.edu"),
+                    new Student("George", "Rodriguez", 21, "george.rodriguez@university.edu"),
+                    new Student("Hannah", "Lee", 22, "hannah.lee@university.edu"),
+                    new Student("Isaac", "Walker", 19, "isaac.walker@university.edu"),
+                    new Student("Julia", "Hall", 20, "julia.hall@university.edu")
+                )
+            );
 
             List<Student> students = studentService.getAllStudents();
             printInitComplete("Student", students.size(), "students");
@@ -0,0 +1,91 @@
+package com.solvd.university.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class LatencyHistogram {
+
+    private static final int BUCKET_COUNT = 40;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets[bucketOf(value)].increment();
+        count.increment();
+        totalNanos.add(value);
+        maxNanos.accumulateAndGet(value, Math::max);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    public long getMeanNanos() {
+        long samples = count.sum();
+        return samples == 0 ? 0 : totalNanos.sum() / samples;
+    }
+
+    public long getPercentileNanos(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long samples = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = buckets[i].sum();
+            samples += snapshot[i];
+        }
+        if (samples == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(samples * Math.min(100.0, Math.max(0.0, percentile)) / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= Math.max(1, rank)) {
+                return Math.min(upperBoundOf(i), maxNanos.get());
+            }
+        }
+        return maxNanos.get();
+    }
+
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.set(0);
+    }
+
+    public String summary() {
+        return String.format(
+            "p50=%dus, p99=%dus, max=%dus, n=%d",
+            TimeUnit.NANOSECONDS.toMicros(getPercentileNanos(50)),
+            TimeUnit.NANOSECONDS.toMicros(getPercentileNanos(99)),
+            TimeUnit.NANOSECONDS.toMicros(getMaxNanos()),
+            getCount()
+        );
+    }
+
+    private static int bucketOf(long nanos) {
+        return Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(nanos));
+    }
+
+    private static long upperBoundOf(int bucket) {
+        return bucket >= 63 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+}
@@ -0,0 +1,48 @@
+package com.solvd.university.util;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.solvd.university.service.interfaces.PaymentLedgerService;
+
+public class LedgerCompactionJob implements AutoCloseable {
+
+    private static final Logger LOGGER = LogManager.getLogger(LedgerCompactionJob.class);
+
+    private final PaymentLedgerService paymentLedgerService;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ledger-compaction");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public LedgerCompactionJob(PaymentLedgerService paymentLedgerService) {
+        this.paymentLedgerService = paymentLedgerService;
+    }
+
+    public LedgerCompactionJob start(Duration interval) {
+        long period = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::runOnce, period, period, TimeUnit.MILLISECONDS);
+        LOGGER.info("Ledger compaction scheduled every {}", interval);
+        return this;
+    }
+
+    public int runOnce() {
+        try {
+            return paymentLedgerService.compactSnapshots();
+        } catch (RuntimeException e) {
+            LOGGER.error("Ledger compaction failed, retrying on the next run", e);
+            return 0;
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,16 @@
+package com.solvd.university.util;
+
+import java.util.Properties;
+import javax.sql.DataSource;
+import org.apache.ibatis.datasource.DataSourceFactory;
+
+public class MyBatisDataSourceFactory implements DataSourceFactory {
+
+    @Override
+    public void setProperties(Properties properties) {}
+
+    @Override
+    public DataSource getDataSource() {
+        return ConnectionPool.getInstance().asDataSource();
+    }
+}
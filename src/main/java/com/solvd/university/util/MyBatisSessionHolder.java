@@ -3,7 +3,9 @@ package com.solvd.university.util;
 import java.io.IOException;
 import java.io.InputStream;
 
+import org.apache.ibatis.cache.Cache;
 import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.SqlSessionFactoryBuilder;
@@ -13,14 +15,15 @@ import org.apache.logging.log4j.Logger;
 public class MyBatisSessionHolder {
 
     private static final Logger LOGGER = LogManager.getLogger(MyBatisSessionHolder.class);
-    private static SqlSessionFactory sqlSessionFactory;
+    private static volatile SqlSessionFactory sqlSessionFactory;
 
-    static {
+    private static SqlSessionFactory initialize() {
         try {
             String resource = "mybatis/mybatis-config.xml";
             InputStream inputStream = Resources.getResourceAsStream(resource);
-            sqlSessionFactory = new SqlSessionFactoryBuilder().build(inputStream);
+            SqlSessionFactory factory = new SqlSessionFactoryBuilder().build(inputStream);
             LOGGER.info("MyBatis SqlSessionFactory initialized successfully");
+            return factory;
         } catch (IOException e) {
             LOGGER.error("Error initializing MyBatis SqlSessionFactory", e);
             throw new RuntimeException("Failed to initialize MyBatis", e);
@@ -28,10 +31,31 @@ public class MyBatisSessionHolder {
     }
 
     public static SqlSession getSqlSession() {
-        return sqlSessionFactory.openSession();
+        return getSqlSessionFactory().openSession();
+    }
+
+    public static SqlSession getBatchSession() {
+        return getSqlSessionFactory().openSession(ExecutorType.BATCH);
     }
 
     public static SqlSessionFactory getSqlSessionFactory() {
-        return sqlSessionFactory;
+        SqlSessionFactory factory = sqlSessionFactory;
+        if (factory == null) {
+            synchronized (MyBatisSessionHolder.class) {
+                factory = sqlSessionFactory;
+                if (factory == null) {
+                    factory = initialize();
+                    sqlSessionFactory = factory;
+                }
+            }
+        }
+        return factory;
+    }
+
+    public static void clearCaches() {
+        SqlSessionFactory factory = sqlSessionFactory;
+        if (factory != null) {
+            factory.getConfiguration().getCaches().forEach(Cache::clear);
+        }
     }
 }
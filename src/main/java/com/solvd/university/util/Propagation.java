@@ -0,0 +1,7 @@
+package com.solvd.university.util;
+
+public enum Propagation {
+    REQUIRED,
+    REQUIRES_NEW,
+    READ_ONLY
+}
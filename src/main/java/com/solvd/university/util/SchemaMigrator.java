@@ -0,0 +1,147 @@
+package com.solvd.university.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public final class SchemaMigrator {
+
+    private static final Logger LOGGER = LogManager.getLogger(SchemaMigrator.class);
+    private static final String MIGRATION_PATH = "sql/migrations/";
+    private static final List<String> MIGRATIONS = List.of(
+        "V1__secondary_indexes.sql",
+        "V2__student_balance_decimal.sql",
+        "V3__payment_ledger.sql",
+        "V4__course_seats.sql"
+    );
+    private static SchemaMigrator instance;
+
+    private final ConnectionPool connectionPool;
+
+    public SchemaMigrator(ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+    }
+
+    public static synchronized SchemaMigrator getInstance() {
+        if (instance == null) {
+            instance = new SchemaMigrator(ConnectionPool.getInstance());
+        }
+        return instance;
+    }
+
+    public int migrate() {
+        Connection conn = null;
+        try {
+            conn = connectionPool.getConnection();
+            createVersionTable(conn);
+            int schemaVersion = currentVersion(conn);
+
+            int applied = 0;
+            for (String migration : MIGRATIONS) {
+                int version = versionOf(migration);
+                if (version <= schemaVersion) {
+                    continue;
+                }
+                apply(conn, migration);
+                recordVersion(conn, version, descriptionOf(migration));
+                schemaVersion = version;
+                applied++;
+                LOGGER.info("Applied schema migration {}", migration);
+            }
+
+            LOGGER.info("Schema is at version {} ({} migrations applied)", schemaVersion, applied);
+            return applied;
+        } catch (SQLException e) {
+            LOGGER.error("Schema migration failed", e);
+            throw new RuntimeException("Schema migration failed", e);
+        } finally {
+            if (conn != null) {
+                connectionPool.releaseConnection(conn);
+            }
+        }
+    }
+
+    private static void createVersionTable(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(
+                "CREATE TABLE IF NOT EXISTS schema_version (" +
+                "version INT NOT NULL, " +
+                "description VARCHAR(100) NOT NULL, " +
+                "applied_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP, " +
+                "PRIMARY KEY (version))"
+            );
+        }
+    }
+
+    private static int currentVersion(Connection conn) throws SQLException {
+        try (
+            PreparedStatement stmt = conn.prepareStatement("SELECT MAX(version) AS version FROM schema_version");
+            ResultSet rs = stmt.executeQuery()
+        ) {
+            return rs.next() ? rs.getInt("version") : 0;
+        }
+    }
+
+    private static void apply(Connection conn, String migration) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            for (String sql : statementsOf(migration)) {
+                stmt.execute(sql);
+            }
+        }
+    }
+
+    private static void recordVersion(Connection conn, int version, String description) throws SQLException {
+        String sql = "INSERT INTO schema_version (version, description) VALUES (?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, version);
+            stmt.setString(2, description);
+            stmt.executeUpdate();
+        }
+    }
+
+    private static List<String> statementsOf(String migration) {
+        String resource = MIGRATION_PATH + migration;
+        String script;
+        try (InputStream input = SchemaMigrator.class.getClassLoader().getResourceAsStream(resource)) {
+            if (input == null) {
+                throw new IllegalStateException("Migration not found: " + migration);
+            }
+            script = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOGGER.error("Failed to read migration {}", migration, e);
+            throw new RuntimeException("Failed to read migration " + migration, e);
+        }
+
+        StringBuilder uncommented = new StringBuilder();
+        for (String line : script.split("\\R")) {
+            if (!line.trim().startsWith("--")) {
+                uncommented.append(line).append('\n');
+            }
+        }
+
+        List<String> statements = new ArrayList<>();
+        for (String sql : uncommented.toString().split(";")) {
+            if (!sql.isBlank()) {
+                statements.add(sql.trim());
+            }
+        }
+        return statements;
+    }
+
+    private static int versionOf(String migration) {
+        return Integer.parseInt(migration.substring(1, migration.indexOf("__")));
+    }
+
+    private static String descriptionOf(String migration) {
+        return migration.substring(migration.indexOf("__") + 2, migration.lastIndexOf('.')).replace('_', ' ');
+    }
+}
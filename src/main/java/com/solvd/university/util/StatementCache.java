@@ -0,0 +1,227 @@
+package com.solvd.university.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+final class StatementCache implements InvocationHandler {
+
+    private static final Logger LOGGER = LogManager.getLogger(StatementCache.class);
+
+    private final Connection physical;
+    private final Connection connection;
+    private final int capacity;
+    private final Metrics metrics;
+    private final LinkedHashMap<Key, CachedStatement> statements;
+    private final List<PreparedStatement> uncached = new ArrayList<>();
+
+    StatementCache(Connection physical, int capacity, Metrics metrics) {
+        this.physical = physical;
+        this.capacity = capacity;
+        this.metrics = metrics;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true);
+        this.connection = (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] { Connection.class },
+            this
+        );
+    }
+
+    Connection connection() {
+        return connection;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "prepareStatement":
+                if (args.length == 1) {
+                    return prepare((String) args[0], Statement.NO_GENERATED_KEYS);
+                }
+                if (args.length == 2 && args[1] instanceof Integer keyMode) {
+                    return prepare((String) args[0], keyMode);
+                }
+                return delegate(physical, method, args);
+            case "close":
+                closeAll();
+                return delegate(physical, method, args);
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "Cached(" + physical + ")";
+            default:
+                return delegate(physical, method, args);
+        }
+    }
+
+    private synchronized PreparedStatement prepare(String sql, int keyMode) throws SQLException {
+        Key key = new Key(sql, keyMode);
+        CachedStatement cached = statements.get(key);
+        if (cached != null && !cached.checkedOut) {
+            metrics.hits.increment();
+            return cached.checkOut();
+        }
+
+        metrics.misses.increment();
+        PreparedStatement statement = physical.prepareStatement(sql, keyMode);
+        if (cached != null || !makeRoom()) {
+            uncached.add(statement);
+            return statement;
+        }
+        cached = new CachedStatement(key, statement);
+        statements.put(key, cached);
+        return cached.checkOut();
+    }
+
+    private boolean makeRoom() {
+        if (statements.size() < capacity) {
+            return true;
+        }
+        Iterator<CachedStatement> eldest = statements.values().iterator();
+        while (eldest.hasNext()) {
+            CachedStatement candidate = eldest.next();
+            if (!candidate.checkedOut) {
+                eldest.remove();
+                metrics.evictions.increment();
+                closeQuietly(candidate.statement);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized void checkIn(CachedStatement cached) {
+        cached.checkedOut = false;
+        try {
+            cached.statement.clearParameters();
+            cached.statement.clearBatch();
+        } catch (SQLException e) {
+            LOGGER.warn("Discarding prepared statement that could not be reset", e);
+            statements.remove(cached.key);
+            closeQuietly(cached.statement);
+        }
+    }
+
+    synchronized void reclaim() {
+        for (CachedStatement cached : List.copyOf(statements.values())) {
+            if (cached.checkedOut) {
+                cached.handle.closed = true;
+                checkIn(cached);
+            }
+        }
+        uncached.forEach(StatementCache::closeQuietly);
+        uncached.clear();
+    }
+
+    synchronized void closeAll() {
+        statements.values().forEach(cached -> closeQuietly(cached.statement));
+        statements.clear();
+        uncached.forEach(StatementCache::closeQuietly);
+        uncached.clear();
+    }
+
+    private static Object delegate(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void closeQuietly(Statement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            LOGGER.error("Error closing prepared statement", e);
+        }
+    }
+
+    private record Key(String sql, int keyMode) {}
+
+    private final class CachedStatement {
+
+        private final Key key;
+        private final PreparedStatement statement;
+        private boolean checkedOut;
+        private Handle handle;
+
+        CachedStatement(Key key, PreparedStatement statement) {
+            this.key = key;
+            this.statement = statement;
+        }
+
+        PreparedStatement checkOut() {
+            checkedOut = true;
+            handle = new Handle(this);
+            return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[] { PreparedStatement.class },
+                handle
+            );
+        }
+    }
+
+    private final class Handle implements InvocationHandler {
+
+        private final CachedStatement cached;
+        private volatile boolean closed;
+
+        Handle(CachedStatement cached) {
+            this.cached = cached;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        checkIn(cached);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed;
+                case "getConnection":
+                    return connection;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Cached(" + cached.statement + ")";
+                default:
+                    if (closed) {
+                        throw new SQLException("Statement is closed");
+                    }
+                    return delegate(cached.statement, method, args);
+            }
+        }
+    }
+
+    static final class Metrics {
+
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+        final LongAdder evictions = new LongAdder();
+
+        double hitRate() {
+            long hitCount = hits.sum();
+            long total = hitCount + misses.sum();
+            return total == 0 ? 0.0 : (double) hitCount / total;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.solvd.university.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public final class TransactionManager {
+
+    private static final Logger LOGGER = LogManager.getLogger(TransactionManager.class);
+    private static final ThreadLocal<TransactionContext> CURRENT = new ThreadLocal<>();
+    private static final long RETRY_BACKOFF_NANOS = 2_000_000L;
+    private static TransactionManager instance;
+
+    private final ConnectionPool connectionPool;
+
+    public TransactionManager(ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+    }
+
+    public static synchronized TransactionManager getInstance() {
+        if (instance == null) {
+            instance = new TransactionManager(ConnectionPool.getInstance());
+        }
+        return instance;
+    }
+
+    public void execute(Runnable work) {
+        execute(Propagation.REQUIRED, work);
+    }
+
+    public <T> T execute(Supplier<T> work) {
+        return execute(Propagation.REQUIRED, work);
+    }
+
+    public void execute(Propagation propagation, Runnable work) {
+        execute(propagation, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public <T> T executeReadOnly(Supplier<T> work) {
+        return execute(Propagation.READ_ONLY, work);
+    }
+
+    // Deadlocks and serialization failures are retried only when this call owns the transaction
+    public <T> T executeWithRetry(int maxAttempts, Supplier<T> work) {
+        if (isActive()) {
+            return execute(work);
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return execute(work);
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts || !isRetryable(e)) {
+                    throw e;
+                }
+                LOGGER.warn("Transaction failed due to a conflict, retrying (attempt {})", attempt);
+                LockSupport.parkNanos(RETRY_BACKOFF_NANOS * attempt);
+            }
+        }
+    }
+
+    public <T> T execute(Propagation propagation, Supplier<T> work) {
+        TransactionContext existing = CURRENT.get();
+        boolean joinable = existing != null && existing.pool == connectionPool;
+
+        if (joinable && propagation != Propagation.REQUIRES_NEW) {
+            if (existing.readOnly && propagation == Propagation.REQUIRED) {
+                throw new IllegalStateException("Cannot join a read-only transaction for work that may write");
+            }
+            return work.get();
+        }
+
+        CURRENT.remove();
+        try {
+            return begin(propagation == Propagation.READ_ONLY, work);
+        } finally {
+            if (existing != null) {
+                CURRENT.set(existing);
+            }
+        }
+    }
+
+    private <T> T begin(boolean readOnly, Supplier<T> work) {
+        if (connectionPool == null) {
+            return beginWithoutConnection(readOnly, work);
+        }
+
+        Connection physical;
+        try {
+            physical = connectionPool.getConnection();
+        } catch (SQLException e) {
+            LOGGER.error("Failed to begin transaction", e);
+            throw new RuntimeException("Failed to begin transaction", e);
+        }
+
+        TransactionContext context = new TransactionContext(connectionPool, physical, readOnly);
+        try {
+            physical.setAutoCommit(false);
+            if (readOnly) {
+                physical.setReadOnly(true);
+            }
+            CURRENT.set(context);
+
+            T result = work.get();
+            if (context.rollbackOnly) {
+                rollback(context);
+                throw new IllegalStateException("Transaction was marked rollback-only");
+            }
+            physical.commit();
+            return result;
+        } catch (SQLException e) {
+            rollback(context);
+            LOGGER.error("Transaction failed", e);
+            throw new RuntimeException("Transaction failed", e);
+        } catch (RuntimeException | Error e) {
+            rollback(context);
+            throw e;
+        } finally {
+            CURRENT.remove();
+            context.complete();
+            try {
+                if (readOnly) {
+                    physical.setReadOnly(false);
+                }
+                physical.setAutoCommit(true);
+            } catch (SQLException e) {
+                LOGGER.error("Failed to restore connection state", e);
+            }
+            connectionPool.releaseConnection(physical);
+        }
+    }
+
+    private <T> T beginWithoutConnection(boolean readOnly, Supplier<T> work) {
+        TransactionContext context = new TransactionContext(null, null, readOnly);
+        CURRENT.set(context);
+        try {
+            T result = work.get();
+            if (context.rollbackOnly) {
+                rollback(context);
+                throw new IllegalStateException("Transaction was marked rollback-only");
+            }
+            return result;
+        } catch (RuntimeException | Error e) {
+            rollback(context);
+            throw e;
+        } finally {
+            CURRENT.remove();
+            context.complete();
+        }
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    public static boolean isRetryable(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransactionRollbackException) {
+                return true;
+            }
+            if (cause instanceof SQLException e && "40001".equals(e.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static boolean isReadOnly() {
+        TransactionContext context = CURRENT.get();
+        return context != null && context.readOnly;
+    }
+
+    // Undone in reverse order on rollback; returns false when no transaction is active
+    public static boolean registerRollbackAction(Runnable action) {
+        TransactionContext context = CURRENT.get();
+        if (context == null) {
+            return false;
+        }
+        context.rollbackActions.push(action);
+        return true;
+    }
+
+    public static boolean registerCompletionAction(Runnable action) {
+        TransactionContext context = CURRENT.get();
+        if (context == null) {
+            return false;
+        }
+        context.completionActions.add(action);
+        return true;
+    }
+
+    static Connection currentConnection(ConnectionPool pool) {
+        TransactionContext context = CURRENT.get();
+        return context != null && context.pool == pool ? context.connection : null;
+    }
+
+    static boolean isTransactional(Connection connection) {
+        TransactionContext context = CURRENT.get();
+        return context != null && context.connection == connection;
+    }
+
+    private static void rollback(TransactionContext context) {
+        if (context.physical != null) {
+            try {
+                context.physical.rollback();
+            } catch (SQLException e) {
+                LOGGER.error("Error rolling back transaction", e);
+            }
+        }
+        while (!context.rollbackActions.isEmpty()) {
+            try {
+                context.rollbackActions.pop().run();
+            } catch (RuntimeException e) {
+                LOGGER.error("Error running rollback action", e);
+            }
+        }
+    }
+
+    private static final class TransactionContext {
+
+        private final ConnectionPool pool;
+        private final Connection physical;
+        private final Connection connection;
+        private final boolean readOnly;
+        private final Deque<Runnable> rollbackActions = new ArrayDeque<>();
+        private final List<Runnable> completionActions = new ArrayList<>();
+        private boolean rollbackOnly;
+
+        TransactionContext(ConnectionPool pool, Connection physical, boolean readOnly) {
+            this.pool = pool;
+            this.physical = physical;
+            this.readOnly = readOnly;
+            this.connection = physical == null ? null : (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                (proxy, method, args) ->
+                    switch (method.getName()) {
+                        case "commit", "close", "setAutoCommit", "setReadOnly" -> null;
+                        case "rollback" -> {
+                            if (args == null) {
+                                rollbackOnly = true;
+                                yield null;
+                            }
+                            yield invoke(method, args);
+                        }
+                        case "getAutoCommit" -> false;
+                        case "isClosed" -> this.physical.isClosed();
+                        case "equals" -> proxy == args[0];
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "toString" -> "Transactional(" + this.physical + ")";
+                        default -> invoke(method, args);
+                    }
+            );
+        }
+
+        void complete() {
+            rollbackActions.clear();
+            for (Runnable action : completionActions) {
+                try {
+                    action.run();
+                } catch (RuntimeException e) {
+                    LOGGER.error("Error running transaction completion action", e);
+                }
+            }
+            completionActions.clear();
+        }
+
+        private Object invoke(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
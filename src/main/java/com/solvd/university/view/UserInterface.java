@@ -29,9 +29,9 @@ public class UserInterface {
     private static final GradeValidator STANDARD_GRADE_VALIDATOR = grade -> grade >= 0.0 && grade <= 100.0;
     private static final GradeValidator PASSING_GRADE_VALIDATOR = grade -> grade >= 60.0 && grade <= 100.0;
 
-    private static final StudentFilter ACTIVE_STUDENTS = Student::isEnrolled;
+    private static final StudentFilter ACTIVE_STUDENTS = StudentCriteria.builder().activeOnly().build();
     private static final StudentFilter HONOR_STUDENTS = student -> student.calculateAverageGrade() >= 90.0;
-    private static final StudentFilter STUDENTS_WITH_DEBT = student -> student.getOutstandingBalance() > 0;
+    private static final StudentFilter STUDENTS_WITH_DEBT = StudentCriteria.builder().withOutstandingBalance().build();
 
     private static final CourseFormatter DETAILED_COURSE_FORMAT = course ->
         String.format(
@@ -26,10 +26,8 @@ public class CommandFactory {
         return new BrowseProgramsCommand(programService);
     }
 
-    public static Command createViewStatisticsCommand(DepartmentService departmentService,
-                                                       ProfessorService professorService,
-                                                       CourseService courseService) {
-        return new ViewStatisticsCommand(departmentService, professorService, courseService);
+    public static Command createViewStatisticsCommand(StatisticsService statisticsService) {
+        return new ViewStatisticsCommand(statisticsService);
     }
 
     public static Command createExitCommand() {
@@ -40,16 +38,14 @@ public class CommandFactory {
         CommandInvoker invoker = new CommandInvoker();
 
         ProgramService programService = ServiceFactory.create(ProgramService.class);
-        DepartmentService departmentService = ServiceFactory.create(DepartmentService.class);
-        ProfessorService professorService = ServiceFactory.create(ProfessorService.class);
-        CourseService courseService = ServiceFactory.create(CourseService.class);
+        StatisticsService statisticsService = ServiceFactory.create(StatisticsService.class);
         StudentService studentService = ServiceFactory.create(StudentService.class);
         EnrollmentService enrollmentService = ServiceFactory.create(EnrollmentService.class);
 
         invoker.registerCommand(1, createRegisterStudentCommand(studentService, scanner));
         invoker.registerCommand(2, createLoginStudentCommand(studentService, enrollmentService, programService, scanner));
         invoker.registerCommand(3, createBrowseProgramsCommand(programService));
-        invoker.registerCommand(4, createViewStatisticsCommand(departmentService, professorService, courseService));
+        invoker.registerCommand(4, createViewStatisticsCommand(statisticsService));
         invoker.registerCommand(5, createExitCommand());
 
         return invoker;
@@ -1,9 +1,10 @@
 package com.solvd.university.view.command;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -11,8 +12,8 @@ import org.apache.logging.log4j.Logger;
 public class CommandInvoker {
     private static final Logger LOGGER = LogManager.getLogger(CommandInvoker.class);
 
-    private final Map<Integer, Command> commands = new HashMap<>();
-    private final List<String> commandHistory = new ArrayList<>();
+    private final Map<Integer, Command> commands = new ConcurrentHashMap<>();
+    private final List<String> commandHistory = Collections.synchronizedList(new ArrayList<>());
 
     public void registerCommand(int id, Command command) {
         commands.put(id, command);
@@ -52,7 +53,9 @@ public class CommandInvoker {
     }
 
     public List<String> getCommandHistory() {
-        return new ArrayList<>(commandHistory);
+        synchronized (commandHistory) {
+            return new ArrayList<>(commandHistory);
+        }
     }
 
     public void clearHistory() {
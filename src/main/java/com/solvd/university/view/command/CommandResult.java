@@ -0,0 +1,7 @@
+package com.solvd.university.view.command;
+
+public record CommandResult(String description, boolean succeeded, Throwable error, long waitNanos, long runNanos) {
+    public long totalNanos() {
+        return waitNanos + runNanos;
+    }
+}
@@ -0,0 +1,136 @@
+package com.solvd.university.view.command;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.solvd.university.util.ConnectionPool;
+import com.solvd.university.util.LatencyHistogram;
+
+public class ConcurrentCommandExecutor implements AutoCloseable {
+    private static final Logger LOGGER = LogManager.getLogger(ConcurrentCommandExecutor.class);
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+    private final LatencyHistogram waitTime = new LatencyHistogram();
+
+    public ConcurrentCommandExecutor() {
+        this(ConnectionPool.getInstance().getPoolSize());
+    }
+
+    public ConcurrentCommandExecutor(int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency limit must be positive");
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency, true);
+    }
+
+    public CompletableFuture<CommandResult> submit(Command command) {
+        return submit(command.getDescription(), command::execute);
+    }
+
+    public CompletableFuture<CommandResult> submit(CommandInvoker invoker, int id) {
+        String description = invoker.getCommandDescription(id);
+        if (description == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("No command registered for " + id));
+        }
+        return submit(description, () -> invoker.executeCommand(id));
+    }
+
+    public List<CommandResult> runAll(Collection<? extends Command> commands) {
+        List<CompletableFuture<CommandResult>> futures = new ArrayList<>(commands.size());
+        for (Command command : commands) {
+            futures.add(submit(command));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private CompletableFuture<CommandResult> submit(String description, Runnable action) {
+        long submittedAt = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> run(description, action, submittedAt), executor);
+    }
+
+    private CommandResult run(String description, Runnable action, long submittedAt) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new CommandResult(description, false, e, System.nanoTime() - submittedAt, 0);
+        }
+
+        long startedAt = System.nanoTime();
+        long waitNanos = startedAt - submittedAt;
+        waitTime.record(waitNanos);
+        try {
+            action.run();
+            return record(new CommandResult(description, true, null, waitNanos, System.nanoTime() - startedAt));
+        } catch (RuntimeException e) {
+            LOGGER.error("Command '{}' failed", description, e);
+            return record(new CommandResult(description, false, e, waitNanos, System.nanoTime() - startedAt));
+        } finally {
+            permits.release();
+        }
+    }
+
+    private CommandResult record(CommandResult result) {
+        latencies.computeIfAbsent(result.description(), key -> new LatencyHistogram()).record(result.runNanos());
+        return result;
+    }
+
+    public LatencyHistogram getLatency(String description) {
+        return latencies.get(description);
+    }
+
+    public LatencyHistogram getWaitTime() {
+        return waitTime;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    public String getLatencyReport() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Queue wait: %s%n", waitTime.summary()));
+        new TreeMap<>(latencies).forEach((description, histogram) ->
+            report.append(String.format("%s: %s%n", description, histogram.summary()))
+        );
+        return report.toString();
+    }
+
+    public void logLatencyReport() {
+        getLatencyReport().lines().forEach(LOGGER::info);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                LOGGER.warn("Commands still running after 30 seconds, interrupting");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
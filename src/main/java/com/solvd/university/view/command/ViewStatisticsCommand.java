@@ -1,29 +1,18 @@
 package com.solvd.university.view.command;
 
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import com.solvd.university.model.Course;
-import com.solvd.university.model.Department;
-import com.solvd.university.service.interfaces.*;
+import com.solvd.university.model.UniversityStatistics;
+import com.solvd.university.service.interfaces.StatisticsService;
 
 public class ViewStatisticsCommand implements Command {
     private static final Logger LOGGER = LogManager.getLogger(ViewStatisticsCommand.class);
 
-    private final DepartmentService departmentService;
-    private final ProfessorService professorService;
-    private final CourseService courseService;
+    private final StatisticsService statisticsService;
 
-    public ViewStatisticsCommand(DepartmentService departmentService,
-                                  ProfessorService professorService,
-                                  CourseService courseService) {
-        this.departmentService = departmentService;
-        this.professorService = professorService;
-        this.courseService = courseService;
+    public ViewStatisticsCommand(StatisticsService statisticsService) {
+        this.statisticsService = statisticsService;
     }
 
     @Override
@@ -37,32 +26,27 @@ public class ViewStatisticsCommand implements Command {
     }
 
     private void showProfessorsAndCourses() {
+        UniversityStatistics statistics = statisticsService.getStatistics();
+
         LOGGER.info("=== University Statistics ===");
         LOGGER.info("");
 
-        List<Department<?>> departments = departmentService.getAllDepartments();
-        LOGGER.info(String.format("Total Departments: %d", departments.size()));
-        LOGGER.info(String.format("Total Professors: %d", professorService.getAllProfessors().size()));
-        LOGGER.info(String.format("Total Courses: %d", courseService.getAllCourses().size()));
+        LOGGER.info(String.format("Total Departments: %d", statistics.departmentCount()));
+        LOGGER.info(String.format("Total Professors: %d", statistics.professorCount()));
+        LOGGER.info(String.format("Total Courses: %d", statistics.courseCount()));
         LOGGER.info("");
 
         LOGGER.info("=== Departments and Their Courses ===");
         LOGGER.info("");
 
-        departments
+        statistics.departments()
             .forEach(dept -> {
                 LOGGER.info("Department: " + dept.getName());
 
-                List<Course<?, ?>> coursesByDept = courseService
-                    .getAllCourses()
-                    .stream()
-                    .filter(c -> c.getDepartment() != null && c.getDepartment().equals(dept))
-                    .collect(Collectors.toList());
-
-                if (coursesByDept.isEmpty()) {
+                if (statistics.courseCountFor(dept) == 0) {
                     LOGGER.info("  No courses available");
                 } else {
-                    coursesByDept
+                    statistics.coursesFor(dept)
                         .forEach(course -> {
                             LOGGER.info(
                                 "  - " +
@@ -81,20 +65,11 @@ public class ViewStatisticsCommand implements Command {
         LOGGER.info("=== Professors ===");
         LOGGER.info("");
 
-        Map<Object, List<Course<?, ?>>> coursesByProfessor = courseService
-            .getAllCourses()
-            .stream()
-            .filter(c -> c.getProfessor() != null)
-            .collect(Collectors.groupingBy(Course::getProfessor));
-
-        coursesByProfessor
-            .entrySet()
-            .forEach(entry -> {
-                Object professor = entry.getKey();
+        statistics.coursesByProfessor()
+            .forEach((professor, courses) -> {
                 LOGGER.info("Professor: " + professor);
-                LOGGER.info("Courses Taught: " + entry.getValue().size());
-                entry
-                    .getValue()
+                LOGGER.info("Courses Taught: " + courses.size());
+                courses
                     .forEach(course -> {
                         LOGGER.info(
                             "  - " +
@@ -268,6 +268,22 @@ CREATE TABLE IF NOT EXISTS student_grade (
     FOREIGN KEY (student_id)
     REFERENCES student (student_id)
     );
+
+
+-- -----------------------------------------------------
+-- Table grade_summary
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS grade_summary (
+  scope VARCHAR(16) NOT NULL,
+  scope_id INT NOT NULL,
+  semester INT NOT NULL DEFAULT 0,
+  grade_count INT NOT NULL DEFAULT 0,
+  grade_sum DOUBLE NOT NULL DEFAULT 0,
+  grade_sum_squares DOUBLE NOT NULL DEFAULT 0,
+  min_value DOUBLE NULL,
+  max_value DOUBLE NULL,
+  PRIMARY KEY (scope, scope_id, semester)
+    );
     
 set foreign_key_checks = 1;
 
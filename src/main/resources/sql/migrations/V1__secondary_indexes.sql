@@ -0,0 +1,14 @@
+-- -----------------------------------------------------
+-- Secondary indexes for hot lookups
+-- -----------------------------------------------------
+CREATE INDEX idx_person_email ON person (email);
+
+CREATE INDEX idx_student_number ON student (student_number);
+
+CREATE INDEX idx_enrollment_student_date ON enrollment (student_id, enrollment_date);
+
+CREATE INDEX idx_student_grade_student_semester ON student_grade (student_id, semester, subject);
+
+CREATE INDEX idx_course_code ON course (course_code);
+
+CREATE INDEX idx_course_grade_course_semester ON course_grade (course_id, semester, recorded_at);
@@ -0,0 +1,6 @@
+-- -----------------------------------------------------
+-- Store student balances as exact cents
+-- -----------------------------------------------------
+UPDATE student SET balance = 0 WHERE balance IS NULL;
+
+ALTER TABLE student MODIFY balance DECIMAL(12, 2) NOT NULL DEFAULT 0;
@@ -0,0 +1,26 @@
+-- -----------------------------------------------------
+-- Append-only payment ledger with per-student balance snapshots
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS payment_ledger (
+  ledger_id BIGINT NOT NULL AUTO_INCREMENT,
+  student_id INT NOT NULL,
+  amount DECIMAL(12, 2) NOT NULL,
+  recorded_at DATETIME NOT NULL,
+  PRIMARY KEY (ledger_id),
+  INDEX idx_payment_ledger_student (student_id, ledger_id),
+    FOREIGN KEY (student_id)
+    REFERENCES student (student_id)
+    );
+
+CREATE TABLE IF NOT EXISTS balance_snapshot (
+  student_id INT NOT NULL,
+  balance DECIMAL(12, 2) NOT NULL,
+  last_ledger_id BIGINT NOT NULL DEFAULT 0,
+  taken_at DATETIME NOT NULL,
+  PRIMARY KEY (student_id),
+    FOREIGN KEY (student_id)
+    REFERENCES student (student_id)
+    );
+
+INSERT INTO balance_snapshot (student_id, balance, last_ledger_id, taken_at)
+SELECT student_id, balance, 0, CURRENT_TIMESTAMP FROM student WHERE balance <> 0;
@@ -0,0 +1,29 @@
+-- -----------------------------------------------------
+-- Per-course seat inventory and seat registrations
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS course_seat (
+  course_id INT NOT NULL,
+  capacity INT NOT NULL,
+  taken INT NOT NULL DEFAULT 0,
+  PRIMARY KEY (course_id),
+    FOREIGN KEY (course_id)
+    REFERENCES course (course_id)
+    );
+
+CREATE TABLE IF NOT EXISTS course_registration (
+  course_id INT NOT NULL,
+  student_id INT NOT NULL,
+  status VARCHAR(16) NOT NULL,
+  reserved_at DATETIME NOT NULL,
+  confirmed_at DATETIME NULL,
+  PRIMARY KEY (course_id, student_id),
+  INDEX idx_course_registration_reserved (status, reserved_at),
+    FOREIGN KEY (course_id)
+    REFERENCES course (course_id),
+    FOREIGN KEY (student_id)
+    REFERENCES student (student_id)
+    );
+
+INSERT INTO course_seat (course_id, capacity, taken)
+SELECT c.course_id, COALESCE(r.capacity, 0), 0
+FROM course c LEFT JOIN classroom r ON r.classroom_id = c.classroom_id;
@@ -0,0 +1,127 @@
+package com.solvd.university;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.solvd.university.dao.cache.BatchLoader;
+import com.solvd.university.dao.factory.DAOFactory;
+import com.solvd.university.dao.impl.ProgramDAOImpl;
+import com.solvd.university.dao.interfaces.DepartmentDAO;
+import com.solvd.university.dao.interfaces.ProgramDAO;
+
+import static com.solvd.university.StubDatabase.row;
+
+public class BatchLoaderBenchmark {
+
+    private static final Logger LOGGER = LogManager.getLogger(BatchLoaderBenchmark.class);
+    private static final int PROGRAMS = 1_000;
+    private static final int LOOKUPS_PER_THREAD = 50;
+    private static final Duration ROUND_TRIP_LATENCY = Duration.ofMillis(1);
+    private static final String PROGRAM_QUERY = "FROM program WHERE program_id";
+
+    private final StubDatabase database = StubDatabase.getInstance();
+
+    @BeforeMethod
+    public void setUpDatabase() {
+        database.reset();
+        DAOFactory.invalidateCaches();
+        database.setLatency(ROUND_TRIP_LATENCY);
+        database
+            .onQuery("FROM program WHERE program_id = ?", params -> List.of(programRow((Integer) params.get(0))))
+            .onQuery(
+                "FROM program WHERE program_id IN",
+                params -> params.stream().map(id -> programRow((Integer) id)).toList()
+            )
+            .onQuery(
+                "FROM department WHERE department_id = ?",
+                params -> List.of(row("department_id", params.get(0), "name", "Computer Science", "code", "CS",
+                    "university_id", 1))
+            );
+    }
+
+    @DataProvider
+    public Object[][] threadCounts() {
+        return new Object[][] { { 1 }, { 8 }, { 32 }, { 64 } };
+    }
+
+    @Test(dataProvider = "threadCounts")
+    public void compareConcurrentFindByIdTest(int threads) throws Exception {
+        ProgramDAO direct = new ProgramDAOImpl(DAOFactory.create(DepartmentDAO.class));
+        ProgramDAO batched = DAOFactory.create(ProgramDAO.class);
+        BatchLoader<Integer, ?> loader = DAOFactory.getLoader(ProgramDAO.class);
+
+        Measurement directCost = measure(threads, () -> direct);
+        loader.resetStats();
+        Measurement batchedCost = measure(threads, () -> batched);
+
+        LOGGER.info(
+            "threads={} lookups={} direct: {} ms, {} queries | batched: {} ms, {} queries | {}",
+            threads,
+            threads * LOOKUPS_PER_THREAD,
+            directCost.millis(),
+            directCost.queries(),
+            batchedCost.millis(),
+            batchedCost.queries(),
+            loader.getStats()
+        );
+
+        Assert.assertEquals(directCost.queries(), (long) threads * LOOKUPS_PER_THREAD);
+        Assert.assertTrue(batchedCost.queries() <= directCost.queries());
+        if (threads >= 8) {
+            Assert.assertTrue(
+                batchedCost.queries() < directCost.queries(),
+                "Concurrent lookups should share queries"
+            );
+        }
+    }
+
+    private Measurement measure(int threads, Supplier<ProgramDAO> dao) throws Exception {
+        DAOFactory.create(DepartmentDAO.class).findById(1);
+        database.resetCounters();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            List<Future<Integer>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                workers.add(executor.submit(() -> {
+                    int found = 0;
+                    for (int i = 0; i < LOOKUPS_PER_THREAD; i++) {
+                        int programId = 1 + ThreadLocalRandom.current().nextInt(PROGRAMS);
+                        if (dao.get().findById(programId).isPresent()) {
+                            found++;
+                        }
+                    }
+                    return found;
+                }));
+            }
+            for (Future<Integer> worker : workers) {
+                Assert.assertEquals(worker.get().intValue(), LOOKUPS_PER_THREAD);
+            }
+            long elapsed = System.nanoTime() - start;
+            return new Measurement(Math.round(elapsed / 100_000.0) / 10.0, database.countExecuted(PROGRAM_QUERY));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Map<String, Object> programRow(int programId) {
+        return row("program_id", programId, "name", "Program " + programId, "duration_years", 4, "price", 12000.0,
+            "department_id", 1, "university_id", 1);
+    }
+
+    private record Measurement(double millis, long queries) {}
+}
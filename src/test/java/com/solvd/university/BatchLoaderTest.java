@@ -0,0 +1,199 @@
+package com.solvd.university;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.solvd.university.dao.cache.BatchLoader;
+import com.solvd.university.dao.factory.DAOFactory;
+import com.solvd.university.dao.interfaces.ProgramDAO;
+import com.solvd.university.model.Program;
+import com.solvd.university.util.TransactionManager;
+
+import static com.solvd.university.StubDatabase.row;
+
+public class BatchLoaderTest {
+
+    private final StubDatabase database = StubDatabase.getInstance();
+
+    @BeforeMethod
+    public void setUpDatabase() {
+        database.reset();
+        DAOFactory.invalidateCaches();
+        database
+            .onQuery("FROM program WHERE program_id = ?", params -> List.of(programRow((Integer) params.get(0))))
+            .onQuery(
+                "FROM program WHERE program_id IN",
+                params -> params.stream().map(id -> programRow((Integer) id)).toList()
+            )
+            .onQuery(
+                "FROM department WHERE department_id = ?",
+                params -> List.of(row("department_id", params.get(0), "name", "Computer Science", "code", "CS",
+                    "university_id", 1))
+            );
+    }
+
+    @Test
+    public void verifyRequestsQueuedDuringDispatchShareOneBatchTest() throws Exception {
+        BatchLoader<Integer, String> loader = new BatchLoader<>("test", Integer::valueOf, 100);
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        Function<List<Integer>, List<String>> batchFunction = keys -> {
+            batches.add(keys);
+            if (batches.size() == 1) {
+                firstBatchStarted.countDown();
+                await(releaseFirstBatch);
+            }
+            return keys.stream().map(String::valueOf).toList();
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(9);
+        try {
+            Future<Optional<String>> first = executor.submit(() -> loader.load(0, batchFunction));
+            Assert.assertTrue(firstBatchStarted.await(5, TimeUnit.SECONDS));
+
+            List<Future<Optional<String>>> queued = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                int key = 1 + i % 4;
+                queued.add(executor.submit(() -> loader.load(key, batchFunction)));
+            }
+            while (loader.getRequestCount() < 9) {
+                Thread.sleep(1);
+            }
+            releaseFirstBatch.countDown();
+
+            Assert.assertEquals(first.get(5, TimeUnit.SECONDS), Optional.of("0"));
+            for (int i = 0; i < queued.size(); i++) {
+                Assert.assertEquals(queued.get(i).get(5, TimeUnit.SECONDS), Optional.of(String.valueOf(1 + i % 4)));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(batches.size(), 2);
+        Assert.assertEquals(batches.get(1).stream().sorted().toList(), List.of(1, 2, 3, 4));
+        Assert.assertEquals(loader.getCoalescedCount(), 4L);
+        Assert.assertEquals(loader.getBatchCount(), 2L);
+    }
+
+    @Test
+    public void verifyMissingKeysResolveEmptyTest() {
+        BatchLoader<Integer, String> loader = new BatchLoader<>("test", Integer::valueOf, 100);
+
+        Assert.assertEquals(loader.load(7, keys -> List.of()), Optional.empty());
+        Assert.assertEquals(loader.load(7, keys -> List.of("7")), Optional.of("7"));
+    }
+
+    @Test
+    public void verifyBatchFailureReachesCallerTest() {
+        BatchLoader<Integer, String> loader = new BatchLoader<>("test", Integer::valueOf, 100);
+
+        IllegalStateException failure = Assert.expectThrows(
+            IllegalStateException.class,
+            () -> loader.load(1, keys -> {
+                throw new IllegalStateException("lost connection");
+            })
+        );
+        Assert.assertEquals(failure.getMessage(), "lost connection");
+        Assert.assertEquals(loader.load(1, keys -> List.of("1")), Optional.of("1"));
+    }
+
+    @Test
+    public void verifyBatchErrorReleasesWaitingCallersTest() throws Exception {
+        BatchLoader<Integer, String> loader = new BatchLoader<>("test", Integer::valueOf, 100);
+        CountDownLatch batchStarted = new CountDownLatch(1);
+        CountDownLatch releaseBatch = new CountDownLatch(1);
+        Function<List<Integer>, List<String>> failingBatch = keys -> {
+            batchStarted.countDown();
+            await(releaseBatch);
+            throw new AssertionError("corrupt row");
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<String>> first = executor.submit(() -> loader.load(1, failingBatch));
+            Assert.assertTrue(batchStarted.await(5, TimeUnit.SECONDS));
+            Future<Optional<String>> waiting = executor.submit(() -> loader.load(1, failingBatch));
+            while (loader.getRequestCount() < 2) {
+                Thread.sleep(1);
+            }
+            releaseBatch.countDown();
+
+            for (Future<Optional<String>> caller : List.of(first, waiting)) {
+                ExecutionException failure = Assert.expectThrows(
+                    ExecutionException.class,
+                    () -> caller.get(5, TimeUnit.SECONDS)
+                );
+                Assert.assertTrue(failure.getCause() instanceof AssertionError, failure.toString());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(loader.load(1, keys -> List.of("1")), Optional.of("1"));
+    }
+
+    @Test
+    public void verifyConcurrentProgramLookupsAreBatchedTest() throws Exception {
+        database.setLatency(Duration.ofMillis(20));
+        int callers = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Optional<Program>>> results = new ArrayList<>();
+            for (int id = 1; id <= callers; id++) {
+                int programId = id;
+                results.add(executor.submit(() -> DAOFactory.create(ProgramDAO.class).findById(programId)));
+            }
+            for (int id = 1; id <= callers; id++) {
+                Program program = results.get(id - 1).get(10, TimeUnit.SECONDS).orElseThrow();
+                Assert.assertEquals(program.getProgramId(), Integer.valueOf(id));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long programQueries = database.countExecuted("FROM program WHERE program_id");
+        Assert.assertTrue(programQueries < callers, "Expected batched lookups but ran " + programQueries);
+    }
+
+    @Test
+    public void verifyLookupsInsideTransactionBypassLoaderTest() {
+        BatchLoader<Integer, ?> loader = DAOFactory.getLoader(ProgramDAO.class);
+        loader.resetStats();
+
+        TransactionManager.getInstance().execute(
+            () -> Assert.assertTrue(DAOFactory.create(ProgramDAO.class).findById(3).isPresent())
+        );
+
+        Assert.assertEquals(loader.getRequestCount(), 0L);
+        Assert.assertEquals(database.countExecuted("FROM program WHERE program_id = ?"), 1L);
+    }
+
+    private static Map<String, Object> programRow(int programId) {
+        return row("program_id", programId, "name", "Program " + programId, "duration_years", 4, "price", 12000.0,
+            "department_id", 1, "university_id", 1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.solvd.university;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.solvd.university.dao.factory.DAOFactory;
+import com.solvd.university.model.Student;
+import com.solvd.university.service.impl.StudentServiceImpl;
+
+import static com.solvd.university.StubDatabase.row;
+
+public class BulkRegistrationTest {
+
+    private final StubDatabase database = StubDatabase.getInstance();
+
+    @BeforeMethod
+    public void setUpDatabase() {
+        database.reset();
+        DAOFactory.invalidateCaches();
+        database
+            .onQuery("SELECT p.email FROM person p", params -> params
+                .stream()
+                .filter(email -> Set.of("student1@example.com", "student2@example.com").contains(email))
+                .map(email -> row("email", email))
+                .toList())
+            .onUpdate("INSERT INTO person", params -> params.size() / 3)
+            .onUpdate("INSERT INTO student", params -> params.size() / 6);
+    }
+
+    @Test
+    public void verifyRegistrationUsesMultiRowInsertsTest() {
+        List<Student> registered = new StudentServiceImpl().registerStudents(newStudents(2500));
+
+        Assert.assertEquals(registered.size(), 2498, "Already registered emails should be skipped");
+        Assert.assertEquals(database.countExecuted("SELECT p.email FROM person p"), 3L);
+        Assert.assertEquals(database.countExecuted("INSERT INTO person"), 3L);
+        Assert.assertEquals(database.countExecuted("INSERT INTO student"), 3L);
+        Assert.assertEquals(database.countExecuted("UPDATE person p JOIN student s"), 3L);
+        Assert.assertEquals(database.getCommits(), 1);
+    }
+
+    @Test
+    public void verifyGeneratedKeysAreMappedInOrderTest() {
+        List<Student> registered = new StudentServiceImpl().registerStudents(newStudents(5));
+
+        Assert.assertEquals(registered.size(), 3);
+        for (int i = 1; i < registered.size(); i++) {
+            Assert.assertEquals(registered.get(i).getPersonId() - registered.get(i - 1).getPersonId(), 1);
+            Assert.assertEquals(registered.get(i).getStudentId() - registered.get(i - 1).getStudentId(), 1);
+        }
+        Assert.assertTrue(registered.stream().allMatch(Student::isRegistered));
+    }
+
+    @Test
+    public void verifyDuplicateEmailsInRequestAreRegisteredOnceTest() {
+        List<Student> students = newStudents(4);
+        students.add(new Student("Copy", "Student", 20, "student3@example.com"));
+
+        List<Student> registered = new StudentServiceImpl().registerStudents(students);
+
+        Assert.assertEquals(registered.size(), 2);
+        Assert.assertEquals(registered.get(0).getFirstName(), "Student");
+    }
+
+    private static List<Student> newStudents(int count) {
+        List<Student> students = new ArrayList<>();
+        for (int id = 1; id <= count; id++) {
+            students.add(new Student("Student", String.valueOf(id), 20, "student" + id + "@example.com"));
+        }
+        return students;
+    }
+}
@@ -0,0 +1,159 @@
+package com.solvd.university;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.solvd.university.dao.factory.DAOFactory;
+import com.solvd.university.dao.interfaces.ProgramDAO;
+import com.solvd.university.dao.interfaces.StudentDAO;
+import com.solvd.university.model.ChangeTracker;
+import com.solvd.university.model.Program;
+import com.solvd.university.model.Student;
+import com.solvd.university.model.exception.InvalidPaymentException;
+import com.solvd.university.util.TransactionManager;
+
+import static com.solvd.university.StubDatabase.row;
+
+public class ChangeTrackingTest {
+
+    private final StubDatabase database = StubDatabase.getInstance();
+
+    @BeforeMethod
+    public void setUpDatabase() {
+        database.reset();
+        DAOFactory.invalidateCaches();
+        database
+            .onQuery("FROM student s", params -> List.of(studentRow()))
+            .onQuery("SUM(amount) AS balance FROM (", params -> List.of(row("student_id", 3, "balance", 1500.0)))
+            .onQuery("FROM program WHERE program_id = ?", params -> List.of(programRow((Integer) params.get(0))))
+            .onQuery(
+                "FROM department WHERE department_id = ?",
+                params -> List.of(row("department_id", params.get(0), "name", "Computer Science", "code", "CS",
+                    "university_id", 1))
+            );
+    }
+
+    @Test
+    public void verifyUnchangedStudentIsNotWrittenTest() {
+        StudentDAO studentDAO = DAOFactory.create(StudentDAO.class);
+        Student student = studentDAO.findByEmail("ada@example.com").orElseThrow();
+        database.resetCounters();
+
+        student.setAge(student.getAge());
+        studentDAO.update(student);
+
+        Assert.assertEquals(database.countExecuted("UPDATE"), 0L);
+        Assert.assertEquals(database.getRoundTrips(), 0);
+    }
+
+    @Test
+    public void verifyBalanceIsLeftToTheLedgerTest() throws InvalidPaymentException {
+        StudentDAO studentDAO = DAOFactory.create(StudentDAO.class);
+        Student student = studentDAO.findByEmail("ada@example.com").orElseThrow();
+        Assert.assertEquals(student.getOutstandingBalanceCents(), 150_000L);
+        database.resetCounters();
+
+        student.makePayment(500.0);
+        studentDAO.update(student);
+
+        Assert.assertEquals(database.countExecuted("UPDATE"), 0L);
+        Assert.assertFalse(student.getChanges().hasChanges());
+    }
+
+    @Test
+    public void verifyUntrackedStudentWritesEveryColumnTest() {
+        Student student = new Student("Grace", "Hopper", 30, "grace@example.com");
+        student.setPersonId(7);
+        student.setStudentId(3);
+
+        DAOFactory.create(StudentDAO.class).update(student);
+
+        Assert.assertEquals(
+            database.countExecuted(
+                "UPDATE person SET first_name = ?, last_name = ?, email = ?, student_id = ?, university_id = ? " +
+                    "WHERE person_id = ?"
+            ),
+            1L
+        );
+        Assert.assertEquals(
+            database.countExecuted(
+                "UPDATE student SET age = ?, enrollment_status_id = ?, grade_level_id = ?, is_registered = ? " +
+                    "WHERE student_id = ?"
+            ),
+            1L
+        );
+        Assert.assertTrue(student.getChanges().isTracked());
+    }
+
+    @Test
+    public void verifyProgramRenameWritesOnlyNameTest() {
+        ProgramDAO programDAO = DAOFactory.create(ProgramDAO.class);
+        Program program = programDAO.findById(4).orElseThrow();
+        database.resetCounters();
+
+        program.setName("Applied Computing");
+        programDAO.update(program);
+
+        Assert.assertEquals(database.getExecutedSql(), List.of("UPDATE program SET name = ? WHERE program_id = ?"));
+    }
+
+    @Test
+    public void verifyRolledBackWriteKeepsChangesTest() throws InvalidPaymentException {
+        StudentDAO studentDAO = DAOFactory.create(StudentDAO.class);
+        Student student = studentDAO.findByEmail("ada@example.com").orElseThrow();
+        student.makePayment(250.0);
+
+        Assert.expectThrows(
+            IllegalStateException.class,
+            () -> TransactionManager.getInstance().execute(() -> {
+                studentDAO.update(student);
+                throw new IllegalStateException("payment gateway failure");
+            })
+        );
+
+        Assert.assertEquals(student.getChanges().getChangedProperties(), Set.of("balance"));
+    }
+
+    @Test
+    public void verifyTrackerIgnoresUnchangedValuesTest() {
+        ChangeTracker changes = new ChangeTracker();
+        Assert.assertTrue(changes.isChanged("name"), "Untracked entities must write every column");
+
+        changes.markClean();
+        Assert.assertEquals(changes.track("name", "Math", "Math"), "Math");
+        Assert.assertFalse(changes.hasChanges());
+
+        changes.track("name", "Math", "Physics");
+        Assert.assertTrue(changes.isChanged("name"));
+        Assert.assertFalse(changes.isChanged("duration"));
+    }
+
+    private static Map<String, Object> studentRow() {
+        return row(
+            "student_id", 3,
+            "age", 20,
+            "student_number", 100003,
+            "is_registered", true,
+            "balance", 1500.0,
+            "enrollment_status_id", 4,
+            "grade_level_id", 1,
+            "person_id", 7,
+            "first_name", "Ada",
+            "last_name", "Lovelace",
+            "email", "ada@example.com",
+            "enrollment_status_name", "Enrolled",
+            "grade_level_name", "Freshman",
+            "grade_year", 1
+        );
+    }
+
+    private static Map<String, Object> programRow(int programId) {
+        return row("program_id", programId, "name", "Program " + programId, "duration_years", 4, "price", 12000.0,
+            "department_id", 1, "university_id", 1);
+    }
+}
@@ -0,0 +1,136 @@
+package com.solvd.university;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.solvd.university.dao.factory.DAOFactory;
+import com.solvd.university.dao.interfaces.StudentDAO;
+import com.solvd.university.util.ConnectionPool;
+import com.solvd.university.view.command.Command;
+import com.solvd.university.view.command.CommandInvoker;
+import com.solvd.university.view.command.CommandResult;
+import com.solvd.university.view.command.ConcurrentCommandExecutor;
+
+public class ConcurrentCommandExecutorTest {
+
+    private final StubDatabase database = StubDatabase.getInstance();
+
+    @BeforeMethod
+    public void setUpDatabase() {
+        database.reset();
+        DAOFactory.invalidateCaches();
+        database.onQuery("FROM student s", params -> List.of());
+    }
+
+    @AfterMethod
+    public void resetLatency() {
+        database.setLatency(Duration.ZERO);
+    }
+
+    @Test
+    public void verifyConcurrencyIsBoundedTest() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        List<Command> commands = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            commands.add(command("Sleep", () -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(2);
+                running.decrementAndGet();
+            }));
+        }
+
+        List<CommandResult> results;
+        try (ConcurrentCommandExecutor executor = new ConcurrentCommandExecutor(8)) {
+            results = executor.runAll(commands);
+            Assert.assertEquals(executor.getLatency("Sleep").getCount(), 200L);
+        }
+
+        Assert.assertTrue(results.stream().allMatch(CommandResult::succeeded));
+        Assert.assertTrue(peak.get() <= 8, "Peak concurrency was " + peak.get());
+        Assert.assertTrue(peak.get() > 1, "Commands should overlap");
+    }
+
+    @Test
+    public void verifySessionsShareThePoolWithoutTimeoutsTest() {
+        database.setLatency(Duration.ofMillis(1));
+        StudentDAO studentDAO = DAOFactory.create(StudentDAO.class);
+        CommandInvoker invoker = new CommandInvoker();
+        invoker.registerCommand(1, command("Find student", () -> studentDAO.findByEmail("student@example.com")));
+
+        List<CommandResult> results = new ArrayList<>();
+        try (ConcurrentCommandExecutor executor = new ConcurrentCommandExecutor()) {
+            Assert.assertEquals(executor.getMaxConcurrency(), ConnectionPool.getInstance().getPoolSize());
+
+            List<CompletableFuture<CommandResult>> futures = new ArrayList<>();
+            for (int session = 0; session < 300; session++) {
+                futures.add(executor.submit(invoker, 1));
+            }
+            futures.forEach(future -> results.add(future.join()));
+            Assert.assertTrue(executor.getLatencyReport().contains("Find student: p50="));
+        }
+
+        Assert.assertEquals(results.size(), 300);
+        Assert.assertTrue(results.stream().allMatch(CommandResult::succeeded));
+        Assert.assertEquals(invoker.getCommandHistory().size(), 300);
+        Assert.assertEquals(ConnectionPool.getInstance().getUsedConnectionsCount(), 0);
+    }
+
+    @Test
+    public void verifyFailuresAreReportedPerCommandTest() {
+        List<Command> commands = List.of(
+            command("Works", () -> {}),
+            command("Fails", () -> {
+                throw new IllegalStateException("boom");
+            }),
+            command("Works", () -> {})
+        );
+
+        List<CommandResult> results;
+        try (ConcurrentCommandExecutor executor = new ConcurrentCommandExecutor(2)) {
+            results = executor.runAll(commands);
+        }
+
+        Assert.assertTrue(results.get(0).succeeded());
+        Assert.assertFalse(results.get(1).succeeded());
+        Assert.assertTrue(results.get(1).error() instanceof IllegalStateException);
+        Assert.assertTrue(results.get(2).succeeded());
+    }
+
+    @Test
+    public void verifyUnknownCommandFailsFastTest() {
+        try (ConcurrentCommandExecutor executor = new ConcurrentCommandExecutor(1)) {
+            Assert.assertTrue(executor.submit(new CommandInvoker(), 42).isCompletedExceptionally());
+        }
+    }
+
+    private static Command command(String description, Runnable action) {
+        return new Command() {
+            @Override
+            public void execute() {
+                action.run();
+            }
+
+            @Override
+            public String getDescription() {
+                return description;
+            }
+        };
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
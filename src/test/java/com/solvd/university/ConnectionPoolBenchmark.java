@@ -0,0 +1,135 @@
+package com.solvd.university;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.solvd.university.util.ConnectionPool;
+import com.solvd.university.util.LatencyHistogram;
+
+public class ConnectionPoolBenchmark {
+
+    private static final Logger LOGGER = LogManager.getLogger(ConnectionPoolBenchmark.class);
+    private static final int POOL_SIZE = 8;
+    private static final int OPERATIONS_PER_THREAD = 2_000;
+    private static final int WARMUP_OPERATIONS_PER_THREAD = 500;
+    private static final Duration VALIDATION_LATENCY = Duration.ofNanos(50_000);
+    private static final long WORK_NANOS = 20_000;
+
+    private final StubDatabase database = StubDatabase.getInstance();
+
+    @BeforeMethod
+    public void setUpDatabase() {
+        database.reset();
+        database.setValidationLatency(VALIDATION_LATENCY);
+    }
+
+    @DataProvider
+    public Object[][] threadCounts() {
+        return new Object[][] { { 4 }, { 16 }, { 64 } };
+    }
+
+    @Test(dataProvider = "threadCounts")
+    public void compareBorrowThroughputTest(int threads) throws Exception {
+        LegacyConnectionPool legacyPool = new LegacyConnectionPool(ConnectionPoolTest.properties(POOL_SIZE, 0, 30000));
+        ConnectionPool pool = new ConnectionPool(ConnectionPoolTest.properties(POOL_SIZE, POOL_SIZE, 30000));
+
+        try {
+            Workload legacy = new Workload() {
+                public Connection borrow() throws SQLException {
+                    return legacyPool.getConnection();
+                }
+
+                public void release(Connection connection) {
+                    legacyPool.releaseConnection(connection);
+                }
+            };
+            Workload current = new Workload() {
+                public Connection borrow() throws SQLException {
+                    return pool.getConnection();
+                }
+
+                public void release(Connection connection) {
+                    pool.releaseConnection(connection);
+                }
+            };
+
+            run(legacy, threads, WARMUP_OPERATIONS_PER_THREAD, new LatencyHistogram());
+            run(current, threads, WARMUP_OPERATIONS_PER_THREAD, new LatencyHistogram());
+
+            LatencyHistogram legacyLatency = new LatencyHistogram();
+            LatencyHistogram currentLatency = new LatencyHistogram();
+            double legacyThroughput = run(legacy, threads, OPERATIONS_PER_THREAD, legacyLatency);
+            double currentThroughput = run(current, threads, OPERATIONS_PER_THREAD, currentLatency);
+
+            LOGGER.info(
+                "threads={} legacy: {} ops/s borrow [{}] | current: {} ops/s borrow [{}]",
+                threads,
+                Math.round(legacyThroughput),
+                legacyLatency.summary(),
+                Math.round(currentThroughput),
+                currentLatency.summary()
+            );
+            LOGGER.info(pool.getPoolStats());
+
+            Assert.assertEquals(currentLatency.getCount(), (long) threads * OPERATIONS_PER_THREAD);
+            Assert.assertEquals(pool.getUsedConnectionsCount(), 0);
+        } finally {
+            legacyPool.shutdown();
+            pool.shutdown();
+        }
+    }
+
+    private double run(Workload workload, int threads, int operations, LatencyHistogram latency) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < operations; i++) {
+                        long borrowStart = System.nanoTime();
+                        Connection connection = workload.borrow();
+                        latency.record(System.nanoTime() - borrowStart);
+                        LockSupport.parkNanos(WORK_NANOS);
+                        workload.release(connection);
+                    }
+                    return null;
+                }));
+            }
+
+            long startNanos = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.MINUTES);
+            }
+            long elapsedNanos = System.nanoTime() - startNanos;
+            return (double) threads * operations * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private interface Workload {
+        Connection borrow() throws SQLException;
+
+        void release(Connection connection);
+    }
+}
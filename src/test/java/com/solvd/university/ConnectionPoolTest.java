@@ -0,0 +1,170 @@
+package com.solvd.university;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.solvd.university.util.ConnectionPool;
+
+public class ConnectionPoolTest {
+
+    private final StubDatabase database = StubDatabase.getInstance();
+    private final List<ConnectionPool> pools = new ArrayList<>();
+
+    @BeforeMethod
+    public void setUpDatabase() {
+        database.reset();
+    }
+
+    @AfterMethod
+    public void shutdownPools() {
+        pools.forEach(ConnectionPool::shutdown);
+        pools.clear();
+    }
+
+    @Test
+    public void verifyPoolGrowsLazilyUpToMaxSizeTest() throws SQLException {
+        ConnectionPool pool = newPool(4, 1, 500);
+        Assert.assertTrue(pool.getTotalConnectionsCount() <= 1, "Pool should not open max connections eagerly");
+
+        List<Connection> borrowed = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            borrowed.add(pool.getConnection());
+        }
+        Assert.assertEquals(pool.getTotalConnectionsCount(), 4);
+        Assert.assertEquals(pool.getUsedConnectionsCount(), 4);
+        Assert.assertThrows(SQLException.class, pool::getConnection);
+
+        borrowed.forEach(pool::releaseConnection);
+        Assert.assertEquals(pool.getUsedConnectionsCount(), 0);
+        Assert.assertEquals(pool.getAvailableConnectionsCount(), 4);
+    }
+
+    @Test
+    public void verifySameThreadReusesReleasedConnectionTest() throws SQLException {
+        ConnectionPool pool = newPool(4, 2, 500);
+
+        Connection first = pool.getConnection();
+        pool.releaseConnection(first);
+        Connection second = pool.getConnection();
+
+        Assert.assertSame(second, first, "Released connection should be reused by the same thread");
+        Assert.assertTrue(pool.releaseConnection(second));
+    }
+
+    @Test
+    public void verifyForeignAndDoubleReleaseAreRejectedTest() throws SQLException {
+        ConnectionPool pool = newPool(2, 1, 500);
+        Connection connection = pool.getConnection();
+
+        Assert.assertTrue(pool.releaseConnection(connection));
+        Assert.assertFalse(pool.releaseConnection(connection), "Double release should be rejected");
+        Assert.assertFalse(pool.releaseConnection(null));
+        Assert.assertEquals(pool.getUsedConnectionsCount(), 0);
+    }
+
+    @Test
+    public void verifyClosedConnectionIsReplacedTest() throws SQLException {
+        ConnectionPool pool = newPool(2, 1, 500);
+        Connection connection = pool.getConnection();
+        connection.close();
+        pool.releaseConnection(connection);
+
+        Connection replacement = pool.getConnection();
+        Assert.assertNotSame(replacement, connection);
+        Assert.assertFalse(replacement.isClosed());
+        pool.releaseConnection(replacement);
+    }
+
+    @Test
+    public void verifyIdleConnectionsAreEvictedDownToMinIdleTest() throws Exception {
+        Properties properties = properties(4, 1, 500);
+        properties.setProperty("db.pool.idle.timeout", "10");
+        properties.setProperty("db.pool.housekeeping.period", "20");
+        ConnectionPool pool = register(new ConnectionPool(properties));
+
+        List<Connection> borrowed = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            borrowed.add(pool.getConnection());
+        }
+        borrowed.forEach(pool::releaseConnection);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (pool.getTotalConnectionsCount() > 1 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        Assert.assertEquals(pool.getTotalConnectionsCount(), 1);
+    }
+
+    @Test
+    public void verifyConcurrentBorrowersNeverExceedMaxSizeTest() throws Exception {
+        ConnectionPool pool = newPool(4, 1, 5000);
+        int threads = 16;
+        AtomicInteger inUse = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 200; i++) {
+                        Connection connection = pool.getConnection();
+                        peak.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                        Thread.onSpinWait();
+                        inUse.decrementAndGet();
+                        Assert.assertTrue(pool.releaseConnection(connection));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertTrue(peak.get() <= 4, "At most max connections may be in use at once");
+        Assert.assertTrue(pool.getTotalConnectionsCount() <= 4);
+        Assert.assertEquals(pool.getUsedConnectionsCount(), 0);
+        Assert.assertEquals(pool.getBorrowLatency().getCount(), threads * 200L);
+        Assert.assertTrue(pool.getPoolStats().contains("Borrow: [p50="));
+    }
+
+    private ConnectionPool newPool(int size, int minIdle, int timeoutMillis) {
+        return register(new ConnectionPool(properties(size, minIdle, timeoutMillis)));
+    }
+
+    private ConnectionPool register(ConnectionPool pool) {
+        pools.add(pool);
+        return pool;
+    }
+
+    static Properties properties(int size, int minIdle, int timeoutMillis) {
+        Properties properties = new Properties();
+        properties.setProperty("db.url", "jdbc:stub:university");
+        properties.setProperty("db.username", "test");
+        properties.setProperty("db.password", "test");
+        properties.setProperty("db.pool.size", String.valueOf(size));
+        properties.setProperty("db.pool.min.idle", String.valueOf(minIdle));
+        properties.setProperty("db.pool.timeout", String.valueOf(timeoutMillis));
+        return properties;
+    }
+}
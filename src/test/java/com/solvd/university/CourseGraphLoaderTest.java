@@ -0,0 +1,166 @@
+package com.solvd.university;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.solvd.university.dao.factory.DAOFactory;
+import com.solvd.university.dao.interfaces.CourseDAO;
+import com.solvd.university.model.Course;
+
+import static com.solvd.university.StubDatabase.row;
+
+public class CourseGraphLoaderTest {
+
+    private static final int PROFESSOR_COUNT = 4;
+    private static final int CLASSROOM_COUNT = 3;
+    private static final int DEPARTMENT_COUNT = 2;
+
+    private final StubDatabase database = StubDatabase.getInstance();
+    private volatile int courseCount;
+
+    @BeforeMethod
+    public void setUpDatabase() {
+        database.reset();
+        DAOFactory.invalidateCaches();
+        database
+            .onQuery("FROM course c", this::courseRows)
+            .onQuery("FROM professor prof", CourseGraphLoaderTest::professorRows)
+            .onQuery("FROM classroom WHERE classroom_id IN", CourseGraphLoaderTest::classroomRows)
+            .onQuery("FROM department WHERE department_id IN", CourseGraphLoaderTest::departmentRows)
+            .onQuery("FROM building WHERE building_id IN", CourseGraphLoaderTest::buildingRows);
+    }
+
+    @Test
+    public void verifyFindAllQueryCountIsConstantTest() {
+        CourseDAO courseDAO = DAOFactory.create(CourseDAO.class);
+
+        int smallCatalogQueries = countQueriesForFindAll(courseDAO, 5);
+        int largeCatalogQueries = countQueriesForFindAll(courseDAO, 300);
+
+        Assert.assertEquals(largeCatalogQueries, smallCatalogQueries, "Query count should not grow with courses");
+        Assert.assertEquals(database.countExecuted("FROM department WHERE department_id = ?"), 0L);
+        Assert.assertEquals(database.countExecuted("WHERE prof.professor_id = ?"), 0L);
+    }
+
+    @Test
+    public void verifyFindAllSharesReferencedEntitiesTest() {
+        courseCount = 20;
+        List<Course<?, ?>> courses = DAOFactory.create(CourseDAO.class).findAll();
+
+        Assert.assertEquals(courses.size(), 20);
+        for (Course<?, ?> course : courses) {
+            Assert.assertNotNull(course.getDepartment(), "Department should be attached");
+            Assert.assertNotNull(course.getProfessor().getDepartment(), "Professor department should be attached");
+            Assert.assertNotNull(course.getClassroom().getBuilding(), "Classroom building should be attached");
+        }
+        Assert.assertSame(courses.get(0).getProfessor(), courses.get(PROFESSOR_COUNT).getProfessor());
+        Assert.assertSame(courses.get(0).getClassroom(), courses.get(CLASSROOM_COUNT).getClassroom());
+    }
+
+    @Test
+    public void verifyFindByIdLoadsSingleCourseGraphTest() {
+        courseCount = 1;
+        Optional<Course<?, ?>> course = DAOFactory.create(CourseDAO.class).findById("C1");
+
+        Assert.assertTrue(course.isPresent());
+        Assert.assertEquals(course.get().getCourseCode(), "C1");
+        Assert.assertNotNull(course.get().getProfessor());
+        Assert.assertNotNull(course.get().getClassroom());
+    }
+
+    private int countQueriesForFindAll(CourseDAO courseDAO, int courses) {
+        courseCount = courses;
+        database.resetCounters();
+        Assert.assertEquals(courseDAO.findAll().size(), courses);
+        return database.getRoundTrips();
+    }
+
+    private List<Map<String, Object>> courseRows(List<Object> params) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int id = 1; id <= courseCount; id++) {
+            String code = "C" + id;
+            if (!params.isEmpty() && !params.get(0).equals(code)) {
+                continue;
+            }
+            rows.add(
+                row(
+                    "course_id", id,
+                    "course_code", code,
+                    "course_name", "Course " + id,
+                    "credit_hours", 3,
+                    "professor_id", id % PROFESSOR_COUNT + 1,
+                    "department_id", id % DEPARTMENT_COUNT + 1,
+                    "classroom_id", id % CLASSROOM_COUNT + 1,
+                    "university_id", 1,
+                    "course_difficulty_id", null,
+                    "start_at", null,
+                    "end_at", null,
+                    "difficulty_name", null,
+                    "difficulty_level", null
+                )
+            );
+        }
+        return rows;
+    }
+
+    private static List<Map<String, Object>> professorRows(List<Object> params) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Object professorId : params) {
+            int id = (Integer) professorId;
+            rows.add(
+                row(
+                    "professor_id", id,
+                    "department_id", id % DEPARTMENT_COUNT + 1,
+                    "person_id", 100 + id,
+                    "first_name", "Professor",
+                    "last_name", String.valueOf(id),
+                    "email", "professor" + id + "@example.com",
+                    "staff_id", 200 + id,
+                    "title", "Dr."
+                )
+            );
+        }
+        return rows;
+    }
+
+    private static List<Map<String, Object>> classroomRows(List<Object> params) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Object classroomId : params) {
+            rows.add(
+                row(
+                    "classroom_id", classroomId,
+                    "room_number", "R" + classroomId,
+                    "building_id", 1,
+                    "university_id", 1,
+                    "capacity", 40,
+                    "room_type", "Lecture",
+                    "scheduled_start", null,
+                    "scheduled_end", null
+                )
+            );
+        }
+        return rows;
+    }
+
+    private static List<Map<String, Object>> departmentRows(List<Object> params) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Object departmentId : params) {
+            rows.add(row("department_id", departmentId, "name", "Computer Science", "code", "CS", "university_id", 1));
+        }
+        return rows;
+    }
+
+    private static List<Map<String, Object>> buildingRows(List<Object> params) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Object buildingId : params) {
+            rows.add(row("building_id", buildingId, "name", "Main Hall", "university_id", 1));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,136 @@
+package com.solvd.university;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.solvd.university.dao.factory.DAOFactory;
+import com.solvd.university.dao.interfaces.CourseDAO;
+import com.solvd.university.dao.interfaces.StudentDAO;
+import com.solvd.university.model.Course;
+import com.solvd.university.model.CourseCriteria;
+import com.solvd.university.model.GradeLevel;
+import com.solvd.university.model.Student;
+import com.solvd.university.model.StudentCriteria;
+import com.solvd.university.service.impl.CourseServiceImpl;
+import com.solvd.university.service.impl.StudentServiceImpl;
+
+import static com.solvd.university.StubDatabase.row;
+
+public class CriteriaQueryTest {
+
+    private final StubDatabase database = StubDatabase.getInstance();
+    private final List<List<Object>> studentQueryParams = new ArrayList<>();
+
+    @BeforeMethod
+    public void setUpDatabase() {
+        database.reset();
+        DAOFactory.invalidateCaches();
+        studentQueryParams.clear();
+        database
+            .onQuery("FROM student s", params -> {
+                studentQueryParams.add(params);
+                return List.of(studentRow(7, 250.0), studentRow(9, 0.0));
+            })
+            .onQuery("SUM(amount) AS balance FROM (", params -> List.of(row("student_id", 7, "balance", 250.0)))
+            .onQuery("FROM course c", params -> List.of());
+    }
+
+    @Test
+    public void verifyStudentCriteriaCompilesToWhereClauseTest() {
+        StudentCriteria criteria = StudentCriteria.builder()
+            .withOutstandingBalance()
+            .gradeLevel(GradeLevel.JUNIOR)
+            .after(5)
+            .limit(20)
+            .build();
+
+        DAOFactory.create(StudentDAO.class).findByCriteria(criteria);
+
+        String sql = lastSql("FROM student s");
+        Assert.assertTrue(sql.contains("FROM payment_ledger l"), sql);
+        Assert.assertTrue(sql.contains("), 0) > 0 AND gl.year = ? AND s.student_id > ?"), sql);
+        Assert.assertTrue(sql.endsWith("ORDER BY s.student_id LIMIT 20"), sql);
+        Assert.assertEquals(studentQueryParams.get(0), List.of(3, 5));
+    }
+
+    @Test
+    public void verifyActiveStudentsArePushedDownTest() {
+        DAOFactory.create(StudentDAO.class).findByCriteria(StudentCriteria.builder().activeOnly().build());
+
+        Assert.assertTrue(lastSql("FROM student s").contains("EXISTS (SELECT 1 FROM enrollment e"));
+    }
+
+    @Test
+    public void verifyServiceUsesCriteriaInsteadOfFullScanTest() {
+        List<Student> students = new StudentServiceImpl()
+            .getStudents(StudentCriteria.builder().withOutstandingBalance().build());
+
+        Assert.assertEquals(students.size(), 1, "Residual filter should drop rows the database did not exclude");
+        Assert.assertEquals(students.get(0).getStudentId(), Integer.valueOf(7));
+        Assert.assertEquals(database.countExecuted("ORDER BY s.student_id"), 1L);
+        Assert.assertTrue(lastSql("FROM student s").contains("WHERE COALESCE((SELECT b.balance FROM balance_snapshot"));
+    }
+
+    @Test
+    public void verifyPlainFilterStillWorksInMemoryTest() {
+        List<Student> students = new StudentServiceImpl().getStudents(student -> student.getStudentId() == 9);
+
+        Assert.assertEquals(students.size(), 1);
+        Assert.assertFalse(lastSql("FROM student s").contains("WHERE"));
+    }
+
+    @Test
+    public void verifyCoursesByDepartmentArePushedDownTest() {
+        List<Course<?, ?>> courses = new CourseServiceImpl().getCoursesByDepartment(3);
+
+        Assert.assertTrue(courses.isEmpty());
+        Assert.assertTrue(lastSql("FROM course c").contains("WHERE c.department_id = ? ORDER BY c.course_id"));
+    }
+
+    @Test
+    public void verifyCourseKeysetPageTest() {
+        CourseCriteria firstPage = CourseCriteria.builder().departmentId(2).limit(10).build();
+        Course<?, ?> lastSeen = new Course<>();
+        lastSeen.setCourseId(42);
+
+        DAOFactory.create(CourseDAO.class).findByCriteria(firstPage.nextPage(lastSeen));
+
+        String sql = lastSql("FROM course c");
+        Assert.assertTrue(sql.contains("WHERE c.department_id = ? AND c.course_id > ?"), sql);
+        Assert.assertTrue(sql.endsWith("LIMIT 10"), sql);
+    }
+
+    private String lastSql(String fragment) {
+        List<String> executed = database.getExecutedSql();
+        for (int i = executed.size() - 1; i >= 0; i--) {
+            if (executed.get(i).contains(fragment)) {
+                return executed.get(i);
+            }
+        }
+        throw new AssertionError("No query containing " + fragment);
+    }
+
+    private static Map<String, Object> studentRow(int id, double balance) {
+        return row(
+            "student_id", id,
+            "age", 21,
+            "student_number", 100000 + id,
+            "is_registered", true,
+            "balance", balance,
+            "enrollment_status_id", 1,
+            "grade_level_id", 3,
+            "person_id", id,
+            "first_name", "Student",
+            "last_name", String.valueOf(id),
+            "email", "student" + id + "@example.com",
+            "enrollment_status_name", "Applied",
+            "grade_level_name", "Junior",
+            "grade_year", 3
+        );
+    }
+}
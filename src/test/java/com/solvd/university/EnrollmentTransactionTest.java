@@ -0,0 +1,140 @@
+package com.solvd.university;
+
+import java.sql.SQLTransactionRollbackException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.solvd.university.dao.factory.DAOFactory;
+import com.solvd.university.model.GradeLevel;
+import com.solvd.university.model.Program;
+import com.solvd.university.model.Student;
+import com.solvd.university.model.exception.AlreadyEnrolledException;
+import com.solvd.university.service.impl.EnrollmentServiceImpl;
+
+import static com.solvd.university.StubDatabase.row;
+
+public class EnrollmentTransactionTest {
+
+    private final StubDatabase database = StubDatabase.getInstance();
+
+    @BeforeMethod
+    public void setUpDatabase() {
+        database.reset();
+        DAOFactory.invalidateCaches();
+        database
+            .onQuery("FROM course c", params -> courseRows(6))
+            .onQuery("AS remaining FROM course_seat", params -> List.of(row("remaining", 30)));
+    }
+
+    @Test
+    public void verifyEnrollmentCommitsOnceWithBatchedGradesTest() throws AlreadyEnrolledException {
+        new EnrollmentServiceImpl().enrollStudent(newStudent(), newProgram());
+
+        Assert.assertEquals(database.getCommits(), 1, "Enrollment, grades and student update should commit together");
+        Assert.assertEquals(database.countExecuted("INSERT INTO student_grade"), 1L);
+        Assert.assertEquals(database.countExecuted("INSERT INTO course_grade"), 1L);
+        Assert.assertEquals(database.countExecuted("INSERT INTO enrollment"), 1L);
+        Assert.assertEquals(database.countExecuted("INSERT INTO course_registration"), 4L);
+        Assert.assertEquals(database.countExecuted("UPDATE student SET"), 1L);
+    }
+
+    @Test
+    public void verifyFailedStudentUpdateRollsBackEnrollmentTest() {
+        database.onUpdate("UPDATE student SET", params -> {
+            throw new IllegalStateException("simulated failure");
+        });
+
+        Assert.assertThrows(IllegalStateException.class, () ->
+            new EnrollmentServiceImpl().enrollStudent(newStudent(), newProgram())
+        );
+        Assert.assertEquals(database.getCommits(), 0);
+        Assert.assertEquals(database.getRollbacks(), 1);
+    }
+
+    @Test
+    public void verifySeatsAreTakenInCourseOrderTest() throws AlreadyEnrolledException {
+        List<Object> takenCourseIds = new ArrayList<>();
+        database.onUpdate("UPDATE course_seat SET taken = taken + 1", params -> {
+            takenCourseIds.add(params.get(0));
+            return 1;
+        });
+
+        new EnrollmentServiceImpl().enrollStudent(newStudent(), newProgram());
+
+        Assert.assertEquals(takenCourseIds.size(), 4);
+        List<Object> sorted = new ArrayList<>(takenCourseIds);
+        sorted.sort(Comparator.comparing(id -> (Integer) id));
+        Assert.assertEquals(takenCourseIds, sorted);
+    }
+
+    @Test
+    public void verifyDeadlockedEnrollmentIsRetriedTest() throws AlreadyEnrolledException {
+        AtomicInteger attempts = new AtomicInteger();
+        database.onUpdate("INSERT INTO enrollment", params -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw sneaky(new SQLTransactionRollbackException("Deadlock found", "40001", 1213));
+            }
+            return 1;
+        });
+        Student student = newStudent();
+
+        new EnrollmentServiceImpl().enrollStudent(student, newProgram());
+
+        Assert.assertEquals(attempts.get(), 2);
+        Assert.assertEquals(database.getRollbacks(), 1);
+        Assert.assertEquals(database.getCommits(), 1);
+        Assert.assertEquals(student.getEnrolledCoursesCount(), 4);
+        Assert.assertEquals(student.getGrades().size(), 4);
+    }
+
+    private static Student newStudent() {
+        Student student = new Student("Ada", "Lovelace", 20, "ada@example.com");
+        student.setStudentId(11);
+        student.setPersonId(11);
+        student.setGradeLevel(GradeLevel.FRESHMAN);
+        return student;
+    }
+
+    private static Program newProgram() {
+        Program program = new Program();
+        program.setProgramId(3);
+        program.setDepartmentId(1);
+        return program;
+    }
+
+    private static List<Map<String, Object>> courseRows(int count) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int id = 1; id <= count; id++) {
+            rows.add(
+                row(
+                    "course_id", id,
+                    "course_code", "C" + id,
+                    "course_name", "Course " + id,
+                    "credit_hours", 3,
+                    "professor_id", null,
+                    "department_id", 1,
+                    "classroom_id", null,
+                    "university_id", 1,
+                    "course_difficulty_id", null,
+                    "start_at", null,
+                    "end_at", null,
+                    "difficulty_name", null,
+                    "difficulty_level", null
+                )
+            );
+        }
+        return rows;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> RuntimeException sneaky(Throwable failure) throws E {
+        throw (E) failure;
+    }
+}
@@ -0,0 +1,213 @@
+package com.solvd.university;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.solvd.university.dao.factory.DAOFactory;
+import com.solvd.university.dao.factory.DAOFactory.Backend;
+import com.solvd.university.dao.interfaces.StudentDAO;
+import com.solvd.university.dao.memory.InMemoryDatabase;
+import com.solvd.university.model.Grade;
+import com.solvd.university.model.GradeScope;
+import com.solvd.university.model.GradeSummary;
+import com.solvd.university.model.Student;
+import com.solvd.university.service.impl.GradeSummaryServiceImpl;
+import com.solvd.university.service.impl.StudentGradeServiceImpl;
+
+import static com.solvd.university.StubDatabase.row;
+
+public class GradeSummaryTest {
+
+    private final StubDatabase database = StubDatabase.getInstance();
+    private final Map<List<Object>, Map<String, Object>> summaryTable = new HashMap<>();
+    private final List<Map<String, Object>> gradeTable = new ArrayList<>();
+
+    @BeforeMethod
+    public void setUpDatabase() {
+        database.reset();
+        DAOFactory.invalidateCaches();
+        summaryTable.clear();
+        gradeTable.clear();
+        database
+            .onQuery("FROM grade_summary WHERE scope = ? AND scope_id = ? AND semester = ?", params -> {
+                Map<String, Object> summary = summaryTable.get(params);
+                return summary == null ? List.of() : List.of(summary);
+            })
+            .onUpdate("INSERT INTO grade_summary", params -> {
+                summaryTable.put(
+                    List.of(params.get(0), params.get(1), params.get(2)),
+                    row(
+                        "scope", params.get(0),
+                        "scope_id", params.get(1),
+                        "semester", params.get(2),
+                        "grade_count", params.get(3),
+                        "grade_sum", params.get(4),
+                        "grade_sum_squares", params.get(5),
+                        "min_value", params.get(6),
+                        "max_value", params.get(7)
+                    )
+                );
+                return 1;
+            })
+            .onQuery("FROM student_grade WHERE student_id = ?", params -> gradesFor(params))
+            .onQuery("FROM student_grade WHERE student_grade_id = ?", params ->
+                gradeTable.stream().filter(grade -> grade.get("student_grade_id").equals(params.get(0))).toList()
+            );
+    }
+
+    @Test
+    public void verifySummaryArithmeticTest() {
+        GradeSummary summary = GradeSummary.of(GradeScope.STUDENT, 1, 0, List.of(80.0, 90.0, 100.0));
+
+        Assert.assertEquals(summary.count(), 3L);
+        Assert.assertEquals(summary.average(), 90.0, 1e-9);
+        Assert.assertEquals(summary.variance(), 200.0 / 3, 1e-9);
+        Assert.assertEquals(summary.min(), 80.0);
+        Assert.assertEquals(summary.max(), 100.0);
+
+        GradeSummary withoutMiddle = summary.minus(90.0);
+        Assert.assertTrue(withoutMiddle.hasBounds());
+        Assert.assertEquals(withoutMiddle.average(), 90.0, 1e-9);
+
+        GradeSummary withoutMax = summary.minus(100.0);
+        Assert.assertFalse(withoutMax.hasBounds(), "Removing the maximum leaves the bounds unknown");
+        Assert.assertEquals(withoutMax.average(), 85.0, 1e-9);
+
+        Assert.assertTrue(summary.minus(List.of(80.0, 90.0, 100.0)).isEmpty());
+    }
+
+    @Test
+    public void verifyAverageReadsSummaryWithoutScanningGradesTest() {
+        summaryTable.put(
+            List.of("STUDENT", 7, 0),
+            row(
+                "scope", "STUDENT",
+                "scope_id", 7,
+                "semester", 0,
+                "grade_count", 4L,
+                "grade_sum", 360.0,
+                "grade_sum_squares", 32600.0,
+                "min_value", 80.0,
+                "max_value", 100.0
+            )
+        );
+
+        double average = new StudentGradeServiceImpl().calculateStudentAverage(7);
+
+        Assert.assertEquals(average, 90.0, 1e-9);
+        Assert.assertEquals(database.countExecuted("FROM student_grade"), 0L);
+    }
+
+    @Test
+    public void verifyAddGradeUpdatesOverallAndSemesterSummariesTest() {
+        StudentGradeServiceImpl gradeService = new StudentGradeServiceImpl();
+        gradeService.addGrade(3, "Mathematics", 70.0, 1);
+        gradeService.addGrade(3, "Physics", 90.0, 2);
+
+        Assert.assertEquals(gradeService.calculateStudentAverage(3), 80.0, 1e-9);
+        Assert.assertEquals(gradeService.calculateSemesterAverage(3, 2), 90.0, 1e-9);
+        Assert.assertEquals(summaryTable.get(List.of("STUDENT", 3, 0)).get("grade_count"), 2L);
+        Assert.assertEquals(database.getCommits(), 2, "Each grade and its summaries should commit together");
+    }
+
+    @Test
+    public void verifyMissingSummaryIsBackfilledFromGradesTest() {
+        addGradeRow(1, 5, 60.0, 1);
+        addGradeRow(2, 5, 100.0, 1);
+
+        StudentGradeServiceImpl gradeService = new StudentGradeServiceImpl();
+        Assert.assertEquals(gradeService.calculateStudentAverage(5), 80.0, 1e-9);
+
+        database.resetCounters();
+        Assert.assertEquals(gradeService.calculateStudentAverage(5), 80.0, 1e-9);
+        Assert.assertEquals(database.countExecuted("FROM student_grade"), 0L, "Backfilled summary should be reused");
+    }
+
+    @Test
+    public void verifyDeletingExtremeGradeRecomputesBoundsTest() {
+        addGradeRow(1, 9, 60.0, 1);
+        addGradeRow(2, 9, 80.0, 1);
+        addGradeRow(3, 9, 100.0, 1);
+
+        new StudentGradeServiceImpl().deleteGrade(3);
+
+        Map<String, Object> summary = summaryTable.get(List.of("STUDENT", 9, 0));
+        Assert.assertEquals(summary.get("grade_count"), 2L);
+        Assert.assertEquals(summary.get("grade_sum"), 140.0);
+        Assert.assertEquals(summary.get("min_value"), 60.0);
+        Assert.assertEquals(summary.get("max_value"), 80.0);
+    }
+
+    @Test
+    public void verifyConcurrentGradesAreNotLostTest() throws Exception {
+        DAOFactory.useBackend(Backend.MEMORY);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            InMemoryDatabase.getInstance().clear();
+            InMemoryDatabase.getInstance().seedReferenceData();
+            Student student = new Student("Ada", "Lovelace", 20, "ada@example.com");
+            DAOFactory.create(StudentDAO.class).save(student);
+            StudentGradeServiceImpl gradeService = new StudentGradeServiceImpl();
+
+            List<CompletableFuture<Void>> writers = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                double value = 60.0 + i % 41;
+                writers.add(CompletableFuture.runAsync(
+                    () -> gradeService.addGrade(student.getStudentId(), "Subject", value, 1),
+                    executor
+                ));
+            }
+            CompletableFuture.allOf(writers.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+            GradeSummary summary = new GradeSummaryServiceImpl().getSummary(GradeScope.STUDENT, student.getStudentId());
+            Assert.assertEquals(summary.count(), 200L);
+            Assert.assertEquals(summary.min(), 60.0);
+            Assert.assertEquals(summary.max(), 100.0);
+        } finally {
+            executor.shutdownNow();
+            DAOFactory.useBackend(Backend.JDBC);
+        }
+    }
+
+    @Test
+    public void verifyInMemoryAveragesAreRunningTotalsTest() {
+        Student student = new Student("Ada", "Lovelace", 20, "ada@example.com");
+        student.addGrade(new Grade<>("Mathematics", 95.0, "Fall"));
+        student.addGrade(new Grade<>("Physics", 85.0, "Fall"));
+        student.addGrade(new Grade<>("History", 75.0, "Spring"));
+
+        Assert.assertEquals(student.calculateAverageGrade(), 85.0, 1e-9);
+        Assert.assertEquals(student.calculateSemesterAverage("Fall"), 90.0, 1e-9);
+        Assert.assertEquals(student.calculateSemesterAverage("Summer"), 0.0);
+    }
+
+    private void addGradeRow(int gradeId, int studentId, double value, int semester) {
+        gradeTable.add(
+            row(
+                "student_grade_id", gradeId,
+                "student_id", studentId,
+                "subject", "Subject " + gradeId,
+                "value", value,
+                "semester", semester
+            )
+        );
+    }
+
+    private List<Map<String, Object>> gradesFor(List<Object> params) {
+        return gradeTable
+            .stream()
+            .filter(grade -> grade.get("student_id").equals(params.get(0)))
+            .filter(grade -> params.size() < 2 || grade.get("semester").equals(params.get(1)))
+            .toList();
+    }
+}
@@ -0,0 +1,159 @@
+package com.solvd.university;
+
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.solvd.university.dao.factory.DAOFactory;
+import com.solvd.university.dao.factory.DAOFactory.Backend;
+import com.solvd.university.dao.impl.StudentDAOImpl;
+import com.solvd.university.dao.interfaces.BuildingDAO;
+import com.solvd.university.dao.interfaces.DepartmentDAO;
+import com.solvd.university.dao.interfaces.EnrollmentDAO;
+import com.solvd.university.dao.interfaces.ProgramDAO;
+import com.solvd.university.dao.interfaces.StudentDAO;
+import com.solvd.university.dao.interfaces.UniversityDAO;
+import com.solvd.university.dao.memory.InMemoryDatabase;
+import com.solvd.university.dao.memory.InMemoryStudentDAO;
+import com.solvd.university.model.Building;
+import com.solvd.university.model.ComputerScienceDepartment;
+import com.solvd.university.model.Department;
+import com.solvd.university.model.Enrollment;
+import com.solvd.university.model.Program;
+import com.solvd.university.model.Student;
+import com.solvd.university.model.StudentCriteria;
+import com.solvd.university.model.University;
+import com.solvd.university.model.exception.DuplicateRegistrationException;
+import com.solvd.university.service.impl.StudentServiceImpl;
+import com.solvd.university.util.TransactionManager;
+
+public class InMemoryBackendTest {
+
+    private final InMemoryDatabase database = InMemoryDatabase.getInstance();
+
+    @BeforeMethod
+    public void useMemoryBackend() throws SQLException {
+        DAOFactory.useBackend(Backend.MEMORY);
+        database.clear();
+        database.seedReferenceData();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void restoreJdbcBackend() {
+        DAOFactory.useBackend(Backend.JDBC);
+    }
+
+    @Test
+    public void verifyFactorySwitchesBackendTest() {
+        Assert.assertTrue(DAOFactory.create(StudentDAO.class) instanceof InMemoryStudentDAO);
+        Assert.assertNotSame(DAOFactory.getTransactionManager(), TransactionManager.getInstance());
+
+        DAOFactory.useBackend(Backend.JDBC);
+
+        Assert.assertTrue(DAOFactory.create(StudentDAO.class) instanceof StudentDAOImpl);
+        Assert.assertSame(DAOFactory.getTransactionManager(), TransactionManager.getInstance());
+    }
+
+    @Test
+    public void verifyGeneratedIdsAndForeignKeysTest() {
+        UniversityDAO universityDAO = DAOFactory.create(UniversityDAO.class);
+        BuildingDAO buildingDAO = DAOFactory.create(BuildingDAO.class);
+
+        University university = new University("Solvd University");
+        universityDAO.save(university);
+        Building library = new Building("Library");
+        library.setUniversityId(university.getUniversityId());
+        buildingDAO.save(library);
+        Building hall = new Building("Hall");
+        hall.setUniversityId(university.getUniversityId());
+        buildingDAO.save(hall);
+
+        Assert.assertEquals(university.getUniversityId(), Integer.valueOf(1));
+        Assert.assertEquals(List.of(library.getBuildingId(), hall.getBuildingId()), List.of(1, 2));
+        Assert.assertEquals(buildingDAO.findByName("LIBRARY").orElseThrow().getBuildingId(), Integer.valueOf(1));
+
+        Building orphan = new Building("Orphan");
+        orphan.setUniversityId(99);
+        RuntimeException missingParent = Assert.expectThrows(RuntimeException.class, () -> buildingDAO.save(orphan));
+        Assert.assertEquals(((SQLException) missingParent.getCause()).getErrorCode(), 1452);
+
+        RuntimeException restricted = Assert.expectThrows(
+            RuntimeException.class,
+            () -> universityDAO.delete(university.getUniversityId())
+        );
+        Assert.assertTrue(restricted.getCause() instanceof SQLIntegrityConstraintViolationException);
+        Assert.assertTrue(universityDAO.findById(university.getUniversityId()).isPresent());
+    }
+
+    @Test
+    public void verifyRollbackUndoesWritesTest() {
+        UniversityDAO universityDAO = DAOFactory.create(UniversityDAO.class);
+        BuildingDAO buildingDAO = DAOFactory.create(BuildingDAO.class);
+        University university = new University("Solvd University");
+        universityDAO.save(university);
+
+        Assert.assertThrows(IllegalStateException.class, () ->
+            DAOFactory.getTransactionManager().execute(() -> {
+                Building building = new Building("Library");
+                building.setUniversityId(university.getUniversityId());
+                buildingDAO.save(building);
+                university.setName("Renamed");
+                universityDAO.update(university);
+                throw new IllegalStateException("rollback");
+            })
+        );
+
+        Assert.assertTrue(buildingDAO.findAll().isEmpty(), "Inserted building should be undone");
+        University stored = universityDAO.findById(university.getUniversityId()).orElseThrow();
+        Assert.assertEquals(stored.getName(), "Solvd University");
+        universityDAO.delete(university.getUniversityId());
+        Assert.assertTrue(universityDAO.findAll().isEmpty(), "Index entries should be restored after rollback");
+    }
+
+    @Test
+    public void verifyReadOnlyRejectsWritesTest() {
+        UniversityDAO universityDAO = DAOFactory.create(UniversityDAO.class);
+
+        Assert.assertThrows(RuntimeException.class, () ->
+            DAOFactory.getTransactionManager().executeReadOnly(() -> {
+                universityDAO.save(new University("Solvd University"));
+                return null;
+            })
+        );
+
+        Assert.assertTrue(universityDAO.findAll().isEmpty());
+    }
+
+    @Test
+    public void verifyStudentServiceRunsOnMemoryBackendTest() throws DuplicateRegistrationException {
+        University university = new University("Solvd University");
+        DAOFactory.create(UniversityDAO.class).save(university);
+        Department<?> department = new ComputerScienceDepartment();
+        department.setUniversityId(university.getUniversityId());
+        DAOFactory.create(DepartmentDAO.class).save(department);
+        Program program = new Program("Software Engineering", 4, 12000.0, department);
+        DAOFactory.create(ProgramDAO.class).save(program);
+
+        StudentServiceImpl studentService = new StudentServiceImpl();
+        Student student = studentService.registerStudent("Ada", "Lovelace", 20, "ada@example.com");
+        Assert.assertThrows(
+            DuplicateRegistrationException.class,
+            () -> studentService.registerStudent("Ada", "Lovelace", 20, "ADA@example.com")
+        );
+        DAOFactory.create(EnrollmentDAO.class).save(new Enrollment(student, program));
+
+        List<Student> active = studentService.getStudents(
+            StudentCriteria.builder().activeOnly().departmentId(department.getDepartmentId()).build()
+        );
+
+        Assert.assertEquals(active.size(), 1);
+        Assert.assertEquals(active.get(0).getEmail(), "ada@example.com");
+        Assert.assertEquals(active.get(0).getEnrolledProgram().getProgramId(), program.getProgramId());
+        Assert.assertEquals(studentService.getAllStudents().size(), 1);
+    }
+}
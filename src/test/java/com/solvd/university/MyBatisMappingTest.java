@@ -0,0 +1,112 @@
+package com.solvd.university;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.solvd.university.dao.factory.DAOFactory;
+import com.solvd.university.dao.impl.MyBatisEnrollmentStatusDAOImpl;
+import com.solvd.university.dao.impl.MyBatisProgramDAOImpl;
+import com.solvd.university.model.ComputerScienceDepartment;
+import com.solvd.university.model.EngineeringDepartment;
+import com.solvd.university.model.EnrollmentStatus;
+import com.solvd.university.model.MathematicsDepartment;
+import com.solvd.university.model.Program;
+
+import static com.solvd.university.StubDatabase.row;
+
+public class MyBatisMappingTest {
+
+    private final StubDatabase database = StubDatabase.getInstance();
+
+    @BeforeMethod
+    public void setUpDatabase() {
+        database.reset();
+        DAOFactory.invalidateCaches();
+        database
+            .onQuery("FROM program p", params -> List.of(
+                programRow(1, 10, "MATH", "State University"),
+                programRow(2, 11, "ENGR", "State University"),
+                programRow(3, 12, "XYZ", null),
+                programRow(4, null, null, null)
+            ))
+            .onQuery("FROM enrollment_status", params -> List.of(
+                row("enrollment_status_id", 4, "display_name", "Enrolled", "description", "Actively enrolled")
+            ));
+    }
+
+    @Test
+    public void verifyProgramsLoadDepartmentAndUniversityInOneQueryTest() {
+        List<Program> programs = new MyBatisProgramDAOImpl().findAll();
+
+        Assert.assertEquals(programs.size(), 4);
+        Assert.assertEquals(database.countExecuted("FROM program"), 1L);
+        Assert.assertEquals(database.countExecuted("FROM department"), 0L, "Departments should come from the join");
+
+        Program math = programs.get(0);
+        Assert.assertTrue(math.getDepartment() instanceof MathematicsDepartment);
+        Assert.assertEquals(math.getDepartment().getName(), "Department 10");
+        Assert.assertEquals(math.getDepartment().getUniversity().getName(), "State University");
+        Assert.assertEquals(math.getDepartment().getUniversityId(), Integer.valueOf(1));
+        Assert.assertTrue(programs.get(1).getDepartment() instanceof EngineeringDepartment);
+    }
+
+    @Test
+    public void verifyUnknownAndMissingDepartmentsTest() {
+        List<Program> programs = new MyBatisProgramDAOImpl().findAll();
+
+        Assert.assertTrue(programs.get(2).getDepartment() instanceof ComputerScienceDepartment);
+        Assert.assertNull(programs.get(2).getDepartment().getUniversity());
+        Assert.assertNull(programs.get(3).getDepartment());
+    }
+
+    @Test
+    public void verifyRepeatedProgramReadsGoToTheDatabaseTest() {
+        MyBatisProgramDAOImpl dao = new MyBatisProgramDAOImpl();
+        Program first = dao.findAll().get(0);
+        first.setName("Changed by caller");
+
+        Program second = dao.findAll().get(0);
+
+        Assert.assertEquals(database.countExecuted("FROM program"), 2L);
+        Assert.assertNotSame(second, first);
+        Assert.assertEquals(second.getName(), "Program 1");
+    }
+
+    @Test
+    public void verifyEnrollmentStatusReadsAreCachedTest() {
+        MyBatisEnrollmentStatusDAOImpl dao = new MyBatisEnrollmentStatusDAOImpl();
+
+        Optional<EnrollmentStatus> first = dao.findById(4);
+        Optional<EnrollmentStatus> second = dao.findById(4);
+
+        Assert.assertEquals(first.map(EnrollmentStatus::getDisplayName), Optional.of("Enrolled"));
+        Assert.assertEquals(second.map(EnrollmentStatus::getDisplayName), Optional.of("Enrolled"));
+        Assert.assertEquals(database.countExecuted("FROM enrollment_status"), 1L);
+    }
+
+    static Map<String, Object> programRow(int id, Integer departmentId, String code, String universityName) {
+        List<Object> columns = new ArrayList<>(List.of(
+            "program_id", id,
+            "name", "Program " + id,
+            "duration_years", 4,
+            "price", 12000.0,
+            "university_id", 1
+        ));
+        columns.addAll(Arrays.asList(
+            "department_id", departmentId,
+            "joined_department_id", departmentId,
+            "joined_department_name", departmentId == null ? null : "Department " + departmentId,
+            "joined_department_code", code,
+            "joined_department_university_id", universityName == null ? null : 1,
+            "joined_department_university_name", universityName
+        ));
+        return row(columns.toArray());
+    }
+}
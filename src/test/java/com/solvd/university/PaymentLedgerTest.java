@@ -0,0 +1,263 @@
+package com.solvd.university;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.solvd.university.dao.cache.BatchLoader;
+import com.solvd.university.dao.factory.DAOFactory;
+import com.solvd.university.dao.factory.DAOFactory.Backend;
+import com.solvd.university.dao.interfaces.PaymentLedgerDAO;
+import com.solvd.university.dao.interfaces.StudentDAO;
+import com.solvd.university.dao.memory.InMemoryDatabase;
+import com.solvd.university.model.ComputerScienceDepartment;
+import com.solvd.university.model.LedgerEntry;
+import com.solvd.university.model.Program;
+import com.solvd.university.model.Student;
+import com.solvd.university.model.StudentCriteria;
+import com.solvd.university.model.exception.InvalidPaymentException;
+import com.solvd.university.service.impl.EnrollmentServiceImpl;
+import com.solvd.university.service.impl.PaymentLedgerServiceImpl;
+import com.solvd.university.util.LedgerCompactionJob;
+
+import static com.solvd.university.StubDatabase.row;
+
+public class PaymentLedgerTest {
+
+    private static final Logger LOGGER = LogManager.getLogger(PaymentLedgerTest.class);
+
+    private static final int THREADS = 16;
+    private static final int PAYMENTS_PER_THREAD = 100;
+    private static final long PAYMENT_CENTS = 75;
+
+    private final StubDatabase stub = StubDatabase.getInstance();
+
+    @BeforeMethod
+    public void setUpDatabase() throws SQLException {
+        stub.reset();
+        PaymentLedgerServiceImpl.getAppendLoader().resetStats();
+        DAOFactory.useBackend(Backend.MEMORY);
+        InMemoryDatabase.getInstance().clear();
+        InMemoryDatabase.getInstance().seedReferenceData();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void restoreJdbcBackend() {
+        stub.setLatency(Duration.ZERO);
+        DAOFactory.useBackend(Backend.JDBC);
+    }
+
+    @Test
+    public void verifyConcurrentPaymentsAreAppendedWithoutOverdraftTest() throws Exception {
+        Student student = savedStudent();
+        PaymentLedgerServiceImpl paymentLedgerService = new PaymentLedgerServiceImpl();
+        paymentLedgerService.recordCharge(student, 100_000);
+
+        AtomicInteger accepted = new AtomicInteger();
+        long elapsedNanos = hammer(() -> {
+            if (paymentLedgerService.recordPayment(copyOf(student), PAYMENT_CENTS)) {
+                accepted.incrementAndGet();
+            }
+        });
+
+        int attempts = THREADS * PAYMENTS_PER_THREAD;
+        LOGGER.info(
+            "{} ledger payments ({} accepted) in {} ms, {}",
+            attempts,
+            accepted.get(),
+            TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+            PaymentLedgerServiceImpl.getAppendLoader().getStats()
+        );
+
+        Assert.assertEquals(accepted.get(), 100_000 / (int) PAYMENT_CENTS);
+        Assert.assertEquals(paymentLedgerService.getBalanceCents(student), 100_000 % PAYMENT_CENTS);
+        Assert.assertEquals(paymentLedgerService.getHistory(student).size(), 1 + accepted.get());
+    }
+
+    @Test
+    public void verifyBalanceIsSnapshotPlusTailTest() {
+        Student student = savedStudent();
+        PaymentLedgerServiceImpl paymentLedgerService = new PaymentLedgerServiceImpl();
+        StudentDAO studentDAO = DAOFactory.create(StudentDAO.class);
+
+        paymentLedgerService.recordCharge(student, 100_000);
+        Assert.assertTrue(paymentLedgerService.recordPayment(student, 10_000));
+        Assert.assertEquals(student.getOutstandingBalanceCents(), 90_000L);
+        Student hydrated = studentDAO.findByEmail("ada@example.com").orElseThrow();
+        Assert.assertEquals(hydrated.getOutstandingBalanceCents(), 90_000L, "Reads should include the ledger tail");
+        Assert.assertEquals(
+            studentDAO.findByCriteria(StudentCriteria.builder().withOutstandingBalance().build()).size(),
+            1
+        );
+
+        Assert.assertEquals(new LedgerCompactionJob(paymentLedgerService).runOnce(), 2);
+        Student reloaded = studentDAO.findByEmail("ada@example.com").orElseThrow();
+        Assert.assertEquals(reloaded.getOutstandingBalanceCents(), 90_000L);
+
+        Assert.assertTrue(paymentLedgerService.recordPayment(student, 5_000));
+        Assert.assertFalse(paymentLedgerService.recordPayment(student, 85_001));
+        Assert.assertEquals(paymentLedgerService.getBalanceCents(student), 85_000L);
+        Assert.assertEquals(paymentLedgerService.compactSnapshots(), 1);
+        Assert.assertEquals(paymentLedgerService.compactSnapshots(), 0);
+        Assert.assertEquals(paymentLedgerService.getBalanceCents(student), 85_000L);
+        Assert.assertEquals(paymentLedgerService.getHistory(student).size(), 3);
+    }
+
+    @Test
+    public void verifyStaleStudentCannotOverpayTest() throws Exception {
+        StudentDAO studentDAO = DAOFactory.create(StudentDAO.class);
+        Student student = savedStudent();
+        PaymentLedgerServiceImpl paymentLedgerService = new PaymentLedgerServiceImpl();
+        paymentLedgerService.recordCharge(student, 100_000);
+
+        Program program = new Program("Software Engineering", 4, 0.0, new ComputerScienceDepartment());
+        Student first = studentDAO.findByEmail("ada@example.com").orElseThrow();
+        Student second = studentDAO.findByEmail("ada@example.com").orElseThrow();
+        first.enroll(program);
+        second.enroll(program);
+
+        EnrollmentServiceImpl enrollmentService = new EnrollmentServiceImpl();
+        enrollmentService.processPayment(first, 600.0);
+
+        Assert.assertThrows(InvalidPaymentException.class, () -> enrollmentService.processPayment(second, 600.0));
+        Assert.assertThrows(InvalidPaymentException.class, () -> enrollmentService.processPayment(second, 0.001));
+        Assert.assertEquals(first.getOutstandingBalance(), 400.0);
+        Assert.assertEquals(paymentLedgerService.getBalanceCents(student), 40_000L);
+    }
+
+    @Test
+    public void verifyPaymentInsideTransactionLocksTheSnapshotTest() {
+        DAOFactory.useBackend(Backend.JDBC);
+        stub
+            .onQuery("FROM balance_snapshot WHERE student_id IN", params -> balances(params, 500.0))
+            .onUpdate("INSERT INTO payment_ledger", params -> params.size() / 3);
+        PaymentLedgerServiceImpl paymentLedgerService = new PaymentLedgerServiceImpl();
+        Student student = new Student("Ada", "Lovelace", 20, "ada@example.com");
+        student.setStudentId(3);
+
+        Assert.assertTrue(
+            DAOFactory.getTransactionManager().execute(() -> paymentLedgerService.recordPayment(student, 10_000))
+        );
+
+        List<String> executed = stub.getExecutedSql();
+        int lock = executed.indexOf(
+            "SELECT student_id FROM balance_snapshot WHERE student_id IN (?) ORDER BY student_id FOR UPDATE"
+        );
+        int insert = executed.indexOf("INSERT INTO payment_ledger (student_id, amount, recorded_at) VALUES (?, ?, ?)");
+        Assert.assertTrue(lock >= 0 && lock < insert, executed.toString());
+        Assert.assertEquals(student.getOutstandingBalanceCents(), 40_000L);
+        Assert.assertEquals(stub.getCommits(), 1);
+    }
+
+    @Test
+    public void verifyUnknownStudentIsRejectedTest() {
+        PaymentLedgerServiceImpl paymentLedgerService = new PaymentLedgerServiceImpl();
+        Student unknown = new Student("Ada", "Lovelace", 20, "ada@example.com");
+        unknown.setStudentId(999);
+
+        Assert.assertFalse(paymentLedgerService.recordPayment(unknown, 100));
+        Assert.assertTrue(paymentLedgerService.getHistory(unknown).isEmpty());
+    }
+
+    @Test
+    public void verifyOpeningBalanceIsNotSavedOutsideTheLedgerTest() {
+        Student student = new Student("Ada", "Lovelace", 20, "ada@example.com");
+        student.setOutstandingBalance(500.0);
+
+        for (Backend backend : Backend.values()) {
+            DAOFactory.useBackend(backend);
+            StudentDAO studentDAO = DAOFactory.create(StudentDAO.class);
+            Assert.assertThrows(IllegalArgumentException.class, () -> studentDAO.save(student));
+            Assert.assertThrows(IllegalArgumentException.class, () -> studentDAO.saveAll(List.of(student)));
+        }
+        Assert.assertEquals(stub.countExecuted("INSERT INTO student"), 0L);
+    }
+
+    @Test
+    public void verifyConcurrentPaymentsShareInsertsTest() throws Exception {
+        DAOFactory.useBackend(Backend.JDBC);
+        stub.setLatency(Duration.ofMillis(2));
+        stub
+            .onQuery("FROM balance_snapshot WHERE student_id IN", params -> balances(params, 10_000_000.0))
+            .onUpdate("INSERT INTO payment_ledger", params -> params.size() / 3);
+        PaymentLedgerServiceImpl paymentLedgerService = new PaymentLedgerServiceImpl();
+        Student student = new Student("Ada", "Lovelace", 20, "ada@example.com");
+        student.setStudentId(3);
+
+        hammer(() -> Assert.assertTrue(paymentLedgerService.recordPayment(copyOf(student), PAYMENT_CENTS)));
+
+        BatchLoader<LedgerEntry, LedgerEntry> appends = PaymentLedgerServiceImpl.getAppendLoader();
+        LOGGER.info(appends.getStats());
+        Assert.assertEquals(appends.getRequestCount(), (long) THREADS * PAYMENTS_PER_THREAD);
+        Assert.assertEquals(stub.countExecuted("INSERT INTO payment_ledger"), appends.getBatchCount());
+        Assert.assertTrue(appends.getAverageBatchSize() > 2.0, appends.getStats());
+    }
+
+    @Test
+    public void verifyCompactionFoldsSettledEntriesTest() {
+        DAOFactory.useBackend(Backend.JDBC);
+        stub.onQuery("AS pending", params -> List.of(row("pending", 3)));
+
+        int folded = DAOFactory.create(PaymentLedgerDAO.class).compactSnapshots();
+
+        Assert.assertEquals(folded, 3);
+        Assert.assertEquals(stub.getExecutedSql().get(0), "SELECT COUNT(*) AS locked FROM balance_snapshot FOR UPDATE");
+        Assert.assertEquals(stub.countExecuted("INSERT INTO balance_snapshot"), 1L);
+        Assert.assertEquals(stub.countExecuted("UPDATE student s JOIN balance_snapshot b"), 1L);
+        Assert.assertEquals(stub.getCommits(), 1);
+    }
+
+    private Student savedStudent() {
+        Student student = new Student("Ada", "Lovelace", 20, "ada@example.com");
+        DAOFactory.create(StudentDAO.class).save(student);
+        return student;
+    }
+
+    private static Student copyOf(Student student) {
+        Student copy = new Student(student.getFirstName(), student.getLastName(), student.getAge(), student.getEmail());
+        copy.setStudentId(student.getStudentId());
+        return copy;
+    }
+
+    private static long hammer(Runnable payment) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long started = System.nanoTime();
+        try {
+            List<CompletableFuture<Void>> workers = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                workers.add(CompletableFuture.runAsync(() -> {
+                    for (int j = 0; j < PAYMENTS_PER_THREAD; j++) {
+                        payment.run();
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(workers.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        return System.nanoTime() - started;
+    }
+
+    private static List<Map<String, Object>> balances(List<Object> studentIds, double balance) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Object studentId : new LinkedHashSet<>(studentIds)) {
+            rows.add(row("student_id", studentId, "balance", balance));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,116 @@
+package com.solvd.university;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.solvd.university.dao.factory.DAOFactory;
+import com.solvd.university.model.Program;
+import com.solvd.university.service.impl.MyBatisProgramServiceImpl;
+import com.solvd.university.service.impl.ProgramServiceImpl;
+
+import static com.solvd.university.StubDatabase.row;
+
+public class ProgramCatalogBenchmark {
+
+    private static final Logger LOGGER = LogManager.getLogger(ProgramCatalogBenchmark.class);
+    private static final int DEPARTMENTS = 200;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 10;
+    private static final Duration ROUND_TRIP_LATENCY = Duration.ofNanos(200_000);
+    private static final String[] CODES = { "CS", "MATH", "ENGR", "BUS", "ARTS" };
+
+    private final StubDatabase database = StubDatabase.getInstance();
+
+    @BeforeMethod
+    public void setUpDatabase() {
+        database.reset();
+        DAOFactory.invalidateCaches();
+        database.setLatency(ROUND_TRIP_LATENCY);
+    }
+
+    @DataProvider
+    public Object[][] catalogSizes() {
+        return new Object[][] { { 1_000 }, { 10_000 }, { 50_000 } };
+    }
+
+    @Test(dataProvider = "catalogSizes")
+    public void compareGetAllProgramsTest(int programs) {
+        List<Map<String, Object>> flatRows = new ArrayList<>(programs);
+        List<Map<String, Object>> joinedRows = new ArrayList<>(programs);
+        for (int id = 1; id <= programs; id++) {
+            int departmentId = 1 + id % DEPARTMENTS;
+            flatRows.add(row("program_id", id, "name", "Program " + id, "duration_years", 4, "price", 12000.0,
+                "department_id", departmentId, "university_id", 1));
+            joinedRows.add(MyBatisMappingTest.programRow(id, departmentId, code(departmentId), "State University"));
+        }
+        database
+            .onQuery("FROM program ORDER BY program_id", params -> flatRows)
+            .onQuery("FROM program p", params -> joinedRows)
+            .onQuery("FROM department WHERE department_id = ?", params -> {
+                int departmentId = (Integer) params.get(0);
+                return List.of(row("department_id", departmentId, "name", "Department " + departmentId,
+                    "code", code(departmentId), "university_id", 1));
+            });
+
+        ProgramServiceImpl jdbcService = new ProgramServiceImpl();
+        MyBatisProgramServiceImpl myBatisService = new MyBatisProgramServiceImpl();
+        Supplier<List<Program>> jdbc = () -> {
+            DAOFactory.invalidateCaches();
+            return jdbcService.getAllPrograms();
+        };
+        Supplier<List<Program>> myBatis = myBatisService::getAllPrograms;
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            jdbc.get();
+            myBatis.get();
+        }
+
+        Measurement jdbcCost = measure(jdbc);
+        Measurement myBatisCost = measure(myBatis);
+
+        LOGGER.info(
+            "programs={} ProgramServiceImpl: {} ms, {} queries | MyBatis join: {} ms, {} queries",
+            programs,
+            jdbcCost.millis(),
+            jdbcCost.queries(),
+            myBatisCost.millis(),
+            myBatisCost.queries()
+        );
+
+        List<Program> viaJdbc = jdbc.get();
+        List<Program> viaMyBatis = myBatis.get();
+        Assert.assertEquals(viaMyBatis.size(), viaJdbc.size());
+        for (int i = 0; i < viaJdbc.size(); i++) {
+            Assert.assertEquals(viaMyBatis.get(i).getDepartment(), viaJdbc.get(i).getDepartment());
+        }
+        Assert.assertEquals(myBatisCost.queries(), 1L, "The join should load the catalog in one query");
+    }
+
+    private Measurement measure(Supplier<List<Program>> workload) {
+        database.resetCounters();
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            workload.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        long queries = database.getExecutedSql().stream().filter(sql -> sql.startsWith("SELECT")).count();
+        double millis = elapsed / 1_000_000.0 / MEASURED_ITERATIONS;
+        return new Measurement(Math.round(millis * 10) / 10.0, queries / MEASURED_ITERATIONS);
+    }
+
+    private static String code(int departmentId) {
+        return CODES[departmentId % CODES.length];
+    }
+
+    private record Measurement(double millis, long queries) {}
+}
@@ -0,0 +1,94 @@
+package com.solvd.university;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.solvd.university.dao.factory.DAOFactory;
+import com.solvd.university.model.Program;
+import com.solvd.university.service.impl.MyBatisProgramServiceImpl;
+import com.solvd.university.service.impl.ProgramJsonServiceImpl;
+
+public class ProgramImportTest {
+
+    private final StubDatabase database = StubDatabase.getInstance();
+
+    @BeforeMethod
+    public void setUpDatabase() {
+        database.reset();
+        DAOFactory.invalidateCaches();
+    }
+
+    @Test
+    public void verifyImportBatchesInsertsAndReturnsIdsTest() {
+        List<Program> programs = programs(2_500);
+
+        List<Integer> ids = new MyBatisProgramServiceImpl().importPrograms(programs);
+
+        Assert.assertEquals(ids.size(), 2_500);
+        Assert.assertEquals(new HashSet<>(ids).size(), 2_500, "Every program should get its own generated id");
+        Assert.assertEquals(ids.get(2_499), programs.get(2_499).getProgramId());
+        Assert.assertEquals(database.countExecuted("INSERT INTO program"), 3L, "One round trip per 1000 rows");
+        Assert.assertEquals(database.getCommits(), 1);
+    }
+
+    @Test
+    public void verifyLargeImportCommitsInChunksTest() {
+        List<Integer> ids = new MyBatisProgramServiceImpl().importPrograms(programs(20_000).stream());
+
+        Assert.assertEquals(ids.size(), 20_000);
+        Assert.assertEquals(database.countExecuted("INSERT INTO program"), 20L);
+        Assert.assertEquals(database.getCommits(), 2);
+    }
+
+    @Test
+    public void verifyFailureKeepsCommittedChunksTest() {
+        AtomicInteger inserted = new AtomicInteger();
+        database.onUpdate("INSERT INTO program", params -> {
+            if (inserted.incrementAndGet() > 12_000) {
+                throw new IllegalStateException("simulated failure");
+            }
+            return 1;
+        });
+
+        Assert.assertThrows(RuntimeException.class, () ->
+            new MyBatisProgramServiceImpl().importPrograms(programs(15_000))
+        );
+        Assert.assertEquals(database.getCommits(), 1, "The first 10000 rows should stay committed");
+        Assert.assertEquals(database.getRollbacks(), 1);
+    }
+
+    @Test
+    public void verifyJsonCatalogStreamsIntoOneImportTest() {
+        int expected = new ProgramJsonServiceImpl().read().size();
+
+        List<Integer> ids;
+        try (Stream<Program> catalog = new ProgramJsonServiceImpl().stream()) {
+            ids = new MyBatisProgramServiceImpl().importPrograms(catalog);
+        }
+
+        Assert.assertTrue(expected > 0);
+        Assert.assertEquals(ids.size(), expected);
+        Assert.assertEquals(database.countExecuted("INSERT INTO program"), 1L);
+    }
+
+    private static List<Program> programs(int count) {
+        List<Program> programs = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Program program = new Program();
+            program.setName("Imported Program " + i);
+            program.setDuration(4);
+            program.setPrice(30000.0 + i);
+            program.setDepartmentId(1 + i % 5);
+            program.setUniversityId(1);
+            programs.add(program);
+        }
+        return programs;
+    }
+}
@@ -0,0 +1,152 @@
+package com.solvd.university;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.solvd.university.dao.factory.DAOFactory;
+import com.solvd.university.dao.interfaces.CourseDAO;
+import com.solvd.university.dao.interfaces.CourseGradeDAO;
+import com.solvd.university.dao.interfaces.EnrollmentDAO;
+import com.solvd.university.dao.interfaces.PersonDAO;
+import com.solvd.university.dao.interfaces.StudentDAO;
+import com.solvd.university.dao.interfaces.StudentGradeDAO;
+import com.solvd.university.model.Student;
+
+public class QueryPlanTest {
+
+    private static final Set<String> SMALL_REFERENCE_TABLES = Set.of(
+        "enrollment_status", "es", "grade_level", "gl", "course_difficulty", "cd", "schema_version"
+    );
+
+    private final StubDatabase database = StubDatabase.getInstance();
+    private Connection mysql;
+
+    // mvn test -Pquery-plans -Dplan.db.url=jdbc:mysql://localhost:3306/university -Dplan.db.password=...
+    @BeforeClass
+    public void connect() throws SQLException {
+        String url = System.getProperty("plan.db.url");
+        if (url == null || url.isBlank()) {
+            throw new SkipException("Set -Dplan.db.url to a MySQL schema to check query plans");
+        }
+        mysql = DriverManager.getConnection(
+            url,
+            System.getProperty("plan.db.username", "root"),
+            System.getProperty("plan.db.password", "")
+        );
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void disconnect() throws SQLException {
+        if (mysql != null) {
+            mysql.close();
+        }
+    }
+
+    @DataProvider(name = "hotLookups")
+    public Object[][] hotLookups() {
+        Student student = new Student("Plan", "Check", 20, "plan@example.com");
+        student.setStudentId(1);
+
+        Map<String, Runnable> lookups = new LinkedHashMap<>();
+        lookups.put(
+            "StudentDAO.findByEmail",
+            () -> DAOFactory.create(StudentDAO.class).findByEmail("plan@example.com")
+        );
+        lookups.put("StudentDAO.findById", () -> DAOFactory.create(StudentDAO.class).findById("STU-100001"));
+        lookups.put(
+            "StudentDAO.findRegisteredEmails",
+            () -> DAOFactory.create(StudentDAO.class).findRegisteredEmails(List.of("plan@example.com"))
+        );
+        lookups.put("PersonDAO.findByEmail", () -> DAOFactory.create(PersonDAO.class).findByEmail("plan@example.com"));
+        lookups.put("EnrollmentDAO.findByStudent", () -> DAOFactory.create(EnrollmentDAO.class).findByStudent(student));
+        lookups.put(
+            "EnrollmentDAO.findActiveByStudentIds",
+            () -> DAOFactory.create(EnrollmentDAO.class).findActiveByStudentIds(List.of(1, 2))
+        );
+        lookups.put(
+            "StudentGradeDAO.findByStudentId",
+            () -> DAOFactory.create(StudentGradeDAO.class).findByStudentId(1)
+        );
+        lookups.put(
+            "StudentGradeDAO.findByStudentIdAndSemester",
+            () -> DAOFactory.create(StudentGradeDAO.class).findByStudentIdAndSemester(1, 1)
+        );
+        lookups.put("CourseDAO.findById", () -> DAOFactory.create(CourseDAO.class).findById("CS101"));
+        lookups.put("CourseGradeDAO.findByCourseId", () -> DAOFactory.create(CourseGradeDAO.class).findByCourseId(1));
+        lookups.put(
+            "CourseGradeDAO.findByCourseIdAndSemester",
+            () -> DAOFactory.create(CourseGradeDAO.class).findByCourseIdAndSemester(1, 1)
+        );
+
+        return lookups
+            .entrySet()
+            .stream()
+            .map(entry -> new Object[] { entry.getKey(), entry.getValue() })
+            .toArray(Object[][]::new);
+    }
+
+    @Test
+    public void verifySchemaIsMigratedTest() throws SQLException {
+        try (
+            PreparedStatement stmt = mysql.prepareStatement("SELECT MAX(version) AS version FROM schema_version");
+            ResultSet rs = stmt.executeQuery()
+        ) {
+            Assert.assertTrue(
+                rs.next() && rs.getInt("version") >= 1,
+                "Run SchemaMigrator against the plan schema first"
+            );
+        }
+    }
+
+    @Test(dataProvider = "hotLookups", dependsOnMethods = "verifySchemaIsMigratedTest")
+    public void verifyHotLookupAvoidsFullScanTest(String lookup, Runnable call) throws SQLException {
+        database.reset();
+        DAOFactory.invalidateCaches();
+        call.run();
+
+        List<String> statements = database.getExecutedSql();
+        Assert.assertFalse(statements.isEmpty(), lookup + " did not run any SQL");
+
+        List<String> fullScans = new ArrayList<>();
+        for (String sql : statements) {
+            fullScans.addAll(fullScans(sql));
+        }
+        Assert.assertTrue(fullScans.isEmpty(), lookup + " regressed to a full table scan: " + fullScans);
+    }
+
+    private List<String> fullScans(String sql) throws SQLException {
+        List<String> scans = new ArrayList<>();
+        try (PreparedStatement stmt = mysql.prepareStatement("EXPLAIN " + sql)) {
+            int parameters = stmt.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                stmt.setString(i, "1");
+            }
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String table = rs.getString("table");
+                    boolean fullScan = "ALL".equals(rs.getString("type"));
+                    if (fullScan && table != null && !SMALL_REFERENCE_TABLES.contains(table)) {
+                        scans.add(table + " in " + sql);
+                    }
+                }
+            }
+        }
+        return scans;
+    }
+}
@@ -0,0 +1,125 @@
+package com.solvd.university;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.solvd.university.dao.cache.EntityCache;
+import com.solvd.university.dao.factory.DAOFactory;
+import com.solvd.university.dao.interfaces.DepartmentDAO;
+import com.solvd.university.dao.interfaces.ProfessorDAO;
+import com.solvd.university.model.Department;
+
+import static com.solvd.university.StubDatabase.row;
+
+public class ReferenceCacheTest {
+
+    private final StubDatabase database = StubDatabase.getInstance();
+
+    @BeforeMethod
+    public void setUpDatabase() {
+        database.reset();
+        DAOFactory.invalidateCaches();
+        DAOFactory.getCache(DepartmentDAO.class).resetStats();
+        database
+            .onQuery(
+                "FROM department WHERE department_id = ?",
+                params -> List.of(row("department_id", params.get(0), "name", "Computer Science", "code", "CS",
+                    "university_id", 1))
+            )
+            .onQuery("FROM professor prof", params -> professorRows(50));
+    }
+
+    @Test
+    public void verifyRepeatedLookupsHitCacheTest() {
+        DepartmentDAO departmentDAO = DAOFactory.create(DepartmentDAO.class);
+
+        for (int i = 0; i < 10; i++) {
+            Assert.assertTrue(departmentDAO.findById(1).isPresent());
+        }
+
+        EntityCache cache = DAOFactory.getCache(DepartmentDAO.class);
+        Assert.assertEquals(database.countExecuted("FROM department WHERE department_id = ?"), 1L);
+        Assert.assertEquals(cache.getMissCount(), 1L);
+        Assert.assertEquals(cache.getHitCount(), 9L);
+    }
+
+    @Test
+    public void verifyCacheIsSharedAcrossDaoInstancesTest() {
+        DAOFactory.create(DepartmentDAO.class).findById(1);
+        DAOFactory.create(DepartmentDAO.class).findById(1);
+
+        Assert.assertEquals(database.countExecuted("FROM department WHERE department_id = ?"), 1L);
+    }
+
+    @Test
+    public void verifyUpdateInvalidatesCacheTest() {
+        DepartmentDAO departmentDAO = DAOFactory.create(DepartmentDAO.class);
+        Department<?> department = departmentDAO.findById(1).orElseThrow();
+
+        DAOFactory.create(DepartmentDAO.class).update(department);
+        departmentDAO.findById(1);
+
+        Assert.assertEquals(database.countExecuted("FROM department WHERE department_id = ?"), 2L);
+    }
+
+    @Test
+    public void verifyProfessorHydrationSkipsRepeatedDepartmentQueriesTest() {
+        Assert.assertEquals(DAOFactory.create(ProfessorDAO.class).findAll().size(), 50);
+        Assert.assertEquals(DAOFactory.create(ProfessorDAO.class).findAll().size(), 50);
+
+        Assert.assertEquals(database.countExecuted("FROM department WHERE department_id = ?"), 2L);
+    }
+
+    @Test
+    public void verifyEntriesExpireAfterTtlTest() throws InterruptedException {
+        EntityCache cache = new EntityCache("ttl", 8, Duration.ofMillis(20));
+        int[] loads = new int[1];
+
+        cache.get("findById", List.of(1), () -> ++loads[0]);
+        cache.get("findById", List.of(1), () -> ++loads[0]);
+        Thread.sleep(40);
+        cache.get("findById", List.of(1), () -> ++loads[0]);
+
+        Assert.assertEquals(loads[0], 2);
+        Assert.assertEquals(cache.getEvictionCount(), 1L);
+    }
+
+    @Test
+    public void verifyLeastRecentlyUsedEntryIsEvictedTest() {
+        EntityCache cache = new EntityCache("lru", 2, Duration.ofMinutes(1));
+
+        cache.get("findById", List.of(1), () -> "one");
+        cache.get("findById", List.of(2), () -> "two");
+        cache.get("findById", List.of(1), () -> "one");
+        cache.get("findById", List.of(3), () -> "three");
+
+        Assert.assertEquals(cache.size(), 2);
+        Assert.assertEquals(cache.get("findById", List.of(1), () -> "reloaded"), "one");
+        Assert.assertEquals(cache.get("findById", List.of(2), () -> "reloaded"), "reloaded");
+    }
+
+    private static List<Map<String, Object>> professorRows(int count) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int id = 1; id <= count; id++) {
+            rows.add(
+                row(
+                    "professor_id", id,
+                    "department_id", id % 2 + 1,
+                    "person_id", 100 + id,
+                    "first_name", "Professor",
+                    "last_name", String.valueOf(id),
+                    "email", "professor" + id + "@example.com",
+                    "staff_id", 200 + id,
+                    "title", "Dr."
+                )
+            );
+        }
+        return rows;
+    }
+}
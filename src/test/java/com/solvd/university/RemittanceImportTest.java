@@ -0,0 +1,202 @@
+package com.solvd.university;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.solvd.university.dao.factory.DAOFactory;
+import com.solvd.university.dao.factory.DAOFactory.Backend;
+import com.solvd.university.dao.interfaces.PaymentLedgerDAO;
+import com.solvd.university.dao.interfaces.StudentDAO;
+import com.solvd.university.dao.memory.InMemoryDatabase;
+import com.solvd.university.model.LedgerEntry;
+import com.solvd.university.model.RemittanceReport;
+import com.solvd.university.model.RemittanceReport.Rejection;
+import com.solvd.university.model.Student;
+import com.solvd.university.service.impl.PaymentLedgerServiceImpl;
+import com.solvd.university.service.impl.RemittanceImportServiceImpl;
+import com.solvd.university.service.interfaces.PaymentLedgerService;
+
+import static com.solvd.university.StubDatabase.row;
+
+public class RemittanceImportTest {
+
+    private static final Logger LOGGER = LogManager.getLogger(RemittanceImportTest.class);
+
+    private final StubDatabase stub = StubDatabase.getInstance();
+
+    @BeforeMethod
+    public void setUpDatabase() throws SQLException {
+        stub.reset();
+        DAOFactory.useBackend(Backend.MEMORY);
+        InMemoryDatabase.getInstance().clear();
+        InMemoryDatabase.getInstance().seedReferenceData();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void restoreJdbcBackend() {
+        stub.setLatency(Duration.ZERO);
+        DAOFactory.useBackend(Backend.JDBC);
+    }
+
+    @Test
+    public void verifyRemittanceFileIsValidatedAndAppliedTest() throws IOException {
+        List<Student> students = chargedStudents(50, 100_000);
+        StringBuilder remittance = new StringBuilder("student_id,amount,reference\n");
+        for (int i = 0; i < 10_000; i++) {
+            Integer studentId = students.get(i % students.size()).getStudentId();
+            remittance.append(studentId).append(",1.25,BANK-").append(i).append('\n');
+        }
+        Integer last = students.get(students.size() - 1).getStudentId();
+        remittance
+            .append("x,10.00\n")
+            .append(last).append(",abc\n")
+            .append(last).append(",-3.00\n")
+            .append(last).append(",1.005\n")
+            .append("999999,10.00\n")
+            .append(last).append('\n')
+            .append('\n')
+            .append(last).append(",800.00\n");
+
+        Path file = Files.createTempFile("remittance", ".csv");
+        RemittanceReport report;
+        try {
+            Files.writeString(file, remittance, StandardCharsets.UTF_8);
+            report = new RemittanceImportServiceImpl(4, 500).importFile(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        LOGGER.info(report);
+
+        Assert.assertEquals(report.getRowsRead(), 10_007L);
+        Assert.assertEquals(report.getAcceptedCount(), 10_000L);
+        Assert.assertEquals(report.getAcceptedCents(), 1_250_000L);
+        List<String> reasons = report.getRejections().stream().map(Rejection::reason).toList();
+        Assert.assertEquals(reasons.size(), 7);
+        Assert.assertEquals(reasons.get(0), "Malformed student ID: x");
+        Assert.assertEquals(reasons.get(1), "Malformed amount: abc");
+        Assert.assertEquals(reasons.get(2), "Payment must be greater than zero.");
+        Assert.assertEquals(reasons.get(3), "Payment amount must not include fractions of a cent.");
+        Assert.assertEquals(reasons.get(4), "Unknown student ID: 999999");
+        Assert.assertEquals(reasons.get(5), "Expected student_id,amount");
+        Assert.assertTrue(reasons.get(6).contains("exceeds outstanding balance ($750.00)"), reasons.get(6));
+        Assert.assertEquals(report.getRejections().get(6).lineNumber(), 10_009L);
+
+        Map<Integer, Long> balances = DAOFactory
+            .create(PaymentLedgerDAO.class)
+            .findBalances(students.stream().map(Student::getStudentId).toList());
+        Assert.assertTrue(balances.values().stream().allMatch(balance -> balance == 75_000L), balances.toString());
+    }
+
+    @Test
+    public void verifyImportAndDirectPaymentsCannotOverpayTest() throws Exception {
+        Student student = chargedStudents(1, 10_000).get(0);
+        StringBuilder remittance = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            remittance.append(student.getStudentId()).append(",1.00\n");
+        }
+
+        PaymentLedgerService paymentLedgerService = new PaymentLedgerServiceImpl();
+        CompletableFuture<Long> direct = CompletableFuture.supplyAsync(() -> {
+            long paid = 0;
+            for (int i = 0; i < 100; i++) {
+                if (paymentLedgerService.recordPayment(student, 100)) {
+                    paid += 100;
+                }
+            }
+            return paid;
+        });
+        RemittanceReport report = new RemittanceImportServiceImpl(2, 10)
+            .importRemittance("race.csv", new StringReader(remittance.toString()));
+
+        Assert.assertEquals(report.getAcceptedCents() + direct.get(30, TimeUnit.SECONDS), 10_000L);
+        Assert.assertEquals(paymentLedgerService.getBalanceCents(student), 0L);
+    }
+
+    @Test
+    public void verifyRowsAreAppliedInSetBasedChunksTest() {
+        DAOFactory.useBackend(Backend.JDBC);
+        stub.setLatency(Duration.ofMillis(1));
+        stub
+            .onQuery("FROM balance_snapshot WHERE student_id IN", RemittanceImportTest::largeBalances)
+            .onUpdate("INSERT INTO payment_ledger", params -> params.size() / 3);
+
+        int rows = 20_000;
+        StringBuilder remittance = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            remittance.append(i % 100 + 1).append(",10.00\n");
+        }
+
+        RemittanceReport report = new RemittanceImportServiceImpl(4, 1000)
+            .importRemittance("deadline.csv", new StringReader(remittance.toString()));
+        long inserts = stub.countExecuted("INSERT INTO payment_ledger");
+        LOGGER.info("{} using {} ledger inserts", report, inserts);
+
+        Assert.assertEquals(report.getAcceptedCount(), (long) rows);
+        Assert.assertEquals(report.getRejectedCount(), 0L);
+        Assert.assertEquals(inserts, stub.countExecuted("ORDER BY student_id FOR UPDATE"));
+        Assert.assertTrue(inserts >= rows / 1000 && inserts <= rows / 100, "Ledger inserts: " + inserts);
+    }
+
+    @Test(timeOut = 30_000)
+    public void verifyFailedWorkerStopsTheImportTest() {
+        DAOFactory.useBackend(Backend.JDBC);
+        stub
+            .onQuery("FROM balance_snapshot WHERE student_id IN", RemittanceImportTest::largeBalances)
+            .onUpdate("INSERT INTO payment_ledger", params -> {
+                throw new AssertionError("corrupt ledger page");
+            });
+        StringBuilder remittance = new StringBuilder();
+        for (int i = 0; i < 1_000; i++) {
+            remittance.append(i % 10 + 1).append(",10.00\n");
+        }
+
+        RemittanceImportServiceImpl importService = new RemittanceImportServiceImpl(1, 10);
+
+        RuntimeException failure = Assert.expectThrows(
+            RuntimeException.class,
+            () -> importService.importRemittance("broken.csv", new StringReader(remittance.toString()))
+        );
+        Assert.assertTrue(failure.getCause() instanceof AssertionError, failure.toString());
+    }
+
+    private static List<Student> chargedStudents(int count, long chargeCents) {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            students.add(new Student("Student", "No" + i, 20, "student" + i + "@example.com"));
+        }
+        DAOFactory.create(StudentDAO.class).saveAll(students);
+
+        List<LedgerEntry> charges = new ArrayList<>();
+        for (Student student : students) {
+            charges.add(LedgerEntry.charge(student.getStudentId(), chargeCents));
+        }
+        DAOFactory.create(PaymentLedgerDAO.class).appendAll(charges);
+        return students;
+    }
+
+    private static List<Map<String, Object>> largeBalances(List<Object> studentIds) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Object studentId : new LinkedHashSet<>(studentIds)) {
+            rows.add(row("student_id", studentId, "balance", 10_000_000.0));
+        }
+        return rows;
+    }
+}
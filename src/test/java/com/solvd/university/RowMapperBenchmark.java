@@ -0,0 +1,128 @@
+package com.solvd.university;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.solvd.university.dao.mapping.RowMapping;
+import com.solvd.university.model.StudentGrade;
+import com.solvd.university.util.ConnectionPool;
+
+import static com.solvd.university.StubDatabase.row;
+
+public class RowMapperBenchmark {
+
+    private static final Logger LOGGER = LogManager.getLogger(RowMapperBenchmark.class);
+    private static final int ROWS = 20_000;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final int MEASURED_ITERATIONS = 5;
+    private static final String SQL = "SELECT * FROM student_grade ORDER BY student_id, semester, subject";
+
+    private final StubDatabase database = StubDatabase.getInstance();
+    private final ConnectionPool connectionPool = ConnectionPool.getInstance();
+    private final com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @BeforeMethod
+    public void setUpDatabase() {
+        database.reset();
+        List<Map<String, Object>> rows = new ArrayList<>(ROWS);
+        for (int id = 1; id <= ROWS; id++) {
+            rows.add(row("student_grade_id", id, "student_id", id % 500, "subject", "Mathematics",
+                "value", 50.0 + id % 50, "semester", 1 + id % 8));
+        }
+        database.onQuery("FROM student_grade", params -> rows);
+    }
+
+    @Test
+    public void compareMappingCostPerRowTest() throws SQLException {
+        RowMapping<StudentGrade> mapping = RowMapping.of(StudentGrade.class);
+        Workload legacy = rs -> {
+            List<StudentGrade> grades = new ArrayList<>();
+            while (rs.next()) {
+                grades.add(mapByName(rs));
+            }
+            return grades;
+        };
+        Workload compiled = mapping::mapAll;
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            run(legacy);
+            run(compiled);
+        }
+
+        Measurement legacyCost = new Measurement(0, 0);
+        Measurement compiledCost = new Measurement(0, 0);
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            legacyCost = legacyCost.plus(measure(legacy));
+            compiledCost = compiledCost.plus(measure(compiled));
+        }
+
+        LOGGER.info(
+            "rows={} name-based: {} ns/row, {} bytes/row | compiled: {} ns/row, {} bytes/row",
+            ROWS,
+            Math.round(legacyCost.nanosPerRow()),
+            Math.round(legacyCost.bytesPerRow()),
+            Math.round(compiledCost.nanosPerRow()),
+            Math.round(compiledCost.bytesPerRow())
+        );
+
+        Assert.assertEquals(run(compiled), run(legacy), "Both mappers should produce the same grades");
+    }
+
+    private Measurement measure(Workload workload) throws SQLException {
+        long threadId = Thread.currentThread().threadId();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            run(workload);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        double rows = (double) ROWS * MEASURED_ITERATIONS * MEASURED_ROUNDS;
+        return new Measurement(elapsed / rows, allocated / rows);
+    }
+
+    private List<StudentGrade> run(Workload workload) throws SQLException {
+        Connection conn = connectionPool.getConnection();
+        try (ResultSet rs = conn.prepareStatement(SQL).executeQuery()) {
+            List<StudentGrade> grades = workload.map(rs);
+            Assert.assertEquals(grades.size(), ROWS);
+            return grades;
+        } finally {
+            connectionPool.releaseConnection(conn);
+        }
+    }
+
+    private static StudentGrade mapByName(ResultSet rs) throws SQLException {
+        StudentGrade grade = new StudentGrade();
+        grade.setStudentGradeId(rs.getInt("student_grade_id"));
+        grade.setStudentId(rs.getInt("student_id"));
+        grade.setSubject(rs.getString("subject"));
+        grade.setValue(rs.getDouble("value"));
+        grade.setSemester(rs.getInt("semester"));
+        return grade;
+    }
+
+    private interface Workload {
+        List<StudentGrade> map(ResultSet rs) throws SQLException;
+    }
+
+    private record Measurement(double nanosPerRow, double bytesPerRow) {
+        Measurement plus(Measurement other) {
+            return new Measurement(nanosPerRow + other.nanosPerRow, bytesPerRow + other.bytesPerRow);
+        }
+    }
+}
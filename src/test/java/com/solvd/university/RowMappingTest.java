@@ -0,0 +1,133 @@
+package com.solvd.university;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.solvd.university.dao.factory.DAOFactory;
+import com.solvd.university.dao.interfaces.CourseGradeDAO;
+import com.solvd.university.dao.mapping.RowMapper;
+import com.solvd.university.dao.mapping.RowMapping;
+import com.solvd.university.model.Classroom;
+import com.solvd.university.model.CourseGrade;
+import com.solvd.university.model.Program;
+import com.solvd.university.util.ConnectionPool;
+
+import static com.solvd.university.StubDatabase.row;
+
+public class RowMappingTest {
+
+    private final StubDatabase database = StubDatabase.getInstance();
+    private final ConnectionPool connectionPool = ConnectionPool.getInstance();
+
+    @BeforeMethod
+    public void setUpDatabase() {
+        database.reset();
+        DAOFactory.invalidateCaches();
+    }
+
+    @Test
+    public void verifyColumnsMapToSettersTest() {
+        LocalDateTime recordedAt = LocalDateTime.of(2024, 12, 1, 10, 30);
+        database.onQuery("FROM course_grade WHERE course_id = ?", params -> List.of(
+            row("course_grade_id", 5, "course_id", 2, "subject", "Algebra", "value", 88.5, "semester", 1,
+                "recorded_at", Timestamp.valueOf(recordedAt))
+        ));
+
+        CourseGrade grade = DAOFactory.create(CourseGradeDAO.class).findByCourseId(2).get(0);
+
+        Assert.assertEquals(grade.getCourseGradeId(), Integer.valueOf(5));
+        Assert.assertEquals(grade.getCourseId(), Integer.valueOf(2));
+        Assert.assertEquals(grade.getSubject(), "Algebra");
+        Assert.assertEquals(grade.getValue(), 88.5, 1e-9);
+        Assert.assertEquals(grade.getRecordedAt(), recordedAt);
+    }
+
+    @Test
+    public void verifyNullsAndPrimitiveFastPathsTest() throws SQLException {
+        database.onQuery("FROM classroom", params -> List.of(
+            row("classroom_id", 3, "room_number", "B-12", "building_id", null, "university_id", 1,
+                "capacity", null, "room_type", "Lab", "unmapped_column", "ignored")
+        ));
+
+        Classroom classroom = queryAll("SELECT * FROM classroom", RowMapping.of(Classroom.class)).get(0);
+
+        Assert.assertNull(classroom.getBuildingId(), "Nullable wrapper columns should stay null");
+        Assert.assertEquals(classroom.getUniversityId(), Integer.valueOf(1));
+        Assert.assertEquals(classroom.getCapacity(), 0, "Primitive columns read NULL as zero");
+        Assert.assertEquals(classroom.getRoomNumber(), "B-12");
+    }
+
+    @Test
+    public void verifyAliasedColumnTest() throws SQLException {
+        database.onQuery("FROM program", params -> List.of(programRow(1, 4)));
+        RowMapping<Program> mapping = RowMapping.builder(Program.class).column("duration_years", "duration").build();
+
+        Program program = queryAll("SELECT * FROM program", mapping).get(0);
+
+        Assert.assertEquals(program.getDuration(), 4);
+        Assert.assertEquals(program.getRawPrice(), 12000.0, 1e-9);
+        Assert.assertEquals(program.getDepartmentId(), Integer.valueOf(2));
+    }
+
+    @Test
+    public void verifyMapperRebindsForNewResultSetTest() throws SQLException {
+        RowMapper<Program> mapper = RowMapping.builder(Program.class)
+            .column("duration_years", "duration")
+            .build()
+            .mapper();
+        database
+            .onQuery("FROM program WHERE program_id = 1", params -> List.of(programRow(1, 4)))
+            .onQuery("FROM program WHERE program_id = 2", params -> List.of(
+                row("duration_years", 2, "name", "Reordered", "program_id", 2)
+            ));
+
+        Connection conn = connectionPool.getConnection();
+        try {
+            Program first = mapFirst(conn, "SELECT * FROM program WHERE program_id = 1", mapper);
+            Program second = mapFirst(conn, "SELECT * FROM program WHERE program_id = 2", mapper);
+
+            Assert.assertEquals(first.getName(), "Program 1");
+            Assert.assertEquals(second.getName(), "Reordered");
+            Assert.assertEquals(second.getDuration(), 2);
+            Assert.assertNull(second.getDepartmentId());
+        } finally {
+            connectionPool.releaseConnection(conn);
+        }
+    }
+
+    private <T> List<T> queryAll(String sql, RowMapping<T> mapping) throws SQLException {
+        Connection conn = connectionPool.getConnection();
+        try (ResultSet rs = conn.prepareStatement(sql).executeQuery()) {
+            return mapping.mapAll(rs);
+        } finally {
+            connectionPool.releaseConnection(conn);
+        }
+    }
+
+    private static <T> T mapFirst(Connection conn, String sql, RowMapper<T> mapper) throws SQLException {
+        try (ResultSet rs = conn.prepareStatement(sql).executeQuery()) {
+            Assert.assertTrue(rs.next());
+            return mapper.map(rs);
+        }
+    }
+
+    private static Map<String, Object> programRow(int id, int durationYears) {
+        return row(
+            "program_id", id,
+            "name", "Program " + id,
+            "duration_years", durationYears,
+            "price", 12000.0,
+            "department_id", 2,
+            "university_id", 1
+        );
+    }
+}
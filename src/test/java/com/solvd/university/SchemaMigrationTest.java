@@ -0,0 +1,61 @@
+package com.solvd.university;
+
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.solvd.university.util.ConnectionPool;
+import com.solvd.university.util.SchemaMigrator;
+
+import static com.solvd.university.StubDatabase.row;
+
+public class SchemaMigrationTest {
+
+    private final StubDatabase database = StubDatabase.getInstance();
+    private volatile int schemaVersion;
+
+    @BeforeMethod
+    public void setUpDatabase() {
+        database.reset();
+        database.onQuery("FROM schema_version", params -> List.of(row("version", schemaVersion)));
+    }
+
+    @Test
+    public void verifyPendingMigrationsAreAppliedTest() {
+        schemaVersion = 0;
+
+        int applied = new SchemaMigrator(ConnectionPool.getInstance()).migrate();
+
+        Assert.assertEquals(applied, 4);
+        Assert.assertEquals(database.countExecuted("CREATE INDEX"), 6L);
+        Assert.assertEquals(database.countExecuted("CREATE INDEX idx_person_email ON person (email)"), 1L);
+        Assert.assertEquals(database.countExecuted("ALTER TABLE student MODIFY balance DECIMAL(12, 2)"), 1L);
+        Assert.assertEquals(database.countExecuted("CREATE TABLE IF NOT EXISTS payment_ledger"), 1L);
+        Assert.assertEquals(database.countExecuted("CREATE TABLE IF NOT EXISTS course_seat"), 1L);
+        Assert.assertEquals(database.countExecuted("INSERT INTO schema_version"), 4L);
+    }
+
+    @Test
+    public void verifyOnlyNewerMigrationsAreAppliedTest() {
+        schemaVersion = 1;
+
+        int applied = new SchemaMigrator(ConnectionPool.getInstance()).migrate();
+
+        Assert.assertEquals(applied, 3);
+        Assert.assertEquals(database.countExecuted("CREATE INDEX"), 0L);
+        Assert.assertEquals(database.countExecuted("ALTER TABLE student MODIFY balance"), 1L);
+    }
+
+    @Test
+    public void verifyAppliedMigrationsAreSkippedTest() {
+        schemaVersion = 4;
+
+        int applied = new SchemaMigrator(ConnectionPool.getInstance()).migrate();
+
+        Assert.assertEquals(applied, 0);
+        Assert.assertEquals(database.countExecuted("CREATE INDEX"), 0L);
+        Assert.assertEquals(database.countExecuted("INSERT INTO schema_version"), 0L);
+    }
+}
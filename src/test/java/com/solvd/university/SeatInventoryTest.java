@@ -0,0 +1,357 @@
+package com.solvd.university;
+
+import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.solvd.university.dao.factory.DAOFactory;
+import com.solvd.university.dao.factory.DAOFactory.Backend;
+import com.solvd.university.dao.interfaces.BuildingDAO;
+import com.solvd.university.dao.interfaces.ClassroomDAO;
+import com.solvd.university.dao.interfaces.CourseDAO;
+import com.solvd.university.dao.interfaces.CourseSeatDAO;
+import com.solvd.university.dao.interfaces.DepartmentDAO;
+import com.solvd.university.dao.interfaces.ProgramDAO;
+import com.solvd.university.dao.interfaces.StudentDAO;
+import com.solvd.university.dao.interfaces.UniversityDAO;
+import com.solvd.university.dao.memory.InMemoryDatabase;
+import com.solvd.university.model.Building;
+import com.solvd.university.model.Classroom;
+import com.solvd.university.model.ComputerScienceDepartment;
+import com.solvd.university.model.Course;
+import com.solvd.university.model.Department;
+import com.solvd.university.model.Program;
+import com.solvd.university.model.Student;
+import com.solvd.university.model.University;
+import com.solvd.university.model.exception.AlreadyEnrolledException;
+import com.solvd.university.service.impl.EnrollmentServiceImpl;
+import com.solvd.university.service.impl.SeatInventoryServiceImpl;
+
+import static com.solvd.university.StubDatabase.row;
+
+public class SeatInventoryTest {
+
+    private static final Logger LOGGER = LogManager.getLogger(SeatInventoryTest.class);
+
+    private static final int THREADS = 32;
+
+    private final StubDatabase stub = StubDatabase.getInstance();
+
+    @BeforeMethod
+    public void setUpDatabase() throws SQLException {
+        stub.reset();
+        DAOFactory.invalidateCaches();
+        DAOFactory.useBackend(Backend.MEMORY);
+        InMemoryDatabase.getInstance().clear();
+        InMemoryDatabase.getInstance().seedReferenceData();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void restoreJdbcBackend() {
+        stub.setLatency(Duration.ZERO);
+        DAOFactory.useBackend(Backend.JDBC);
+    }
+
+    @Test
+    public void verifyConcurrentEnrollmentNeverOversubscribesTest() throws Exception {
+        List<Course<?, ?>> courses = List.of(openCourse("CS101", 40), openCourse("CS102", 25), openCourse("CS103", 10));
+        List<Student> students = savedStudents(2_000);
+        SeatInventoryServiceImpl seatInventoryService = new SeatInventoryServiceImpl();
+
+        AtomicInteger accepted = new AtomicInteger();
+        List<Runnable> requests = new ArrayList<>();
+        for (Student student : students) {
+            requests.add(() -> {
+                for (Course<?, ?> course : courses) {
+                    if (seatInventoryService.enrollInCourse(student, course)) {
+                        accepted.incrementAndGet();
+                    }
+                }
+            });
+        }
+        long elapsedNanos = hammer(requests);
+
+        int attempts = students.size() * courses.size();
+        LOGGER.info(
+            "{} concurrent enroll requests ({} accepted) in {} ms",
+            attempts,
+            accepted.get(),
+            TimeUnit.NANOSECONDS.toMillis(elapsedNanos)
+        );
+
+        CourseSeatDAO courseSeatDAO = DAOFactory.create(CourseSeatDAO.class);
+        Assert.assertEquals(accepted.get(), 40 + 25 + 10);
+        Assert.assertEquals(enrolledIn(students, courses.get(0)), 40L);
+        Assert.assertEquals(enrolledIn(students, courses.get(1)), 25L);
+        Assert.assertEquals(enrolledIn(students, courses.get(2)), 10L);
+        for (Course<?, ?> course : courses) {
+            Assert.assertEquals(seatInventoryService.getRemainingSeats(course), 0);
+            Assert.assertEquals(courseSeatDAO.openSeats(course.getCourseId()), 0);
+        }
+        int enrolledCourses = students.stream().mapToInt(Student::getEnrolledCoursesCount).sum();
+        Assert.assertEquals(enrolledCourses, accepted.get());
+    }
+
+    @Test
+    public void verifyReservationsHoldSeatsUntilConfirmedOrReleasedTest() throws InterruptedException {
+        Course<?, ?> course = openCourse("MATH201", 2);
+        List<Student> students = savedStudents(3);
+        Student ada = students.get(0);
+        Student grace = students.get(1);
+        Student alan = students.get(2);
+        SeatInventoryServiceImpl seatInventoryService = new SeatInventoryServiceImpl();
+
+        Assert.assertTrue(seatInventoryService.reserveSeat(ada, course));
+        Assert.assertFalse(ada.isEnrolledInCourse(course));
+        Assert.assertFalse(seatInventoryService.reserveSeat(ada, course));
+        Assert.assertEquals(seatInventoryService.getRemainingSeats(course), 1);
+
+        Assert.assertThrows(IllegalStateException.class, () ->
+            DAOFactory.getTransactionManager().execute(() -> {
+                Assert.assertTrue(seatInventoryService.reserveSeat(grace, course));
+                throw new IllegalStateException("simulated failure");
+            })
+        );
+        Assert.assertEquals(seatInventoryService.getRemainingSeats(course), 1);
+
+        Assert.assertTrue(seatInventoryService.reserveSeat(grace, course));
+        Assert.assertFalse(seatInventoryService.reserveSeat(alan, course));
+        Assert.assertTrue(seatInventoryService.confirmSeat(ada, course));
+        Assert.assertTrue(ada.isEnrolledInCourse(course));
+
+        Thread.sleep(5);
+        Assert.assertEquals(seatInventoryService.releaseExpiredReservations(Duration.ZERO), 1);
+        Assert.assertFalse(seatInventoryService.confirmSeat(grace, course));
+        Assert.assertTrue(seatInventoryService.enrollInCourse(alan, course));
+
+        Assert.assertTrue(seatInventoryService.releaseSeat(ada, course));
+        Assert.assertFalse(ada.isEnrolledInCourse(course));
+        Assert.assertEquals(seatInventoryService.getRemainingSeats(course), 1);
+        Assert.assertEquals(DAOFactory.create(CourseSeatDAO.class).openSeats(course.getCourseId()), 1);
+        Assert.assertTrue(alan.isEnrolledInCourse(course));
+        Assert.assertFalse(seatInventoryService.confirmSeat(grace, course));
+    }
+
+    @Test
+    public void verifyFullCourseIsReadAgainOnceSeatsFreeUpElsewhereTest() throws InterruptedException {
+        Course<?, ?> course = openCourse("HIST110", 1);
+        List<Student> students = savedStudents(2);
+        SeatInventoryServiceImpl seatInventoryService = new SeatInventoryServiceImpl();
+
+        Assert.assertTrue(seatInventoryService.enrollInCourse(students.get(0), course));
+        CourseSeatDAO otherInstance = DAOFactory.create(CourseSeatDAO.class);
+        Assert.assertTrue(otherInstance.release(course.getCourseId(), students.get(0).getStudentId()));
+        Assert.assertFalse(seatInventoryService.enrollInCourse(students.get(1), course));
+
+        Thread.sleep(1_100);
+        Assert.assertTrue(seatInventoryService.enrollInCourse(students.get(1), course));
+        Assert.assertEquals(seatInventoryService.getRemainingSeats(course), 0);
+    }
+
+    @Test
+    public void verifyFullCourseTurnsRequestsAwayWithoutRoundTripsTest() throws Exception {
+        DAOFactory.useBackend(Backend.JDBC);
+        stub.setLatency(Duration.ofMillis(1));
+        AtomicInteger taken = new AtomicInteger();
+        stub
+            .onQuery("AS remaining FROM course_seat", params -> List.of(row("remaining", 50)))
+            .onUpdate("UPDATE course_seat SET taken = taken + 1", params -> taken.incrementAndGet() <= 50 ? 1 : 0);
+        SeatInventoryServiceImpl seatInventoryService = new SeatInventoryServiceImpl();
+        Course<?, ?> course = new Course<>();
+        course.setCourseId(7);
+        // Concurrent first requests may each load the count; warm it so the assertions below count one load
+        Assert.assertEquals(seatInventoryService.getRemainingSeats(course), 50);
+
+        AtomicInteger accepted = new AtomicInteger();
+        List<Runnable> requests = new ArrayList<>();
+        for (int i = 1; i <= 2_000; i++) {
+            Student student = new Student("Student", "No" + i, 20, "student" + i + "@example.com");
+            student.setStudentId(i);
+            requests.add(() -> {
+                if (seatInventoryService.enrollInCourse(student, course)) {
+                    accepted.incrementAndGet();
+                }
+            });
+        }
+        long elapsedNanos = hammer(requests);
+        LOGGER.info(
+            "{} enroll requests for a 50 seat course in {} ms using {} round trips",
+            requests.size(),
+            TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+            stub.getRoundTrips()
+        );
+
+        Assert.assertEquals(accepted.get(), 50);
+        Assert.assertEquals(stub.countExecuted("INSERT INTO course_seat"), 1L);
+        Assert.assertEquals(stub.countExecuted("UPDATE course_seat SET taken = taken + 1"), 50L);
+        Assert.assertEquals(stub.countExecuted("INSERT INTO course_registration"), 50L);
+        Assert.assertEquals(stub.countExecuted("UPDATE course_registration SET status"), 50L);
+        Assert.assertEquals(seatInventoryService.getRemainingSeats(course), 0);
+    }
+
+    @Test
+    public void verifyConcurrentProgramEnrollmentsShareCourseSeatsTest() throws Exception {
+        University university = new University("Solvd University");
+        DAOFactory.create(UniversityDAO.class).save(university);
+        Department<?> department = new ComputerScienceDepartment();
+        department.setUniversityId(university.getUniversityId());
+        DAOFactory.create(DepartmentDAO.class).save(department);
+        Program program = new Program("Software Engineering", 4, 12000.0, department);
+        DAOFactory.create(ProgramDAO.class).save(program);
+        List<Course<?, ?>> courses = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            courses.add(openCourse("SE" + i, 15, department.getDepartmentId()));
+        }
+        List<Student> students = savedStudents(60);
+        EnrollmentServiceImpl enrollmentService = new EnrollmentServiceImpl();
+
+        List<Runnable> requests = new ArrayList<>();
+        for (Student student : students) {
+            requests.add(() -> {
+                try {
+                    enrollmentService.enrollStudent(student, program);
+                } catch (AlreadyEnrolledException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+        hammer(requests);
+
+        CourseSeatDAO courseSeatDAO = DAOFactory.create(CourseSeatDAO.class);
+        int enrolledCourses = 0;
+        for (Course<?, ?> course : courses) {
+            long enrolled = enrolledIn(students, course);
+            Assert.assertEquals(enrolled, 15L - courseSeatDAO.openSeats(course.getCourseId()));
+            enrolledCourses += (int) enrolled;
+        }
+        Assert.assertTrue(enrolledCourses > 0);
+        for (Student student : students) {
+            Assert.assertTrue(student.isEnrolled());
+            Assert.assertEquals(student.getGrades().size(), student.getEnrolledCoursesCount());
+        }
+    }
+
+    @Test
+    public void verifyUnconfirmedSeatIsReleasedTest() {
+        DAOFactory.useBackend(Backend.JDBC);
+        stub
+            .onQuery("AS remaining FROM course_seat", params -> List.of(row("remaining", 5)))
+            .onUpdate("UPDATE course_registration SET status", params -> 0);
+        SeatInventoryServiceImpl seatInventoryService = new SeatInventoryServiceImpl();
+        Course<?, ?> course = new Course<>();
+        course.setCourseId(7);
+        Student student = new Student("Ada", "Lovelace", 20, "ada@example.com");
+        student.setStudentId(11);
+
+        Assert.assertFalse(seatInventoryService.enrollInCourse(student, course));
+
+        Assert.assertEquals(stub.countExecuted("DELETE FROM course_registration"), 1L);
+        Assert.assertEquals(stub.countExecuted("UPDATE course_seat SET taken = taken - 1"), 1L);
+        Assert.assertEquals(seatInventoryService.getRemainingSeats(course), 5);
+        Assert.assertFalse(student.isEnrolledInCourse(course));
+    }
+
+    @Test
+    public void verifySeatCountsAreDroppedWithTheBackendTest() {
+        Course<?, ?> course = openCourse("PHYS100", 2);
+        Assert.assertEquals(new SeatInventoryServiceImpl().getRemainingSeats(course), 2);
+
+        DAOFactory.useBackend(Backend.JDBC);
+        stub.onQuery("AS remaining FROM course_seat", params -> List.of(row("remaining", 30)));
+
+        Assert.assertEquals(new SeatInventoryServiceImpl().getRemainingSeats(course), 30);
+    }
+
+    @Test
+    public void verifyReservationRetriesAfterDeadlockTest() {
+        DAOFactory.useBackend(Backend.JDBC);
+        AtomicInteger attempts = new AtomicInteger();
+        stub.onUpdate("UPDATE course_seat SET taken = taken + 1", params -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw sneaky(new SQLTransactionRollbackException("Deadlock found", "40001", 1213));
+            }
+            return 1;
+        });
+
+        Assert.assertTrue(DAOFactory.create(CourseSeatDAO.class).reserve(7, 3));
+
+        Assert.assertEquals(attempts.get(), 2);
+        Assert.assertEquals(stub.getRollbacks(), 1);
+        Assert.assertEquals(stub.getCommits(), 1);
+        Assert.assertEquals(stub.countExecuted("INSERT INTO course_registration"), 1L);
+    }
+
+    private static Course<?, ?> openCourse(String code, int capacity) {
+        return openCourse(code, capacity, null);
+    }
+
+    private static Course<?, ?> openCourse(String code, int capacity, Integer departmentId) {
+        Building building = new Building(code + " Hall");
+        DAOFactory.create(BuildingDAO.class).save(building);
+        Classroom classroom = new Classroom("101", building, capacity, "Lecture");
+        DAOFactory.create(ClassroomDAO.class).save(classroom);
+
+        Course<?, ?> course = new Course<>();
+        course.setCourseCode(code);
+        course.setCourseName("Course " + code);
+        course.setCreditHours(3);
+        course.setClassroom(classroom);
+        course.setDepartmentId(departmentId);
+        DAOFactory.create(CourseDAO.class).save(course);
+        return course;
+    }
+
+    private static List<Student> savedStudents(int count) {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            students.add(new Student("Student", "No" + i, 20, "student" + i + "@example.com"));
+        }
+        DAOFactory.create(StudentDAO.class).saveAll(students);
+        Assert.assertEquals(new HashSet<>(students.stream().map(Student::getStudentId).toList()).size(), count);
+        return students;
+    }
+
+    private static long enrolledIn(List<Student> students, Course<?, ?> course) {
+        return students
+            .stream()
+            .filter(student ->
+                student.getEnrolledCourses().stream().anyMatch(c -> c.getCourseId().equals(course.getCourseId()))
+            )
+            .count();
+    }
+
+    private static long hammer(List<Runnable> requests) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long started = System.nanoTime();
+        try {
+            CompletableFuture<?>[] running = requests
+                .stream()
+                .map(request -> CompletableFuture.runAsync(request, executor))
+                .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(running).get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        return System.nanoTime() - started;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> RuntimeException sneaky(Throwable failure) throws E {
+        throw (E) failure;
+    }
+}
@@ -0,0 +1,98 @@
+package com.solvd.university;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.solvd.university.dao.impl.MyBatisEnrollmentStatusDAOImpl;
+import com.solvd.university.model.EnrollmentStatus;
+import com.solvd.university.util.ConnectionPool;
+import com.solvd.university.util.MyBatisSessionHolder;
+import com.solvd.university.util.TransactionManager;
+
+import static com.solvd.university.StubDatabase.row;
+
+public class SharedDataSourceTest {
+
+    private final StubDatabase database = StubDatabase.getInstance();
+    private final ConnectionPool connectionPool = ConnectionPool.getInstance();
+
+    @BeforeMethod
+    public void setUpDatabase() {
+        database.reset();
+        MyBatisSessionHolder.clearCaches();
+        database.onQuery("FROM enrollment_status", params -> List.of(
+            row("enrollment_status_id", 4, "display_name", "Enrolled", "description", "Actively enrolled")
+        ));
+    }
+
+    @Test
+    public void verifyClosingDataSourceConnectionReleasesItTest() throws SQLException {
+        DataSource dataSource = connectionPool.asDataSource();
+        int usedBefore = connectionPool.getUsedConnectionsCount();
+
+        Connection connection = dataSource.getConnection();
+        Assert.assertEquals(connectionPool.getUsedConnectionsCount(), usedBefore + 1);
+
+        connection.close();
+        connection.close();
+        Assert.assertTrue(connection.isClosed());
+        Assert.assertEquals(connectionPool.getUsedConnectionsCount(), usedBefore);
+        Assert.assertThrows(SQLException.class, connection::createStatement);
+        Assert.assertSame(dataSource.unwrap(ConnectionPool.class), connectionPool);
+    }
+
+    @Test
+    public void verifyMyBatisUsesSharedPoolTest() {
+        DataSource configured = MyBatisSessionHolder.getSqlSessionFactory()
+            .getConfiguration()
+            .getEnvironment()
+            .getDataSource();
+        Assert.assertSame(configured, connectionPool.asDataSource());
+
+        long borrowsBefore = connectionPool.getBorrowLatency().getCount();
+        int usedBefore = connectionPool.getUsedConnectionsCount();
+        Optional<EnrollmentStatus> status = new MyBatisEnrollmentStatusDAOImpl().findById(4);
+
+        Assert.assertEquals(status.map(EnrollmentStatus::getDisplayName), Optional.of("Enrolled"));
+        Assert.assertEquals(connectionPool.getBorrowLatency().getCount(), borrowsBefore + 1);
+        Assert.assertEquals(connectionPool.getUsedConnectionsCount(), usedBefore);
+    }
+
+    @Test
+    public void verifyMyBatisStatementsAreCachedTest() {
+        MyBatisEnrollmentStatusDAOImpl dao = new MyBatisEnrollmentStatusDAOImpl();
+        dao.findAll();
+        MyBatisSessionHolder.clearCaches();
+        long hitsBefore = connectionPool.getStatementCacheHits();
+
+        dao.findAll();
+
+        Assert.assertEquals(connectionPool.getStatementCacheHits(), hitsBefore + 1);
+    }
+
+    @Test
+    public void verifyMyBatisWriteJoinsJdbcTransactionTest() {
+        database.onUpdate("UPDATE enrollment_status", params -> {
+            throw new IllegalStateException("simulated failure");
+        });
+
+        Assert.assertThrows(RuntimeException.class, () ->
+            TransactionManager.getInstance().execute(() -> {
+                new MyBatisEnrollmentStatusDAOImpl().save(new EnrollmentStatus("Deferred", "Start postponed"));
+                new MyBatisEnrollmentStatusDAOImpl().update(EnrollmentStatus.ENROLLED);
+            })
+        );
+
+        Assert.assertEquals(database.getCommits(), 0, "MyBatis commit should defer to the enclosing transaction");
+        Assert.assertEquals(database.getRollbacks(), 1);
+        Assert.assertEquals(database.countExecuted("INSERT INTO enrollment_status"), 1L);
+    }
+}
@@ -0,0 +1,169 @@
+package com.solvd.university;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.solvd.university.util.ConnectionPool;
+
+public class StatementCacheTest {
+
+    private static final String FIND_COURSE = "SELECT course_id FROM course WHERE course_id = ?";
+    private static final String FIND_PROGRAM = "SELECT program_id FROM program WHERE program_id = ?";
+    private static final String FIND_CLASSROOM = "SELECT classroom_id FROM classroom WHERE classroom_id = ?";
+
+    private final StubDatabase database = StubDatabase.getInstance();
+    private final List<List<Object>> courseParams = new ArrayList<>();
+    private final List<ConnectionPool> pools = new ArrayList<>();
+
+    @BeforeMethod
+    public void setUpDatabase() {
+        database.reset();
+        courseParams.clear();
+        database.onQuery("FROM course", params -> {
+            courseParams.add(params);
+            return List.of();
+        });
+    }
+
+    @AfterMethod
+    public void shutdownPools() {
+        pools.forEach(ConnectionPool::shutdown);
+        pools.clear();
+    }
+
+    @Test
+    public void verifyRepeatedStatementIsPreparedOnceTest() throws SQLException {
+        ConnectionPool pool = newPool(8);
+
+        for (int i = 0; i < 5; i++) {
+            Connection connection = pool.getConnection();
+            try (PreparedStatement stmt = connection.prepareStatement(FIND_COURSE)) {
+                stmt.setInt(1, i);
+                stmt.executeQuery().close();
+            } finally {
+                pool.releaseConnection(connection);
+            }
+        }
+
+        Assert.assertEquals(database.getPreparedStatements(), 1);
+        Assert.assertEquals(pool.getStatementCacheHits(), 4L);
+        Assert.assertEquals(pool.getStatementCacheMisses(), 1L);
+        Assert.assertEquals(pool.getStatementCacheHitRate(), 0.8, 0.0001);
+        Assert.assertTrue(pool.getPoolStats().contains("hitRate=80.0%"), pool.getPoolStats());
+    }
+
+    @Test
+    public void verifyGeneratedKeyModeIsPartOfTheKeyTest() throws SQLException {
+        ConnectionPool pool = newPool(8);
+        Connection connection = pool.getConnection();
+
+        connection.prepareStatement(FIND_COURSE).close();
+        connection.prepareStatement(FIND_COURSE, Statement.RETURN_GENERATED_KEYS).close();
+        connection.prepareStatement(FIND_COURSE, Statement.RETURN_GENERATED_KEYS).close();
+        pool.releaseConnection(connection);
+
+        Assert.assertEquals(database.getPreparedStatements(), 2);
+        Assert.assertEquals(pool.getStatementCacheHits(), 1L);
+    }
+
+    @Test
+    public void verifyLeastRecentlyUsedStatementIsEvictedTest() throws SQLException {
+        ConnectionPool pool = newPool(2);
+        Connection connection = pool.getConnection();
+
+        connection.prepareStatement(FIND_COURSE).close();
+        connection.prepareStatement(FIND_PROGRAM).close();
+        connection.prepareStatement(FIND_COURSE).close();
+        connection.prepareStatement(FIND_CLASSROOM).close();
+        Assert.assertEquals(database.getPreparedStatements(), 3);
+
+        connection.prepareStatement(FIND_COURSE).close();
+        Assert.assertEquals(database.getPreparedStatements(), 3, "Recently used statement should survive eviction");
+        connection.prepareStatement(FIND_PROGRAM).close();
+        Assert.assertEquals(database.getPreparedStatements(), 4, "Least recently used statement should be evicted");
+        pool.releaseConnection(connection);
+    }
+
+    @Test
+    public void verifyOpenStatementIsNotHandedOutTwiceTest() throws SQLException {
+        ConnectionPool pool = newPool(8);
+        Connection connection = pool.getConnection();
+
+        PreparedStatement outer = connection.prepareStatement(FIND_COURSE);
+        PreparedStatement inner = connection.prepareStatement(FIND_COURSE);
+        Assert.assertNotSame(inner, outer);
+        Assert.assertEquals(database.getPreparedStatements(), 2);
+
+        inner.close();
+        outer.close();
+        connection.prepareStatement(FIND_COURSE).close();
+        Assert.assertEquals(database.getPreparedStatements(), 2);
+        pool.releaseConnection(connection);
+    }
+
+    @Test
+    public void verifyReleaseReclaimsUnclosedStatementsTest() throws SQLException {
+        ConnectionPool pool = newPool(8);
+        Connection connection = pool.getConnection();
+        PreparedStatement leaked = connection.prepareStatement(FIND_COURSE);
+        pool.releaseConnection(connection);
+
+        Assert.assertTrue(leaked.isClosed());
+        Assert.assertThrows(SQLException.class, leaked::executeQuery);
+
+        Connection again = pool.getConnection();
+        again.prepareStatement(FIND_COURSE).close();
+        pool.releaseConnection(again);
+        Assert.assertEquals(database.getPreparedStatements(), 1);
+    }
+
+    @Test
+    public void verifyParametersAreClearedOnReturnTest() throws SQLException {
+        ConnectionPool pool = newPool(8);
+        Connection connection = pool.getConnection();
+
+        try (PreparedStatement stmt = connection.prepareStatement(FIND_COURSE)) {
+            stmt.setInt(1, 42);
+            stmt.executeQuery().close();
+        }
+        try (PreparedStatement stmt = connection.prepareStatement(FIND_COURSE); ResultSet rs = stmt.executeQuery()) {
+            Assert.assertFalse(rs.next());
+            Assert.assertSame(stmt.getConnection(), connection);
+        }
+        pool.releaseConnection(connection);
+
+        Assert.assertEquals(courseParams, List.of(List.of(42), List.of()));
+    }
+
+    @Test
+    public void verifyZeroSizeDisablesCacheTest() throws SQLException {
+        ConnectionPool pool = newPool(0);
+        Connection connection = pool.getConnection();
+
+        connection.prepareStatement(FIND_COURSE).close();
+        connection.prepareStatement(FIND_COURSE).close();
+        pool.releaseConnection(connection);
+
+        Assert.assertEquals(database.getPreparedStatements(), 2);
+        Assert.assertEquals(pool.getStatementCacheHitRate(), 0.0);
+    }
+
+    private ConnectionPool newPool(int statementCacheSize) {
+        Properties properties = ConnectionPoolTest.properties(1, 1, 500);
+        properties.setProperty("db.pool.statement.cache.size", String.valueOf(statementCacheSize));
+        ConnectionPool pool = new ConnectionPool(properties);
+        pools.add(pool);
+        return pool;
+    }
+}
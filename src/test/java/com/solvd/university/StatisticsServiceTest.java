@@ -0,0 +1,156 @@
+package com.solvd.university;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.solvd.university.dao.factory.DAOFactory;
+import com.solvd.university.dao.interfaces.CourseDAO;
+import com.solvd.university.model.Course;
+import com.solvd.university.model.Department;
+import com.solvd.university.model.UniversityStatistics;
+import com.solvd.university.service.impl.StatisticsServiceImpl;
+
+import static com.solvd.university.StubDatabase.row;
+
+public class StatisticsServiceTest {
+
+    private static final int PROFESSOR_COUNT = 4;
+
+    private final StubDatabase database = StubDatabase.getInstance();
+    private volatile int courseCount;
+
+    @BeforeMethod
+    public void setUpDatabase() {
+        database.reset();
+        DAOFactory.invalidateCaches();
+        database
+            .onQuery(
+                "FROM department",
+                params -> List.of(
+                    row("department_id", 1, "name", "Computer Science", "code", "CS", "university_id", 1),
+                    row("department_id", 2, "name", "Mathematics", "code", "MATH", "university_id", 1),
+                    row("department_id", 3, "name", "Arts", "code", "ART", "university_id", 1)
+                )
+            )
+            .onQuery("FROM professor prof", params -> professorRows())
+            .onQuery("FROM course c", params -> courseRows());
+    }
+
+    @Test
+    public void verifyStatisticsAreComputedFromOneSnapshotTest() {
+        courseCount = 10;
+
+        UniversityStatistics statistics = new StatisticsServiceImpl().getStatistics();
+
+        Assert.assertEquals(statistics.departmentCount(), 3);
+        Assert.assertEquals(statistics.professorCount(), PROFESSOR_COUNT);
+        Assert.assertEquals(statistics.courseCount(), 10);
+        Assert.assertEquals(statistics.coursesByDepartment().get(1).size(), 5);
+        Assert.assertEquals(statistics.coursesByDepartment().get(2).size(), 5);
+        Assert.assertEquals(statistics.courseCountFor(statistics.departments().get(2)), 0);
+        Assert.assertEquals(statistics.coursesByProfessor().size(), PROFESSOR_COUNT);
+        Assert.assertEquals(database.countExecuted("FROM course c"), 1L, "Courses should be loaded once");
+    }
+
+    @Test
+    public void verifyQueryCountDoesNotGrowWithCatalogTest() {
+        courseCount = 5;
+        new StatisticsServiceImpl().getStatistics();
+        int smallCatalog = database.getRoundTrips();
+
+        DAOFactory.invalidateCaches();
+        database.resetCounters();
+        courseCount = 500;
+        new StatisticsServiceImpl().getStatistics();
+
+        Assert.assertEquals(database.getRoundTrips(), smallCatalog);
+    }
+
+    @Test
+    public void verifyCachedStatisticsSkipDatabaseTest() {
+        courseCount = 10;
+        StatisticsServiceImpl statisticsService = new StatisticsServiceImpl();
+        UniversityStatistics first = statisticsService.getStatistics();
+
+        database.resetCounters();
+        UniversityStatistics second = statisticsService.getStatistics();
+
+        Assert.assertSame(second, first);
+        Assert.assertEquals(database.getRoundTrips(), 0);
+    }
+
+    @Test
+    public void verifyCourseMutationInvalidatesStatisticsTest() {
+        courseCount = 10;
+        StatisticsServiceImpl statisticsService = new StatisticsServiceImpl();
+        statisticsService.getStatistics();
+
+        Course<?, ?> course = new Course<>();
+        course.setCourseCode("C1");
+        course.setCourseName("Renamed");
+        course.setCreditHours(4);
+        DAOFactory.create(CourseDAO.class).update(course);
+        courseCount = 11;
+
+        Assert.assertEquals(statisticsService.getStatistics().courseCount(), 11);
+        Assert.assertEquals(database.countExecuted("FROM course c"), 2L);
+    }
+
+    @Test
+    public void verifyDepartmentListIsUnmodifiableTest() {
+        courseCount = 2;
+        UniversityStatistics statistics = new StatisticsServiceImpl().getStatistics();
+        List<Department<?>> departments = statistics.departments();
+
+        Assert.assertThrows(UnsupportedOperationException.class, () -> departments.remove(0));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> statistics.coursesByDepartment().get(1).clear());
+    }
+
+    private List<Map<String, Object>> professorRows() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int id = 1; id <= PROFESSOR_COUNT; id++) {
+            rows.add(
+                row(
+                    "professor_id", id,
+                    "department_id", id % 2 + 1,
+                    "person_id", 100 + id,
+                    "first_name", "Professor",
+                    "last_name", String.valueOf(id),
+                    "email", "professor" + id + "@example.com",
+                    "staff_id", 200 + id,
+                    "title", "Dr."
+                )
+            );
+        }
+        return rows;
+    }
+
+    private List<Map<String, Object>> courseRows() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int id = 1; id <= courseCount; id++) {
+            rows.add(
+                row(
+                    "course_id", id,
+                    "course_code", "C" + id,
+                    "course_name", "Course " + id,
+                    "credit_hours", 3,
+                    "professor_id", id % PROFESSOR_COUNT + 1,
+                    "department_id", id % 2 + 1,
+                    "classroom_id", null,
+                    "university_id", 1,
+                    "course_difficulty_id", null,
+                    "start_at", null,
+                    "end_at", null,
+                    "difficulty_name", null,
+                    "difficulty_level", null
+                )
+            );
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,596 @@
+package com.solvd.university;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+public final class StubDatabase {
+
+    private static final StubDatabase INSTANCE = new StubDatabase();
+
+    private final List<Route<Function<List<Object>, List<Map<String, Object>>>>> queryRoutes =
+        new CopyOnWriteArrayList<>();
+    private final List<Route<ToIntFunction<List<Object>>>> updateRoutes = new CopyOnWriteArrayList<>();
+    private final Queue<String> executedSql = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger roundTrips = new AtomicInteger();
+    private final AtomicInteger commits = new AtomicInteger();
+    private final AtomicInteger rollbacks = new AtomicInteger();
+    private final AtomicInteger openedConnections = new AtomicInteger();
+    private final AtomicInteger preparedStatements = new AtomicInteger();
+    private final AtomicInteger keySequence = new AtomicInteger(1);
+    private volatile long latencyNanos;
+    private volatile long validationLatencyNanos;
+
+    static {
+        StubDriver.register();
+    }
+
+    private StubDatabase() {}
+
+    public static StubDatabase getInstance() {
+        return INSTANCE;
+    }
+
+    public void reset() {
+        queryRoutes.clear();
+        updateRoutes.clear();
+        latencyNanos = 0;
+        validationLatencyNanos = 0;
+        resetCounters();
+    }
+
+    public void resetCounters() {
+        executedSql.clear();
+        roundTrips.set(0);
+        commits.set(0);
+        rollbacks.set(0);
+        preparedStatements.set(0);
+    }
+
+    public StubDatabase onQuery(String sqlFragment, Function<List<Object>, List<Map<String, Object>>> handler) {
+        queryRoutes.add(0, new Route<>(normalize(sqlFragment), handler));
+        return this;
+    }
+
+    public StubDatabase onUpdate(String sqlFragment, ToIntFunction<List<Object>> handler) {
+        updateRoutes.add(0, new Route<>(normalize(sqlFragment), handler));
+        return this;
+    }
+
+    public void setLatency(Duration latency) {
+        this.latencyNanos = latency.toNanos();
+    }
+
+    public void setValidationLatency(Duration latency) {
+        this.validationLatencyNanos = latency.toNanos();
+    }
+
+    public int getRoundTrips() {
+        return roundTrips.get();
+    }
+
+    public int getCommits() {
+        return commits.get();
+    }
+
+    public int getRollbacks() {
+        return rollbacks.get();
+    }
+
+    public int getPreparedStatements() {
+        return preparedStatements.get();
+    }
+
+    public int getOpenedConnections() {
+        return openedConnections.get();
+    }
+
+    public List<String> getExecutedSql() {
+        return new ArrayList<>(executedSql);
+    }
+
+    public long countExecuted(String sqlFragment) {
+        String fragment = normalize(sqlFragment);
+        return executedSql.stream().filter(sql -> sql.contains(fragment)).count();
+    }
+
+    public static Map<String, Object> row(Object... columnsAndValues) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 0; i < columnsAndValues.length; i += 2) {
+            row.put((String) columnsAndValues[i], columnsAndValues[i + 1]);
+        }
+        return row;
+    }
+
+    Connection openConnection() {
+        openedConnections.incrementAndGet();
+        return proxy(Connection.class, new ConnectionHandler());
+    }
+
+    private static String normalize(String sql) {
+        return sql.replaceAll("\\s+", " ").trim();
+    }
+
+    private static boolean isQuery(String sql) {
+        String head = sql.toUpperCase(Locale.ROOT);
+        return head.startsWith("SELECT") || head.startsWith("EXPLAIN") || head.startsWith("SHOW");
+    }
+
+    private void roundTrip(String sql) {
+        executedSql.add(sql);
+        roundTrips.incrementAndGet();
+        if (latencyNanos > 0) {
+            LockSupport.parkNanos(latencyNanos);
+        }
+    }
+
+    private List<Map<String, Object>> runQuery(String sql, List<Object> params) {
+        roundTrip(sql);
+        for (Route<Function<List<Object>, List<Map<String, Object>>>> route : queryRoutes) {
+            if (sql.contains(route.fragment())) {
+                return route.handler().apply(params);
+            }
+        }
+        return List.of();
+    }
+
+    private int runUpdate(String sql, List<Object> params) {
+        for (Route<ToIntFunction<List<Object>>> route : updateRoutes) {
+            if (sql.contains(route.fragment())) {
+                return route.handler().applyAsInt(params);
+            }
+        }
+        return 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(StubDatabase.class.getClassLoader(), new Class<?>[] { type }, handler);
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == double.class) {
+            return 0d;
+        }
+        if (type == float.class) {
+            return 0f;
+        }
+        return null;
+    }
+
+    private static Object invokeObjectMethod(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> "Stub" + method.getDeclaringClass().getSimpleName() + "@" +
+                Integer.toHexString(System.identityHashCode(proxy));
+            default -> throw new UnsupportedOperationException(method.getName());
+        };
+    }
+
+    private record Route<H>(String fragment, H handler) {}
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private volatile boolean closed;
+        private boolean autoCommit = true;
+        private boolean readOnly;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            if (method.getDeclaringClass() == Object.class) {
+                return invokeObjectMethod(proxy, method, args);
+            }
+            Connection connection = (Connection) proxy;
+            switch (method.getName()) {
+                case "prepareStatement":
+                    preparedStatements.incrementAndGet();
+                    boolean generatedKeys = args.length == 2 && (args[1] instanceof String[] ||
+                        args[1] instanceof Integer mode && mode == Statement.RETURN_GENERATED_KEYS);
+                    return StubDatabase.proxy(
+                        PreparedStatement.class,
+                        new StatementHandler(connection, normalize((String) args[0]), generatedKeys)
+                    );
+                case "createStatement":
+                    return StubDatabase.proxy(PreparedStatement.class, new StatementHandler(connection, null, false));
+                case "isValid":
+                    if (validationLatencyNanos > 0) {
+                        LockSupport.parkNanos(validationLatencyNanos);
+                    }
+                    return !closed;
+                case "isClosed":
+                    return closed;
+                case "close":
+                    closed = true;
+                    return null;
+                case "getAutoCommit":
+                    return autoCommit;
+                case "setAutoCommit":
+                    autoCommit = (Boolean) args[0];
+                    return null;
+                case "isReadOnly":
+                    return readOnly;
+                case "setReadOnly":
+                    readOnly = (Boolean) args[0];
+                    return null;
+                case "commit":
+                    commits.incrementAndGet();
+                    return null;
+                case "rollback":
+                    rollbacks.incrementAndGet();
+                    return null;
+                case "getMetaData":
+                    return StubDatabase.proxy(DatabaseMetaData.class, (p, m, a) ->
+                        m.getDeclaringClass() == Object.class ? invokeObjectMethod(p, m, a) : defaultValue(m.getReturnType())
+                    );
+                case "getTransactionIsolation":
+                    return Connection.TRANSACTION_REPEATABLE_READ;
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Connection connection;
+        private final String preparedSql;
+        private final boolean returnGeneratedKeys;
+        private final TreeMap<Integer, Object> parameters = new TreeMap<>();
+        private final List<List<Object>> batch = new ArrayList<>();
+        private ResultSet currentResult;
+        private int updateCount = -1;
+        private List<Map<String, Object>> generatedKeys = List.of();
+
+        StatementHandler(Connection connection, String preparedSql, boolean returnGeneratedKeys) {
+            this.connection = connection;
+            this.preparedSql = preparedSql;
+            this.returnGeneratedKeys = returnGeneratedKeys;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws SQLException {
+            if (method.getDeclaringClass() == Object.class) {
+                return invokeObjectMethod(proxy, method, args);
+            }
+            String name = method.getName();
+            if (name.equals("executeUpdate") || name.equals("executeLargeUpdate") || name.equals("executeBatch")) {
+                checkWritable();
+            }
+            String sql = args != null && args.length > 0 && args[0] instanceof String text
+                ? normalize(text)
+                : preparedSql;
+            boolean keys = returnGeneratedKeys ||
+                (args != null && args.length == 2 && args[1] instanceof Integer mode &&
+                    mode == Statement.RETURN_GENERATED_KEYS);
+
+            switch (name) {
+                case "executeQuery":
+                    currentResult = resultSet((Statement) proxy, runQuery(sql, currentParameters()));
+                    return currentResult;
+                case "executeUpdate":
+                case "executeLargeUpdate":
+                    roundTrip(sql);
+                    int affected = runUpdate(sql, currentParameters());
+                    generateKeys(keys, affected);
+                    return name.equals("executeLargeUpdate") ? (Object) (long) affected : affected;
+                case "execute":
+                    if (isQuery(sql)) {
+                        currentResult = resultSet((Statement) proxy, runQuery(sql, currentParameters()));
+                        updateCount = -1;
+                        return true;
+                    }
+                    checkWritable();
+                    roundTrip(sql);
+                    updateCount = runUpdate(sql, currentParameters());
+                    generateKeys(keys, updateCount);
+                    currentResult = null;
+                    return false;
+                case "addBatch":
+                    batch.add(currentParameters());
+                    return null;
+                case "clearBatch":
+                    batch.clear();
+                    return null;
+                case "executeBatch":
+                    roundTrip(preparedSql);
+                    int[] counts = new int[batch.size()];
+                    int total = 0;
+                    for (int i = 0; i < batch.size(); i++) {
+                        counts[i] = runUpdate(preparedSql, batch.get(i));
+                        total += counts[i];
+                    }
+                    batch.clear();
+                    generateKeys(keys, total);
+                    return counts;
+                case "getGeneratedKeys":
+                    return resultSet((Statement) proxy, generatedKeys);
+                case "getResultSet":
+                    return currentResult;
+                case "getUpdateCount":
+                    return updateCount;
+                case "getMoreResults":
+                    currentResult = null;
+                    updateCount = -1;
+                    return false;
+                case "getConnection":
+                    return connection;
+                case "clearParameters":
+                    parameters.clear();
+                    return null;
+                case "setNull":
+                    parameters.put((Integer) args[0], null);
+                    return null;
+                default:
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                        parameters.put(index, args[1]);
+                        return null;
+                    }
+                    return defaultValue(method.getReturnType());
+            }
+        }
+
+        private void checkWritable() throws SQLException {
+            if (connection.isReadOnly()) {
+                throw new SQLException("Connection is read-only. Queries leading to data modification are not allowed");
+            }
+        }
+
+        private List<Object> currentParameters() {
+            return Collections.unmodifiableList(new ArrayList<>(parameters.values()));
+        }
+
+        private void generateKeys(boolean keys, int affected) {
+            if (!keys) {
+                generatedKeys = List.of();
+                return;
+            }
+            List<Map<String, Object>> rows = new ArrayList<>();
+            for (int i = 0; i < affected; i++) {
+                rows.add(row("GENERATED_KEY", keySequence.getAndIncrement()));
+            }
+            generatedKeys = rows;
+        }
+    }
+
+    private static ResultSet resultSet(Statement statement, List<Map<String, Object>> rows) {
+        return proxy(ResultSet.class, new ResultSetHandler(statement, rows));
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+
+        private final Statement statement;
+        private final List<Map<String, Object>> rows;
+        private final List<String> columns;
+        private final List<Object[]> values;
+        private int cursor = -1;
+        private boolean lastWasNull;
+
+        ResultSetHandler(Statement statement, List<Map<String, Object>> rows) {
+            this.statement = statement;
+            this.rows = rows;
+            this.columns = rows.isEmpty() ? List.of() : new ArrayList<>(rows.get(0).keySet());
+            this.values = new ArrayList<>(rows.size());
+            for (Map<String, Object> row : rows) {
+                Object[] rowValues = new Object[columns.size()];
+                for (int i = 0; i < rowValues.length; i++) {
+                    rowValues[i] = row.get(columns.get(i));
+                }
+                values.add(rowValues);
+            }
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws SQLException {
+            if (method.getDeclaringClass() == Object.class) {
+                return invokeObjectMethod(proxy, method, args);
+            }
+            String name = method.getName();
+            switch (name) {
+                case "next":
+                    cursor++;
+                    return cursor < rows.size();
+                case "close":
+                    return null;
+                case "isClosed":
+                    return false;
+                case "wasNull":
+                    return lastWasNull;
+                case "getStatement":
+                    return statement;
+                case "getType":
+                    return ResultSet.TYPE_FORWARD_ONLY;
+                case "findColumn":
+                    return columnIndex((String) args[0]);
+                case "getMetaData":
+                    return proxy(ResultSetMetaData.class, this::metaData);
+                default:
+                    break;
+            }
+            if (name.startsWith("get") && args != null && args.length >= 1) {
+                Object value = value(args[0]);
+                lastWasNull = value == null;
+                Class<?> target = args.length == 2 && args[1] instanceof Class<?> type ? type : method.getReturnType();
+                return convert(value, target);
+            }
+            return defaultValue(method.getReturnType());
+        }
+
+        private Object metaData(Object proxy, Method method, Object[] args) {
+            if (method.getDeclaringClass() == Object.class) {
+                return invokeObjectMethod(proxy, method, args);
+            }
+            return switch (method.getName()) {
+                case "getColumnCount" -> columns.size();
+                case "getColumnLabel", "getColumnName" -> columns.get((Integer) args[0] - 1);
+                case "getColumnType" -> sqlType(sampleValue((Integer) args[0]));
+                case "getColumnClassName" -> {
+                    Object sample = sampleValue((Integer) args[0]);
+                    yield sample != null ? sample.getClass().getName() : Object.class.getName();
+                }
+                default -> defaultValue(method.getReturnType());
+            };
+        }
+
+        private Object sampleValue(int index) {
+            String column = columns.get(index - 1);
+            return rows.stream().map(row -> row.get(column)).filter(v -> v != null).findFirst().orElse(null);
+        }
+
+        private int columnIndex(String label) throws SQLException {
+            for (int i = 0; i < columns.size(); i++) {
+                if (columns.get(i).equalsIgnoreCase(label)) {
+                    return i + 1;
+                }
+            }
+            throw new SQLException("Column '" + label + "' not found");
+        }
+
+        private Object value(Object column) throws SQLException {
+            if (cursor < 0 || cursor >= rows.size()) {
+                throw new SQLException("Cursor is not positioned on a row");
+            }
+            if (column instanceof Integer index) {
+                return values.get(cursor)[index - 1];
+            }
+            String label = (String) column;
+            for (int i = 0; i < columns.size(); i++) {
+                if (columns.get(i).equalsIgnoreCase(label)) {
+                    return values.get(cursor)[i];
+                }
+            }
+            for (Map.Entry<String, Object> entry : rows.get(cursor).entrySet()) {
+                if (entry.getKey().equalsIgnoreCase(label)) {
+                    return entry.getValue();
+                }
+            }
+            int dot = label.indexOf('.');
+            if (dot >= 0) {
+                return value(label.substring(dot + 1));
+            }
+            throw new SQLException("Column '" + label + "' not found");
+        }
+
+        private static int sqlType(Object value) {
+            if (value instanceof Integer) {
+                return Types.INTEGER;
+            }
+            if (value instanceof Long) {
+                return Types.BIGINT;
+            }
+            if (value instanceof Double || value instanceof Float) {
+                return Types.DOUBLE;
+            }
+            if (value instanceof BigDecimal) {
+                return Types.DECIMAL;
+            }
+            if (value instanceof Boolean) {
+                return Types.BOOLEAN;
+            }
+            if (value instanceof Date || value instanceof LocalDate) {
+                return Types.DATE;
+            }
+            if (value instanceof Timestamp || value instanceof LocalDateTime) {
+                return Types.TIMESTAMP;
+            }
+            return Types.VARCHAR;
+        }
+
+        private static Object convert(Object value, Class<?> target) {
+            if (value == null) {
+                return defaultValue(target);
+            }
+            if (target == Object.class || target.isInstance(value)) {
+                return value;
+            }
+            if (target == String.class) {
+                return String.valueOf(value);
+            }
+            if (target == boolean.class || target == Boolean.class) {
+                return value instanceof Number number ? number.intValue() != 0 : Boolean.parseBoolean(value.toString());
+            }
+            if (target == Date.class) {
+                return value instanceof LocalDate date ? Date.valueOf(date) : Date.valueOf(value.toString());
+            }
+            if (target == Timestamp.class) {
+                return value instanceof LocalDateTime dateTime
+                    ? Timestamp.valueOf(dateTime)
+                    : Timestamp.valueOf(value.toString());
+            }
+            if (target == LocalDate.class && value instanceof Date date) {
+                return date.toLocalDate();
+            }
+            if (target == LocalDateTime.class && value instanceof Timestamp timestamp) {
+                return timestamp.toLocalDateTime();
+            }
+            Number number = value instanceof Number n
+                ? n
+                : value instanceof Boolean flag ? (flag ? 1 : 0) : new BigDecimal(value.toString());
+            if (target == int.class || target == Integer.class) {
+                return number.intValue();
+            }
+            if (target == long.class || target == Long.class) {
+                return number.longValue();
+            }
+            if (target == double.class || target == Double.class) {
+                return number.doubleValue();
+            }
+            if (target == float.class || target == Float.class) {
+                return number.floatValue();
+            }
+            if (target == short.class || target == Short.class) {
+                return number.shortValue();
+            }
+            if (target == byte.class || target == Byte.class) {
+                return number.byteValue();
+            }
+            if (target == BigDecimal.class) {
+                return new BigDecimal(number.toString());
+            }
+            return value;
+        }
+    }
+}
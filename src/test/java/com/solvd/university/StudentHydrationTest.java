@@ -0,0 +1,153 @@
+package com.solvd.university;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.solvd.university.dao.factory.DAOFactory;
+import com.solvd.university.dao.interfaces.StudentDAO;
+import com.solvd.university.model.EnrollmentStatus;
+import com.solvd.university.model.Student;
+
+import static com.solvd.university.StubDatabase.row;
+
+public class StudentHydrationTest {
+
+    private static final int PROGRAM_COUNT = 3;
+
+    private final StubDatabase database = StubDatabase.getInstance();
+    private volatile int studentCount;
+
+    @BeforeMethod
+    public void setUpDatabase() {
+        database.reset();
+        DAOFactory.invalidateCaches();
+        database
+            .onQuery("FROM student s", params -> studentRows())
+            .onQuery("FROM enrollment WHERE enrollment_status_id = ?", StudentHydrationTest::enrollmentRows)
+            .onQuery("FROM program WHERE program_id IN", StudentHydrationTest::programRows)
+            .onQuery(
+                "FROM department WHERE department_id = ?",
+                params -> List.of(row("department_id", params.get(0), "name", "Computer Science", "code", "CS",
+                    "university_id", 1))
+            );
+    }
+
+    @Test
+    public void verifyFindAllQueryCountIsConstantTest() {
+        StudentDAO studentDAO = DAOFactory.create(StudentDAO.class);
+
+        int smallCatalogQueries = countQueriesForFindAll(studentDAO, 10);
+        int largeCatalogQueries = countQueriesForFindAll(studentDAO, 400);
+
+        Assert.assertEquals(
+            largeCatalogQueries,
+            smallCatalogQueries,
+            "Query count should not grow with the number of students"
+        );
+        Assert.assertEquals(database.countExecuted("FROM enrollment"), 1L, "Enrollments should load in one query");
+    }
+
+    @Test
+    public void verifyFindAllAttachesActiveEnrollmentTest() {
+        studentCount = 25;
+        List<Student> students = DAOFactory.create(StudentDAO.class).findAll();
+
+        Assert.assertEquals(students.size(), 25);
+        for (Student student : students) {
+            Assert.assertTrue(student.isEnrolled(), "Every student should have its active enrollment attached");
+            Assert.assertEquals(
+                student.getEnrolledProgram().getProgramId(),
+                Integer.valueOf(programIdFor(student.getStudentId()))
+            );
+        }
+    }
+
+    @Test
+    public void verifyFindByEmailSkipsFullEnrollmentScanTest() {
+        studentCount = 1;
+        Optional<Student> student = DAOFactory.create(StudentDAO.class).findByEmail("student1@example.com");
+
+        Assert.assertTrue(student.isPresent());
+        Assert.assertEquals(student.get().getEnrollmentStatus(), EnrollmentStatus.ENROLLED);
+        Assert.assertEquals(database.countExecuted("SELECT * FROM enrollment ORDER BY"), 0L);
+    }
+
+    private int countQueriesForFindAll(StudentDAO studentDAO, int students) {
+        studentCount = students;
+        DAOFactory.invalidateCaches();
+        database.resetCounters();
+        Assert.assertEquals(studentDAO.findAll().size(), students);
+        return database.getRoundTrips();
+    }
+
+    private List<Map<String, Object>> studentRows() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int id = 1; id <= studentCount; id++) {
+            rows.add(
+                row(
+                    "student_id", id,
+                    "age", 20,
+                    "student_number", 100000 + id,
+                    "is_registered", true,
+                    "balance", 1500.0,
+                    "enrollment_status_id", 4,
+                    "grade_level_id", 1,
+                    "person_id", id,
+                    "first_name", "Student",
+                    "last_name", String.valueOf(id),
+                    "email", "student" + id + "@example.com",
+                    "enrollment_status_name", "Enrolled",
+                    "grade_level_name", "Freshman",
+                    "grade_year", 1
+                )
+            );
+        }
+        return rows;
+    }
+
+    private static List<Map<String, Object>> enrollmentRows(List<Object> params) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Object studentId : params.subList(1, params.size())) {
+            int id = (Integer) studentId;
+            rows.add(
+                row(
+                    "enrollment_id", id,
+                    "student_id", id,
+                    "program_id", programIdFor(id),
+                    "enrollment_date", Date.valueOf(LocalDate.of(2024, 9, 1)),
+                    "enrollment_status_id", 4
+                )
+            );
+        }
+        return rows;
+    }
+
+    private static List<Map<String, Object>> programRows(List<Object> params) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Object programId : params) {
+            rows.add(
+                row(
+                    "program_id", programId,
+                    "name", "Program " + programId,
+                    "duration_years", 4,
+                    "price", 12000.0,
+                    "department_id", 1,
+                    "university_id", 1
+                )
+            );
+        }
+        return rows;
+    }
+
+    private static int programIdFor(int studentId) {
+        return studentId % PROGRAM_COUNT + 1;
+    }
+}
@@ -0,0 +1,158 @@
+package com.solvd.university;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.solvd.university.dao.factory.DAOFactory;
+import com.solvd.university.dao.interfaces.StudentDAO;
+import com.solvd.university.dao.interfaces.StudentGradeDAO;
+import com.solvd.university.model.Student;
+import com.solvd.university.model.StudentGrade;
+import com.solvd.university.util.ConnectionPool;
+
+import static com.solvd.university.StubDatabase.row;
+
+public class StudentStreamingTest {
+
+    private final StubDatabase database = StubDatabase.getInstance();
+    private final ConnectionPool connectionPool = ConnectionPool.getInstance();
+    private volatile int studentCount;
+
+    @BeforeMethod
+    public void setUpDatabase() {
+        database.reset();
+        DAOFactory.invalidateCaches();
+        database
+            .onQuery("FROM student s", params -> studentRows())
+            .onQuery("FROM enrollment WHERE enrollment_status_id = ?", StudentStreamingTest::enrollmentRows)
+            .onQuery(
+                "FROM program WHERE program_id IN",
+                params -> List.of(row("program_id", 1, "name", "Program 1", "duration_years", 4, "price", 12000.0,
+                    "department_id", 1, "university_id", 1))
+            )
+            .onQuery(
+                "FROM department WHERE department_id = ?",
+                params -> List.of(row("department_id", 1, "name", "Computer Science", "code", "CS",
+                    "university_id", 1))
+            )
+            .onQuery("FROM student_grade", params -> gradeRows());
+    }
+
+    @Test
+    public void verifyStreamHoldsConnectionUntilClosedTest() {
+        studentCount = 600;
+        int usedBefore = connectionPool.getUsedConnectionsCount();
+
+        Stream<Student> students = DAOFactory.create(StudentDAO.class).streamAll();
+        Iterator<Student> iterator = students.iterator();
+        Assert.assertTrue(iterator.hasNext());
+        Assert.assertEquals(connectionPool.getUsedConnectionsCount(), usedBefore + 1, "Cursor should keep its connection");
+
+        students.close();
+        Assert.assertEquals(connectionPool.getUsedConnectionsCount(), usedBefore);
+    }
+
+    @Test
+    public void verifyEarlyTerminationReleasesConnectionTest() {
+        studentCount = 50;
+        int usedBefore = connectionPool.getUsedConnectionsCount();
+
+        try (Stream<Student> students = DAOFactory.create(StudentDAO.class).streamAll()) {
+            Assert.assertEquals(students.limit(5).count(), 5L);
+        }
+        Assert.assertEquals(connectionPool.getUsedConnectionsCount(), usedBefore);
+    }
+
+    @Test
+    public void verifyStreamHydratesEnrollmentsPerBatchTest() {
+        studentCount = 1200;
+
+        long enrolled;
+        try (Stream<Student> students = DAOFactory.create(StudentDAO.class).streamAll()) {
+            enrolled = students.filter(Student::isEnrolled).count();
+        }
+
+        Assert.assertEquals(enrolled, 1200L);
+        Assert.assertEquals(database.countExecuted("FROM enrollment"), 3L, "One enrollment query per 500 students");
+    }
+
+    @Test
+    public void verifyGradeStreamReadsEveryRowTest() {
+        studentCount = 20;
+        int usedBefore = connectionPool.getUsedConnectionsCount();
+
+        double total;
+        try (Stream<StudentGrade> grades = DAOFactory.create(StudentGradeDAO.class).streamAll()) {
+            total = grades.mapToDouble(StudentGrade::getValue).sum();
+        }
+
+        Assert.assertEquals(total, 20 * 90.0, 0.001);
+        Assert.assertEquals(connectionPool.getUsedConnectionsCount(), usedBefore);
+    }
+
+    private List<Map<String, Object>> studentRows() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int id = 1; id <= studentCount; id++) {
+            rows.add(
+                row(
+                    "student_id", id,
+                    "age", 20,
+                    "student_number", 100000 + id,
+                    "is_registered", true,
+                    "balance", 0.0,
+                    "enrollment_status_id", 1,
+                    "grade_level_id", 1,
+                    "person_id", id,
+                    "first_name", "Student",
+                    "last_name", String.valueOf(id),
+                    "email", "student" + id + "@example.com",
+                    "enrollment_status_name", "Applied",
+                    "grade_level_name", "Freshman",
+                    "grade_year", 1
+                )
+            );
+        }
+        return rows;
+    }
+
+    private List<Map<String, Object>> gradeRows() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int id = 1; id <= studentCount; id++) {
+            rows.add(
+                row(
+                    "student_grade_id", id,
+                    "student_id", id,
+                    "subject", "Mathematics",
+                    "value", 90.0,
+                    "semester", 1
+                )
+            );
+        }
+        return rows;
+    }
+
+    private static List<Map<String, Object>> enrollmentRows(List<Object> params) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Object studentId : params.subList(1, params.size())) {
+            rows.add(
+                row(
+                    "enrollment_id", studentId,
+                    "student_id", studentId,
+                    "program_id", 1,
+                    "enrollment_date", Date.valueOf(LocalDate.of(2024, 9, 1)),
+                    "enrollment_status_id", 4
+                )
+            );
+        }
+        return rows;
+    }
+}
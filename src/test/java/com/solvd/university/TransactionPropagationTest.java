@@ -0,0 +1,141 @@
+package com.solvd.university;
+
+import java.util.List;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.solvd.university.dao.factory.DAOFactory;
+import com.solvd.university.dao.interfaces.StudentGradeDAO;
+import com.solvd.university.model.StudentGrade;
+import com.solvd.university.model.exception.StudentNotFoundException;
+import com.solvd.university.service.impl.StudentServiceImpl;
+import com.solvd.university.util.ConnectionPool;
+import com.solvd.university.util.Propagation;
+import com.solvd.university.util.TransactionManager;
+
+import static com.solvd.university.StubDatabase.row;
+
+public class TransactionPropagationTest {
+
+    private final StubDatabase database = StubDatabase.getInstance();
+    private final ConnectionPool connectionPool = ConnectionPool.getInstance();
+    private final TransactionManager transactionManager = TransactionManager.getInstance();
+
+    @BeforeMethod
+    public void setUpDatabase() {
+        database.reset();
+        DAOFactory.invalidateCaches();
+        database
+            .onQuery("FROM student s", params -> List.of(studentRow()))
+            .onQuery("FROM student_grade WHERE student_id = ?", params -> List.of(
+                row("student_grade_id", 1, "student_id", 7, "subject", "Mathematics", "value", 91.0, "semester", 1)
+            ));
+    }
+
+    @Test
+    public void verifyRequiresNewCommitsIndependentlyTest() {
+        StudentGradeDAO gradeDAO = DAOFactory.create(StudentGradeDAO.class);
+
+        Assert.assertThrows(IllegalStateException.class, () ->
+            transactionManager.execute(() -> {
+                gradeDAO.save(new StudentGrade(7, "Mathematics", 80.0, 1));
+                transactionManager.execute(Propagation.REQUIRES_NEW, () -> {
+                    Assert.assertEquals(connectionPool.getUsedConnectionsCount(), 2, "Inner work needs its own connection");
+                    gradeDAO.save(new StudentGrade(7, "Physics", 85.0, 1));
+                });
+                Assert.assertTrue(TransactionManager.isActive(), "Outer transaction should be resumed");
+                throw new IllegalStateException("outer failure");
+            })
+        );
+
+        Assert.assertEquals(database.getCommits(), 1, "Only the inner transaction should commit");
+        Assert.assertEquals(database.getRollbacks(), 1);
+        Assert.assertEquals(connectionPool.getUsedConnectionsCount(), 0);
+    }
+
+    @Test
+    public void verifyReadOnlyBindsOneConnectionTest() {
+        long borrowsBefore = connectionPool.getBorrowLatency().getCount();
+
+        new StudentServiceImpl().getAllStudents();
+
+        Assert.assertEquals(connectionPool.getBorrowLatency().getCount() - borrowsBefore, 1L);
+        Assert.assertTrue(database.countExecuted("FROM enrollment") > 0, "Hydration should run on the same connection");
+    }
+
+    @Test
+    public void verifyAuthenticationLoadsStudentAndGradesOnOneConnectionTest() throws StudentNotFoundException {
+        long borrowsBefore = connectionPool.getBorrowLatency().getCount();
+
+        double average = new StudentServiceImpl()
+            .authenticateStudent("student7@example.com", 100007)
+            .calculateAverageGrade();
+
+        Assert.assertEquals(average, 91.0, 1e-9);
+        Assert.assertEquals(connectionPool.getBorrowLatency().getCount() - borrowsBefore, 1L);
+    }
+
+    @Test
+    public void verifyReadOnlyRejectsWritesAndResetsConnectionTest() {
+        StudentGradeDAO gradeDAO = DAOFactory.create(StudentGradeDAO.class);
+
+        Assert.assertThrows(RuntimeException.class, () ->
+            transactionManager.executeReadOnly(() -> {
+                Assert.assertTrue(TransactionManager.isReadOnly());
+                gradeDAO.save(new StudentGrade(7, "Mathematics", 80.0, 1));
+                return null;
+            })
+        );
+
+        gradeDAO.save(new StudentGrade(7, "Mathematics", 80.0, 1));
+        Assert.assertEquals(database.countExecuted("INSERT INTO student_grade"), 1L);
+    }
+
+    @Test
+    public void verifyReadOnlyJoinsEnclosingTransactionTest() {
+        long borrowsBefore = connectionPool.getBorrowLatency().getCount();
+
+        transactionManager.execute(() -> {
+            transactionManager.executeReadOnly(() -> DAOFactory.create(StudentGradeDAO.class).findByStudentId(7));
+            Assert.assertFalse(TransactionManager.isReadOnly());
+        });
+
+        Assert.assertEquals(connectionPool.getBorrowLatency().getCount() - borrowsBefore, 1L);
+        Assert.assertEquals(database.getCommits(), 1);
+    }
+
+    @Test
+    public void verifyWritableWorkCannotJoinReadOnlyTransactionTest() {
+        Assert.assertThrows(IllegalStateException.class, () ->
+            transactionManager.executeReadOnly(() -> {
+                transactionManager.execute(() -> DAOFactory.create(StudentGradeDAO.class).findByStudentId(7));
+                return null;
+            })
+        );
+
+        Assert.assertEquals(database.getCommits(), 0);
+        Assert.assertEquals(database.getRollbacks(), 1);
+    }
+
+    private static Map<String, Object> studentRow() {
+        return row(
+            "student_id", 7,
+            "age", 21,
+            "student_number", 100007,
+            "is_registered", true,
+            "balance", 0.0,
+            "enrollment_status_id", 1,
+            "grade_level_id", 1,
+            "person_id", 7,
+            "first_name", "Student",
+            "last_name", "7",
+            "email", "student7@example.com",
+            "enrollment_status_name", "Applied",
+            "grade_level_name", "Freshman",
+            "grade_year", 1
+        );
+    }
+}